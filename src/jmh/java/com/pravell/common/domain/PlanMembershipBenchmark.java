@@ -0,0 +1,78 @@
+package com.pravell.common.domain;
+
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlanMembershipBenchmark {
+
+    private static final int PROBE_COUNT = 1_024;
+    private static final PlanUserStatus[] STATUSES = PlanUserStatus.values();
+
+    @Param({"10", "100", "1000", "10000"})
+    private int planSize;
+
+    private List<PlanUsers> planUsers;
+    private PlanMembership membership;
+    private UUID[] probes;
+    private int probeIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        UUID planId = UUID.randomUUID();
+        planUsers = new ArrayList<>(planSize);
+        for (int i = 0; i < planSize; i++) {
+            planUsers.add(PlanUsers.builder()
+                    .planId(planId)
+                    .userId(new UUID(random.nextLong(), random.nextLong()))
+                    .planUserStatus(STATUSES[i % STATUSES.length])
+                    .build());
+        }
+        membership = PlanUsers.toMembership(planUsers);
+
+        probes = new UUID[PROBE_COUNT];
+        for (int i = 0; i < PROBE_COUNT; i++) {
+            probes[i] = i % 2 == 0
+                    ? planUsers.get(random.nextInt(planSize)).getUserId()
+                    : new UUID(random.nextLong(), random.nextLong());
+        }
+    }
+
+    @Benchmark
+    public boolean membershipLookup() {
+        return membership.isOwnerOrMember(nextProbe());
+    }
+
+    @Benchmark
+    public boolean listScan() {
+        UUID userId = nextProbe();
+        return planUsers.stream().anyMatch(pu -> pu.getUserId().equals(userId)
+                && (pu.getPlanUserStatus() == PlanUserStatus.OWNER || pu.getPlanUserStatus() == PlanUserStatus.MEMBER));
+    }
+
+    @Benchmark
+    public boolean buildMembershipAndLookup() {
+        return PlanUsers.toMembership(planUsers).isOwnerOrMember(nextProbe());
+    }
+
+    private UUID nextProbe() {
+        return probes[probeIndex++ & (PROBE_COUNT - 1)];
+    }
+
+}
@@ -0,0 +1,211 @@
+package com.pravell.bundle.application;
+
+import com.pravell.bundle.application.dto.PlanBundleSection;
+import com.pravell.bundle.application.dto.response.PlanBundleResponse;
+import com.pravell.common.concurrent.BoundedExecutors;
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.PlanRole;
+import com.pravell.common.exception.AccessDeniedException;
+import com.pravell.common.exception.ServiceUnavailableException;
+import com.pravell.expense.application.FindExpenseService;
+import com.pravell.expense.application.dto.response.ExpenseResponse;
+import com.pravell.expense.domain.model.PlanMember;
+import com.pravell.marker.application.FindMarkerService;
+import com.pravell.marker.application.dto.response.FindMarkersResponse;
+import com.pravell.place.application.FindPlaceService;
+import com.pravell.place.application.dto.response.FindPlanPlacesResponse;
+import com.pravell.plan.application.FindPlanService;
+import com.pravell.plan.application.PlanFacade;
+import com.pravell.plan.application.PlanService;
+import com.pravell.plan.application.dto.response.FindPlanResponse;
+import com.pravell.plan.domain.model.Plan;
+import com.pravell.route.application.FindRouteService;
+import com.pravell.route.application.dto.response.RouteResponse;
+import com.pravell.user.application.UserService;
+import com.pravell.user.application.dto.UserMemberDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class PlanBundleFacade {
+
+    private final PlanService planService;
+    private final PlanFacade planFacade;
+    private final FindPlanService findPlanService;
+    private final UserService userService;
+    private final FindPlaceService findPlaceService;
+    private final FindRouteService findRouteService;
+    private final FindMarkerService findMarkerService;
+    private final FindExpenseService findExpenseService;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Map<PlanBundleSection, Timer> sectionTimers = new EnumMap<>(PlanBundleSection.class);
+    private final Counter callerRunsCounter;
+
+    public PlanBundleFacade(
+            PlanService planService,
+            PlanFacade planFacade,
+            FindPlanService findPlanService,
+            UserService userService,
+            FindPlaceService findPlaceService,
+            FindRouteService findRouteService,
+            FindMarkerService findMarkerService,
+            FindExpenseService findExpenseService,
+            MeterRegistry meterRegistry,
+            @Value("${plan.bundle.pool-size:0}") int poolSize,
+            @Value("${plan.bundle.queue-capacity:256}") int queueCapacity,
+            @Value("${plan.bundle.timeout:PT5S}") Duration timeout
+    ) {
+        this.planService = planService;
+        this.planFacade = planFacade;
+        this.findPlanService = findPlanService;
+        this.userService = userService;
+        this.findPlaceService = findPlaceService;
+        this.findRouteService = findRouteService;
+        this.findMarkerService = findMarkerService;
+        this.findExpenseService = findExpenseService;
+        this.timeout = timeout;
+
+        this.callerRunsCounter = meterRegistry.counter("plan.bundle.caller.runs");
+        this.executor = BoundedExecutors.newFixedPool("plan-bundle",
+                BoundedExecutors.threadsOrProcessors(poolSize, 2), queueCapacity, this::runOnCaller);
+
+        for (PlanBundleSection section : PlanBundleSection.values()) {
+            sectionTimers.put(section, meterRegistry.timer("plan.bundle.section", "section", section.tag()));
+        }
+        Gauge.builder("plan.bundle.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public PlanBundleResponse findBundle(UUID userId, UUID planId, Set<PlanBundleSection> sections) {
+        Plan plan = planService.findPlan(planId);
+        PlanMembership planMembership = planService.findMembership(planId);
+        findPlanService.validateMemberOrOwner(plan, userId, planMembership);
+
+        List<UserMemberDTO> userMembers = sections.contains(PlanBundleSection.PLAN)
+                || sections.contains(PlanBundleSection.EXPENSES)
+                ? userService.findMembers(planMembership.findActiveUserIds())
+                : List.of();
+        boolean isPublic = plan.getIsPublic();
+
+        List<Future<?>> futures = new ArrayList<>();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            Future<FindPlanResponse> planFuture = submit(futures, sections, PlanBundleSection.PLAN,
+                    deadline, () -> planFacade.toFindPlanResponse(plan, extractOwnerId(planMembership), userMembers,
+                            userId));
+            Future<List<FindPlanPlacesResponse>> placesFuture = submit(futures, sections, PlanBundleSection.PLACES,
+                    deadline, () -> findPlaceService.findAll(userId, planId, planMembership, isPublic));
+            Future<List<RouteResponse>> routesFuture = submit(futures, sections, PlanBundleSection.ROUTES,
+                    deadline, () -> findRouteService.findAll(userId, planId, planMembership, isPublic));
+            Future<List<FindMarkersResponse>> markersFuture = submit(futures, sections, PlanBundleSection.MARKERS,
+                    deadline, () -> findMarkerService.getMarkersOfPlan(userId, isPublic, planMembership, planId));
+            Future<List<ExpenseResponse>> expensesFuture = submit(futures, sections, PlanBundleSection.EXPENSES,
+                    deadline, () -> findExpenseService.findAll(planId, userId, planMembership,
+                            toPlanMembers(userMembers), null, null, null));
+
+            return PlanBundleResponse.builder()
+                    .plan(await(PlanBundleSection.PLAN, planFuture, deadline))
+                    .places(await(PlanBundleSection.PLACES, placesFuture, deadline))
+                    .routes(await(PlanBundleSection.ROUTES, routesFuture, deadline))
+                    .markers(await(PlanBundleSection.MARKERS, markersFuture, deadline))
+                    .expenses(await(PlanBundleSection.EXPENSES, expensesFuture, deadline))
+                    .build();
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> Future<T> submit(List<Future<?>> futures, Set<PlanBundleSection> sections,
+                                 PlanBundleSection section, long deadline, Callable<T> loader) {
+        if (!sections.contains(section)) {
+            return null;
+        }
+
+        Timer timer = sectionTimers.get(section);
+        Future<T> future = executor.submit(() -> timer.recordCallable(loader));
+        futures.add(future);
+
+        if (System.nanoTime() - deadline > 0) {
+            log.warn("플랜 번들 {} 섹션 제출 중 시간이 초과되었습니다. timeout : {}", section.tag(), timeout);
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return future;
+    }
+
+    private void runOnCaller(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("플랜 번들 조회 스레드 풀이 종료되었습니다.");
+        }
+        callerRunsCounter.increment();
+        log.debug("플랜 번들 조회 대기열이 가득 차 요청 스레드에서 실행합니다. queueSize : {}", executor.getQueue().size());
+        task.run();
+    }
+
+    private <T> T await(PlanBundleSection section, Future<T> future, long deadline) {
+        if (future == null) {
+            return null;
+        }
+
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (TimeoutException e) {
+            log.warn("플랜 번들 {} 섹션 조회 시간이 초과되었습니다. timeout : {}", section.tag(), timeout);
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AccessDeniedException) {
+                log.info("플랜 번들 {} 섹션에 접근 권한이 없어 제외합니다.", section.tag());
+                return null;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private UUID extractOwnerId(PlanMembership planMembership) {
+        return planMembership.findUserIds(PlanRole.OWNER).stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("OWNER가 존재하지 않습니다."));
+    }
+
+    private List<PlanMember> toPlanMembers(List<UserMemberDTO> userMembers) {
+        return userMembers.stream()
+                .map(um -> PlanMember.builder()
+                        .memberId(um.getMemberId())
+                        .nickname(um.getNickname())
+                        .build())
+                .toList();
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.pravell.bundle.application.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum PlanBundleSection {
+    PLAN,
+    PLACES,
+    ROUTES,
+    MARKERS,
+    EXPENSES;
+
+    public static Set<PlanBundleSection> from(String include) {
+        if (include == null || include.isBlank()) {
+            return EnumSet.allOf(PlanBundleSection.class);
+        }
+
+        Set<PlanBundleSection> sections = EnumSet.noneOf(PlanBundleSection.class);
+        for (String value : include.split(",")) {
+            sections.add(Arrays.stream(values())
+                    .filter(section -> section.name().equalsIgnoreCase(value.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("올바르지 않은 번들 섹션입니다.")));
+        }
+        return sections;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,24 @@
+package com.pravell.bundle.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pravell.expense.application.dto.response.ExpenseResponse;
+import com.pravell.marker.application.dto.response.FindMarkersResponse;
+import com.pravell.place.application.dto.response.FindPlanPlacesResponse;
+import com.pravell.plan.application.dto.response.FindPlanResponse;
+import com.pravell.route.application.dto.response.RouteResponse;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlanBundleResponse {
+
+    private FindPlanResponse plan;
+    private List<FindPlanPlacesResponse> places;
+    private List<RouteResponse> routes;
+    private List<FindMarkersResponse> markers;
+    private List<ExpenseResponse> expenses;
+
+}
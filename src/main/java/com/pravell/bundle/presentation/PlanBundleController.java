@@ -0,0 +1,38 @@
+package com.pravell.bundle.presentation;
+
+import com.pravell.bundle.application.PlanBundleFacade;
+import com.pravell.bundle.application.dto.PlanBundleSection;
+import com.pravell.bundle.application.dto.response.PlanBundleResponse;
+import com.pravell.common.auth.AuthUser;
+import com.pravell.plan.presentation.PlanETagChecker;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/plans")
+public class PlanBundleController {
+
+    private final PlanBundleFacade planBundleFacade;
+    private final PlanETagChecker planETagChecker;
+
+    @GetMapping("/{planId}/bundle")
+    public ResponseEntity<PlanBundleResponse> findBundle(@AuthUser UUID id,
+                                                         @PathVariable UUID planId,
+                                                         @RequestParam(required = false) String include,
+                                                         WebRequest webRequest) {
+        if (planETagChecker.isNotModified(planId, id, webRequest)) {
+            return null;
+        }
+
+        return ResponseEntity.ok(planBundleFacade.findBundle(id, planId, PlanBundleSection.from(include)));
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.pravell.common.auth;
+
+import lombok.Getter;
+
+@Getter
+public class AccessTokenDeniedEvent {
+
+    private final String tokenId;
+
+    public AccessTokenDeniedEvent(String tokenId) {
+        this.tokenId = tokenId;
+    }
+
+}
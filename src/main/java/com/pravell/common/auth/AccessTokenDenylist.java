@@ -0,0 +1,149 @@
+package com.pravell.common.auth;
+
+import com.pravell.common.concurrent.BoundedExecutors;
+import com.pravell.common.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class AccessTokenDenylist implements MessageListener {
+
+    private static final String KEY_PREFIX = "deniedAccessToken:";
+    private static final String CHANNEL = "access-token-denylist";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration rebuildInterval;
+    private final Counter filteredCounter;
+    private final Counter lookupCounter;
+    private final Counter deniedCounter;
+    private final ScheduledExecutorService scheduler = BoundedExecutors.newSingleThreadScheduler(
+            "access-token-denylist");
+
+    private volatile BloomFilter bloomFilter;
+    private volatile BloomFilter rebuildingBloomFilter;
+    private volatile boolean ready;
+
+    public AccessTokenDenylist(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.denylist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.denylist.false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${jwt.denylist.rebuild-interval:PT10M}") Duration rebuildInterval
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.eventPublisher = eventPublisher;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildInterval = rebuildInterval;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.filteredCounter = meterRegistry.counter("jwt.denylist.check", "result", "filtered");
+        this.lookupCounter = meterRegistry.counter("jwt.denylist.check", "result", "lookup");
+        this.deniedCounter = meterRegistry.counter("jwt.denylist.check", "result", "denied");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+        scheduler.scheduleWithFixedDelay(this::rebuild, rebuildInterval.toMillis(), rebuildInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+    }
+
+    public void deny(String tokenId, Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        if (tokenId == null || ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", ttl);
+        put(tokenId);
+        redisTemplate.convertAndSend(CHANNEL, tokenId);
+    }
+
+    public boolean isDenied(String tokenId) {
+        if (ready && !bloomFilter.mightContain(tokenId)) {
+            filteredCounter.increment();
+            return false;
+        }
+
+        lookupCounter.increment();
+        boolean denied = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+        if (denied) {
+            deniedCounter.increment();
+        }
+        return denied;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    void rebuild() {
+        try {
+            rebuildingBloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+            ScanOptions scanOptions = ScanOptions.scanOptions()
+                    .match(KEY_PREFIX + "*")
+                    .count(1000)
+                    .build();
+            try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+                cursor.forEachRemaining(key -> rebuildingBloomFilter.put(key.substring(KEY_PREFIX.length())));
+            }
+
+            bloomFilter = rebuildingBloomFilter;
+            ready = true;
+        } catch (RuntimeException e) {
+            log.warn("액세스 토큰 차단 목록 필터 갱신에 실패했습니다.", e);
+        } finally {
+            rebuildingBloomFilter = null;
+        }
+    }
+
+    private void put(String tokenId) {
+        bloomFilter.put(tokenId);
+        BloomFilter rebuilding = rebuildingBloomFilter;
+        if (rebuilding != null) {
+            rebuilding.put(tokenId);
+        }
+        eventPublisher.publishEvent(new AccessTokenDeniedEvent(tokenId));
+    }
+
+}
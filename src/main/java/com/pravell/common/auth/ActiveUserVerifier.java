@@ -0,0 +1,9 @@
+package com.pravell.common.auth;
+
+import java.util.UUID;
+
+public interface ActiveUserVerifier {
+
+    void verifyActiveUser(UUID id);
+
+}
@@ -0,0 +1,63 @@
+package com.pravell.common.auth;
+
+import com.pravell.common.util.CommonJwtUtil;
+import com.pravell.common.util.VerifiedAccessToken;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+@RequiredArgsConstructor
+public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String AUTHENTICATED_USER_ATTRIBUTE = AuthenticatedUser.class.getName();
+
+    private final CommonJwtUtil commonJwtUtil;
+    private final ActiveUserVerifier activeUserVerifier;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(AuthUser.class)
+                && (UUID.class.equals(parameter.getParameterType())
+                || AuthenticatedUser.class.equals(parameter.getParameterType()));
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        AuthenticatedUser authenticatedUser = authenticate(webRequest);
+
+        if (UUID.class.equals(parameter.getParameterType())) {
+            return authenticatedUser.getId();
+        }
+        return authenticatedUser;
+    }
+
+    private AuthenticatedUser authenticate(NativeWebRequest webRequest) {
+        Object cached = webRequest.getAttribute(AUTHENTICATED_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof AuthenticatedUser authenticatedUser && authenticatedUser.isActive()) {
+            return authenticatedUser;
+        }
+
+        VerifiedAccessToken accessToken = commonJwtUtil.verifyAccessToken(
+                webRequest.getHeader(HttpHeaders.AUTHORIZATION));
+        activeUserVerifier.verifyActiveUser(accessToken.getUserId());
+
+        AuthenticatedUser authenticatedUser = AuthenticatedUser.builder()
+                .id(accessToken.getUserId())
+                .tokenId(accessToken.getTokenId())
+                .tokenExpiresAt(accessToken.getExpiresAt())
+                .active(true)
+                .build();
+        webRequest.setAttribute(AUTHENTICATED_USER_ATTRIBUTE, authenticatedUser, RequestAttributes.SCOPE_REQUEST);
+        return authenticatedUser;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.pravell.common.auth;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AuthenticatedUser {
+
+    private UUID id;
+    private String tokenId;
+    private Instant tokenExpiresAt;
+    private boolean active;
+
+}
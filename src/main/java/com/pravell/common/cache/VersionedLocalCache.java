@@ -0,0 +1,71 @@
+package com.pravell.common.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+public class VersionedLocalCache<K, V> {
+
+    private final LruCache<K, Entry<V>> entries;
+    private final Duration ttl;
+    private final Duration tombstoneTtl;
+    private final Clock clock;
+
+    public VersionedLocalCache(int maxSize, Duration ttl, Duration tombstoneTtl, Clock clock) {
+        this.entries = new LruCache<>(maxSize);
+        this.ttl = ttl;
+        this.tombstoneTtl = tombstoneTtl;
+        this.clock = clock;
+    }
+
+    public Optional<Entry<V>> find(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry, clock.instant())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return entry.isTombstone() ? Optional.empty() : Optional.of(entry);
+    }
+
+    public void put(K key, V value, long version) {
+        Instant now = clock.instant();
+        entries.compute(key, (k, existing) ->
+                existing != null && !isExpired(existing, now) && existing.version() > version
+                        ? existing
+                        : new Entry<>(value, version, now));
+    }
+
+    public void invalidate(K key, long version) {
+        Instant now = clock.instant();
+        entries.compute(key, (k, existing) ->
+                existing != null && !isExpired(existing, now) && existing.version() >= version
+                        ? existing
+                        : new Entry<>(null, version, now));
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean isExpired(Entry<V> entry, Instant now) {
+        Duration entryTtl = entry.isTombstone() ? tombstoneTtl : ttl;
+        return !now.isBefore(entry.cachedAt().plus(entryTtl));
+    }
+
+    public record Entry<V>(V value, long version, Instant cachedAt) {
+
+        private boolean isTombstone() {
+            return value == null;
+        }
+
+    }
+
+}
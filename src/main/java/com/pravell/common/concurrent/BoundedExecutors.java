@@ -0,0 +1,62 @@
+package com.pravell.common.concurrent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    public static ThreadPoolExecutor newFixedPool(String namePrefix, int threads, int queueCapacity) {
+        return newFixedPool(namePrefix, threads, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public static ThreadPoolExecutor newFixedPool(String namePrefix, int threads, int queueCapacity,
+                                                  RejectedExecutionHandler rejectedExecutionHandler) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다.");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("대기열 크기는 1 이상이어야 합니다.");
+        }
+
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                daemonThreadFactory(namePrefix),
+                rejectedExecutionHandler
+        );
+    }
+
+    public static ScheduledExecutorService newSingleThreadScheduler(String name) {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static int threadsOrProcessors(int configured, int multiplier) {
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors() * multiplier;
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
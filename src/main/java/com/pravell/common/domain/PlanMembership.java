@@ -0,0 +1,114 @@
+package com.pravell.common.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+public final class PlanMembership {
+
+    private static final int ACTIVE_MASK = PlanRole.maskOf(PlanRole.OWNER, PlanRole.MEMBER);
+
+    private final long[] mostSignificantBits;
+    private final long[] leastSignificantBits;
+    private final byte[] roles;
+    private final int[] insertionOrder;
+    private final int slotMask;
+    private int size;
+
+    private PlanMembership(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize * 2 - 1)) << 1;
+        this.mostSignificantBits = new long[capacity];
+        this.leastSignificantBits = new long[capacity];
+        this.roles = new byte[capacity];
+        this.insertionOrder = new int[capacity];
+        this.slotMask = capacity - 1;
+    }
+
+    public static <T> PlanMembership of(Collection<T> members, Function<T, UUID> userIdMapper,
+                                        Function<T, PlanRole> roleMapper) {
+        PlanMembership membership = new PlanMembership(members.size());
+        for (T member : members) {
+            PlanRole role = roleMapper.apply(member);
+            if (role != null) {
+                membership.add(userIdMapper.apply(member), role);
+            }
+        }
+        return membership;
+    }
+
+    public boolean isOwner(UUID userId) {
+        return (roleOf(userId) & PlanRole.OWNER.mask()) != 0;
+    }
+
+    public boolean isOwnerOrMember(UUID userId) {
+        return (roleOf(userId) & ACTIVE_MASK) != 0;
+    }
+
+    public boolean isBlocked(UUID userId) {
+        return (roleOf(userId) & PlanRole.BLOCKED.mask()) != 0;
+    }
+
+    public List<UUID> findUserIds(PlanRole... roles) {
+        int mask = PlanRole.maskOf(roles);
+        List<UUID> userIds = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int slot = insertionOrder[i];
+            if ((this.roles[slot] & mask) != 0) {
+                userIds.add(new UUID(mostSignificantBits[slot], leastSignificantBits[slot]));
+            }
+        }
+        return userIds;
+    }
+
+    public List<UUID> findActiveUserIds() {
+        return findUserIds(PlanRole.OWNER, PlanRole.MEMBER);
+    }
+
+    private void add(UUID userId, PlanRole role) {
+        long most = userId.getMostSignificantBits();
+        long least = userId.getLeastSignificantBits();
+        int slot = slotOf(most, least);
+
+        while (roles[slot] != 0) {
+            if (mostSignificantBits[slot] == most && leastSignificantBits[slot] == least) {
+                roles[slot] |= (byte) role.mask();
+                return;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+
+        mostSignificantBits[slot] = most;
+        leastSignificantBits[slot] = least;
+        roles[slot] = (byte) role.mask();
+        insertionOrder[size++] = slot;
+    }
+
+    private int roleOf(UUID userId) {
+        if (userId == null) {
+            return 0;
+        }
+
+        long most = userId.getMostSignificantBits();
+        long least = userId.getLeastSignificantBits();
+        int slot = slotOf(most, least);
+
+        while (roles[slot] != 0) {
+            if (mostSignificantBits[slot] == most && leastSignificantBits[slot] == least) {
+                return roles[slot];
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return 0;
+    }
+
+    private int slotOf(long most, long least) {
+        long hash = most ^ least;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & slotMask;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.pravell.common.domain;
+
+public enum PlanRole {
+    OWNER, MEMBER, BLOCKED;
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    public static int maskOf(PlanRole... roles) {
+        int mask = 0;
+        for (PlanRole role : roles) {
+            mask |= role.mask();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,23 @@
+package com.pravell.common.domain.event;
+
+public enum PlanContentChangeType {
+    PLACE_SAVED,
+    PLACE_UPDATED,
+    PLACE_DELETED,
+    ROUTE_CREATED,
+    ROUTE_UPDATED,
+    ROUTE_DELETED,
+    ROUTE_PLACE_SAVED,
+    ROUTE_PLACE_MOVED,
+    ROUTE_PLACES_DELETED,
+    MARKER_CREATED,
+    MARKER_UPDATED,
+    MARKER_DELETED,
+    EXPENSE_ADDED,
+    EXPENSE_UPDATED,
+    EXPENSE_DELETED;
+
+    public boolean isExpense() {
+        return this == EXPENSE_ADDED || this == EXPENSE_UPDATED || this == EXPENSE_DELETED;
+    }
+}
@@ -0,0 +1,24 @@
+package com.pravell.common.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+public class PlanContentChangedEvent {
+
+    private final UUID planId;
+    private final PlanContentChangeType type;
+    private final String resourceId;
+    private final UUID userId;
+    private final LocalDateTime createdAt;
+
+    public PlanContentChangedEvent(UUID planId, PlanContentChangeType type, Object resourceId, UUID userId) {
+        this.planId = planId;
+        this.type = type;
+        this.resourceId = String.valueOf(resourceId);
+        this.userId = userId;
+        this.createdAt = LocalDateTime.now();
+    }
+
+}
@@ -96,4 +96,15 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorDTO> handleServiceUnavailableException(ServiceUnavailableException e) {
+        log.error(e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorDTO.builder()
+                        .code(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                        .message(e.getMessage())
+                        .build());
+    }
+
 }
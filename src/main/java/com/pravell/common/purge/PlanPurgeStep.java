@@ -0,0 +1,47 @@
+package com.pravell.common.purge;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.ToIntBiFunction;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+public final class PlanPurgeStep {
+
+    private final String name;
+    private final ToIntBiFunction<UUID, Integer> purger;
+
+    private PlanPurgeStep(String name, ToIntBiFunction<UUID, Integer> purger) {
+        this.name = name;
+        this.purger = purger;
+    }
+
+    public static <ID> PlanPurgeStep chunked(String name, BiFunction<UUID, Pageable, List<ID>> idFinder,
+                                             Consumer<List<ID>> batchDeleter) {
+        return new PlanPurgeStep(name, (planId, limit) -> {
+            List<ID> ids = idFinder.apply(planId, PageRequest.of(0, limit));
+            if (!ids.isEmpty()) {
+                batchDeleter.accept(ids);
+            }
+            return ids.size();
+        });
+    }
+
+    public static PlanPurgeStep whole(String name, Consumer<UUID> planDeleter) {
+        return new PlanPurgeStep(name, (planId, limit) -> {
+            planDeleter.accept(planId);
+            return 0;
+        });
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int purge(UUID planId, int limit) {
+        return purger.applyAsInt(planId, limit);
+    }
+
+}
@@ -1,8 +1,10 @@
 package com.pravell.common.util;
 
+import com.pravell.common.auth.AccessTokenDenylist;
 import com.pravell.common.exception.InvalidCredentialsException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -19,17 +21,27 @@ public class CommonJwtUtil {
     private final Duration accessTtl;
     private final Duration refreshTtl;
     private final String issuer;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     public CommonJwtUtil(
             @Value("${jwt.secret-key}") String base64Secret,
             @Value("${jwt.access-token-expiration}") Duration accessTtl,
             @Value("${jwt.refresh-token-expiration}") Duration refreshTtl,
-            @Value("${jwt.issuer}") String issuer
+            @Value("${jwt.issuer}") String issuer,
+            VerifiedTokenCache verifiedTokenCache,
+            AccessTokenDenylist accessTokenDenylist
     ) {
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
         this.accessTtl = accessTtl;
         this.refreshTtl = refreshTtl;
         this.issuer = issuer;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.accessTokenDenylist = accessTokenDenylist;
     }
 
     public boolean isValidRefreshToken(String token) {
@@ -43,40 +55,58 @@ public class CommonJwtUtil {
     }
 
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return jwtParser.parseSignedClaims(token)
                 .getPayload();
     }
 
     public UUID getUserIdFromToken(String authorizationHeader) {
+        return verifyAccessToken(authorizationHeader).getUserId();
+    }
+
+    public VerifiedAccessToken verifyAccessToken(String authorizationHeader) {
         if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")){
             throw new InvalidCredentialsException("토큰이 올바르지 않습니다.");
         }
 
         String accessToken = authorizationHeader.replace("Bearer ", "").trim();
 
-        if (!isValidAccessToken(accessToken)) {
+        VerifiedAccessToken verifiedAccessToken = verifiedTokenCache.get(accessToken);
+        if (verifiedAccessToken == null) {
+            Claims claims = getValidAccessTokenClaims(accessToken);
+            verifiedAccessToken = VerifiedAccessToken.builder()
+                    .userId(UUID.fromString(claims.get("id", String.class)))
+                    .tokenId(claims.getId())
+                    .expiresAt(claims.getExpiration().toInstant())
+                    .build();
+            verifiedTokenCache.put(accessToken, verifiedAccessToken);
+        }
+
+        if (verifiedAccessToken.getTokenId() != null
+                && accessTokenDenylist.isDenied(verifiedAccessToken.getTokenId())) {
             throw new InvalidCredentialsException("토큰이 올바르지 않습니다.");
         }
 
-        Claims claims = getClaims(accessToken);
-        return UUID.fromString(claims.get("id", String.class));
+        return verifiedAccessToken;
     }
 
-    private boolean isValidAccessToken(String token) {
+    private Claims getValidAccessTokenClaims(String token) {
         if (token == null || token.isBlank()) {
-            return false;
+            throw new InvalidCredentialsException("토큰이 올바르지 않습니다.");
         }
 
         try {
             Claims claims = getClaims(token);
-            return "access".equals(claims.get("typ", String.class))
-                    && issuer.equals(claims.getIssuer());
+            if ("access".equals(claims.get("typ", String.class))
+                    && issuer.equals(claims.getIssuer())
+                    && claims.get("id", String.class) != null
+                    && claims.getExpiration() != null) {
+                return claims;
+            }
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            throw new InvalidCredentialsException("토큰이 올바르지 않습니다.");
         }
+
+        throw new InvalidCredentialsException("토큰이 올바르지 않습니다.");
     }
 
 }
@@ -0,0 +1,16 @@
+package com.pravell.common.util;
+
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class VerifiedAccessToken {
+
+    private final UUID userId;
+    private final String tokenId;
+    private final Instant expiresAt;
+
+}
@@ -0,0 +1,86 @@
+package com.pravell.common.util;
+
+import com.pravell.common.cache.LruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class VerifiedTokenCache {
+
+    private final LruCache<String, VerifiedAccessToken> cache;
+    private final Clock clock;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public VerifiedTokenCache(
+            @Value("${jwt.verified-cache.max-size:10000}") int maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this(maxSize, meterRegistry, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxSize, MeterRegistry meterRegistry, Clock clock) {
+        this.cache = new LruCache<>(maxSize);
+        this.clock = clock;
+        this.hitCounter = meterRegistry.counter("jwt.verified.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.verified.cache", "result", "miss");
+        Gauge.builder("jwt.verified.cache.size", cache, LruCache::size).register(meterRegistry);
+    }
+
+    public VerifiedAccessToken get(String token) {
+        String key = digest(token);
+        VerifiedAccessToken verifiedAccessToken = cache.get(key);
+
+        if (verifiedAccessToken == null) {
+            missCounter.increment();
+            return null;
+        }
+
+        if (isExpired(verifiedAccessToken, clock.instant())) {
+            cache.remove(key, verifiedAccessToken);
+            missCounter.increment();
+            return null;
+        }
+
+        hitCounter.increment();
+        return verifiedAccessToken;
+    }
+
+    public void put(String token, VerifiedAccessToken verifiedAccessToken) {
+        Instant now = clock.instant();
+        if (verifiedAccessToken.getExpiresAt() == null || isExpired(verifiedAccessToken, now)) {
+            return;
+        }
+
+        cache.put(digest(token), verifiedAccessToken);
+    }
+
+    public void evict(String token) {
+        cache.remove(digest(token));
+    }
+
+    private boolean isExpired(VerifiedAccessToken verifiedAccessToken, Instant now) {
+        return !verifiedAccessToken.getExpiresAt().isAfter(now);
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -1,15 +1,17 @@
 package com.pravell.expense.application;
 
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.expense.application.dto.request.CreateExpenseApplicationRequest;
 import com.pravell.expense.domain.model.Expense;
-import com.pravell.expense.domain.model.PlanMember;
 import com.pravell.expense.domain.repository.ExpenseRepository;
 import com.pravell.expense.domain.service.ExpenseAuthorizationService;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,12 +22,15 @@ public class CreateExpenseService {
 
     private final ExpenseAuthorizationService expenseAuthorizationService;
     private final ExpenseRepository expenseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UUID create(UUID userId, UUID planId, CreateExpenseApplicationRequest request,
-                       List<PlanMember> planMembers) {
-        validateCreateExpense(userId, planMembers, planId);
+                       PlanMembership planMembership) {
+        validateCreateExpense(userId, planMembership, planId);
         UUID expenseId = saveExpense(userId, planId, request);
+        eventPublisher.publishEvent(new PlanContentChangedEvent(planId,
+                PlanContentChangeType.EXPENSE_ADDED, expenseId, userId));
         log.info("{} 유저가 {} 플랜에 {} 지출 추가.", userId, planId, expenseId);
         return expenseId;
     }
@@ -37,8 +42,8 @@ public class CreateExpenseService {
         return expense.getId();
     }
 
-    private void validateCreateExpense(UUID userId, List<PlanMember> planMembers, UUID planId) {
-        if (!expenseAuthorizationService.isOwnerOrMember(userId, planMembers)) {
+    private void validateCreateExpense(UUID userId, PlanMembership planMembership, UUID planId) {
+        if (!expenseAuthorizationService.isOwnerOrMember(userId, planMembership)) {
             log.info("{} 유저는 {} 플랜에 지출을 추가할 수 없습니다.", userId, planId);
             throw new AccessDeniedException("해당 리소스에 접근 할 권한이 없습니다.");
         }
@@ -1,13 +1,15 @@
 package com.pravell.expense.application;
 
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.expense.domain.model.Expense;
-import com.pravell.expense.domain.model.PlanMember;
 import com.pravell.expense.domain.service.ExpenseAuthorizationService;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,16 +19,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteExpenseService {
 
     private final ExpenseAuthorizationService expenseAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public void delete(Expense expense, UUID userId, List<PlanMember> planMembers) {
+    public void delete(Expense expense, UUID userId, PlanMembership planMembership) {
         log.info("{} 유저가 {} 플랜의 {} 지출을 삭제.", userId, expense.getPlanId(), expense.getId());
-        validateExpenseDeletion(userId, planMembers, expense.getPlanId(), expense.getId());
+        validateExpenseDeletion(userId, planMembership, expense.getPlanId(), expense.getId());
         expense.delete();
+        eventPublisher.publishEvent(new PlanContentChangedEvent(expense.getPlanId(),
+                PlanContentChangeType.EXPENSE_DELETED, expense.getId(), userId));
     }
 
-    private void validateExpenseDeletion(UUID userId, List<PlanMember> planMembers, UUID planId, UUID expenseId) {
-        if (!expenseAuthorizationService.isOwnerOrMember(userId, planMembers)) {
+    private void validateExpenseDeletion(UUID userId, PlanMembership planMembership, UUID planId, UUID expenseId) {
+        if (!expenseAuthorizationService.isOwnerOrMember(userId, planMembership)) {
             log.info("{} 유저는 {} 플랜의 {} 지출을 삭제하지 못합니다.", userId, planId, expenseId);
             throw new AccessDeniedException("해당 리소스에 접근 할 권한이 없습니다.");
         }
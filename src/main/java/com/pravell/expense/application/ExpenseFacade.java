@@ -1,12 +1,12 @@
 package com.pravell.expense.application;
 
+import com.pravell.common.domain.PlanMembership;
 import com.pravell.expense.application.dto.request.CreateExpenseApplicationRequest;
 import com.pravell.expense.application.dto.request.UpdateExpenseApplicationRequest;
 import com.pravell.expense.application.dto.response.ExpenseResponse;
 import com.pravell.expense.domain.model.Expense;
 import com.pravell.expense.domain.model.PlanMember;
 import com.pravell.plan.application.PlanService;
-import com.pravell.plan.application.dto.PlanMemberDTO;
 import com.pravell.user.application.UserService;
 import com.pravell.user.application.dto.UserMemberDTO;
 import java.time.LocalDateTime;
@@ -28,56 +28,49 @@ public class ExpenseFacade {
     private final UpdateExpenseService updateExpenseService;
 
     public UUID createExpense(UUID userId, UUID planId, CreateExpenseApplicationRequest request) {
-        userService.findUserById(userId);
         userService.findUserById(request.getPaidByUserId());
 
-        List<PlanMember> planMembers = getPlanMember(planId);
-        return createExpenseService.create(userId, planId, request, planMembers);
+        PlanMembership planMembership = getPlanMembership(planId);
+        return createExpenseService.create(userId, planId, request, planMembership);
     }
 
     public List<ExpenseResponse> getExpenses(UUID userId, UUID planId, LocalDateTime from, LocalDateTime to,
                                              UUID paidByUserId) {
-        userService.findUserById(userId);
         if (paidByUserId != null) {
             userService.findUserById(paidByUserId);
         }
 
-        List<PlanMember> members = getMemberIdAndNickname(planId);
+        PlanMembership planMembership = getPlanMembership(planId);
+        List<PlanMember> members = getMemberIdAndNickname(planMembership);
 
-        return findExpenseService.findAll(planId, userId, members, from, to, paidByUserId);
+        return findExpenseService.findAll(planId, userId, planMembership, members, from, to, paidByUserId);
     }
 
     public ExpenseResponse getExpense(UUID userId, UUID expenseId) {
-        userService.findUserById(userId);
-
         Expense expense = expenseService.findExpense(expenseId);
-        List<PlanMember> members = getMemberIdAndNickname(expense.getPlanId());
+        PlanMembership planMembership = getPlanMembership(expense.getPlanId());
+        List<PlanMember> members = getMemberIdAndNickname(planMembership);
 
-        return findExpenseService.find(expense, members, userId);
+        return findExpenseService.find(expense, planMembership, members, userId);
     }
 
     public void deleteExpense(UUID userId, UUID expenseId) {
-        userService.findUserById(userId);
-
         Expense expense = expenseService.findExpense(expenseId);
-        List<PlanMember> planMembers = getMemberId(expense.getPlanId());
+        PlanMembership planMembership = planService.findMembership(expense.getPlanId());
 
-        deleteExpenseService.delete(expense, userId, planMembers);
+        deleteExpenseService.delete(expense, userId, planMembership);
     }
 
     public ExpenseResponse updateExpense(UUID userId, UUID expenseId, UpdateExpenseApplicationRequest request) {
-        userService.findUserById(userId);
-
         Expense expense = expenseService.findExpense(expenseId);
-        List<PlanMember> members = getMemberIdAndNickname(expense.getPlanId());
+        PlanMembership planMembership = getPlanMembership(expense.getPlanId());
+        List<PlanMember> members = getMemberIdAndNickname(planMembership);
 
-        return updateExpenseService.update(expense, request, userId, members);
+        return updateExpenseService.update(expense, request, userId, planMembership, members);
     }
 
-    private List<PlanMember> getMemberIdAndNickname(UUID planId) {
-        List<PlanMember> planMembers = getPlanMember(planId);
-        List<UserMemberDTO> userServiceMembers = userService.findMembers(
-                planMembers.stream().map(PlanMember::getMemberId).toList());
+    private List<PlanMember> getMemberIdAndNickname(PlanMembership planMembership) {
+        List<UserMemberDTO> userServiceMembers = userService.findMembers(planMembership.findActiveUserIds());
         return userServiceMembers.stream().map(usm -> {
             return PlanMember.builder()
                     .memberId(usm.getMemberId())
@@ -86,20 +79,8 @@ public class ExpenseFacade {
         }).toList();
     }
 
-    private List<PlanMember> getPlanMember(UUID planId) {
+    private PlanMembership getPlanMembership(UUID planId) {
         planService.findPlan(planId);
-        return getMemberId(planId);
-    }
-
-    private List<PlanMember> getMemberId(UUID planId) {
-        List<PlanMemberDTO> planMembers = planService.findActivePlanMembers(planId);
-
-        return planMembers.stream().map(
-                pm -> {
-                    return PlanMember.builder()
-                            .memberId(pm.getMemberId())
-                            .build();
-                }
-        ).toList();
+        return planService.findMembership(planId);
     }
 }
@@ -1,5 +1,6 @@
 package com.pravell.expense.application;
 
+import com.pravell.common.domain.PlanMembership;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.expense.application.dto.response.ExpenseResponse;
 import com.pravell.expense.domain.model.Expense;
@@ -25,23 +26,25 @@ public class FindExpenseService {
     private final ExpenseAuthorizationService expenseAuthorizationService;
 
     @Transactional(readOnly = true)
-    public List<ExpenseResponse> findAll(UUID planId, UUID userId, List<PlanMember> planMembers,
-                                         LocalDateTime from, LocalDateTime to, UUID paidByUserId) {
+    public List<ExpenseResponse> findAll(UUID planId, UUID userId, PlanMembership planMembership,
+                                         List<PlanMember> planMembers, LocalDateTime from, LocalDateTime to,
+                                         UUID paidByUserId) {
         log.info("{} 유저가 {} 플랜의 지출 내역을 조회.", userId, planId);
-        validateFindExpenses(userId, planMembers, planId);
+        validateFindExpenses(userId, planMembership, planId);
         List<Expense> expenses = expenseRepository.findAllByPlanIdWithFilters(planId, from, to, paidByUserId);
         return getExpenseResponses(expenses, planMembers);
     }
 
     @Transactional(readOnly = true)
-    public ExpenseResponse find(Expense expense, List<PlanMember> planMembers, UUID userId) {
+    public ExpenseResponse find(Expense expense, PlanMembership planMembership, List<PlanMember> planMembers,
+                                UUID userId) {
         log.info("{} 유저가 {} 플랜의 {} 지출 내역을 조회.", userId, expense.getPlanId(), expense.getId());
-        validateFindExpenses(userId, planMembers, expense.getPlanId());
+        validateFindExpenses(userId, planMembership, expense.getPlanId());
         return getExpenseResponse(expense, planMembers);
     }
 
-    private void validateFindExpenses(UUID userId, List<PlanMember> planMembers, UUID planId) {
-        if (!expenseAuthorizationService.isOwnerOrMember(userId, planMembers)) {
+    private void validateFindExpenses(UUID userId, PlanMembership planMembership, UUID planId) {
+        if (!expenseAuthorizationService.isOwnerOrMember(userId, planMembership)) {
             log.info("{} 유저는 {} 플랜의 지출을 조회하지 못합니다.", userId, planId);
             throw new AccessDeniedException("해당 리소스에 접근 할 권한이 없습니다.");
         }
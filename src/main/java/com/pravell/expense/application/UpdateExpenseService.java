@@ -1,5 +1,8 @@
 package com.pravell.expense.application;
 
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.expense.application.dto.request.UpdateExpenseApplicationRequest;
 import com.pravell.expense.application.dto.response.ExpenseResponse;
@@ -12,6 +15,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,27 +25,31 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateExpenseService {
 
     private final ExpenseAuthorizationService expenseAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ExpenseResponse update(Expense expense, UpdateExpenseApplicationRequest request, UUID userId,
-                                  List<PlanMember> members) {
+                                  PlanMembership planMembership, List<PlanMember> members) {
         log.info("{} 유저가 {} 플랜의 {} 지출을 수정. before = {}, after = {}",
                 userId, expense.getPlanId(), expense.getId(), expense.toString(), request.toString());
 
-        validateUpdateExpense(expense, userId, members);
-        updateExpense(expense, request, members);
+        validateUpdateExpense(expense, userId, planMembership);
+        updateExpense(expense, request, planMembership);
+        eventPublisher.publishEvent(new PlanContentChangedEvent(expense.getPlanId(),
+                PlanContentChangeType.EXPENSE_UPDATED, expense.getId(), userId));
 
         return getExpenseResponse(expense, members);
     }
 
-    private void validateUpdateExpense(Expense expense, UUID userId, List<PlanMember> members) {
-        if (!expenseAuthorizationService.isOwnerOrMember(userId, members)) {
+    private void validateUpdateExpense(Expense expense, UUID userId, PlanMembership planMembership) {
+        if (!expenseAuthorizationService.isOwnerOrMember(userId, planMembership)) {
             log.info("{} 유저는 {} 플랜의 {} 지출을 수정 할 권한이 없습니다.", userId, expense.getPlanId(), expense.getId());
             throw new AccessDeniedException("해당 리소스에 접근 할 권한이 없습니다.");
         }
     }
 
-    private void updateExpense(Expense expense, UpdateExpenseApplicationRequest request, List<PlanMember> members) {
+    private void updateExpense(Expense expense, UpdateExpenseApplicationRequest request,
+                               PlanMembership planMembership) {
         if (request.getTitle() != null && !request.getTitle().equals(expense.getTitle())) {
             expense.updateTitle(request.getTitle());
         }
@@ -49,7 +57,7 @@ public class UpdateExpenseService {
             expense.updateAmount(request.getAmount());
         }
         if (request.getPaidByUserId() != null && !request.getPaidByUserId().equals(expense.getPaidByUserId())) {
-            if (!expenseAuthorizationService.isOwnerOrMember(request.getPaidByUserId(), members)) {
+            if (!expenseAuthorizationService.isOwnerOrMember(request.getPaidByUserId(), planMembership)) {
                 log.info("{} 유저는 {} 플랜에 속해있지 않아 {} 지출 내역에 지출한 유저로 등록이 불가능합니다.",
                         request.getPaidByUserId(), expense.getPlanId(), expense.getId());
                 throw new AccessDeniedException("해당 유저는 플랜에 속해있지 않아 지출한 유저로 등록이 불가능합니다.");
@@ -4,6 +4,7 @@ import com.pravell.expense.domain.model.Expense;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,4 +26,7 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
                                              @Param("to") LocalDateTime to,
                                              @Param("paidByUserId") UUID paidByUserId);
 
+    @Query("select e.id from Expense e where e.planId = :planId")
+    List<UUID> findIdsByPlanId(@Param("planId") UUID planId, Pageable pageable);
+
 }
@@ -1,16 +1,14 @@
 package com.pravell.expense.domain.service;
 
-import com.pravell.expense.domain.model.PlanMember;
-import java.util.List;
+import com.pravell.common.domain.PlanMembership;
 import java.util.UUID;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ExpenseAuthorizationService {
 
-    public boolean isOwnerOrMember(UUID userId, List<PlanMember> planMembers) {
-        return planMembers.stream()
-                .anyMatch(pm -> pm.getMemberId().equals(userId));
+    public boolean isOwnerOrMember(UUID userId, PlanMembership planMembership) {
+        return planMembership.isOwnerOrMember(userId);
     }
 
 }
@@ -1,17 +1,17 @@
 package com.pravell.expense.presentation;
 
-import com.pravell.common.util.CommonJwtUtil;
+import com.pravell.common.auth.AuthUser;
 import com.pravell.expense.application.ExpenseFacade;
 import com.pravell.expense.application.dto.response.ExpenseResponse;
 import com.pravell.expense.presentation.request.CreateExpenseRequest;
 import com.pravell.expense.presentation.request.UpdateExpenseRequest;
+import com.pravell.plan.presentation.PlanETagChecker;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,38 +19,36 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
 public class ExpenseController {
 
-    private final CommonJwtUtil commonJwtUtil;
     private final ExpenseFacade expenseFacade;
+    private final PlanETagChecker planETagChecker;
 
     @PostMapping("/plans/{planId}/expenses")
-    public ResponseEntity<Void> createExpense(@RequestHeader("Authorization") String header,
+    public ResponseEntity<Void> createExpense(@AuthUser UUID userId,
                                               @Valid @RequestBody CreateExpenseRequest createExpenseRequest,
                                               @PathVariable UUID planId) {
-        UUID userId = commonJwtUtil.getUserIdFromToken(header);
         UUID expenseId = expenseFacade.createExpense(userId, planId, createExpenseRequest.toApplicationRequest());
         return ResponseEntity.created(URI.create("/expenses/" + expenseId)).build();
     }
 
     @GetMapping("/plans/{planId}/expenses")
     public ResponseEntity<List<ExpenseResponse>> getExpenses(
-            @RequestHeader(HttpHeaders.AUTHORIZATION) String header,
+            @AuthUser UUID userId,
             @PathVariable UUID planId,
             @RequestParam(required = false, name = "from") String fromStr,
             @RequestParam(required = false, name = "to") String toStr,
-            @RequestParam(required = false, name = "paidUserId") String userIdStr
+            @RequestParam(required = false, name = "paidUserId") String userIdStr,
+            WebRequest webRequest
     ) {
-        UUID userId = commonJwtUtil.getUserIdFromToken(header);
-
         LocalDateTime from = parseDateTimeNullable(fromStr);
         LocalDateTime to = parseDateTimeNullable(toStr);
         UUID paidByUserId = parseUuidNullable(userIdStr);
@@ -59,6 +57,10 @@ public class ExpenseController {
             throw new IllegalArgumentException("종료 날짜가 시작 날짜보다 앞설 수 없습니다.");
         }
 
+        if (planETagChecker.isNotModified(planId, userId, webRequest)) {
+            return null;
+        }
+
         return ResponseEntity.ok(expenseFacade.getExpenses(userId, planId, from, to, paidByUserId));
     }
 
@@ -77,25 +79,22 @@ public class ExpenseController {
     }
 
     @DeleteMapping("/expenses/{expenseId}")
-    public ResponseEntity<Void> deleteExpense(@RequestHeader("Authorization") String header,
+    public ResponseEntity<Void> deleteExpense(@AuthUser UUID userId,
                                               @PathVariable UUID expenseId) {
-        UUID userId = commonJwtUtil.getUserIdFromToken(header);
         expenseFacade.deleteExpense(userId, expenseId);
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/expenses/{expenseId}")
-    public ResponseEntity<ExpenseResponse> getExpense(@RequestHeader("Authorization") String header,
+    public ResponseEntity<ExpenseResponse> getExpense(@AuthUser UUID userId,
                                                       @PathVariable UUID expenseId) {
-        UUID userId = commonJwtUtil.getUserIdFromToken(header);
         return ResponseEntity.ok(expenseFacade.getExpense(userId, expenseId));
     }
 
     @PatchMapping("/expenses/{expenseId}")
-    public ResponseEntity<ExpenseResponse> updateExpense(@RequestHeader("Authorization") String header,
+    public ResponseEntity<ExpenseResponse> updateExpense(@AuthUser UUID userId,
                                                          @Valid @RequestBody UpdateExpenseRequest updateExpenseRequest,
                                                          @PathVariable UUID expenseId) {
-        UUID userId = commonJwtUtil.getUserIdFromToken(header);
         return ResponseEntity.ok(
                 expenseFacade.updateExpense(userId, expenseId, updateExpenseRequest.toApplicationRequest()));
     }
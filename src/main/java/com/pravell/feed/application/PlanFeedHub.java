@@ -0,0 +1,198 @@
+package com.pravell.feed.application;
+
+import com.pravell.common.auth.AccessTokenDeniedEvent;
+import com.pravell.common.concurrent.BoundedExecutors;
+import com.pravell.feed.domain.model.PlanFeedEvent;
+import com.pravell.feed.domain.repository.PlanFeedRepository;
+import com.pravell.user.domain.event.UserWithdrawnEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@Component
+public class PlanFeedHub {
+
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+    private final PlanFeedRepository planFeedRepository;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService heartbeatScheduler =
+            BoundedExecutors.newSingleThreadScheduler("plan-feed-heartbeat");
+    private final int bufferSize;
+    private final int fetchSize;
+    private final AtomicInteger subscriptionCount = new AtomicInteger();
+    private final Counter overflowCounter;
+
+    public PlanFeedHub(
+            PlanFeedRepository planFeedRepository,
+            MeterRegistry meterRegistry,
+            @Value("${plan.feed.pool-size:4}") int poolSize,
+            @Value("${plan.feed.queue-capacity:1024}") int queueCapacity,
+            @Value("${plan.feed.buffer-size:256}") int bufferSize,
+            @Value("${plan.feed.fetch-size:100}") int fetchSize,
+            @Value("${plan.feed.heartbeat:PT15S}") Duration heartbeatInterval
+    ) {
+        this.planFeedRepository = planFeedRepository;
+        this.bufferSize = bufferSize;
+        this.fetchSize = fetchSize;
+
+        this.executor = BoundedExecutors.newFixedPool("plan-feed", poolSize, queueCapacity);
+
+        this.overflowCounter = meterRegistry.counter("plan.feed.overflow");
+        Gauge.builder("plan.feed.subscriptions", subscriptionCount, AtomicInteger::get).register(meterRegistry);
+
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval.toMillis(),
+                heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public PlanFeedSubscription register(UUID planId, UUID userId, String tokenId, boolean member,
+                                         SseEmitter emitter) {
+        String latestId = planFeedRepository.findLatestId(planId).orElse(null);
+        PlanFeedSubscription subscription = new PlanFeedSubscription(planId, userId, tokenId, member, emitter,
+                bufferSize, executor, this::unregister);
+
+        channels.compute(planId, (id, channel) -> {
+            Channel current = channel == null ? new Channel(planId, latestId) : channel;
+            current.subscriptions.add(subscription);
+            return current;
+        });
+        subscriptionCount.incrementAndGet();
+
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        return subscription;
+    }
+
+    public void onAppended(UUID planId) {
+        Channel channel = channels.get(planId);
+        if (channel != null) {
+            requestFetch(channel);
+        }
+    }
+
+    @EventListener
+    public void on(AccessTokenDeniedEvent event) {
+        channels.values().forEach(channel -> channel.subscriptions.stream()
+                .filter(subscription -> event.getTokenId().equals(subscription.getTokenId()))
+                .forEach(PlanFeedSubscription::close));
+    }
+
+    @TransactionalEventListener
+    public void on(UserWithdrawnEvent event) {
+        UUID userId = event.getUser().getId();
+        channels.values().forEach(channel -> channel.subscriptions.stream()
+                .filter(subscription -> userId.equals(subscription.getUserId()))
+                .forEach(PlanFeedSubscription::close));
+        log.info("탈퇴한 유저의 플랜 변경 구독을 종료합니다. userId : {}", userId);
+    }
+
+    void heartbeat() {
+        channels.values().forEach(channel -> channel.subscriptions.forEach(PlanFeedSubscription::heartbeat));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdown();
+        channels.values().forEach(channel -> channel.subscriptions.forEach(PlanFeedSubscription::close));
+        executor.shutdown();
+    }
+
+    private void unregister(PlanFeedSubscription subscription) {
+        channels.computeIfPresent(subscription.getPlanId(), (id, channel) -> {
+            if (channel.subscriptions.remove(subscription)) {
+                subscriptionCount.decrementAndGet();
+            }
+            return channel.subscriptions.isEmpty() ? null : channel;
+        });
+    }
+
+    private void requestFetch(Channel channel) {
+        channel.dirty.set(true);
+        if (!channel.fetching.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> fetch(channel));
+        } catch (RejectedExecutionException e) {
+            channel.fetching.set(false);
+            log.warn("플랜 변경 전송 대기열이 가득 찼습니다. planId : {}", channel.planId);
+        }
+    }
+
+    private void fetch(Channel channel) {
+        try {
+            while (channel.dirty.getAndSet(false)) {
+                List<PlanFeedEvent> events = planFeedRepository.findAfter(channel.planId, channel.cursor, fetchSize);
+                events.forEach(event -> dispatch(channel, event));
+                if (events.size() == fetchSize) {
+                    channel.dirty.set(true);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("플랜 변경 이벤트 조회에 실패했습니다. planId : {}", channel.planId, e);
+        } finally {
+            channel.fetching.set(false);
+        }
+
+        if (channel.dirty.get()) {
+            requestFetch(channel);
+        }
+    }
+
+    private void dispatch(Channel channel, PlanFeedEvent event) {
+        channel.cursor = event.getId();
+        for (PlanFeedSubscription subscription : channel.subscriptions) {
+            if (subscription.isRevokedBy(event)) {
+                subscription.close();
+                continue;
+            }
+            if (!subscription.accepts(event)) {
+                continue;
+            }
+            if (!subscription.offer(event)) {
+                overflowCounter.increment();
+                log.info("플랜 변경 구독 버퍼가 가득 차 구독을 종료합니다. planId : {}, userId : {}",
+                        channel.planId, subscription.getUserId());
+                subscription.close();
+            }
+        }
+    }
+
+    private static final class Channel {
+
+        private final UUID planId;
+        private final Set<PlanFeedSubscription> subscriptions = new CopyOnWriteArraySet<>();
+        private final AtomicBoolean fetching = new AtomicBoolean();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private volatile String cursor;
+
+        private Channel(UUID planId, String cursor) {
+            this.planId = planId;
+            this.cursor = cursor;
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.pravell.feed.application;
+
+import com.pravell.common.domain.event.PlanContentChangedEvent;
+import com.pravell.feed.domain.model.PlanFeedEvent;
+import com.pravell.feed.domain.repository.PlanFeedRepository;
+import com.pravell.plan.domain.event.PlanDeletedEvent;
+import com.pravell.plan.domain.event.PlanMembershipChangedEvent;
+import com.pravell.plan.domain.event.PlanMembershipsChangedEvent;
+import com.pravell.plan.domain.event.PlanUpdatedEvent;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanFeedPublisher {
+
+    private final PlanFeedRepository planFeedRepository;
+
+    @TransactionalEventListener
+    public void on(PlanContentChangedEvent event) {
+        appendQuietly(PlanFeedEvent.builder()
+                .planId(event.getPlanId())
+                .type(event.getType().name())
+                .resourceId(event.getResourceId())
+                .userId(event.getUserId())
+                .createdAt(event.getCreatedAt())
+                .build());
+    }
+
+    @TransactionalEventListener
+    public void on(PlanUpdatedEvent event) {
+        appendQuietly(PlanFeedEvent.builder()
+                .planId(event.getPlan().getId())
+                .type(PlanFeedEvent.PLAN_UPDATED)
+                .resourceId(event.getPlan().getId().toString())
+                .createdAt(event.getCreatedAt())
+                .build());
+    }
+
+    @TransactionalEventListener
+    public void on(PlanDeletedEvent event) {
+        appendQuietly(PlanFeedEvent.builder()
+                .planId(event.getPlan().getId())
+                .type(PlanFeedEvent.PLAN_DELETED)
+                .resourceId(event.getPlan().getId().toString())
+                .createdAt(event.getCreatedAt())
+                .build());
+    }
+
+    @TransactionalEventListener
+    public void on(PlanMembershipChangedEvent event) {
+        appendQuietly(PlanFeedEvent.builder()
+                .planId(event.getPlanId())
+                .type(PlanFeedEvent.MEMBERSHIP_CHANGED)
+                .resourceId(event.getPlanUserStatus().name())
+                .userId(event.getUserId())
+                .createdAt(event.getCreatedAt())
+                .build());
+    }
+
+    @TransactionalEventListener
+    public void on(PlanMembershipsChangedEvent event) {
+        for (UUID planId : event.getPlanIds()) {
+            for (UUID userId : event.getUserIds()) {
+                appendQuietly(PlanFeedEvent.builder()
+                        .planId(planId)
+                        .type(PlanFeedEvent.MEMBERSHIP_CHANGED)
+                        .resourceId(event.getPlanUserStatus().name())
+                        .userId(userId)
+                        .createdAt(event.getCreatedAt())
+                        .build());
+            }
+        }
+    }
+
+    private void appendQuietly(PlanFeedEvent event) {
+        try {
+            planFeedRepository.append(event);
+        } catch (RuntimeException e) {
+            log.warn("플랜 변경 이벤트 발행에 실패했습니다. planId : {}, type : {}", event.getPlanId(), event.getType(), e);
+        }
+    }
+
+}
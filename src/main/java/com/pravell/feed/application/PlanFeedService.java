@@ -0,0 +1,111 @@
+package com.pravell.feed.application;
+
+import com.pravell.common.auth.AuthenticatedUser;
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.feed.domain.model.PlanFeedEvent;
+import com.pravell.feed.domain.repository.PlanFeedRepository;
+import com.pravell.plan.application.FindPlanService;
+import com.pravell.plan.application.PlanService;
+import com.pravell.plan.domain.model.Plan;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@Service
+public class PlanFeedService {
+
+    private final PlanService planService;
+    private final FindPlanService findPlanService;
+    private final PlanFeedRepository planFeedRepository;
+    private final PlanFeedHub planFeedHub;
+    private final Duration timeout;
+    private final int replayLimit;
+    private final int fetchSize;
+
+    public PlanFeedService(
+            PlanService planService,
+            FindPlanService findPlanService,
+            PlanFeedRepository planFeedRepository,
+            PlanFeedHub planFeedHub,
+            @Value("${plan.feed.timeout:PT30M}") Duration timeout,
+            @Value("${plan.feed.replay-limit:500}") int replayLimit,
+            @Value("${plan.feed.fetch-size:100}") int fetchSize
+    ) {
+        this.planService = planService;
+        this.findPlanService = findPlanService;
+        this.planFeedRepository = planFeedRepository;
+        this.planFeedHub = planFeedHub;
+        this.timeout = timeout;
+        this.replayLimit = replayLimit;
+        this.fetchSize = fetchSize;
+    }
+
+    public SseEmitter subscribe(AuthenticatedUser authenticatedUser, UUID planId, String lastEventId) {
+        if (lastEventId != null && !PlanFeedEvent.isValidId(lastEventId)) {
+            throw new IllegalArgumentException("올바르지 않은 이벤트 ID입니다.");
+        }
+
+        UUID userId = authenticatedUser.getId();
+        Plan plan = planService.findPlan(planId);
+        PlanMembership planMembership = planService.findMembership(planId);
+        findPlanService.validateMemberOrOwner(plan, userId, planMembership);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeout(authenticatedUser.getTokenExpiresAt()).toMillis());
+        PlanFeedSubscription subscription = planFeedHub.register(planId, userId, authenticatedUser.getTokenId(),
+                planMembership.isOwnerOrMember(userId), emitter);
+
+        if (lastEventId != null) {
+            replay(subscription, planId, lastEventId);
+        }
+
+        log.info("{} 유저가 {} 플랜의 변경 피드를 구독. lastEventId : {}", userId, planId, lastEventId);
+        subscription.start();
+        return emitter;
+    }
+
+    private Duration emitterTimeout(Instant tokenExpiresAt) {
+        if (tokenExpiresAt == null) {
+            return timeout;
+        }
+
+        Duration untilExpiry = Duration.between(Instant.now(), tokenExpiresAt);
+        if (untilExpiry.compareTo(timeout) >= 0) {
+            return timeout;
+        }
+        return untilExpiry.isNegative() || untilExpiry.isZero() ? Duration.ofMillis(1) : untilExpiry;
+    }
+
+    private void replay(PlanFeedSubscription subscription, UUID planId, String lastEventId) {
+        Optional<String> oldestId = planFeedRepository.findOldestId(planId);
+        if (oldestId.isPresent() && PlanFeedEvent.compareIds(oldestId.get(), lastEventId) > 0) {
+            subscription.reset();
+            return;
+        }
+
+        List<PlanFeedEvent> missed = new ArrayList<>();
+        String cursor = lastEventId;
+        List<PlanFeedEvent> page;
+        do {
+            page = planFeedRepository.findAfter(planId, cursor, fetchSize);
+            missed.addAll(page);
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == fetchSize && missed.size() < replayLimit);
+
+        if (missed.size() >= replayLimit) {
+            subscription.reset();
+            return;
+        }
+        subscription.replay(missed);
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.pravell.feed.application;
+
+import com.pravell.feed.domain.model.PlanFeedEvent;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+public class PlanFeedSubscription {
+
+    private static final String RESET_EVENT = "RESET";
+
+    @Getter
+    private final UUID planId;
+    @Getter
+    private final UUID userId;
+    @Getter
+    private final String tokenId;
+    private final boolean member;
+    private final SseEmitter emitter;
+    private final BlockingQueue<PlanFeedEvent> buffer;
+    private final Executor executor;
+    private final Consumer<PlanFeedSubscription> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean started;
+    private volatile boolean heartbeatPending;
+    private volatile String lastEventId;
+
+    PlanFeedSubscription(UUID planId, UUID userId, String tokenId, boolean member, SseEmitter emitter,
+                         int bufferSize, Executor executor, Consumer<PlanFeedSubscription> onClose) {
+        this.planId = planId;
+        this.userId = userId;
+        this.tokenId = tokenId;
+        this.member = member;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.executor = executor;
+        this.onClose = onClose;
+    }
+
+    public void replay(List<PlanFeedEvent> events) {
+        events.forEach(this::send);
+    }
+
+    public void reset() {
+        try {
+            emitter.send(SseEmitter.event().name(RESET_EVENT).data(""));
+        } catch (IOException | IllegalStateException e) {
+            close();
+        }
+    }
+
+    public void start() {
+        started = true;
+        schedule();
+    }
+
+    boolean accepts(PlanFeedEvent event) {
+        return member || !event.isExpense();
+    }
+
+    boolean isRevokedBy(PlanFeedEvent event) {
+        return switch (event.getType()) {
+            case PlanFeedEvent.PLAN_DELETED -> true;
+            case PlanFeedEvent.PLAN_UPDATED -> !member;
+            case PlanFeedEvent.MEMBERSHIP_CHANGED -> userId.equals(event.getUserId());
+            default -> false;
+        };
+    }
+
+    boolean offer(PlanFeedEvent event) {
+        if (closed.get()) {
+            return true;
+        }
+        if (!buffer.offer(event)) {
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    void heartbeat() {
+        heartbeatPending = true;
+        schedule();
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        buffer.clear();
+        onClose.accept(this);
+        try {
+            emitter.complete();
+        } catch (IllegalStateException e) {
+            log.debug("이미 종료된 플랜 변경 구독입니다. planId : {}", planId);
+        }
+    }
+
+    private void schedule() {
+        if (!started || closed.get() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            log.warn("플랜 변경 전송 대기열이 가득 차 구독을 종료합니다. planId : {}", planId);
+            close();
+        }
+    }
+
+    private void drain() {
+        try {
+            if (heartbeatPending) {
+                heartbeatPending = false;
+                sendHeartbeat();
+            }
+
+            PlanFeedEvent event;
+            while (!closed.get() && (event = buffer.poll()) != null) {
+                send(event);
+            }
+        } finally {
+            draining.set(false);
+        }
+
+        if (!buffer.isEmpty() || heartbeatPending) {
+            schedule();
+        }
+    }
+
+    private void send(PlanFeedEvent event) {
+        if (!event.isAfter(lastEventId) || !accepts(event)) {
+            return;
+        }
+
+        try {
+            emitter.send(SseEmitter.event().id(event.getId()).name(event.getType()).data(event));
+            lastEventId = event.getId();
+        } catch (IOException | IllegalStateException e) {
+            close();
+        }
+    }
+
+    private void sendHeartbeat() {
+        try {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } catch (IOException | IllegalStateException e) {
+            close();
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.pravell.feed.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PlanFeedEvent {
+
+    public static final String PLAN_UPDATED = "PLAN_UPDATED";
+    public static final String PLAN_DELETED = "PLAN_DELETED";
+    public static final String MEMBERSHIP_CHANGED = "MEMBERSHIP_CHANGED";
+
+    private static final String EXPENSE_PREFIX = "EXPENSE_";
+    private static final String ID_DELIMITER = "-";
+
+    private String id;
+    private UUID planId;
+    private String type;
+    private String resourceId;
+    private UUID userId;
+    private LocalDateTime createdAt;
+
+    public PlanFeedEvent withId(String id) {
+        return toBuilder().id(id).build();
+    }
+
+    @JsonIgnore
+    public boolean isExpense() {
+        return type.startsWith(EXPENSE_PREFIX);
+    }
+
+    public boolean isAfter(String otherId) {
+        return otherId == null || compareIds(id, otherId) > 0;
+    }
+
+    public static boolean isValidId(String id) {
+        return id != null && id.matches("^\\d+-\\d+$");
+    }
+
+    public static int compareIds(String a, String b) {
+        String[] left = a.split(ID_DELIMITER);
+        String[] right = b.split(ID_DELIMITER);
+        int compared = Long.compare(Long.parseLong(left[0]), Long.parseLong(right[0]));
+        return compared != 0 ? compared : Long.compare(Long.parseLong(left[1]), Long.parseLong(right[1]));
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.pravell.feed.domain.repository;
+
+import com.pravell.feed.domain.model.PlanFeedEvent;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PlanFeedRepository {
+
+    String append(PlanFeedEvent event);
+
+    List<PlanFeedEvent> findAfter(UUID planId, String lastEventId, int limit);
+
+    Optional<String> findOldestId(UUID planId);
+
+    Optional<String> findLatestId(UUID planId);
+}
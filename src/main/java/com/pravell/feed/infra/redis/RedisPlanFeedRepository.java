@@ -0,0 +1,121 @@
+package com.pravell.feed.infra.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pravell.feed.domain.model.PlanFeedEvent;
+import com.pravell.feed.domain.repository.PlanFeedRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@Repository
+public class RedisPlanFeedRepository implements PlanFeedRepository {
+
+    static final String CHANNEL = "plan-feed";
+
+    private static final String KEY_PREFIX = "planFeed:";
+    private static final String PAYLOAD_FIELD = "payload";
+
+    private static final RedisScript<String> APPEND_SCRIPT = RedisScript.of("""
+            local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', 'payload', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('PUBLISH', ARGV[4], ARGV[5])
+            return id
+            """, String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int maxLength;
+    private final Duration ttl;
+
+    public RedisPlanFeedRepository(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${plan.feed.max-length:1000}") int maxLength,
+            @Value("${plan.feed.ttl:P1D}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxLength = maxLength;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public String append(PlanFeedEvent event) {
+        return redisTemplate.execute(APPEND_SCRIPT, List.of(key(event.getPlanId())),
+                String.valueOf(maxLength), serialize(event), String.valueOf(ttl.toMillis()), CHANNEL,
+                event.getPlanId().toString());
+    }
+
+    @Override
+    public List<PlanFeedEvent> findAfter(UUID planId, String lastEventId, int limit) {
+        Range<String> range = lastEventId == null
+                ? Range.unbounded()
+                : Range.rightUnbounded(Range.Bound.exclusive(lastEventId));
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(key(planId), range, Limit.limit().count(limit));
+        if (records == null) {
+            return List.of();
+        }
+
+        return records.stream()
+                .map(record -> deserialize(record.getId().getValue(), (String) record.getValue().get(PAYLOAD_FIELD)))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public Optional<String> findOldestId(UUID planId) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(key(planId), Range.unbounded(), Limit.limit().count(1));
+        return firstId(records);
+    }
+
+    @Override
+    public Optional<String> findLatestId(UUID planId) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .reverseRange(key(planId), Range.unbounded(), Limit.limit().count(1));
+        return firstId(records);
+    }
+
+    private Optional<String> firstId(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(records.get(0).getId().getValue());
+    }
+
+    private String serialize(PlanFeedEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("플랜 변경 이벤트 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private PlanFeedEvent deserialize(String id, String payload) {
+        try {
+            return objectMapper.readValue(payload, PlanFeedEvent.class).withId(id);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.warn("플랜 변경 이벤트 역직렬화에 실패했습니다. id : {}", id);
+            return null;
+        }
+    }
+
+    private String key(UUID planId) {
+        return KEY_PREFIX + planId;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.pravell.feed.infra.redis;
+
+import com.pravell.feed.application.PlanFeedHub;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisPlanFeedSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final PlanFeedHub planFeedHub;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisPlanFeedRepository.CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            planFeedHub.onAppended(UUID.fromString(body));
+        } catch (IllegalArgumentException e) {
+            log.warn("플랜 변경 알림 메시지가 올바르지 않습니다. message : {}", body);
+        }
+    }
+
+}
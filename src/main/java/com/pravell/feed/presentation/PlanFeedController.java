@@ -0,0 +1,31 @@
+package com.pravell.feed.presentation;
+
+import com.pravell.common.auth.AuthUser;
+import com.pravell.common.auth.AuthenticatedUser;
+import com.pravell.feed.application.PlanFeedService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/plans")
+public class PlanFeedController {
+
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private final PlanFeedService planFeedService;
+
+    @GetMapping("/{planId}/events")
+    public SseEmitter subscribe(@AuthUser AuthenticatedUser authenticatedUser,
+                                @PathVariable UUID planId,
+                                @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        return planFeedService.subscribe(authenticatedUser, planId, lastEventId);
+    }
+
+}
@@ -1,9 +1,9 @@
 package com.pravell.marker.application;
 
+import com.pravell.common.domain.PlanMembership;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.marker.application.dto.response.FindMarkersResponse;
 import com.pravell.marker.domain.model.Marker;
-import com.pravell.marker.domain.model.PlanMember;
 import com.pravell.marker.domain.repository.MarkerRepository;
 import com.pravell.marker.domain.service.MarkerAuthorizationService;
 import java.util.List;
@@ -22,32 +22,32 @@ public class FindMarkerService {
     private final MarkerRepository markerRepository;
 
     @Transactional(readOnly = true)
-    public List<FindMarkersResponse> getMarkersOfPlan(UUID userId, boolean planPublic, List<PlanMember> planMembers,
-                                                      UUID planId) {
-        validateFindMarkers(userId, planPublic, planMembers, planId);
+    public List<FindMarkersResponse> getMarkersOfPlan(UUID userId, boolean planPublic,
+                                                      PlanMembership planMembership, UUID planId) {
+        validateFindMarkers(userId, planPublic, planMembership, planId);
 
         List<Marker> markers = markerRepository.findAllByPlanId(planId);
 
         return buildFindMarkersResponse(markers);
     }
 
-    private void validateFindMarkers(UUID userId, boolean planPublic, List<PlanMember> planMembers, UUID planId) {
+    public void validateFindMarkers(UUID userId, boolean planPublic, PlanMembership planMembership, UUID planId) {
         if (planPublic) {
-            validatePublicPlanAccess(userId, planMembers, planId);
+            validatePublicPlanAccess(userId, planMembership, planId);
         } else {
-            validatePrivatePlanAccess(userId, planMembers, planId);
+            validatePrivatePlanAccess(userId, planMembership, planId);
         }
     }
 
-    private void validatePublicPlanAccess(UUID userId, List<PlanMember> planMembers, UUID planId) {
-        if (!markerAuthorizationService.hasPublicPlanPermission(userId, planMembers)) {
+    private void validatePublicPlanAccess(UUID userId, PlanMembership planMembership, UUID planId) {
+        if (!markerAuthorizationService.hasPublicPlanPermission(userId, planMembership)) {
             log.info("유저 {}는 공개 플랜 {}의 마커를 조회할 수 없습니다.", userId, planId);
             throw new AccessDeniedException("해당 마커를 조회할 권한이 없습니다.");
         }
     }
 
-    private void validatePrivatePlanAccess(UUID userId, List<PlanMember> planMembers, UUID planId) {
-        if (!markerAuthorizationService.isOwnerOrMember(userId, planMembers)) {
+    private void validatePrivatePlanAccess(UUID userId, PlanMembership planMembership, UUID planId) {
+        if (!markerAuthorizationService.isOwnerOrMember(userId, planMembership)) {
             log.info("유저 {}는 비공개 플랜 {}의 마커를 조회할 수 없습니다.", userId, planId);
             throw new AccessDeniedException("해당 마커를 조회할 권한이 없습니다.");
         }
@@ -1,16 +1,18 @@
 package com.pravell.marker.application;
 
+import com.pravell.common.domain.PlanMembership;
 import com.pravell.marker.application.dto.request.CreateMarkerApplicationRequest;
 import com.pravell.marker.application.dto.request.UpdateMarkerApplicationRequest;
 import com.pravell.marker.application.dto.response.MarkerResponse;
 import com.pravell.marker.application.dto.response.FindMarkersResponse;
 import com.pravell.marker.domain.model.Marker;
-import com.pravell.marker.domain.model.PlanMember;
-import com.pravell.marker.domain.model.PlanMemberStatus;
 import com.pravell.plan.application.PlanService;
-import com.pravell.plan.application.dto.PlanMemberDTO;
-import com.pravell.user.application.UserService;
+import com.pravell.plan.application.PlanVersionService;
+import com.pravell.plan.application.PublicPlanViewCache;
+import com.pravell.plan.application.dto.PlanViewResult;
+import com.pravell.plan.application.dto.PublicPlanView;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,62 +21,53 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MarkerFacade {
 
-    private final UserService userService;
     private final PlanService planService;
     private final CreateMarkerService createMarkerService;
     private final FindMarkerService findMarkerService;
     private final UpdateMarkerService updateMarkerService;
     private final MarkerService markerService;
     private final DeleteMarkerService deleteMarkerService;
+    private final PlanVersionService planVersionService;
+    private final PublicPlanViewCache publicPlanViewCache;
 
     public MarkerResponse createMarker(UUID id, CreateMarkerApplicationRequest request) {
-        userService.findUserById(id);
-
         planService.findPlan(request.getPlanId());
-        List<PlanMember> planMembers = getPlanMembers(request.getPlanId());
+        PlanMembership planMembership = planService.findMembership(request.getPlanId());
 
-        return createMarkerService.create(id, planMembers, request);
+        return createMarkerService.create(id, planMembership, request);
     }
 
-    public List<FindMarkersResponse> findMarkers(UUID id, UUID planId) {
-        userService.findUserById(id);
+    public PlanViewResult<List<FindMarkersResponse>> findMarkers(UUID id, UUID planId) {
+        Long version = planVersionService.findVersion(planId);
+        Optional<List<FindMarkersResponse>> cached = publicPlanViewCache.find(planId, version,
+                PublicPlanView.MARKERS);
+        if (cached.isPresent()) {
+            findMarkerService.validateFindMarkers(id, true, planService.findMembership(planId), planId);
+            return new PlanViewResult<>(cached.get(), true);
+        }
 
         boolean planPublic = planService.isPlanPublic(planId);
-        List<PlanMember> planMembers = getPlanMembers(planId);
+        PlanMembership planMembership = planService.findMembership(planId);
 
-        return findMarkerService.getMarkersOfPlan(id, planPublic, planMembers, planId);
+        List<FindMarkersResponse> responses = findMarkerService.getMarkersOfPlan(id, planPublic, planMembership,
+                planId);
+        publicPlanViewCache.store(planId, version, PublicPlanView.MARKERS, planPublic, responses);
+        return new PlanViewResult<>(responses, planPublic);
     }
 
     public MarkerResponse updateMarker(UUID id, Long markerId, UpdateMarkerApplicationRequest request) {
-        userService.findUserById(id);
-
         Marker marker = markerService.findMarker(markerId);
         planService.findPlan(marker.getPlanId());
-        List<PlanMember> planMembers = getPlanMembers(marker.getPlanId());
+        PlanMembership planMembership = planService.findMembership(marker.getPlanId());
 
-        return updateMarkerService.update(marker, id, planMembers, request);
+        return updateMarkerService.update(marker, id, planMembership, request);
     }
 
     public void deleteMarker(UUID id, Long markerId) {
-        userService.findUserById(id);
-
         Marker marker = markerService.findMarker(markerId);
         planService.findPlan(marker.getPlanId());
-        List<PlanMember> planMembers = getPlanMembers(marker.getPlanId());
-
-        deleteMarkerService.delete(id, marker, planMembers);
-    }
-
-    private List<PlanMember> getPlanMembers(UUID planId) {
-        List<PlanMemberDTO> planMembers = planService.findPlanMembers(planId);
+        PlanMembership planMembership = planService.findMembership(marker.getPlanId());
 
-        return planMembers.stream().map(
-                pm -> {
-                    return PlanMember.builder()
-                            .memberId(pm.getMemberId())
-                            .planMemberStatus(PlanMemberStatus.valueOf(pm.getPlanMemberStatus()))
-                            .build();
-                }
-        ).toList();
+        deleteMarkerService.delete(id, marker, planMembership);
     }
 }
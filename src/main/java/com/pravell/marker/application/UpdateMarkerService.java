@@ -1,15 +1,17 @@
 package com.pravell.marker.application;
 
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.marker.application.dto.request.UpdateMarkerApplicationRequest;
 import com.pravell.marker.application.dto.response.MarkerResponse;
 import com.pravell.marker.domain.model.Marker;
-import com.pravell.marker.domain.model.PlanMember;
 import com.pravell.marker.domain.service.MarkerAuthorizationService;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,21 +21,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateMarkerService {
 
     private final MarkerAuthorizationService markerAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public MarkerResponse update(Marker marker, UUID userId, List<PlanMember> planMembers,
+    public MarkerResponse update(Marker marker, UUID userId, PlanMembership planMembership,
                                  UpdateMarkerApplicationRequest request) {
-        validateUpdateMarker(marker, userId, planMembers);
+        validateUpdateMarker(marker, userId, planMembership);
 
         log.info("유저 {}가 {} 플랜의 마커를 수정했습니다. before : {}, after : {}",
                 userId, marker.getPlanId(), marker.toString(), request.toString());
 
         updateMarker(marker, request);
+        eventPublisher.publishEvent(new PlanContentChangedEvent(marker.getPlanId(),
+                PlanContentChangeType.MARKER_UPDATED, marker.getId(), userId));
         return buildMarkerResponse(marker);
     }
 
-    private void validateUpdateMarker(Marker marker, UUID userId, List<PlanMember> planMembers) {
-        if (!markerAuthorizationService.isOwnerOrMember(userId, planMembers)) {
+    private void validateUpdateMarker(Marker marker, UUID userId, PlanMembership planMembership) {
+        if (!markerAuthorizationService.isOwnerOrMember(userId, planMembership)) {
             log.info("{} 유저는 {} 플랜의 {} 마커를 수정 할 권한이 없습니다.", userId, marker.getPlanId(), marker.getId());
             throw new AccessDeniedException("마커를 수정 할 권한이 없습니다.");
         }
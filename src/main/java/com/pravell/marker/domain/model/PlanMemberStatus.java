@@ -1,5 +0,0 @@
-package com.pravell.marker.domain.model;
-
-public enum PlanMemberStatus {
-    OWNER, MEMBER, BLOCKED
-}
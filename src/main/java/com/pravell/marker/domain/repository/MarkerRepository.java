@@ -3,10 +3,16 @@ package com.pravell.marker.domain.repository;
 import com.pravell.marker.domain.model.Marker;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MarkerRepository extends JpaRepository<Marker, Long> {
     List<Marker> findAllByPlanId(UUID planId);
+
+    @Query("select m.id from Marker m where m.planId = :planId")
+    List<Long> findIdsByPlanId(@Param("planId") UUID planId, Pageable pageable);
 }
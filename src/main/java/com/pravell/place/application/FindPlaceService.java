@@ -2,12 +2,11 @@ package com.pravell.place.application;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pravell.common.domain.PlanMembership;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.place.application.dto.response.FindPlanPlacesResponse;
 import com.pravell.place.application.dto.response.PlaceResponse;
 import com.pravell.place.domain.model.PinPlace;
-import com.pravell.place.domain.model.PlanMember;
-import com.pravell.place.domain.model.PlanMemberStatus;
 import com.pravell.place.domain.repository.PinPlaceRepository;
 import com.pravell.plan.domain.exception.PlanNotFoundException;
 import java.util.ArrayList;
@@ -32,16 +31,17 @@ public class FindPlaceService {
     private String mapUrl;
 
     @Transactional(readOnly = true)
-    public List<FindPlanPlacesResponse> findAll(UUID userId, UUID planId, List<PlanMember> planMembers,
+    public List<FindPlanPlacesResponse> findAll(UUID userId, UUID planId, PlanMembership planMembership,
                                                 boolean isPlanPublic) {
-        validateAccessToPlan(userId, planMembers, planId, isPlanPublic);
+        validateAccessToPlan(userId, planMembership, planId, isPlanPublic);
         List<PinPlace> pinPlaces = pinPlaceRepository.findAllByPlanId(planId);
         return buildFindPlanPlacesResponses(pinPlaces);
     }
 
     @Transactional(readOnly = true)
-    public PlaceResponse find(Long placeId, UUID id, List<PlanMember> planMembers, UUID planId, boolean isPlanPublic) {
-        validateAccessToPlan(id, planMembers, planId, isPlanPublic);
+    public PlaceResponse find(Long placeId, UUID id, PlanMembership planMembership, UUID planId,
+                              boolean isPlanPublic) {
+        validateAccessToPlan(id, planMembership, planId, isPlanPublic);
 
         PinPlace place = getPlan(placeId);
         List<String> hours = parseHours(place);
@@ -69,21 +69,14 @@ public class FindPlaceService {
         }).toList();
     }
 
-    private void validateAccessToPlan(UUID userId, List<PlanMember> planMembers, UUID planId, boolean isPlanPublic) {
-        boolean isBlocked = planMembers.stream()
-                .anyMatch(pm -> pm.getMemberId().equals(userId) &&
-                        pm.getPlanMemberStatus() == PlanMemberStatus.BLOCKED);
-
-        if (isBlocked) {
+    public void validateAccessToPlan(UUID userId, PlanMembership planMembership, UUID planId, boolean isPlanPublic) {
+        if (planMembership.isBlocked(userId)) {
             log.info("{} 유저는 {} 플랜에서 블락되어 접근 할 수 없습니다.", userId, planId);
             throw new AccessDeniedException("해당 리소스에 접근 할 권한이 없습니다.");
         }
 
         if (!isPlanPublic) {
-            boolean isMember = planMembers.stream()
-                    .anyMatch(pm -> pm.getMemberId().equals(userId));
-
-            if (!isMember) {
+            if (!planMembership.isOwnerOrMember(userId)) {
                 log.info("{} 플랜은 비공개 플랜으로, {} 유저가 접근할 수 없습니다.", planId, userId);
                 throw new AccessDeniedException("해당 리소스에 접근 할 권한이 없습니다.");
             }
@@ -0,0 +1,17 @@
+package com.pravell.place.application;
+
+import com.pravell.place.application.dto.PlaceIdLookup;
+import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse;
+import java.util.Optional;
+
+public interface GooglePlaceCache {
+
+    Optional<PlaceIdLookup> findPlaceId(String title, String roadAddress);
+
+    void putPlaceId(String title, String roadAddress, String placeId);
+
+    Optional<GooglePlaceDetailsResponse> findDetails(String placeId);
+
+    void putDetails(GooglePlaceDetailsResponse details);
+
+}
@@ -1,5 +1,6 @@
 package com.pravell.place.application;
 
+import com.pravell.common.domain.PlanMembership;
 import com.pravell.place.application.dto.request.DeletePlacesApplicationRequest;
 import com.pravell.place.application.dto.request.SavePlaceApplicationRequest;
 import com.pravell.place.application.dto.request.UpdatePlaceApplicationRequest;
@@ -7,12 +8,13 @@ import com.pravell.place.application.dto.response.FindPlanPlacesResponse;
 import com.pravell.place.application.dto.response.PlaceResponse;
 import com.pravell.place.application.dto.response.SavePlaceResponse;
 import com.pravell.place.domain.model.PinPlace;
-import com.pravell.place.domain.model.PlanMember;
-import com.pravell.place.domain.model.PlanMemberStatus;
 import com.pravell.plan.application.PlanService;
-import com.pravell.plan.application.dto.PlanMemberDTO;
-import com.pravell.user.application.UserService;
+import com.pravell.plan.application.PlanVersionService;
+import com.pravell.plan.application.PublicPlanViewCache;
+import com.pravell.plan.application.dto.PlanViewResult;
+import com.pravell.plan.application.dto.PublicPlanView;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,81 +26,69 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class PlaceFacade {
 
-    private final UserService userService;
     private final SavePlaceService savePlaceService;
     private final PlanService planService;
     private final FindPlaceService findPlaceService;
     private final UpdatePlaceService updatePlaceService;
     private final PlaceService placeService;
     private final DeletePlaceService deletePlaceService;
+    private final PlanVersionService planVersionService;
+    private final PublicPlanViewCache publicPlanViewCache;
 
     public SavePlaceResponse savePlace(UUID id, SavePlaceApplicationRequest request) {
-        userService.findUserById(id);
-
         log.info("{} 유저가 {} 플랜에 {} 장소 저장", id, request.getPlanId(), request.getTitle());
 
         planService.findPlan(request.getPlanId());
-        List<PlanMember> planMembers = getPlanMembers(request.getPlanId());
+        PlanMembership planMembership = planService.findMembership(request.getPlanId());
 
-        Long pinPlaceId = savePlaceService.save(id, request, planMembers);
+        Long pinPlaceId = savePlaceService.save(id, request, planMembership);
 
         return SavePlaceResponse.builder()
                 .pinPlaceId(pinPlaceId)
                 .build();
     }
 
-    public List<FindPlanPlacesResponse> findPlanPlaces(UUID id, UUID planId) {
-        userService.findUserById(id);
+    public PlanViewResult<List<FindPlanPlacesResponse>> findPlanPlaces(UUID id, UUID planId) {
+        Long version = planVersionService.findVersion(planId);
+        Optional<List<FindPlanPlacesResponse>> cached = publicPlanViewCache.find(planId, version,
+                PublicPlanView.PLACES);
+        if (cached.isPresent()) {
+            findPlaceService.validateAccessToPlan(id, planService.findMembership(planId), planId, true);
+            return new PlanViewResult<>(cached.get(), true);
+        }
 
         boolean isPlanPublic = planService.isPlanPublic(planId);
-        List<PlanMember> planMembers = getPlanMembers(planId);
+        PlanMembership planMembership = planService.findMembership(planId);
 
-        return findPlaceService.findAll(id, planId, planMembers, isPlanPublic);
+        List<FindPlanPlacesResponse> responses = findPlaceService.findAll(id, planId, planMembership, isPlanPublic);
+        publicPlanViewCache.store(planId, version, PublicPlanView.PLACES, isPlanPublic, responses);
+        return new PlanViewResult<>(responses, isPlanPublic);
     }
 
     public PlaceResponse updatePlan(UUID id, Long placeId, UpdatePlaceApplicationRequest request) {
-        userService.findUserById(id);
-
         PinPlace place = placeService.findPlace(placeId);
         planService.findPlan(place.getPlanId());
-        List<PlanMember> planMembers = getPlanMembers(place.getPlanId());
+        PlanMembership planMembership = planService.findMembership(place.getPlanId());
 
-        return updatePlaceService.update(place, planMembers, request, id);
+        return updatePlaceService.update(place, planMembership, request, id);
     }
 
     @Transactional
     public void deletePlan(UUID id, DeletePlacesApplicationRequest request) {
-        userService.findUserById(id);
-
         for (Long placeId : request.getPlaceId()) {
             PinPlace place = placeService.findPlace(placeId);
             planService.findPlan(place.getPlanId());
-            List<PlanMember> planMembers = getPlanMembers(place.getPlanId());
+            PlanMembership planMembership = planService.findMembership(place.getPlanId());
 
-            deletePlaceService.delete(place, planMembers, id);
+            deletePlaceService.delete(place, planMembership, id);
         }
     }
 
     public PlaceResponse findPlan(UUID id, Long placeId) {
-        userService.findUserById(id);
-
         PinPlace place = placeService.findPlace(placeId);
         boolean planPublic = planService.isPlanPublic(place.getPlanId());
-        List<PlanMember> planMembers = getPlanMembers(place.getPlanId());
-
-        return findPlaceService.find(placeId, id, planMembers, place.getPlanId(), planPublic);
-    }
+        PlanMembership planMembership = planService.findMembership(place.getPlanId());
 
-    private List<PlanMember> getPlanMembers(UUID planId) {
-        List<PlanMemberDTO> planMembers = planService.findPlanMembers(planId);
-
-        return planMembers.stream().map(
-                pm -> {
-                    return PlanMember.builder()
-                            .memberId(pm.getMemberId())
-                            .planMemberStatus(PlanMemberStatus.valueOf(pm.getPlanMemberStatus()))
-                            .build();
-                }
-        ).toList();
+        return findPlaceService.find(placeId, id, planMembership, place.getPlanId(), planPublic);
     }
 }
@@ -2,17 +2,19 @@ package com.pravell.place.application;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.place.application.dto.request.SavePlaceApplicationRequest;
 import com.pravell.place.domain.model.PinPlace;
-import com.pravell.place.domain.model.PlanMember;
 import com.pravell.place.domain.repository.PinPlaceRepository;
 import com.pravell.place.domain.service.PlaceAuthorizationService;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,20 +27,24 @@ public class SavePlaceService {
     private final PinPlaceRepository pinPlaceRepository;
     private final ObjectMapper objectMapper;
     private final PlaceAuthorizationService placeAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public Long save(UUID id, SavePlaceApplicationRequest request, List<PlanMember> planMembers) {
-        validatePlaceSavePermission(id, request, planMembers);
+    public Long save(UUID id, SavePlaceApplicationRequest request, PlanMembership planMembership) {
+        validatePlaceSavePermission(id, request, planMembership);
         checkDuplicatePlace(request);
 
         PinPlace pinPlace = createPinPlace(id, request);
         PinPlace saved = pinPlaceRepository.save(pinPlace);
+        eventPublisher.publishEvent(new PlanContentChangedEvent(request.getPlanId(),
+                PlanContentChangeType.PLACE_SAVED, saved.getId(), id));
 
         return saved.getId();
     }
 
-    private void validatePlaceSavePermission(UUID id, SavePlaceApplicationRequest request, List<PlanMember> planMembers) {
-        if (!placeAuthorizationService.hasUpdatePermission(id, planMembers)){
+    private void validatePlaceSavePermission(UUID id, SavePlaceApplicationRequest request,
+                                             PlanMembership planMembership) {
+        if (!placeAuthorizationService.hasUpdatePermission(id, planMembership)){
             log.info("{} 유저는 {} 플랜에 장소를 저장 할 권한이 없습니다.", id, request.getPlanId());
             throw new AccessDeniedException("해당 플랜에 장소를 저장 할 권한이 없습니다.");
         }
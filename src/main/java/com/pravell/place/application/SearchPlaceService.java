@@ -1,37 +1,117 @@
 package com.pravell.place.application;
 
+import com.pravell.common.concurrent.BoundedExecutors;
 import com.pravell.place.application.dto.response.SearchPlaceResponse;
 import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse;
 import com.pravell.place.application.dto.response.api.NaverPlaceResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class SearchPlaceService {
 
     private final NaverSearchApi naverSearchApi;
     private final GoogleSearchApi googleSearchApi;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer detailsTimer;
+    private final Counter degradedCounter;
 
     @Value("${naver.map.url}")
     private String mapUrl;
 
+    public SearchPlaceService(
+            NaverSearchApi naverSearchApi,
+            GoogleSearchApi googleSearchApi,
+            MeterRegistry meterRegistry,
+            @Value("${place.search.enrich.pool-size:16}") int poolSize,
+            @Value("${place.search.enrich.queue-capacity:256}") int queueCapacity,
+            @Value("${place.search.enrich.timeout:PT3S}") Duration timeout
+    ) {
+        this.naverSearchApi = naverSearchApi;
+        this.googleSearchApi = googleSearchApi;
+        this.timeout = timeout;
+
+        this.executor = BoundedExecutors.newFixedPool("place-search", poolSize, queueCapacity);
+
+        this.detailsTimer = meterRegistry.timer("place.search.google.details");
+        this.degradedCounter = meterRegistry.counter("place.search.degraded");
+        Gauge.builder("place.search.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
     public List<SearchPlaceResponse> search(String keyword, UUID id) {
         log.info("{} 유저가 {} 키워드로 검색.", id, keyword);
 
         List<NaverPlaceResponse> naverResults = naverSearchApi.search(keyword);
+        List<Future<GooglePlaceDetailsResponse>> futures = naverResults.stream()
+                .map(this::submitDetails)
+                .toList();
 
-        return naverResults.stream().map(n -> {
-            GooglePlaceDetailsResponse response = googleSearchApi.getDetails(n.getTitle(), n.getRoadAddress());
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<SearchPlaceResponse> responses = new ArrayList<>();
+        for (int i = 0; i < naverResults.size(); i++) {
+            NaverPlaceResponse n = naverResults.get(i);
+            GooglePlaceDetailsResponse response = await(futures.get(i), deadline, n);
             String url = mapUrl + n.cleanTitle().replaceAll("\\s+", "");
 
-            return SearchPlaceResponse.of(n, response, url, response == null ? null : response.getPlaceId());
-        }).toList();
+            responses.add(SearchPlaceResponse.of(n, response, url, response == null ? null : response.getPlaceId()));
+        }
+        return responses;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Future<GooglePlaceDetailsResponse> submitDetails(NaverPlaceResponse n) {
+        try {
+            return executor.submit(() -> detailsTimer.record(
+                    () -> googleSearchApi.getDetails(n.getTitle(), n.getRoadAddress())));
+        } catch (RejectedExecutionException e) {
+            degradedCounter.increment();
+            log.warn("장소 상세 조회 대기열이 가득 찼습니다. queueSize : {}", executor.getQueue().size());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private GooglePlaceDetailsResponse await(Future<GooglePlaceDetailsResponse> future, long deadline,
+                                             NaverPlaceResponse n) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            degradedCounter.increment();
+            log.info("{} 장소의 상세 조회가 제한 시간을 초과해 네이버 정보만 반환합니다.", n.getTitle());
+            return null;
+        } catch (ExecutionException e) {
+            degradedCounter.increment();
+            log.warn("{} 장소의 상세 조회에 실패해 네이버 정보만 반환합니다.", n.getTitle(), e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return null;
+        }
     }
 
 }
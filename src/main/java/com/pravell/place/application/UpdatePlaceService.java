@@ -2,11 +2,13 @@ package com.pravell.place.application;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.place.application.dto.request.UpdatePlaceApplicationRequest;
 import com.pravell.place.application.dto.response.PlaceResponse;
 import com.pravell.place.domain.model.PinPlace;
-import com.pravell.place.domain.model.PlanMember;
 import com.pravell.place.domain.service.PlaceAuthorizationService;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +16,7 @@ import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -25,21 +28,24 @@ public class UpdatePlaceService {
 
     private final ObjectMapper objectMapper;
     private final PlaceAuthorizationService placeAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public PlaceResponse update(PinPlace place, List<PlanMember> planMembers, UpdatePlaceApplicationRequest request,
+    public PlaceResponse update(PinPlace place, PlanMembership planMembership, UpdatePlaceApplicationRequest request,
                                 UUID id) {
-        validateUpdatePermission(place, planMembers, id);
+        validateUpdatePermission(place, planMembership, id);
         log.info("{} 유저가 {} 장소 수정. before : {} after {}", id, place.getId(), place.toString(), request.toString());
 
         updatePlaceFields(place, request);
+        eventPublisher.publishEvent(new PlanContentChangedEvent(place.getPlanId(),
+                PlanContentChangeType.PLACE_UPDATED, place.getId(), id));
         List<String> hoursList = parseHours(place);
 
         return buildPlaceResponse(place, hoursList);
     }
 
-    private void validateUpdatePermission(PinPlace place, List<PlanMember> planMembers, UUID id) {
-        if (!placeAuthorizationService.hasUpdatePermission(id, planMembers)){
+    private void validateUpdatePermission(PinPlace place, PlanMembership planMembership, UUID id) {
+        if (!placeAuthorizationService.hasUpdatePermission(id, planMembership)){
             log.info("{} 유저는 {} 플랜을 수정 할 권한이 없습니다.", id, place.getPlanId());
             throw new AccessDeniedException("해당 장소를 수정 할 권한이 없습니다.");
         }
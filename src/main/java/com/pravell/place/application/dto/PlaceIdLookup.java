@@ -0,0 +1,13 @@
+package com.pravell.place.application.dto;
+
+public record PlaceIdLookup(String placeId) {
+
+    public static PlaceIdLookup notFound() {
+        return new PlaceIdLookup(null);
+    }
+
+    public boolean isFound() {
+        return placeId != null;
+    }
+
+}
@@ -5,6 +5,7 @@ import lombok.Data;
 
 @Data
 public class GooglePlaceResponse {
+    public String status;
     public List<GoogleCandidate> candidates;
 
     @Data
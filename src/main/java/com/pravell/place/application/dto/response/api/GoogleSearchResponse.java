@@ -4,5 +4,6 @@ import lombok.Data;
 
 @Data
 public class GoogleSearchResponse {
+    public String status;
     public GooglePlaceDetailsResponse result;
 }
@@ -1,5 +0,0 @@
-package com.pravell.place.domain.model;
-
-public enum PlanMemberStatus {
-    OWNER, MEMBER, BLOCKED
-}
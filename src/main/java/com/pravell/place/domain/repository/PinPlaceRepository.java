@@ -4,7 +4,10 @@ import com.pravell.place.domain.model.PinPlace;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +18,7 @@ public interface PinPlaceRepository extends JpaRepository<PinPlace, Long> {
     List<PinPlace> findAllByPlanId(UUID planId);
 
     List<PinPlace> findAllByIdIn(Collection<Long> ids);
+
+    @Query("select p.id from PinPlace p where p.planId = :planId")
+    List<Long> findIdsByPlanId(@Param("planId") UUID planId, Pageable pageable);
 }
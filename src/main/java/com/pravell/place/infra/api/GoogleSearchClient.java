@@ -1,66 +1,130 @@
 package com.pravell.place.infra.api;
 
+import com.pravell.place.application.GooglePlaceCache;
 import com.pravell.place.application.GoogleSearchApi;
+import com.pravell.place.application.dto.PlaceIdLookup;
 import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse;
 import com.pravell.place.application.dto.response.api.GooglePlaceResponse;
 import com.pravell.place.application.dto.response.api.GoogleSearchResponse;
+import java.time.Duration;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class GoogleSearchClient implements GoogleSearchApi {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-
-    @Value("${google.api.key}")
-    private String apiKey;
+    private static final String OK = "OK";
+    private static final String ZERO_RESULTS = "ZERO_RESULTS";
+
+    private final RestTemplate restTemplate;
+    private final GooglePlaceCache googlePlaceCache;
+    private final String apiKey;
+    private final String searchUrlPrefix;
+    private final String searchUrlParams;
+    private final String detailUrlPrefix;
+    private final String detailUrlParams;
+
+    @Autowired
+    public GoogleSearchClient(
+            GooglePlaceCache googlePlaceCache,
+            @Value("${google.api.timeout:PT1S}") Duration timeout,
+            @Value("${google.api.key}") String apiKey,
+            @Value("${google.api.search.url-prefix}") String searchUrlPrefix,
+            @Value("${google.api.search.url-params}") String searchUrlParams,
+            @Value("${google.api.detail.url-prefix}") String detailUrlPrefix,
+            @Value("${google.api.detail.url-params}") String detailUrlParams
+    ) {
+        this(googlePlaceCache, createRestTemplate(timeout), apiKey, searchUrlPrefix, searchUrlParams,
+                detailUrlPrefix, detailUrlParams);
+    }
 
-    @Value("${google.api.search.url-prefix}")
-    private String searchUrlPrefix;
+    GoogleSearchClient(GooglePlaceCache googlePlaceCache, RestTemplate restTemplate, String apiKey,
+                       String searchUrlPrefix, String searchUrlParams, String detailUrlPrefix,
+                       String detailUrlParams) {
+        this.googlePlaceCache = googlePlaceCache;
+        this.restTemplate = restTemplate;
+        this.apiKey = apiKey;
+        this.searchUrlPrefix = searchUrlPrefix;
+        this.searchUrlParams = searchUrlParams;
+        this.detailUrlPrefix = detailUrlPrefix;
+        this.detailUrlParams = detailUrlParams;
+    }
 
-    @Value("${google.api.search.url-params}")
-    private String searchUrlParams;
+    @Override
+    public GooglePlaceDetailsResponse getDetails(String title, String roadAddress) {
+        PlaceIdLookup lookup = googlePlaceCache.findPlaceId(title, roadAddress)
+                .orElseGet(() -> requestPlaceId(title, roadAddress));
 
-    @Value("${google.api.detail.url-prefix}")
-    private String detailUrlPrefix;
+        if (!lookup.isFound()) {
+            return null;
+        }
 
-    @Value("${google.api.detail.url-params}")
-    private String detailUrlParams;
+        return googlePlaceCache.findDetails(lookup.placeId())
+                .orElseGet(() -> requestDetails(lookup.placeId()));
+    }
 
-    @Override
-    public GooglePlaceDetailsResponse getDetails(String title, String roadAddress) {
+    private PlaceIdLookup requestPlaceId(String title, String roadAddress) {
         String query = title + " " + roadAddress;
         String searchUrl = searchUrlPrefix + query + searchUrlParams + apiKey;
 
         ResponseEntity<GooglePlaceResponse> response = restTemplate.getForEntity(searchUrl, GooglePlaceResponse.class);
 
-        String placeId = Optional.ofNullable(response.getBody())
-                .flatMap(r -> r.candidates.stream().findFirst())
+        GooglePlaceResponse body = response.getBody();
+        String status = body == null ? null : body.status;
+        if (ZERO_RESULTS.equals(status)) {
+            googlePlaceCache.putPlaceId(title, roadAddress, null);
+            return PlaceIdLookup.notFound();
+        }
+        if (!OK.equals(status)) {
+            log.warn("구글 장소 검색에 실패했습니다. status : {}, query : {}", status, query);
+            return PlaceIdLookup.notFound();
+        }
+
+        String placeId = Optional.ofNullable(body.candidates)
+                .flatMap(candidates -> candidates.stream().findFirst())
                 .map(c -> c.place_id)
                 .orElse(null);
-
         if (placeId == null) {
-            return null;
+            return PlaceIdLookup.notFound();
         }
 
+        googlePlaceCache.putPlaceId(title, roadAddress, placeId);
+        return new PlaceIdLookup(placeId);
+    }
+
+    private GooglePlaceDetailsResponse requestDetails(String placeId) {
         String detailUrl = detailUrlPrefix + placeId + detailUrlParams + apiKey;
 
         ResponseEntity<GoogleSearchResponse> detailResponse = restTemplate.getForEntity(detailUrl,
                 GoogleSearchResponse.class);
 
-        GooglePlaceDetailsResponse googlePlaceDetailsResponse = Optional.ofNullable(detailResponse.getBody())
-                .map(GoogleSearchResponse::getResult)
-                .orElse(null);
+        GoogleSearchResponse body = detailResponse.getBody();
+        String status = body == null ? null : body.getStatus();
+        if (!OK.equals(status)) {
+            log.warn("구글 장소 상세 조회에 실패했습니다. status : {}, placeId : {}", status, placeId);
+            return null;
+        }
 
+        GooglePlaceDetailsResponse googlePlaceDetailsResponse = body.getResult();
         if (googlePlaceDetailsResponse!=null){
             googlePlaceDetailsResponse.setPlaceId(placeId);
+            googlePlaceCache.putDetails(googlePlaceDetailsResponse);
         }
 
         return googlePlaceDetailsResponse;
     }
+
+    private static RestTemplate createRestTemplate(Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        return new RestTemplate(requestFactory);
+    }
 }
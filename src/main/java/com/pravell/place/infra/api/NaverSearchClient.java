@@ -3,22 +3,22 @@ package com.pravell.place.infra.api;
 import com.pravell.place.application.NaverSearchApi;
 import com.pravell.place.application.dto.response.api.NaverPlaceResponse;
 import com.pravell.place.application.dto.response.api.NaverSearchResponse;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 @Component
-@RequiredArgsConstructor
 public class NaverSearchClient implements NaverSearchApi {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
 
     @Value("${naver.search.api.client-id}")
     private String clientId;
@@ -29,6 +29,13 @@ public class NaverSearchClient implements NaverSearchApi {
     @Value("${naver.search.api.url}")
     private String apiUrl;
 
+    public NaverSearchClient(@Value("${naver.search.api.timeout:PT2S}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
     @Override
     public List<NaverPlaceResponse> search(String keyword) {
         String url = apiUrl + keyword;
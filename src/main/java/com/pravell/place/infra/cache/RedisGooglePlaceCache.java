@@ -0,0 +1,263 @@
+package com.pravell.place.infra.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pravell.common.cache.LruCache;
+import com.pravell.place.application.GooglePlaceCache;
+import com.pravell.place.application.dto.PlaceIdLookup;
+import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse;
+import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse.Geometry;
+import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse.Location;
+import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse.OpeningHours;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class RedisGooglePlaceCache implements GooglePlaceCache {
+
+    private static final String PLACE_ID_KEY_PREFIX = "googlePlaceId:";
+    private static final String DETAILS_KEY_PREFIX = "googlePlaceDetails:";
+    private static final String NOT_FOUND = "";
+    private static final String PLACE_ID = "place_id";
+    private static final String DETAILS = "details";
+
+    private final LruCache<String, LocalEntry<String>> localPlaceIds;
+    private final LruCache<String, LocalEntry<GooglePlaceDetailsResponse>> localDetails;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration localTtl;
+    private final Duration placeIdTtl;
+    private final Duration negativeTtl;
+    private final Duration detailsTtl;
+
+    public RedisGooglePlaceCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${google.place-cache.max-local-size:10000}") int maxLocalSize,
+            @Value("${google.place-cache.local-ttl:PT10M}") Duration localTtl,
+            @Value("${google.place-cache.place-id-ttl:P30D}") Duration placeIdTtl,
+            @Value("${google.place-cache.negative-ttl:PT6H}") Duration negativeTtl,
+            @Value("${google.place-cache.details-ttl:P1D}") Duration detailsTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.localPlaceIds = new LruCache<>(maxLocalSize);
+        this.localDetails = new LruCache<>(maxLocalSize);
+        this.localTtl = localTtl;
+        this.placeIdTtl = placeIdTtl;
+        this.negativeTtl = negativeTtl;
+        this.detailsTtl = detailsTtl;
+
+        Gauge.builder("google.place.cache.local.size", this,
+                        cache -> cache.localPlaceIds.size() + cache.localDetails.size())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<PlaceIdLookup> findPlaceId(String title, String roadAddress) {
+        String key = PLACE_ID_KEY_PREFIX + digest(normalize(title) + "|" + normalize(roadAddress));
+
+        String placeId = findLocal(localPlaceIds, key);
+        if (placeId != null) {
+            recordHit(PLACE_ID, "local");
+            return Optional.of(toLookup(placeId));
+        }
+
+        placeId = getQuietly(key);
+        if (placeId != null) {
+            recordHit(PLACE_ID, "redis");
+            putLocal(localPlaceIds, key, placeId, placeId.isEmpty() ? min(localTtl, negativeTtl) : localTtl);
+            return Optional.of(toLookup(placeId));
+        }
+
+        recordMiss(PLACE_ID);
+        return Optional.empty();
+    }
+
+    @Override
+    public void putPlaceId(String title, String roadAddress, String placeId) {
+        String key = PLACE_ID_KEY_PREFIX + digest(normalize(title) + "|" + normalize(roadAddress));
+        String value = placeId == null ? NOT_FOUND : placeId;
+        Duration ttl = placeId == null ? negativeTtl : placeIdTtl;
+
+        putLocal(localPlaceIds, key, value, min(localTtl, ttl));
+        setQuietly(key, value, ttl);
+    }
+
+    @Override
+    public Optional<GooglePlaceDetailsResponse> findDetails(String placeId) {
+        String key = DETAILS_KEY_PREFIX + placeId;
+
+        GooglePlaceDetailsResponse details = findLocal(localDetails, key);
+        if (details != null) {
+            recordHit(DETAILS, "local");
+            return Optional.of(details);
+        }
+
+        String json = getQuietly(key);
+        details = json == null ? null : fromJson(json);
+        if (details != null) {
+            recordHit(DETAILS, "redis");
+            putLocal(localDetails, key, details, min(localTtl, detailsTtl));
+            return Optional.of(details);
+        }
+
+        recordMiss(DETAILS);
+        return Optional.empty();
+    }
+
+    @Override
+    public void putDetails(GooglePlaceDetailsResponse details) {
+        if (details.getPlaceId() == null) {
+            return;
+        }
+
+        String key = DETAILS_KEY_PREFIX + details.getPlaceId();
+        putLocal(localDetails, key, details, min(localTtl, detailsTtl));
+
+        String json = toJson(details);
+        if (json != null) {
+            setQuietly(key, json, detailsTtl);
+        }
+    }
+
+    private <T> T findLocal(LruCache<String, LocalEntry<T>> localCache, String key) {
+        LocalEntry<T> entry = localCache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(Instant.now())) {
+            localCache.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    private <T> void putLocal(LruCache<String, LocalEntry<T>> localCache, String key, T value, Duration ttl) {
+        localCache.put(key, new LocalEntry<>(value, Instant.now().plus(ttl)));
+    }
+
+    private String getQuietly(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.warn("구글 장소 캐시 조회에 실패했습니다. key : {}", key, e);
+            return null;
+        }
+    }
+
+    private void setQuietly(String key, String value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key, value, ttl);
+        } catch (RuntimeException e) {
+            log.warn("구글 장소 캐시 저장에 실패했습니다. key : {}", key, e);
+        }
+    }
+
+    private void recordHit(String type, String tier) {
+        counter(type, tier).increment();
+        meterRegistry.counter("google.place.upstream.saved", "type", type).increment();
+    }
+
+    private void recordMiss(String type) {
+        counter(type, "none").increment();
+    }
+
+    private Counter counter(String type, String tier) {
+        return meterRegistry.counter("google.place.cache", "type", type, "tier", tier);
+    }
+
+    private String toJson(GooglePlaceDetailsResponse details) {
+        Location location = Optional.ofNullable(details.getGeometry())
+                .map(Geometry::getLocation)
+                .orElse(null);
+        List<String> weekdayText = Optional.ofNullable(details.getOpening_hours())
+                .map(OpeningHours::getWeekday_text)
+                .orElse(null);
+
+        try {
+            return objectMapper.writeValueAsString(new CachedPlaceDetails(
+                    details.getPlaceId(),
+                    location == null ? null : location.getLat(),
+                    location == null ? null : location.getLng(),
+                    weekdayText));
+        } catch (JsonProcessingException e) {
+            log.warn("구글 장소 상세 정보를 직렬화하지 못했습니다. placeId : {}", details.getPlaceId(), e);
+            return null;
+        }
+    }
+
+    private GooglePlaceDetailsResponse fromJson(String json) {
+        try {
+            CachedPlaceDetails cached = objectMapper.readValue(json, CachedPlaceDetails.class);
+            return GooglePlaceDetailsResponse.builder()
+                    .placeId(cached.placeId())
+                    .geometry(cached.lat() == null || cached.lng() == null
+                            ? null
+                            : new Geometry(new Location(cached.lat(), cached.lng())))
+                    .opening_hours(cached.weekdayText() == null ? null : new OpeningHours(cached.weekdayText()))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.warn("구글 장소 캐시 값이 올바르지 않습니다. value : {}", json);
+            return null;
+        }
+    }
+
+    private PlaceIdLookup toLookup(String placeId) {
+        return placeId.isEmpty() ? PlaceIdLookup.notFound() : new PlaceIdLookup(placeId);
+    }
+
+    private String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replaceAll("<[^>]*>", "")
+                .replaceAll("\\s+", " ")
+                .trim()
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private String digest(String value) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record CachedPlaceDetails(String placeId, BigDecimal lat, BigDecimal lng, List<String> weekdayText) {
+    }
+
+    private record LocalEntry<T>(T value, Instant expiresAt) {
+
+        private boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+
+    }
+
+}
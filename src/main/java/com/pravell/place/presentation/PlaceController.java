@@ -1,6 +1,6 @@
 package com.pravell.place.presentation;
 
-import com.pravell.common.util.CommonJwtUtil;
+import com.pravell.common.auth.AuthUser;
 import com.pravell.place.application.PlaceFacade;
 import com.pravell.place.application.SearchPlaceService;
 import com.pravell.place.application.dto.response.FindPlanPlacesResponse;
@@ -10,10 +10,14 @@ import com.pravell.place.application.dto.response.SearchPlaceResponse;
 import com.pravell.place.presentation.request.DeletePlacesRequest;
 import com.pravell.place.presentation.request.SavePlaceRequest;
 import com.pravell.place.presentation.request.UpdatePlaceRequest;
+import com.pravell.plan.application.dto.PlanViewResult;
+import com.pravell.plan.presentation.PlanETagChecker;
+import com.pravell.plan.presentation.PlanViewCacheControl;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,61 +25,64 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/places")
 @RequiredArgsConstructor
 public class PlaceController {
 
-    private final CommonJwtUtil commonJwtUtil;
     private final SearchPlaceService searchPlaceService;
     private final PlaceFacade placeFacade;
+    private final PlanETagChecker planETagChecker;
 
     @GetMapping("/search")
     public ResponseEntity<List<SearchPlaceResponse>> searchPlace(@RequestParam String keyword,
-                                                                 @RequestHeader("authorization") String authorizationHeader) {
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
+                                                                 @AuthUser UUID id) {
         return ResponseEntity.ok(searchPlaceService.search(keyword, id));
     }
 
     @PostMapping
-    public ResponseEntity<SavePlaceResponse> savePlace(@RequestHeader("authorization") String authorizationHeader,
+    public ResponseEntity<SavePlaceResponse> savePlace(@AuthUser UUID id,
                                                        @Valid @RequestBody SavePlaceRequest savePlaceRequest) {
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
         return ResponseEntity.ok(placeFacade.savePlace(id, savePlaceRequest.toApplicationRequest()));
     }
 
     @GetMapping("/plan/{planId}")
-    public ResponseEntity<List<FindPlanPlacesResponse>> findPlanPlaces(@RequestHeader("authorization") String header,
-                                                                       @PathVariable UUID planId) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
-        return ResponseEntity.ok(placeFacade.findPlanPlaces(id, planId));
+    public ResponseEntity<List<FindPlanPlacesResponse>> findPlanPlaces(@AuthUser UUID id,
+                                                                       @PathVariable UUID planId,
+                                                                       WebRequest webRequest) {
+        if (planETagChecker.isNotModified(planId, id, webRequest)) {
+            return null;
+        }
+
+        PlanViewResult<List<FindPlanPlacesResponse>> result = placeFacade.findPlanPlaces(id, planId);
+        return ResponseEntity.ok()
+                .cacheControl(PlanViewCacheControl.of(result.isPublic()))
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(result.getBody());
     }
 
     @PatchMapping("{placeId}")
-    public ResponseEntity<PlaceResponse> updatePlace(@RequestHeader("authorization") String header,
+    public ResponseEntity<PlaceResponse> updatePlace(@AuthUser UUID id,
                                                      @PathVariable Long placeId,
                                                      @Valid @RequestBody UpdatePlaceRequest updatePlaceRequest) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
         return ResponseEntity.ok(placeFacade.updatePlan(id, placeId, updatePlaceRequest.toApplicationRequest()));
     }
 
     @DeleteMapping
-    public ResponseEntity<Void> deletePlaces(@RequestHeader("authorization") String header,
+    public ResponseEntity<Void> deletePlaces(@AuthUser UUID id,
                                              @RequestBody DeletePlacesRequest deletePlacesRequest) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
         placeFacade.deletePlan(id, deletePlacesRequest.toApplicationRequest());
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/{placeId}")
-    public ResponseEntity<PlaceResponse> findPlan(@RequestHeader("authorization") String header,
+    public ResponseEntity<PlaceResponse> findPlan(@AuthUser UUID id,
                                                   @PathVariable Long placeId) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
         return ResponseEntity.ok(placeFacade.findPlan(id, placeId));
     }
 
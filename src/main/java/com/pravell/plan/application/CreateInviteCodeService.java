@@ -7,18 +7,23 @@ import com.pravell.plan.domain.model.PlanUsers;
 import com.pravell.plan.domain.repository.PlanInviteCodeRepository;
 import com.pravell.plan.domain.service.PlanAuthorizationService;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CreateInviteCodeService {
 
+    private static final int MAX_GENERATE_ATTEMPTS = 5;
+
     private final PlanInviteCodeRepository planInviteCodeRepository;
     private final PlanAuthorizationService planAuthorizationService;
 
@@ -31,26 +36,33 @@ public class CreateInviteCodeService {
     @Value("${invite-code.expires}")
     private int CODE_EXPIRES;
 
+    @Value("${invite-code.refresh-threshold:PT6H}")
+    private Duration refreshThreshold;
+
     private static final SecureRandom random = new SecureRandom();
 
-    @Transactional
     public String create(Plan plan, List<PlanUsers> planUsers, UUID userId) {
         validateMemberOrOwnerForInviteCode(planUsers, userId);
 
-        String code = generateCode();
+        for (int attempt = 0; attempt < MAX_GENERATE_ATTEMPTS; attempt++) {
+            Optional<String> activeCode = planInviteCodeRepository.saveOrRotate(PlanInviteCode.builder()
+                    .planId(plan.getId())
+                    .code(generateCode())
+                    .createdBy(userId)
+                    .expiresAt(LocalDateTime.now().plusDays(CODE_EXPIRES))
+                    .build(), refreshThreshold);
 
-        planInviteCodeRepository.save(PlanInviteCode.builder()
-                        .planId(plan.getId())
-                        .code(code)
-                        .createdBy(userId)
-                        .expiresAt(LocalDateTime.now().plusDays(CODE_EXPIRES))
-                .build());
+            if (activeCode.isPresent()) {
+                return activeCode.get();
+            }
+            log.info("{} 플랜의 초대코드가 기존 코드와 중복되어 다시 생성합니다.", plan.getId());
+        }
 
-        return code;
+        throw new IllegalStateException("초대코드 생성에 실패했습니다. 잠시 후 다시 시도해주세요.");
     }
 
     private void validateMemberOrOwnerForInviteCode(List<PlanUsers> planUsers, UUID userId) {
-        if (!planAuthorizationService.isOwnerOrMember(userId, planUsers)){
+        if (!planAuthorizationService.isOwnerOrMember(userId, PlanUsers.toMembership(planUsers))){
             throw new AccessDeniedException("해당 플랜의 초대코드를 생성 할 권한이 없습니다.");
         }
     }
@@ -8,6 +8,7 @@ import com.pravell.plan.domain.service.PlanCreateService;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +20,8 @@ public class CreatePlanService {
     private final PlanRepository planRepository;
     private final PlanUsersRepository planUsersRepository;
     private final PlanCreateService planCreateService;
+    private final PlanMembershipCache planMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PlanCreatedEvent create(CreatePlanApplicationRequest request, UUID id) {
@@ -28,6 +31,8 @@ public class CreatePlanService {
 
         planRepository.save(planCreatedEvent.getPlan());
         planUsersRepository.save(planCreatedEvent.getPlanUsers());
+        planMembershipCache.bumpVersion(planCreatedEvent.getPlan().getId());
+        eventPublisher.publishEvent(planCreatedEvent);
 
         return planCreatedEvent;
     }
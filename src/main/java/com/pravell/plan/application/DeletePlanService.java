@@ -1,13 +1,16 @@
 package com.pravell.plan.application;
 
 import com.pravell.common.exception.AccessDeniedException;
+import com.pravell.plan.domain.event.PlanDeletedEvent;
 import com.pravell.plan.domain.model.Plan;
 import com.pravell.plan.domain.model.PlanUsers;
 import com.pravell.plan.domain.service.PlanAuthorizationService;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,16 +20,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeletePlanService {
 
     private final PlanAuthorizationService planAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void deletePlan(Plan plan, UUID userId, List<PlanUsers> planUsers) {
         log.info("{} 유저가 {} 플랜 삭제.", userId, plan.getId());
         validateOwnerPermission(userId, planUsers);
         plan.delete();
+        eventPublisher.publishEvent(new PlanDeletedEvent(plan, LocalDateTime.now()));
     }
 
     private void validateOwnerPermission(UUID id, List<PlanUsers> planUsers) {
-        if (!planAuthorizationService.isOwner(id, planUsers)) {
+        if (!planAuthorizationService.isOwner(id, PlanUsers.toMembership(planUsers))) {
             throw new AccessDeniedException("해당 리소스를 삭제 할 권한이 없습니다.");
         }
     }
@@ -1,93 +1,115 @@
 package com.pravell.plan.application;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pravell.common.domain.PlanMembership;
 import com.pravell.common.exception.AccessDeniedException;
+import com.pravell.plan.application.dto.PlanCursor;
+import com.pravell.plan.application.dto.PlanPeriod;
+import com.pravell.plan.application.dto.response.FindPlansPageResponse;
 import com.pravell.plan.application.dto.response.FindPlansResponse;
-import com.pravell.plan.domain.model.Member;
 import com.pravell.plan.domain.model.Plan;
-import com.pravell.plan.domain.model.PlanUserStatus;
 import com.pravell.plan.domain.model.PlanUsers;
-import com.pravell.plan.domain.repository.PlanRepository;
-import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.plan.domain.model.UserPlanSummary;
+import com.pravell.plan.domain.repository.UserPlanSummaryRepository;
 import com.pravell.plan.domain.service.PlanAuthorizationService;
-import java.util.ArrayList;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FindPlanService {
 
-    private final PlanRepository planRepository;
-    private final PlanUsersRepository planUsersRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final LocalDate MIN_START_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_START_DATE = LocalDate.of(9999, 12, 31);
+
+    private final UserPlanSummaryRepository userPlanSummaryRepository;
     private final PlanAuthorizationService planAuthorizationService;
+    private final ObjectMapper objectMapper;
 
     @Transactional(readOnly = true)
-    public List<FindPlansResponse> findAll(UUID userId, Map<UUID, List<Member>> planIdAndPlanMembers) {
-        List<UUID> planIds = new ArrayList<>(planIdAndPlanMembers.keySet());
+    public FindPlansPageResponse findPage(UUID userId, PlanPeriod period, String cursor, Integer size) {
+        if (size != null && (size < 1 || size > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
 
-        Map<UUID, Plan> planMap = findValidPlans(planIds);
-        Map<UUID, PlanUsers> planUserMap = findPlanUsersByUser(userId);
+        PlanCursor planCursor = PlanCursor.decode(cursor);
+        LocalDate today = LocalDate.now();
+        LocalDate startDateFrom = period == null || period.startDateFrom(today) == null
+                ? MIN_START_DATE : period.startDateFrom(today);
+        LocalDate startDateTo = period == null || period.startDateTo(today) == null
+                ? MAX_START_DATE : period.startDateTo(today);
+        LocalDate endDateFrom = period == null ? null : period.endDateFrom(today);
+        LocalDate endDateTo = period == null ? null : period.endDateTo(today);
+        Pageable pageable = size == null ? Pageable.unpaged() : PageRequest.of(0, size + 1);
 
-        return buildFindPlansResponse(planIdAndPlanMembers, planMap, planUserMap);
-    }
+        List<UserPlanSummary> summaries = planCursor == null
+                ? userPlanSummaryRepository.findFirstPageByUserId(userId, startDateFrom, startDateTo, endDateFrom,
+                endDateTo, pageable)
+                : userPlanSummaryRepository.findPageByUserIdAfter(userId, startDateFrom, startDateTo, endDateFrom,
+                endDateTo, planCursor.getStartDate(), planCursor.getPlanId(), pageable);
 
-    private Map<UUID, Plan> findValidPlans(List<UUID> planIds) {
-        return planRepository.findAllByIdIn(planIds).stream()
-                .filter(p -> p.getIsDeleted().equals(false))
-                .collect(Collectors.toMap(Plan::getId, Function.identity()));
-    }
+        boolean hasNext = size != null && summaries.size() > size;
+        List<UserPlanSummary> page = hasNext ? summaries.subList(0, size) : summaries;
 
-    private Map<UUID, PlanUsers> findPlanUsersByUser(UUID userId) {
-        return planUsersRepository.findAllByUserId(userId).stream()
-                .collect(Collectors.toMap(PlanUsers::getPlanId, Function.identity()));
-    }
+        String nextCursor = null;
+        if (hasNext) {
+            UserPlanSummary last = page.get(page.size() - 1);
+            nextCursor = new PlanCursor(last.getStartDate(), last.getPlanId()).encode();
+        }
 
-    private static List<FindPlansResponse> buildFindPlansResponse(Map<UUID, List<Member>> planIdAndPlanMembers,
-                                                                 Map<UUID, Plan> planMap,
-                                                                 Map<UUID, PlanUsers> planUserMap) {
-        return planIdAndPlanMembers.entrySet().stream()
-                .map(entry -> {
-                    UUID planId = entry.getKey();
-                    List<Member> members = entry.getValue();
-                    Plan plan = planMap.get(planId);
-                    PlanUsers planUser = planUserMap.get(planId);
-
-                    if (plan == null || planUser == null) {
-                        return null;
-                    }
-
-                    return FindPlansResponse.builder()
-                            .planId(plan.getId())
-                            .planName(plan.getName())
-                            .isOwner(planUser.getPlanUserStatus().equals(PlanUserStatus.OWNER))
-                            .members(members.stream()
-                                    .map(Member::getNickname)
-                                    .toList())
-                            .startDate(plan.getStartDate())
-                            .endDate(plan.getEndDate())
-                            .build();
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        return new FindPlansPageResponse(page.stream().map(this::toFindPlansResponse).toList(), nextCursor);
     }
 
     public void validateMemberOrOwner(Plan plan, UUID userId, List<PlanUsers> planUsers) {
-        if (!planAuthorizationService.hasPublicPlanPermission(userId, planUsers)) {
-            throw new AccessDeniedException("해당 리소스에 접근 할 권한이 없습니다.");
-        }
+        validateMemberOrOwner(plan, userId, PlanUsers.toMembership(planUsers));
+    }
+
+    public void validateMemberOrOwner(Plan plan, UUID userId, PlanMembership planMembership) {
+        validatePublicPlanAccess(userId, planMembership);
 
         if (!plan.getIsPublic()) {
-            if (!planAuthorizationService.isOwnerOrMember(userId, planUsers)) {
+            if (!planAuthorizationService.isOwnerOrMember(userId, planMembership)) {
                 throw new AccessDeniedException("해당 리소스에 접근 할 권한이 없습니다.");
             }
         }
     }
 
+    public void validatePublicPlanAccess(UUID userId, PlanMembership planMembership) {
+        if (!planAuthorizationService.hasPublicPlanPermission(userId, planMembership)) {
+            throw new AccessDeniedException("해당 리소스에 접근 할 권한이 없습니다.");
+        }
+    }
+
+    private FindPlansResponse toFindPlansResponse(UserPlanSummary summary) {
+        return FindPlansResponse.builder()
+                .planId(summary.getPlanId())
+                .planName(summary.getPlanName())
+                .isOwner(summary.getIsOwner())
+                .members(parseMemberNicknames(summary))
+                .startDate(summary.getStartDate())
+                .endDate(summary.getEndDate())
+                .build();
+    }
+
+    private List<String> parseMemberNicknames(UserPlanSummary summary) {
+        try {
+            return objectMapper.readValue(summary.getMemberNicknames(), new TypeReference<>() {
+            });
+        } catch (JsonProcessingException e) {
+            log.warn("{} plan memberNicknames 파싱 실패. e : {}", summary.getPlanId(), e.getMessage());
+            throw new IllegalStateException("멤버 닉네임 역직렬화에 실패했습니다.", e);
+        }
+    }
+
 }
@@ -1,18 +1,22 @@
 package com.pravell.plan.application;
 
 import com.pravell.common.exception.AccessDeniedException;
+import com.pravell.plan.domain.event.PlanMembershipChangedEvent;
 import com.pravell.plan.domain.exception.CodeNotFoundException;
 import com.pravell.plan.domain.model.Plan;
 import com.pravell.plan.domain.model.PlanInviteCode;
+import com.pravell.plan.domain.model.PlanJoinIdempotency;
 import com.pravell.plan.domain.model.PlanUserStatus;
-import com.pravell.plan.domain.model.PlanUsers;
 import com.pravell.plan.domain.repository.PlanInviteCodeRepository;
-import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.plan.domain.repository.PlanJoinIdempotencyRepository;
+import com.pravell.plan.domain.repository.PlanUserJoinRepository;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,41 +26,74 @@ import org.springframework.transaction.annotation.Transactional;
 public class JoinPlanService {
 
     private final PlanInviteCodeRepository planInviteCodeRepository;
-    private final PlanUsersRepository planUsersRepository;
+    private final PlanUserJoinRepository planUserJoinRepository;
+    private final PlanJoinIdempotencyRepository planJoinIdempotencyRepository;
+    private final PlanMembershipCache planMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional(readOnly = true)
     public PlanInviteCode findPlanInviteCode(String code) {
-        PlanInviteCode inviteCode = planInviteCodeRepository.findByCode(code)
+        return planInviteCodeRepository.findByCode(code)
                 .orElseThrow(() -> new CodeNotFoundException("올바른 초대코드가 아닙니다."));
+    }
 
-        if (inviteCode.getExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new CodeNotFoundException("초대 코드가 만료되었습니다.");
+    public Optional<UUID> reserveJoin(UUID userId, String idempotencyKey, String code) {
+        Optional<PlanJoinIdempotency> existing = planJoinIdempotencyRepository.reserve(userId, idempotencyKey, code);
+        if (existing.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!existing.get().isFor(code)) {
+            log.info("다른 초대 코드에 사용된 멱등성 키입니다. UserId : {}, IdempotencyKey : {}", userId, idempotencyKey);
+            throw new IllegalArgumentException("다른 초대 코드에 사용된 멱등성 키입니다.");
+        }
+        if (!existing.get().isCompleted()) {
+            log.info("이미 처리 중인 참여 요청입니다. UserId : {}, IdempotencyKey : {}", userId, idempotencyKey);
+            throw new DuplicateKeyException("이미 처리 중인 참여 요청입니다.");
         }
+        return Optional.of(existing.get().getPlanId());
+    }
+
+    public void completeJoin(UUID userId, String idempotencyKey, String code, UUID planId) {
+        planJoinIdempotencyRepository.complete(userId, idempotencyKey, code, planId);
+    }
 
-        return inviteCode;
+    public void releaseJoin(UUID userId, String idempotencyKey, String code) {
+        planJoinIdempotencyRepository.release(userId, idempotencyKey, code);
     }
 
     @Transactional
     public void join(UUID userId, Plan plan) {
-        Optional<PlanUsers> existsPlanUser = planUsersRepository.findByPlanIdAndUserId(plan.getId(), userId);
-        if (existsPlanUser.isEmpty()) {
+        Optional<PlanUserStatus> beforeStatus = planUserJoinRepository.findStatus(plan.getId(), userId);
+        if (beforeStatus.isPresent()) {
+            validateRejoinable(userId, plan, beforeStatus.get());
+        }
+
+        PlanUserStatus afterStatus = planUserJoinRepository.upsertMember(plan.getId(), userId);
+        if (afterStatus != PlanUserStatus.MEMBER) {
+            log.info("해당 플랜에 참여가 불가능합니다. PlanId : {}, User Id : {}, status : {}", plan.getId(), userId,
+                    afterStatus);
+            throw new AccessDeniedException("해당 플랜에 참여가 불가능합니다.");
+        }
+
+        if (beforeStatus.isEmpty()) {
             log.info("{} 유저가 {} 플랜에 가입하였습니다.", userId, plan.getId());
-            planUsersRepository.save(PlanUsers.builder()
-                    .planId(plan.getId())
-                    .userId(userId)
-                    .planUserStatus(PlanUserStatus.MEMBER)
-                    .build());
-        } else if (existsPlanUser.get().getPlanUserStatus().equals(PlanUserStatus.MEMBER) ||
-                existsPlanUser.get().getPlanUserStatus().equals(PlanUserStatus.OWNER)) {
+        } else {
+            log.info("{} 유저를 {} 플랜에 다시 가입시켰습니다. beforeStatus : {}", userId, plan.getId(),
+                    beforeStatus.get());
+        }
+
+        planMembershipCache.bumpVersion(plan.getId());
+        eventPublisher.publishEvent(new PlanMembershipChangedEvent(plan.getId(), userId, PlanUserStatus.MEMBER,
+                LocalDateTime.now()));
+    }
+
+    private void validateRejoinable(UUID userId, Plan plan, PlanUserStatus status) {
+        if (status.equals(PlanUserStatus.MEMBER) || status.equals(PlanUserStatus.OWNER)) {
             log.info("이미 플랜에 참여중인 유저입니다. PlanId : {}, User Id : {}", plan.getId(), userId);
             throw new IllegalArgumentException("이미 플랜에 참여중인 유저입니다.");
-        } else if (existsPlanUser.get().getPlanUserStatus().equals(PlanUserStatus.BLOCKED)) {
+        }
+        if (status.equals(PlanUserStatus.BLOCKED)) {
             log.info("해당 플랜에 참여가 불가능합니다. PlanId : {}, User Id : {}", plan.getId(), userId);
             throw new AccessDeniedException("해당 플랜에 참여가 불가능합니다.");
-        } else {
-            log.info("{} 유저를 {} 플랜에 다시 가입시켰습니다. beforeStatus : {}", userId, plan.getId(),
-                    existsPlanUser.get().getPlanUserStatus());
-            existsPlanUser.get().updateToMember();
         }
     }
 
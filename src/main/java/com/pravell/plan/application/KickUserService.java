@@ -2,15 +2,22 @@ package com.pravell.plan.application;
 
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.plan.application.dto.request.KickUsersFromPlanApplicationRequest;
+import com.pravell.plan.domain.event.PlanMembershipsChangedEvent;
 import com.pravell.plan.domain.exception.PlanNotFoundException;
+import com.pravell.plan.domain.model.PlanUserStatus;
 import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
 import com.pravell.plan.domain.service.PlanAuthorizationService;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,37 +27,57 @@ import org.springframework.transaction.annotation.Transactional;
 public class KickUserService {
 
     private final PlanAuthorizationService planAuthorizationService;
+    private final PlanUsersRepository planUsersRepository;
+    private final PlanMembershipCache planMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public void kickUsers(UUID id, List<PlanUsers> planUsers, KickUsersFromPlanApplicationRequest request) {
+    public void kickUsers(UUID id, UUID planId, List<PlanUsers> planUsers,
+                          KickUsersFromPlanApplicationRequest request) {
         validate(planUsers, id);
 
-        Map<UUID, PlanUsers> planUsersMap = planUsers.stream()
-                .collect(Collectors.toMap(PlanUsers::getUserId, pu -> pu));
+        Set<UUID> kickUserIds = new LinkedHashSet<>(request.getDeleteUsers());
+        if (kickUserIds.isEmpty()) {
+            return;
+        }
+        validateKickable(id, planUsers, kickUserIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = planUsersRepository.updateStatusByPlanIdAndUserIdIn(planId, kickUserIds,
+                PlanUserStatus.MEMBER, PlanUserStatus.KICKED, now);
+        if (updated != kickUserIds.size()) {
+            log.info("{} 플랜의 유저 퇴출 중 참여 상태가 변경되었습니다. expected : {}, updated : {}", planId,
+                    kickUserIds.size(), updated);
+            throw new PlanNotFoundException("해당 플랜에 유저가 존재하지 않습니다.");
+        }
+
+        planMembershipCache.bumpVersion(planId);
+        log.info("{} 유저가 {} 유저들을 {} 플랜에서 퇴출시켰습니다.", id, kickUserIds, planId);
+        eventPublisher.publishEvent(new PlanMembershipsChangedEvent(Set.of(planId), kickUserIds,
+                PlanUserStatus.KICKED, now));
+    }
 
-        for (UUID kickUserId : request.getDeleteUsers()) {
+    private void validateKickable(UUID id, List<PlanUsers> planUsers, Set<UUID> kickUserIds) {
+        Map<UUID, PlanUserStatus> statuses = planUsers.stream()
+                .collect(Collectors.toMap(PlanUsers::getUserId, PlanUsers::getPlanUserStatus));
+
+        for (UUID kickUserId : kickUserIds) {
             if (id.equals(kickUserId)) {
                 throw new IllegalArgumentException("본인은 삭제할 수 없습니다.");
             }
 
-            PlanUsers user = planUsersMap.get(kickUserId);
-            if (user == null) {
-                throw new PlanNotFoundException("해당 플랜에 유저가 존재하지 않습니다.");
+            PlanUserStatus status = statuses.get(kickUserId);
+            if (status == PlanUserStatus.OWNER) {
+                throw new AccessDeniedException("플랜을 소유한 유저는 퇴출시킬 수 없습니다.");
             }
-
-            switch (user.getPlanUserStatus()) {
-                case MEMBER -> {
-                    log.info("{} 유저가 {} 유저를 {} 플랜에서 퇴출시켰습니다.", id, kickUserId, user.getPlanId());
-                    user.updateToKicked();
-                }
-                case OWNER -> throw new AccessDeniedException("플랜을 소유한 유저는 퇴출시킬 수 없습니다.");
-                default -> throw new PlanNotFoundException("해당 플랜에 유저가 존재하지 않습니다.");
+            if (status != PlanUserStatus.MEMBER) {
+                throw new PlanNotFoundException("해당 플랜에 유저가 존재하지 않습니다.");
             }
         }
     }
 
     private void validate(List<PlanUsers> planUsers, UUID userId) {
-        if (!planAuthorizationService.isOwner(userId, planUsers)){
+        if (!planAuthorizationService.isOwner(userId, PlanUsers.toMembership(planUsers))){
             throw new AccessDeniedException("해당 리소스에 접근 할 권한이 없습니다.");
         }
     }
@@ -1,11 +1,12 @@
 package com.pravell.plan.application;
 
-import com.pravell.plan.application.dto.PlanMemberDTO;
+import com.pravell.plan.application.dto.PlanPeriod;
+import com.pravell.plan.application.dto.PublicPlanView;
 import com.pravell.plan.application.dto.request.CreatePlanApplicationRequest;
 import com.pravell.plan.application.dto.request.UpdatePlanApplicationRequest;
 import com.pravell.plan.application.dto.response.CreatePlanResponse;
 import com.pravell.plan.application.dto.response.FindPlanResponse;
-import com.pravell.plan.application.dto.response.FindPlansResponse;
+import com.pravell.plan.application.dto.response.FindPlansPageResponse;
 import com.pravell.plan.domain.event.PlanCreatedEvent;
 import com.pravell.plan.domain.model.Member;
 import com.pravell.plan.domain.model.Plan;
@@ -14,9 +15,8 @@ import com.pravell.plan.domain.model.PlanUsers;
 import com.pravell.user.application.UserService;
 import com.pravell.user.application.dto.UserMemberDTO;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.util.Pair;
@@ -32,9 +32,10 @@ public class PlanFacade {
     private final PlanService planService;
     private final DeletePlanService deletePlanService;
     private final UpdatePlanService updatePlanService;
+    private final PlanVersionService planVersionService;
+    private final PublicPlanViewCache publicPlanViewCache;
 
     public CreatePlanResponse createPlan(CreatePlanApplicationRequest request, UUID id) {
-        userService.findUserById(id);
         PlanCreatedEvent planCreatedEvent = createPlanService.create(request, id);
         return buildCreatePlanResponse(planCreatedEvent);
     }
@@ -50,38 +51,17 @@ public class PlanFacade {
                 .build();
     }
 
-    public List<FindPlansResponse> findAllPlans(UUID id) {
-        userService.findUserById(id);
-        Map<UUID, List<Member>> planIdAndPlanMembers = buildPlanIdToMembersMap(id);
-        return findPlanService.findAll(id, planIdAndPlanMembers);
-    }
-
-    private Map<UUID, List<Member>> buildPlanIdToMembersMap(UUID userId) {
-        List<PlanUsers> planUsers = planService.findMemberOrOwnerPlanByUsers(userId);
-
-        Map<UUID, List<Member>> planIdToMembers = new HashMap<>();
-
-        for (PlanUsers planUser : planUsers) {
-            UUID planId = planUser.getPlanId();
-
-            List<UUID> activeMemberIds = getActiveMemberIds(planId);
-            List<Member> members = getMembers(activeMemberIds);
-
-            planIdToMembers.put(planId, members);
-        }
-
-        return planIdToMembers;
-    }
-
-    private List<UUID> getActiveMemberIds(UUID planId) {
-        return planService.findPlanMembers(planId).stream()
-                .filter(pm -> !pm.getPlanMemberStatus().equals("BLOCKED"))
-                .map(PlanMemberDTO::getMemberId)
-                .toList();
+    public FindPlansPageResponse findPlans(UUID id, PlanPeriod period, String cursor, Integer size) {
+        return findPlanService.findPage(id, period, cursor, size);
     }
 
     public FindPlanResponse findPlan(UUID planId, UUID userId) {
-        userService.findUserById(userId);
+        Long version = planVersionService.findVersion(planId);
+        Optional<FindPlanResponse> cached = publicPlanViewCache.find(planId, version, PublicPlanView.PLAN);
+        if (cached.isPresent()) {
+            findPlanService.validatePublicPlanAccess(userId, planService.findMembership(planId));
+            return cached.get().forViewer(userId);
+        }
 
         Plan plan = planService.findPlan(planId);
         List<PlanUsers> planUsers = planService.findPlanUsers(planId);
@@ -90,8 +70,15 @@ public class PlanFacade {
 
         List<UserMemberDTO> userMembers = getMembersFromPlanUsers(planUsers);
         UUID ownerId = extractOwnerId(planUsers);
-        Pair<String, List<Member>> ownerAndMembers = separateOwnerAndMembers(ownerId, userMembers);
 
+        FindPlanResponse response = toFindPlanResponse(plan, ownerId, userMembers, userId);
+        publicPlanViewCache.store(planId, version, PublicPlanView.PLAN, plan.getIsPublic(), response);
+        return response;
+    }
+
+    public FindPlanResponse toFindPlanResponse(Plan plan, UUID ownerId, List<UserMemberDTO> userMembers,
+                                               UUID userId) {
+        Pair<String, List<Member>> ownerAndMembers = separateOwnerAndMembers(ownerId, userMembers);
         return buildFindPlanResponse(plan, ownerId, ownerAndMembers, userId);
     }
 
@@ -128,8 +115,6 @@ public class PlanFacade {
     }
 
     public void deletePlan(UUID planId, UUID userId) {
-        userService.findUserById(userId);
-
         Plan plan = planService.findPlan(planId);
         List<PlanUsers> planUsers = planService.findPlanUsers(planId);
 
@@ -137,8 +122,6 @@ public class PlanFacade {
     }
 
     public CreatePlanResponse updatePlan(UUID planId, UUID userId, UpdatePlanApplicationRequest request) {
-        userService.findUserById(userId);
-
         Plan plan = planService.findPlan(planId);
         List<PlanUsers> planUsers = planService.findPlanUsers(planId);
 
@@ -182,15 +165,4 @@ public class PlanFacade {
         return Pair.of(ownerNickname, members);
     }
 
-    private List<Member> getMembers(List<UUID> memberId) {
-        List<UserMemberDTO> userMembers = userService.findMembers(memberId);
-
-        return userMembers.stream().map(um -> {
-            return Member.builder()
-                    .nickname(um.getNickname())
-                    .memberId(um.getMemberId())
-                    .build();
-        }).toList();
-    }
-
 }
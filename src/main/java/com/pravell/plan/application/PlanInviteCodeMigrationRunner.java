@@ -0,0 +1,83 @@
+package com.pravell.plan.application;
+
+import com.pravell.plan.domain.model.PlanInviteCode;
+import com.pravell.plan.domain.repository.PlanInviteCodeRepository;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "plan.invite-code.migrate-on-startup", havingValue = "true")
+public class PlanInviteCodeMigrationRunner implements ApplicationRunner {
+
+    private static final String SELECT_ACTIVE_CODES = """
+            SELECT plan_id, code, created_by, expires_at
+            FROM plan_invite_codes
+            WHERE expires_at > ?
+            ORDER BY expires_at DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlanInviteCodeRepository planInviteCodeRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AtomicInteger migrated = new AtomicInteger();
+        AtomicInteger restored = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+
+        try {
+            jdbcTemplate.query(SELECT_ACTIVE_CODES, rs -> {
+                PlanInviteCode planInviteCode = toPlanInviteCode(rs);
+                String activeCode = planInviteCodeRepository.saveIfAbsent(planInviteCode).orElse(null);
+
+                if (planInviteCode.getCode().equals(activeCode)) {
+                    migrated.incrementAndGet();
+                } else if (planInviteCodeRepository.restore(planInviteCode)) {
+                    restored.incrementAndGet();
+                } else {
+                    skipped.incrementAndGet();
+                }
+            }, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DataAccessException e) {
+            log.warn("plan_invite_codes 테이블의 초대코드를 Redis로 옮기지 못했습니다.", e);
+            return;
+        }
+
+        log.info("초대코드 마이그레이션 완료. migrated : {}, restored : {}, skipped : {}", migrated.get(), restored.get(),
+                skipped.get());
+    }
+
+    private PlanInviteCode toPlanInviteCode(ResultSet rs) throws SQLException {
+        return PlanInviteCode.builder()
+                .planId(toUuid(rs.getBytes("plan_id")))
+                .code(rs.getString("code"))
+                .createdBy(toUuid(rs.getBytes("created_by")))
+                .expiresAt(rs.getTimestamp("expires_at").toLocalDateTime())
+                .build();
+    }
+
+    private UUID toUuid(byte[] bytes) {
+        if (bytes.length != 16) {
+            return UUID.fromString(new String(bytes, StandardCharsets.UTF_8));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+}
@@ -7,8 +7,8 @@ import com.pravell.plan.application.dto.response.PlanJoinUserResponse;
 import com.pravell.plan.domain.model.Plan;
 import com.pravell.plan.domain.model.PlanInviteCode;
 import com.pravell.plan.domain.model.PlanUsers;
-import com.pravell.user.application.UserService;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,7 +17,6 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PlanMemberFacade {
 
-    private final UserService userService;
     private final PlanService planService;
     private final CreateInviteCodeService createInviteCodeService;
     private final JoinPlanService joinPlanService;
@@ -25,8 +24,6 @@ public class PlanMemberFacade {
     private final KickUserService kickUserService;
 
     public InviteCodeResponse createInviteCode(UUID planId, UUID userId) {
-        userService.findUserById(userId);
-
         Plan plan = planService.findPlan(planId);
         List<PlanUsers> planUsers = planService.findPlanUsers(planId);
 
@@ -34,29 +31,45 @@ public class PlanMemberFacade {
         return new InviteCodeResponse(code);
     }
 
-    public PlanJoinUserResponse join(UUID userId, String code) {
-        userService.findUserById(userId);
-        PlanInviteCode planInviteCode = joinPlanService.findPlanInviteCode(code);
-        Plan plan = planService.findPlan(planInviteCode.getPlanId());
+    public PlanJoinUserResponse join(UUID userId, String code, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return new PlanJoinUserResponse(joinWithCode(userId, code));
+        }
 
-        joinPlanService.join(userId, plan);
+        Optional<UUID> joinedPlanId = joinPlanService.reserveJoin(userId, idempotencyKey, code);
+        if (joinedPlanId.isPresent()) {
+            return new PlanJoinUserResponse(joinedPlanId.get());
+        }
 
-        return new PlanJoinUserResponse(plan.getId());
+        UUID planId;
+        try {
+            planId = joinWithCode(userId, code);
+        } catch (RuntimeException e) {
+            joinPlanService.releaseJoin(userId, idempotencyKey, code);
+            throw e;
+        }
+        joinPlanService.completeJoin(userId, idempotencyKey, code, planId);
+
+        return new PlanJoinUserResponse(planId);
     }
 
     public void withdrawPlans(UUID id, WithdrawFromPlansApplicationRequest applicationRequest) {
-        userService.findUserById(id);
-
         withdrawPlanService.withdrawFromPlans(id, applicationRequest);
     }
 
     public void kickUsers(UUID id, UUID planId, KickUsersFromPlanApplicationRequest request) {
-        userService.findUserById(id);
-
         planService.findPlan(planId);
         List<PlanUsers> planUsers = planService.findPlanUsers(planId);
 
-        kickUserService.kickUsers(id, planUsers, request);
+        kickUserService.kickUsers(id, planId, planUsers, request);
+    }
+
+    private UUID joinWithCode(UUID userId, String code) {
+        PlanInviteCode planInviteCode = joinPlanService.findPlanInviteCode(code);
+        Plan plan = planService.findPlan(planInviteCode.getPlanId());
+
+        joinPlanService.join(userId, plan);
+        return plan.getId();
     }
 
 }
@@ -0,0 +1,17 @@
+package com.pravell.plan.application;
+
+import com.pravell.plan.application.dto.PlanMembershipSnapshot;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PlanMembershipCache {
+
+    Optional<PlanMembershipSnapshot> find(UUID planId);
+
+    long currentVersion(UUID planId);
+
+    void put(PlanMembershipSnapshot snapshot);
+
+    void bumpVersion(UUID planId);
+
+}
@@ -0,0 +1,50 @@
+package com.pravell.plan.application;
+
+import com.pravell.plan.domain.repository.PlanPurgeLockRepository;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "plan.purge.enabled", havingValue = "true")
+public class PlanPurgeScheduler {
+
+    private final PlanPurgeService planPurgeService;
+    private final PlanPurgeLockRepository planPurgeLockRepository;
+    private final Duration lockTtl;
+
+    public PlanPurgeScheduler(
+            PlanPurgeService planPurgeService,
+            PlanPurgeLockRepository planPurgeLockRepository,
+            @Value("${plan.purge.lock-ttl:PT10M}") Duration lockTtl
+    ) {
+        this.planPurgeService = planPurgeService;
+        this.planPurgeLockRepository = planPurgeLockRepository;
+        this.lockTtl = lockTtl;
+    }
+
+    @Scheduled(fixedDelayString = "${plan.purge.interval:PT30S}",
+            initialDelayString = "${plan.purge.initial-delay:PT1M}")
+    public void purge() {
+        String owner = UUID.randomUUID().toString();
+        if (!planPurgeLockRepository.tryLock(owner, lockTtl)) {
+            log.debug("다른 노드에서 플랜 하위 데이터 정리를 실행 중입니다.");
+            return;
+        }
+
+        try {
+            long purgedRows = planPurgeService.purgeBacklog();
+            if (purgedRows > 0) {
+                log.info("삭제된 플랜의 하위 데이터 {}건을 정리했습니다.", purgedRows);
+            }
+        } finally {
+            planPurgeLockRepository.unlock(owner);
+        }
+    }
+
+}
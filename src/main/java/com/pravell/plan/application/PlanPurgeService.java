@@ -0,0 +1,170 @@
+package com.pravell.plan.application;
+
+import com.pravell.common.purge.PlanPurgeStep;
+import com.pravell.plan.domain.model.PlanPurgeJob;
+import com.pravell.plan.domain.repository.PlanPurgeJobRepository;
+import com.pravell.plan.domain.repository.PlanRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class PlanPurgeService {
+
+    private static final int PLAN_BATCH_SIZE = 100;
+
+    private final PlanRepository planRepository;
+    private final PlanPurgeJobRepository planPurgeJobRepository;
+    private final List<PlanPurgeStep> steps;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong backlog = new AtomicLong();
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration throttle;
+
+    public PlanPurgeService(
+            PlanRepository planRepository,
+            PlanPurgeJobRepository planPurgeJobRepository,
+            List<PlanPurgeStep> steps,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${plan.purge.chunk-size:500}") int chunkSize,
+            @Value("${plan.purge.max-chunks-per-run:200}") int maxChunksPerRun,
+            @Value("${plan.purge.throttle:PT0.1S}") Duration throttle
+    ) {
+        this.planRepository = planRepository;
+        this.planPurgeJobRepository = planPurgeJobRepository;
+        this.steps = steps;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.throttle = throttle;
+        Gauge.builder("plan.purge.backlog", backlog, AtomicLong::get).register(meterRegistry);
+    }
+
+    public long purgeBacklog() {
+        backlog.set(planRepository.countPurgeTargets());
+
+        Budget budget = new Budget(maxChunksPerRun);
+        long purgedRows = 0;
+        for (UUID planId : planRepository.findPurgeTargetIds(PageRequest.of(0, PLAN_BATCH_SIZE))) {
+            try {
+                purgedRows += purgePlan(planId, budget);
+            } catch (RuntimeException e) {
+                log.warn("{} 플랜의 하위 데이터 정리에 실패했습니다.", planId, e);
+            }
+
+            if (budget.isExhausted()) {
+                break;
+            }
+        }
+
+        backlog.set(planRepository.countPurgeTargets());
+        return purgedRows;
+    }
+
+    private long purgePlan(UUID planId, Budget budget) {
+        long purgedRows = 0;
+        String checkpoint = planPurgeJobRepository.findById(planId)
+                .map(PlanPurgeJob::getCurrentStep)
+                .orElse(null);
+
+        for (int i = startIndex(checkpoint); i < steps.size(); i++) {
+            PlanPurgeStep step = steps.get(i);
+            int purged;
+            do {
+                if (!budget.take() || !pause()) {
+                    return purgedRows;
+                }
+                purged = purgeChunk(planId, step);
+                purgedRows += purged;
+            } while (purged >= chunkSize);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            PlanPurgeJob job = findOrStart(planId);
+            job.complete();
+            planPurgeJobRepository.save(job);
+        });
+        log.info("{} 플랜의 하위 데이터 정리를 완료했습니다.", planId);
+        return purgedRows;
+    }
+
+    private int purgeChunk(UUID planId, PlanPurgeStep step) {
+        Integer purged = transactionTemplate.execute(status -> {
+            int deleted = step.purge(planId, chunkSize);
+            PlanPurgeJob job = findOrStart(planId);
+            job.checkpoint(step.name(), deleted);
+            planPurgeJobRepository.save(job);
+            return deleted;
+        });
+
+        int result = purged == null ? 0 : purged;
+        meterRegistry.counter("plan.purge.rows", "step", step.name()).increment(result);
+        return result;
+    }
+
+    private PlanPurgeJob findOrStart(UUID planId) {
+        return planPurgeJobRepository.findById(planId).orElseGet(() -> PlanPurgeJob.start(planId));
+    }
+
+    private int startIndex(String checkpoint) {
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i).name().equals(checkpoint)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private boolean pause() {
+        if (throttle.isZero()) {
+            return true;
+        }
+
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static class Budget {
+
+        private int remaining;
+
+        private Budget(int remaining) {
+            this.remaining = remaining;
+        }
+
+        private boolean take() {
+            if (remaining <= 0) {
+                return false;
+            }
+            remaining--;
+            return true;
+        }
+
+        private boolean isExhausted() {
+            return remaining <= 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.pravell.plan.application;
+
+import com.pravell.common.purge.PlanPurgeStep;
+import com.pravell.expense.domain.repository.ExpenseRepository;
+import com.pravell.marker.domain.repository.MarkerRepository;
+import com.pravell.place.domain.repository.PinPlaceRepository;
+import com.pravell.plan.domain.repository.PlanInviteCodeRepository;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.route.domain.repository.RoutePlaceRepository;
+import com.pravell.route.domain.repository.RouteRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+@Configuration
+public class PlanPurgeStepConfig {
+
+    @Bean
+    @Order(100)
+    public PlanPurgeStep routePlacePurgeStep(RoutePlaceRepository routePlaceRepository) {
+        return PlanPurgeStep.chunked("route_places", routePlaceRepository::findIdsByPlanId,
+                routePlaceRepository::deleteAllByIdInBatch);
+    }
+
+    @Bean
+    @Order(200)
+    public PlanPurgeStep routePurgeStep(RouteRepository routeRepository) {
+        return PlanPurgeStep.chunked("routes", routeRepository::findIdsByPlanId,
+                routeRepository::deleteAllByIdInBatch);
+    }
+
+    @Bean
+    @Order(300)
+    public PlanPurgeStep pinPlacePurgeStep(PinPlaceRepository pinPlaceRepository) {
+        return PlanPurgeStep.chunked("pin_places", pinPlaceRepository::findIdsByPlanId,
+                pinPlaceRepository::deleteAllByIdInBatch);
+    }
+
+    @Bean
+    @Order(400)
+    public PlanPurgeStep markerPurgeStep(MarkerRepository markerRepository) {
+        return PlanPurgeStep.chunked("markers", markerRepository::findIdsByPlanId,
+                markerRepository::deleteAllByIdInBatch);
+    }
+
+    @Bean
+    @Order(500)
+    public PlanPurgeStep expensePurgeStep(ExpenseRepository expenseRepository) {
+        return PlanPurgeStep.chunked("expenses", expenseRepository::findIdsByPlanId,
+                expenseRepository::deleteAllByIdInBatch);
+    }
+
+    @Bean
+    @Order(600)
+    public PlanPurgeStep planInviteCodePurgeStep(PlanInviteCodeRepository planInviteCodeRepository) {
+        return PlanPurgeStep.whole("plan_invite_codes", planInviteCodeRepository::deleteByPlanId);
+    }
+
+    @Bean
+    @Order(700)
+    public PlanPurgeStep planUsersPurgeStep(PlanUsersRepository planUsersRepository) {
+        return PlanPurgeStep.chunked("plan_users", planUsersRepository::findIdsByPlanId,
+                planUsersRepository::deleteAllByIdInBatch);
+    }
+
+}
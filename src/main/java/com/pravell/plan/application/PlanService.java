@@ -1,9 +1,9 @@
 package com.pravell.plan.application;
 
-import com.pravell.plan.application.dto.PlanMemberDTO;
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.plan.application.dto.PlanMembershipSnapshot;
 import com.pravell.plan.domain.exception.PlanNotFoundException;
 import com.pravell.plan.domain.model.Plan;
-import com.pravell.plan.domain.model.PlanUserStatus;
 import com.pravell.plan.domain.model.PlanUsers;
 import com.pravell.plan.domain.repository.PlanRepository;
 import com.pravell.plan.domain.repository.PlanUsersRepository;
@@ -22,6 +22,7 @@ public class PlanService {
 
     private final PlanRepository planRepository;
     private final PlanUsersRepository planUsersRepository;
+    private final PlanMembershipCache planMembershipCache;
 
     @Transactional(readOnly = true)
     public Plan findPlan(UUID planId) {
@@ -38,32 +39,10 @@ public class PlanService {
         return planUsersRepository.findAllByPlanId(planId);
     }
 
-    @Transactional(readOnly = true)
-    public List<PlanMemberDTO> findPlanMembers(UUID planId) {
-        List<PlanUsers> planUsers = planUsersRepository.findAllByPlanId(planId);
-
-        return planUsers.stream().filter(pu -> pu.getPlanUserStatus().equals(PlanUserStatus.MEMBER) ||
-                        pu.getPlanUserStatus().equals(PlanUserStatus.OWNER) ||
-                        pu.getPlanUserStatus().equals(PlanUserStatus.BLOCKED))
-                .map(p -> {
-                    return PlanMemberDTO.builder()
-                            .memberId(p.getUserId())
-                            .planMemberStatus(p.getPlanUserStatus().name())
-                            .build();
-                }).toList();
-    }
-
-    @Transactional(readOnly = true)
-    public List<PlanMemberDTO> findActivePlanMembers(UUID planId) {
-        List<PlanUsers> planUsers = planUsersRepository.findAllByPlanId(planId);
-
-        return planUsers.stream().filter(pu -> pu.getPlanUserStatus().equals(PlanUserStatus.MEMBER) ||
-                        pu.getPlanUserStatus().equals(PlanUserStatus.OWNER))
-                .map(p -> {
-                    return PlanMemberDTO.builder()
-                            .memberId(p.getUserId())
-                            .build();
-                }).toList();
+    public PlanMembership findMembership(UUID planId) {
+        return planMembershipCache.find(planId)
+                .orElseGet(() -> loadMembership(planId))
+                .getMembership();
     }
 
     @Transactional(readOnly = true)
@@ -76,14 +55,13 @@ public class PlanService {
         return plan.get().getIsPublic();
     }
 
-    @Transactional(readOnly = true)
-    public List<PlanUsers> findMemberOrOwnerPlanByUsers(UUID id) {
-        List<PlanUsers> planUsers = planUsersRepository.findAllByUserId(id);
+    private PlanMembershipSnapshot loadMembership(UUID planId) {
+        long version = planMembershipCache.currentVersion(planId);
+        PlanMembershipSnapshot snapshot = PlanMembershipSnapshot.of(planId, version,
+                planUsersRepository.findAllByPlanId(planId));
 
-        return planUsers.stream()
-                .filter(pu -> pu.getPlanUserStatus().equals(PlanUserStatus.MEMBER) ||
-                        pu.getPlanUserStatus().equals(PlanUserStatus.OWNER))
-                .toList();
+        planMembershipCache.put(snapshot);
+        return snapshot;
     }
 
 }
@@ -0,0 +1,101 @@
+package com.pravell.plan.application;
+
+import com.pravell.common.domain.event.PlanContentChangedEvent;
+import com.pravell.plan.domain.event.PlanEvent;
+import com.pravell.plan.domain.event.PlanMembershipChangedEvent;
+import com.pravell.plan.domain.event.PlanMembershipsChangedEvent;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.plan.domain.repository.PlanVersionRepository;
+import com.pravell.user.domain.event.UserEvent;
+import com.pravell.user.domain.event.UserNicknameChangedEvent;
+import com.pravell.user.domain.event.UserWithdrawnEvent;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanVersionService {
+
+    private static final List<PlanUserStatus> ACTIVE_STATUSES = List.of(PlanUserStatus.OWNER, PlanUserStatus.MEMBER);
+    private static final int ETAG_LENGTH = 32;
+
+    private final PlanVersionRepository planVersionRepository;
+    private final PlanUsersRepository planUsersRepository;
+    private final PublicPlanViewCache publicPlanViewCache;
+
+    public String findETag(UUID planId, UUID userId) {
+        Long version = findVersion(planId);
+        if (version == null) {
+            return null;
+        }
+        return digest(planId + ":" + userId + ":" + version);
+    }
+
+    public Long findVersion(UUID planId) {
+        try {
+            return planVersionRepository.findVersion(planId);
+        } catch (RuntimeException e) {
+            log.warn("{} 플랜의 버전 조회에 실패했습니다.", planId, e);
+            return null;
+        }
+    }
+
+    @TransactionalEventListener
+    public void on(PlanEvent event) {
+        incrementQuietly(event.getPlan().getId());
+    }
+
+    @TransactionalEventListener
+    public void on(PlanMembershipChangedEvent event) {
+        incrementQuietly(event.getPlanId());
+    }
+
+    @TransactionalEventListener
+    public void on(PlanMembershipsChangedEvent event) {
+        event.getPlanIds().forEach(this::incrementQuietly);
+    }
+
+    @TransactionalEventListener
+    public void on(PlanContentChangedEvent event) {
+        incrementQuietly(event.getPlanId());
+    }
+
+    @TransactionalEventListener(classes = {UserNicknameChangedEvent.class, UserWithdrawnEvent.class})
+    public void on(UserEvent event) {
+        planUsersRepository.findAllByUserId(event.getUser().getId()).stream()
+                .filter(planUsers -> ACTIVE_STATUSES.contains(planUsers.getPlanUserStatus()))
+                .map(PlanUsers::getPlanId)
+                .forEach(this::incrementQuietly);
+    }
+
+    private void incrementQuietly(UUID planId) {
+        try {
+            planVersionRepository.increment(planId);
+        } catch (RuntimeException e) {
+            publicPlanViewCache.evict(planId);
+            log.warn("{} 플랜의 버전 갱신에 실패해 공개 플랜 캐시를 비웁니다.", planId, e);
+        }
+    }
+
+    private String digest(String value) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash).substring(0, ETAG_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.pravell.plan.application;
+
+import com.pravell.common.cache.LruCache;
+import com.pravell.plan.application.dto.PublicPlanView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PublicPlanViewCache {
+
+    private final LruCache<UUID, Entry> cache;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public PublicPlanViewCache(
+            @Value("${plan.public-view.max-size:1000}") int maxSize,
+            @Value("${plan.public-view.ttl:PT10M}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this(maxSize, ttl, meterRegistry, Clock.systemUTC());
+    }
+
+    PublicPlanViewCache(int maxSize, Duration ttl, MeterRegistry meterRegistry, Clock clock) {
+        this.cache = new LruCache<>(maxSize);
+        this.ttl = ttl;
+        this.clock = clock;
+        this.hitCounter = meterRegistry.counter("plan.public-view.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("plan.public-view.cache", "result", "miss");
+        Gauge.builder("plan.public-view.cache.size", cache, LruCache::size).register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> find(UUID planId, Long version, PublicPlanView view) {
+        Entry entry = version == null ? null : cache.get(planId);
+        Object value = null;
+
+        if (entry != null && entry.isExpired(clock.instant())) {
+            cache.remove(planId, entry);
+        } else if (entry != null && entry.version == version) {
+            value = entry.views.get(view);
+        }
+
+        if (value == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        return Optional.of((T) value);
+    }
+
+    public void put(UUID planId, Long version, PublicPlanView view, Object value) {
+        if (version == null || value == null) {
+            return;
+        }
+
+        Instant now = clock.instant();
+        cache.compute(planId, (id, entry) -> {
+            Entry current = entry;
+            if (current == null || current.version < version || current.isExpired(now)) {
+                current = new Entry(version, now.plus(ttl));
+            }
+            if (current.version == version) {
+                current.views.put(view, value);
+            }
+            return current;
+        });
+    }
+
+    public void store(UUID planId, Long version, PublicPlanView view, boolean isPublic, Object value) {
+        if (isPublic) {
+            put(planId, version, view, value);
+        } else {
+            evict(planId);
+        }
+    }
+
+    public void evict(UUID planId) {
+        cache.remove(planId);
+    }
+
+    private static final class Entry {
+
+        private final long version;
+        private final Instant expiresAt;
+        private final Map<PublicPlanView, Object> views = new ConcurrentHashMap<>();
+
+        private Entry(long version, Instant expiresAt) {
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+
+    }
+
+}
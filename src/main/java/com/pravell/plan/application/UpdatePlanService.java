@@ -2,13 +2,16 @@ package com.pravell.plan.application;
 
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.plan.application.dto.request.UpdatePlanApplicationRequest;
+import com.pravell.plan.domain.event.PlanUpdatedEvent;
 import com.pravell.plan.domain.model.Plan;
 import com.pravell.plan.domain.model.PlanUsers;
 import com.pravell.plan.domain.service.PlanAuthorizationService;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdatePlanService {
 
     private final PlanAuthorizationService planAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void update(Plan plan, UUID userId, List<PlanUsers> planUsers,
@@ -42,10 +46,12 @@ public class UpdatePlanService {
         if (request.getEndDate() != null) {
             plan.updateEndDate(request.getEndDate());
         }
+
+        eventPublisher.publishEvent(new PlanUpdatedEvent(plan, LocalDateTime.now()));
     }
 
     private void validateUpdatePermission(UUID userId, List<PlanUsers> planUsers) {
-        if (!planAuthorizationService.isOwner(userId, planUsers)){
+        if (!planAuthorizationService.isOwner(userId, PlanUsers.toMembership(planUsers))){
             throw new AccessDeniedException("해당 리소스를 수정 할 권한이 없습니다.");
         }
     }
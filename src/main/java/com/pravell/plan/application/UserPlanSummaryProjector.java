@@ -0,0 +1,213 @@
+package com.pravell.plan.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pravell.plan.domain.event.PlanEvent;
+import com.pravell.plan.domain.event.PlanMembershipChangedEvent;
+import com.pravell.plan.domain.event.PlanMembershipsChangedEvent;
+import com.pravell.plan.domain.model.Plan;
+import com.pravell.plan.domain.model.PlanMemberSummary;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.model.UserPlanSummary;
+import com.pravell.plan.domain.repository.PlanRepository;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.plan.domain.repository.UserPlanSummaryDirtyRepository;
+import com.pravell.plan.domain.repository.UserPlanSummaryRepository;
+import com.pravell.user.application.UserService;
+import com.pravell.user.application.dto.UserMemberDTO;
+import com.pravell.user.domain.event.UserEvent;
+import com.pravell.user.domain.event.UserNicknameChangedEvent;
+import com.pravell.user.domain.event.UserWithdrawnEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class UserPlanSummaryProjector {
+
+    private static final List<PlanUserStatus> ACTIVE_STATUSES = List.of(PlanUserStatus.OWNER, PlanUserStatus.MEMBER);
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final PlanRepository planRepository;
+    private final PlanUsersRepository planUsersRepository;
+    private final UserPlanSummaryRepository userPlanSummaryRepository;
+    private final UserPlanSummaryDirtyRepository userPlanSummaryDirtyRepository;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int refreshAttempts;
+
+    public UserPlanSummaryProjector(PlanRepository planRepository, PlanUsersRepository planUsersRepository,
+                                    UserPlanSummaryRepository userPlanSummaryRepository,
+                                    UserPlanSummaryDirtyRepository userPlanSummaryDirtyRepository,
+                                    UserService userService, ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${plan.summary.refresh-attempts:3}") int refreshAttempts) {
+        this.planRepository = planRepository;
+        this.planUsersRepository = planUsersRepository;
+        this.userPlanSummaryRepository = userPlanSummaryRepository;
+        this.userPlanSummaryDirtyRepository = userPlanSummaryDirtyRepository;
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.refreshAttempts = refreshAttempts;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener
+    public void on(PlanEvent event) {
+        refreshQuietly(List.of(event.getPlan().getId()));
+    }
+
+    @TransactionalEventListener
+    public void on(PlanMembershipChangedEvent event) {
+        refreshQuietly(List.of(event.getPlanId()));
+    }
+
+    @TransactionalEventListener
+    public void on(PlanMembershipsChangedEvent event) {
+        refreshQuietly(event.getPlanIds());
+    }
+
+    @TransactionalEventListener(classes = {UserNicknameChangedEvent.class, UserWithdrawnEvent.class})
+    public void on(UserEvent event) {
+        List<UUID> planIds = planUsersRepository.findAllByUserId(event.getUser().getId()).stream()
+                .filter(planUsers -> ACTIVE_STATUSES.contains(planUsers.getPlanUserStatus()))
+                .map(PlanUsers::getPlanId)
+                .toList();
+
+        refreshQuietly(planIds);
+    }
+
+    public void rebuild() {
+        int deletedOrphans = transactionTemplate.execute(status -> userPlanSummaryRepository.deleteOrphans());
+
+        Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE);
+        int planCount = 0;
+        Slice<UUID> planIds;
+        do {
+            planIds = planRepository.findPlanIds(pageable);
+            List<UUID> content = planIds.getContent();
+            transactionTemplate.executeWithoutResult(status -> refresh(content));
+            planCount += content.size();
+            pageable = planIds.nextPageable();
+        } while (planIds.hasNext());
+
+        log.info("플랜 목록 프로젝션을 재생성했습니다. planCount : {}, deletedOrphans : {}", planCount, deletedOrphans);
+    }
+
+    public void reconcile() {
+        List<UUID> planIds = userPlanSummaryDirtyRepository.popDirty(REBUILD_PAGE_SIZE);
+        if (planIds.isEmpty()) {
+            return;
+        }
+
+        refreshQuietly(planIds);
+        log.info("갱신에 실패했던 플랜 목록 프로젝션 {}건을 다시 갱신했습니다.", planIds.size());
+    }
+
+    private void refreshQuietly(Collection<UUID> planIds) {
+        if (planIds.isEmpty()) {
+            return;
+        }
+
+        List<UUID> orderedPlanIds = planIds.stream().distinct().sorted().toList();
+        for (int attempt = 1; attempt <= refreshAttempts; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> refresh(orderedPlanIds));
+                return;
+            } catch (ConcurrencyFailureException e) {
+                log.info("플랜 목록 프로젝션 갱신이 충돌했습니다. attempt : {}, planIds : {}", attempt, orderedPlanIds);
+            } catch (RuntimeException e) {
+                log.warn("플랜 목록 프로젝션 갱신에 실패했습니다. planIds : {}", orderedPlanIds, e);
+                break;
+            }
+        }
+
+        markDirtyQuietly(orderedPlanIds);
+    }
+
+    private void markDirtyQuietly(List<UUID> planIds) {
+        try {
+            userPlanSummaryDirtyRepository.markDirty(planIds);
+        } catch (RuntimeException e) {
+            log.error("플랜 목록 프로젝션 재갱신 대상을 기록하지 못했습니다. planIds : {}", planIds, e);
+        }
+    }
+
+    private void refresh(Collection<UUID> planIds) {
+        if (planIds.isEmpty()) {
+            return;
+        }
+
+        userPlanSummaryRepository.deleteAllByPlanIdIn(planIds);
+
+        List<Plan> plans = planRepository.findAllByIdIn(new ArrayList<>(planIds)).stream()
+                .filter(plan -> !plan.getIsDeleted())
+                .toList();
+        if (plans.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<PlanMemberSummary>> membersByPlan = planUsersRepository.findMemberSummariesByPlanIdIn(
+                        plans.stream().map(Plan::getId).toList(), ACTIVE_STATUSES).stream()
+                .collect(Collectors.groupingBy(PlanMemberSummary::getPlanId));
+        Map<UUID, String> nicknames = findNicknames(membersByPlan);
+
+        List<UserPlanSummary> summaries = new ArrayList<>();
+        for (Plan plan : plans) {
+            List<PlanMemberSummary> members = membersByPlan.getOrDefault(plan.getId(), List.of());
+            String memberNicknames = toJson(members.stream()
+                    .map(member -> nicknames.get(member.getUserId()))
+                    .filter(Objects::nonNull)
+                    .toList());
+
+            for (PlanMemberSummary member : members) {
+                if (!nicknames.containsKey(member.getUserId())) {
+                    continue;
+                }
+                summaries.add(UserPlanSummary.create(member.getUserId(), plan,
+                        member.getPlanUserStatus().equals(PlanUserStatus.OWNER), memberNicknames));
+            }
+        }
+
+        userPlanSummaryRepository.saveAll(summaries);
+    }
+
+    private Map<UUID, String> findNicknames(Map<UUID, List<PlanMemberSummary>> membersByPlan) {
+        List<UUID> memberIds = membersByPlan.values().stream()
+                .flatMap(List::stream)
+                .map(PlanMemberSummary::getUserId)
+                .distinct()
+                .toList();
+
+        return userService.findMembers(memberIds).stream()
+                .collect(Collectors.toMap(UserMemberDTO::getMemberId, UserMemberDTO::getNickname));
+    }
+
+    private String toJson(List<String> memberNicknames) {
+        try {
+            return objectMapper.writeValueAsString(memberNicknames);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멤버 닉네임 직렬화에 실패했습니다.", e);
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.pravell.plan.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "plan.summary.rebuild-on-startup", havingValue = "true")
+public class UserPlanSummaryRebuildRunner implements ApplicationRunner {
+
+    private final UserPlanSummaryProjector userPlanSummaryProjector;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        userPlanSummaryProjector.rebuild();
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.pravell.plan.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserPlanSummaryReconcileScheduler {
+
+    private final UserPlanSummaryProjector userPlanSummaryProjector;
+
+    @Scheduled(fixedDelayString = "${plan.summary.reconcile-interval:PT1M}",
+            initialDelayString = "${plan.summary.reconcile-interval:PT1M}")
+    public void reconcile() {
+        userPlanSummaryProjector.reconcile();
+    }
+
+}
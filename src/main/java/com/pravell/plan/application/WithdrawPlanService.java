@@ -1,15 +1,20 @@
 package com.pravell.plan.application;
 
 import com.pravell.plan.application.dto.request.WithdrawFromPlansApplicationRequest;
+import com.pravell.plan.domain.event.PlanMembershipsChangedEvent;
 import com.pravell.plan.domain.exception.PlanNotFoundException;
-import com.pravell.plan.domain.model.Plan;
-import com.pravell.plan.domain.model.PlanUsers;
-import com.pravell.plan.domain.repository.PlanRepository;
+import com.pravell.plan.domain.model.PlanMemberSummary;
+import com.pravell.plan.domain.model.PlanUserStatus;
 import com.pravell.plan.domain.repository.PlanUsersRepository;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,34 +24,51 @@ import org.springframework.transaction.annotation.Transactional;
 public class WithdrawPlanService {
 
     private final PlanUsersRepository planUsersRepository;
-    private final PlanRepository planRepository;
+    private final PlanMembershipCache planMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void withdrawFromPlans(UUID userId, WithdrawFromPlansApplicationRequest request) {
-        for (UUID planId : request.getPlanIds()) {
-            findPlan(planId);
-            withdraw(userId, planId);
+        Set<UUID> planIds = new LinkedHashSet<>(request.getPlanIds());
+        if (planIds.isEmpty()) {
+            return;
         }
-    }
 
-    private void withdraw(UUID userId, UUID planId) {
-        PlanUsers planUsers = planUsersRepository.findByPlanIdAndUserId(planId, userId)
-                .orElseThrow(() -> new PlanNotFoundException("해당 플랜에 유저가 존재하지 않습니다."));
+        validate(userId, planIds);
 
-        switch (planUsers.getPlanUserStatus()) {
-            case MEMBER -> {
-                log.info("{} 유저가 {} 플랜을 탈퇴했습니다.", userId, planId);
-                planUsers.updateToWithdrawn();
-            }
-            case OWNER -> throw new IllegalArgumentException("플랜을 소유한 유저는 탈퇴할 수 없습니다.");
-            default -> throw new PlanNotFoundException("해당 플랜에 유저가 존재하지 않습니다.");
+        LocalDateTime now = LocalDateTime.now();
+        int updated = planUsersRepository.updateStatusByUserIdAndPlanIdIn(userId, planIds, PlanUserStatus.MEMBER,
+                PlanUserStatus.WITHDRAWN, now);
+        if (updated != planIds.size()) {
+            log.info("{} 유저의 플랜 탈퇴 중 참여 상태가 변경되었습니다. expected : {}, updated : {}", userId,
+                    planIds.size(), updated);
+            throw new PlanNotFoundException("해당 플랜에 유저가 존재하지 않습니다.");
         }
+
+        planIds.forEach(planMembershipCache::bumpVersion);
+        log.info("{} 유저가 {} 플랜들을 탈퇴했습니다.", userId, planIds);
+        eventPublisher.publishEvent(new PlanMembershipsChangedEvent(planIds, Set.of(userId),
+                PlanUserStatus.WITHDRAWN, now));
     }
 
-    private void findPlan(UUID planId) {
-        Optional<Plan> plan = planRepository.findById(planId);
-        if (plan.isEmpty() || plan.get().getIsDeleted() == true) {
-            throw new PlanNotFoundException("플랜을 찾을 수 없습니다.");
+    private void validate(UUID userId, Set<UUID> planIds) {
+        Map<UUID, PlanMemberSummary> summaries = planUsersRepository.findMemberSummariesOfActivePlans(userId, planIds)
+                .stream()
+                .collect(Collectors.toMap(PlanMemberSummary::getPlanId, summary -> summary));
+
+        for (UUID planId : planIds) {
+            PlanMemberSummary summary = summaries.get(planId);
+            if (summary == null) {
+                throw new PlanNotFoundException("플랜을 찾을 수 없습니다.");
+            }
+
+            PlanUserStatus status = summary.getPlanUserStatus();
+            if (status == PlanUserStatus.OWNER) {
+                throw new IllegalArgumentException("플랜을 소유한 유저는 탈퇴할 수 없습니다.");
+            }
+            if (status != PlanUserStatus.MEMBER) {
+                throw new PlanNotFoundException("해당 플랜에 유저가 존재하지 않습니다.");
+            }
         }
     }
 
@@ -0,0 +1,26 @@
+package com.pravell.plan.application.dto;
+
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.plan.domain.model.PlanUsers;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+public class PlanMembershipSnapshot {
+
+    private final UUID planId;
+    private final long version;
+    private final PlanMembership membership;
+
+    private PlanMembershipSnapshot(UUID planId, long version, PlanMembership membership) {
+        this.planId = planId;
+        this.version = version;
+        this.membership = membership;
+    }
+
+    public static PlanMembershipSnapshot of(UUID planId, long version, List<PlanUsers> planUsers) {
+        return new PlanMembershipSnapshot(planId, version, PlanUsers.toMembership(planUsers));
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.pravell.plan.application.dto;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+public enum PlanPeriod {
+    UPCOMING,
+    ONGOING,
+    PAST;
+
+    public static PlanPeriod from(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(values())
+                .filter(period -> period.name().equalsIgnoreCase(value.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("올바르지 않은 플랜 기간 필터입니다."));
+    }
+
+    public LocalDate startDateFrom(LocalDate today) {
+        return this == UPCOMING ? today.plusDays(1) : null;
+    }
+
+    public LocalDate startDateTo(LocalDate today) {
+        return this == ONGOING ? today : null;
+    }
+
+    public LocalDate endDateFrom(LocalDate today) {
+        return this == ONGOING ? today : null;
+    }
+
+    public LocalDate endDateTo(LocalDate today) {
+        return this == PAST ? today.minusDays(1) : null;
+    }
+}
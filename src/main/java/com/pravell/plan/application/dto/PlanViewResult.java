@@ -0,0 +1,13 @@
+package com.pravell.plan.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PlanViewResult<T> {
+
+    private final T body;
+    private final boolean isPublic;
+
+}
@@ -0,0 +1,8 @@
+package com.pravell.plan.application.dto;
+
+public enum PublicPlanView {
+    PLAN,
+    PLACES,
+    ROUTES,
+    MARKERS
+}
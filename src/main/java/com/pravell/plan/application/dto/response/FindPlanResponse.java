@@ -10,7 +10,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class FindPlanResponse {
 
     private UUID planId;
@@ -31,5 +31,12 @@ public class FindPlanResponse {
     @JsonProperty("isMember")
     private boolean isMember;
 
+    public FindPlanResponse forViewer(UUID userId) {
+        return toBuilder()
+                .isOwner(ownerId.equals(userId))
+                .isMember(member.stream().map(Member::getMemberId).anyMatch(userId::equals))
+                .build();
+    }
+
 }
 
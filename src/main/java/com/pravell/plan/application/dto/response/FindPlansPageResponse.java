@@ -0,0 +1,14 @@
+package com.pravell.plan.application.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FindPlansPageResponse {
+
+    private List<FindPlansResponse> plans;
+    private String nextCursor;
+
+}
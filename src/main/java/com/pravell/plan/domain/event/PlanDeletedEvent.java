@@ -0,0 +1,12 @@
+package com.pravell.plan.domain.event;
+
+import com.pravell.plan.domain.model.Plan;
+import java.time.LocalDateTime;
+
+public class PlanDeletedEvent extends PlanEvent {
+
+    public PlanDeletedEvent(Plan plan, LocalDateTime createdAt) {
+        super(plan, createdAt);
+    }
+
+}
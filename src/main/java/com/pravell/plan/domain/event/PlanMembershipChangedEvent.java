@@ -0,0 +1,26 @@
+package com.pravell.plan.domain.event;
+
+import com.pravell.common.domain.event.DomainEvent;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+public class PlanMembershipChangedEvent implements DomainEvent<PlanUsers> {
+
+    private final UUID planId;
+    private final UUID userId;
+    private final PlanUserStatus planUserStatus;
+    private final LocalDateTime createdAt;
+
+    public PlanMembershipChangedEvent(UUID planId, UUID userId, PlanUserStatus planUserStatus,
+                                      LocalDateTime createdAt) {
+        this.planId = planId;
+        this.userId = userId;
+        this.planUserStatus = planUserStatus;
+        this.createdAt = createdAt;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.pravell.plan.domain.event;
+
+import com.pravell.common.domain.event.DomainEvent;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+public class PlanMembershipsChangedEvent implements DomainEvent<PlanUsers> {
+
+    private final Set<UUID> planIds;
+    private final Set<UUID> userIds;
+    private final PlanUserStatus planUserStatus;
+    private final LocalDateTime createdAt;
+
+    public PlanMembershipsChangedEvent(Set<UUID> planIds, Set<UUID> userIds, PlanUserStatus planUserStatus,
+                                       LocalDateTime createdAt) {
+        this.planIds = Set.copyOf(planIds);
+        this.userIds = Set.copyOf(userIds);
+        this.planUserStatus = planUserStatus;
+        this.createdAt = createdAt;
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.pravell.plan.domain.event;
+
+import com.pravell.plan.domain.model.Plan;
+import java.time.LocalDateTime;
+
+public class PlanUpdatedEvent extends PlanEvent {
+
+    public PlanUpdatedEvent(Plan plan, LocalDateTime createdAt) {
+        super(plan, createdAt);
+    }
+
+}
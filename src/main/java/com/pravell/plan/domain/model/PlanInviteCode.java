@@ -1,44 +1,21 @@
 package com.pravell.plan.domain.model;
 
-import com.pravell.common.domain.BaseEntity;
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.UUID;
-import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 import lombok.ToString;
 
-@Entity
-@Table(name = "plan_invite_codes")
 @Builder
 @Getter
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
 @ToString
-public class PlanInviteCode extends BaseEntity {
+public class PlanInviteCode {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(columnDefinition = "BINARY(16)", nullable = false)
     private UUID planId;
-
-    @Column(unique = true, nullable = false)
     private String code;
-
-    @Column(nullable = false)
     private UUID createdBy;
-
-    @Column(nullable = false)
     private LocalDateTime expiresAt;
 
 }
@@ -0,0 +1,22 @@
+package com.pravell.plan.domain.model;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PlanJoinIdempotency {
+
+    private String code;
+    private UUID planId;
+
+    public boolean isCompleted() {
+        return planId != null;
+    }
+
+    public boolean isFor(String code) {
+        return this.code == null || this.code.equals(code);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.pravell.plan.domain.model;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PlanMemberSummary {
+
+    private UUID planId;
+    private UUID userId;
+    private PlanUserStatus planUserStatus;
+
+}
@@ -0,0 +1,55 @@
+package com.pravell.plan.domain.model;
+
+import com.pravell.common.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Entity
+@Table(name = "plan_purge_jobs")
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class PlanPurgeJob extends BaseEntity {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)", nullable = false)
+    private UUID planId;
+
+    private String currentStep;
+
+    @Column(nullable = false)
+    private Long purgedRows;
+
+    @Column(nullable = false)
+    private Boolean completed;
+
+    public static PlanPurgeJob start(UUID planId) {
+        return PlanPurgeJob.builder()
+                .planId(planId)
+                .purgedRows(0L)
+                .completed(false)
+                .build();
+    }
+
+    public void checkpoint(String step, int purged) {
+        this.currentStep = step;
+        this.purgedRows += purged;
+    }
+
+    public void complete() {
+        this.currentStep = null;
+        this.completed = true;
+    }
+
+}
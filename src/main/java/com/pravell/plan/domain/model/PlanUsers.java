@@ -1,7 +1,8 @@
 package com.pravell.plan.domain.model;
 
 import com.pravell.common.domain.BaseEntity;
-import com.pravell.common.exception.AccessDeniedException;
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.PlanRole;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -11,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import java.util.List;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -18,7 +20,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
-import lombok.extern.slf4j.Slf4j;
 
 @Entity
 @Table(
@@ -31,7 +32,6 @@ import lombok.extern.slf4j.Slf4j;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Slf4j
 @ToString
 public class PlanUsers extends BaseEntity {
 
@@ -56,28 +56,12 @@ public class PlanUsers extends BaseEntity {
                 .build();
     }
 
-    public void updateToMember() {
-        if (this.planUserStatus.equals(PlanUserStatus.BLOCKED)) {
-            log.info("해당 유저는 MEMBER로 변경이 불가능합니다. User Id : {}", this.userId);
-            throw new AccessDeniedException("해당 유저는 MEMBER로 변경이 불가능합니다.");
-        }
-        this.planUserStatus = PlanUserStatus.MEMBER;
-    }
-
-    public void updateToWithdrawn() {
-        if (!this.planUserStatus.equals(PlanUserStatus.MEMBER)){
-            log.info("해당 유저는 WITHDRAWN으로 변경이 불가능합니다. User Id : {}", this.userId);
-            throw new AccessDeniedException("해당 유저는 WITHDRAWN로 변경이 불가능합니다.");
-        }
-        this.planUserStatus = PlanUserStatus.WITHDRAWN;
-    }
-
-
-    public void updateToKicked() {
-        if (!this.planUserStatus.equals(PlanUserStatus.MEMBER)){
-            log.info("해당 유저는 KICKED로 변경이 불가능합니다. User Id : {}", this.userId);
-            throw new AccessDeniedException("해당 유저는 KICKED로 변경이 불가능합니다.");
-        }
-        this.planUserStatus = PlanUserStatus.KICKED;
+    public static PlanMembership toMembership(List<PlanUsers> planUsers) {
+        return PlanMembership.of(planUsers, PlanUsers::getUserId, pu -> switch (pu.getPlanUserStatus()) {
+            case OWNER -> PlanRole.OWNER;
+            case MEMBER -> PlanRole.MEMBER;
+            case BLOCKED -> PlanRole.BLOCKED;
+            case WITHDRAWN, KICKED -> null;
+        });
     }
 }
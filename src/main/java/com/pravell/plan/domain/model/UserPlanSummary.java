@@ -0,0 +1,75 @@
+package com.pravell.plan.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+        name = "user_plan_summary",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"user_id", "plan_id"})
+        },
+        indexes = {
+                @Index(name = "idx_user_plan_summary_plan", columnList = "plan_id"),
+                @Index(name = "idx_user_plan_summary_user_start", columnList = "user_id, start_date, plan_id")
+        }
+)
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserPlanSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(columnDefinition = "BINARY(16)", nullable = false)
+    private UUID userId;
+
+    @Column(columnDefinition = "BINARY(16)", nullable = false)
+    private UUID planId;
+
+    @Column(nullable = false)
+    private String planName;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private Boolean isOwner;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String memberNicknames;
+
+    public static UserPlanSummary create(UUID userId, Plan plan, boolean isOwner, String memberNicknames) {
+        return UserPlanSummary.builder()
+                .userId(userId)
+                .planId(plan.getId())
+                .planName(plan.getName())
+                .startDate(plan.getStartDate())
+                .endDate(plan.getEndDate())
+                .isOwner(isOwner)
+                .memberNicknames(memberNicknames)
+                .build();
+    }
+
+}
@@ -1,11 +1,21 @@
 package com.pravell.plan.domain.repository;
 
 import com.pravell.plan.domain.model.PlanInviteCode;
+import java.time.Duration;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import java.util.UUID;
+
+public interface PlanInviteCodeRepository {
+
+    Optional<String> saveIfAbsent(PlanInviteCode planInviteCode);
+
+    Optional<String> saveOrRotate(PlanInviteCode planInviteCode, Duration refreshThreshold);
+
+    boolean restore(PlanInviteCode planInviteCode);
 
-@Repository
-public interface PlanInviteCodeRepository extends JpaRepository<PlanInviteCode, Long> {
     Optional<PlanInviteCode> findByCode(String code);
+
+    Optional<String> findCodeByPlanId(UUID planId);
+
+    void deleteByPlanId(UUID planId);
 }
@@ -0,0 +1,14 @@
+package com.pravell.plan.domain.repository;
+
+import com.pravell.plan.domain.model.PlanJoinIdempotency;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PlanJoinIdempotencyRepository {
+
+    Optional<PlanJoinIdempotency> reserve(UUID userId, String idempotencyKey, String code);
+
+    void complete(UUID userId, String idempotencyKey, String code, UUID planId);
+
+    void release(UUID userId, String idempotencyKey, String code);
+}
@@ -0,0 +1,10 @@
+package com.pravell.plan.domain.repository;
+
+import com.pravell.plan.domain.model.PlanPurgeJob;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PlanPurgeJobRepository extends JpaRepository<PlanPurgeJob, UUID> {
+}
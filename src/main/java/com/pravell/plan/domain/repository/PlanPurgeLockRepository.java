@@ -0,0 +1,10 @@
+package com.pravell.plan.domain.repository;
+
+import java.time.Duration;
+
+public interface PlanPurgeLockRepository {
+
+    boolean tryLock(String owner, Duration ttl);
+
+    void unlock(String owner);
+}
@@ -3,10 +3,33 @@ package com.pravell.plan.domain.repository;
 import com.pravell.plan.domain.model.Plan;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PlanRepository extends JpaRepository<Plan, UUID> {
     List<Plan> findAllByIdIn(List<UUID> ids);
+
+    @Query("select p.id from Plan p order by p.id")
+    Slice<UUID> findPlanIds(Pageable pageable);
+
+    @Query("""
+                select p.id
+                from Plan p
+                where p.isDeleted = true
+                and not exists (select j.planId from PlanPurgeJob j where j.planId = p.id and j.completed = true)
+                order by p.updatedAt
+            """)
+    List<UUID> findPurgeTargetIds(Pageable pageable);
+
+    @Query("""
+                select count(p)
+                from Plan p
+                where p.isDeleted = true
+                and not exists (select j.planId from PlanPurgeJob j where j.planId = p.id and j.completed = true)
+            """)
+    long countPurgeTargets();
 }
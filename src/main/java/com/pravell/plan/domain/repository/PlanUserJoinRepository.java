@@ -0,0 +1,12 @@
+package com.pravell.plan.domain.repository;
+
+import com.pravell.plan.domain.model.PlanUserStatus;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PlanUserJoinRepository {
+
+    Optional<PlanUserStatus> findStatus(UUID planId, UUID userId);
+
+    PlanUserStatus upsertMember(UUID planId, UUID userId);
+}
@@ -1,10 +1,18 @@
 package com.pravell.plan.domain.repository;
 
+import com.pravell.plan.domain.model.PlanMemberSummary;
+import com.pravell.plan.domain.model.PlanUserStatus;
 import com.pravell.plan.domain.model.PlanUsers;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,4 +22,54 @@ public interface PlanUsersRepository extends JpaRepository<PlanUsers, Long> {
     List<PlanUsers> findAllByPlanId(UUID planId);
 
     Optional<PlanUsers> findByPlanIdAndUserId(UUID planId, UUID userId);
+
+    @Query("""
+                select new com.pravell.plan.domain.model.PlanMemberSummary(pu.planId, pu.userId, pu.planUserStatus)
+                from PlanUsers pu
+                where pu.planId in :planIds
+                and pu.planUserStatus in :statuses
+            """)
+    List<PlanMemberSummary> findMemberSummariesByPlanIdIn(@Param("planIds") Collection<UUID> planIds,
+                                                          @Param("statuses") Collection<PlanUserStatus> statuses);
+
+    @Query("""
+                select new com.pravell.plan.domain.model.PlanMemberSummary(p.id, pu.userId, pu.planUserStatus)
+                from Plan p
+                left join PlanUsers pu on pu.planId = p.id and pu.userId = :userId
+                where p.id in :planIds
+                and p.isDeleted = false
+            """)
+    List<PlanMemberSummary> findMemberSummariesOfActivePlans(@Param("userId") UUID userId,
+                                                             @Param("planIds") Collection<UUID> planIds);
+
+    @Query("select pu.id from PlanUsers pu where pu.planId = :planId")
+    List<Long> findIdsByPlanId(@Param("planId") UUID planId, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+                update PlanUsers pu
+                set pu.planUserStatus = :status, pu.updatedAt = :updatedAt
+                where pu.userId = :userId
+                and pu.planId in :planIds
+                and pu.planUserStatus = :expectedStatus
+            """)
+    int updateStatusByUserIdAndPlanIdIn(@Param("userId") UUID userId,
+                                        @Param("planIds") Collection<UUID> planIds,
+                                        @Param("expectedStatus") PlanUserStatus expectedStatus,
+                                        @Param("status") PlanUserStatus status,
+                                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+                update PlanUsers pu
+                set pu.planUserStatus = :status, pu.updatedAt = :updatedAt
+                where pu.planId = :planId
+                and pu.userId in :userIds
+                and pu.planUserStatus = :expectedStatus
+            """)
+    int updateStatusByPlanIdAndUserIdIn(@Param("planId") UUID planId,
+                                        @Param("userIds") Collection<UUID> userIds,
+                                        @Param("expectedStatus") PlanUserStatus expectedStatus,
+                                        @Param("status") PlanUserStatus status,
+                                        @Param("updatedAt") LocalDateTime updatedAt);
 }
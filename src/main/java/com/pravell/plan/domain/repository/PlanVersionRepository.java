@@ -0,0 +1,10 @@
+package com.pravell.plan.domain.repository;
+
+import java.util.UUID;
+
+public interface PlanVersionRepository {
+
+    long findVersion(UUID planId);
+
+    long increment(UUID planId);
+}
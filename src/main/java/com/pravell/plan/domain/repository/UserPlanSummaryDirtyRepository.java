@@ -0,0 +1,12 @@
+package com.pravell.plan.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface UserPlanSummaryDirtyRepository {
+
+    void markDirty(Collection<UUID> planIds);
+
+    List<UUID> popDirty(int count);
+}
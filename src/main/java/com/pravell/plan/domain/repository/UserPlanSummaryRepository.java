@@ -0,0 +1,66 @@
+package com.pravell.plan.domain.repository;
+
+import com.pravell.plan.domain.model.UserPlanSummary;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserPlanSummaryRepository extends JpaRepository<UserPlanSummary, Long> {
+
+    List<UserPlanSummary> findAllByUserId(UUID userId);
+
+    @Query("""
+                select s
+                from UserPlanSummary s
+                where s.userId = :userId
+                  and s.startDate >= :startDateFrom
+                  and s.startDate <= :startDateTo
+                  and (:endDateFrom is null or s.endDate >= :endDateFrom)
+                  and (:endDateTo is null or s.endDate <= :endDateTo)
+                order by s.startDate, s.planId
+            """)
+    List<UserPlanSummary> findFirstPageByUserId(@Param("userId") UUID userId,
+                                                @Param("startDateFrom") LocalDate startDateFrom,
+                                                @Param("startDateTo") LocalDate startDateTo,
+                                                @Param("endDateFrom") LocalDate endDateFrom,
+                                                @Param("endDateTo") LocalDate endDateTo,
+                                                Pageable pageable);
+
+    @Query("""
+                select s
+                from UserPlanSummary s
+                where s.userId = :userId
+                  and s.startDate >= :startDateFrom
+                  and s.startDate <= :startDateTo
+                  and s.startDate >= :cursorStartDate
+                  and (s.startDate > :cursorStartDate or s.planId > :cursorPlanId)
+                  and (:endDateFrom is null or s.endDate >= :endDateFrom)
+                  and (:endDateTo is null or s.endDate <= :endDateTo)
+                order by s.startDate, s.planId
+            """)
+    List<UserPlanSummary> findPageByUserIdAfter(@Param("userId") UUID userId,
+                                                @Param("startDateFrom") LocalDate startDateFrom,
+                                                @Param("startDateTo") LocalDate startDateTo,
+                                                @Param("endDateFrom") LocalDate endDateFrom,
+                                                @Param("endDateTo") LocalDate endDateTo,
+                                                @Param("cursorStartDate") LocalDate cursorStartDate,
+                                                @Param("cursorPlanId") UUID cursorPlanId,
+                                                Pageable pageable);
+
+    @Modifying
+    @Query("delete from UserPlanSummary s where s.planId in :planIds")
+    void deleteAllByPlanIdIn(@Param("planIds") Collection<UUID> planIds);
+
+    @Modifying
+    @Query("delete from UserPlanSummary s where not exists (select p.id from Plan p where p.id = s.planId)")
+    int deleteOrphans();
+
+}
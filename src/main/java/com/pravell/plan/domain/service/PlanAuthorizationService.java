@@ -1,31 +1,22 @@
 package com.pravell.plan.domain.service;
 
-import com.pravell.plan.domain.model.PlanUserStatus;
-import com.pravell.plan.domain.model.PlanUsers;
-import java.util.List;
+import com.pravell.common.domain.PlanMembership;
 import java.util.UUID;
 import org.springframework.stereotype.Component;
 
 @Component
 public class PlanAuthorizationService {
 
-    public boolean isOwnerOrMember(UUID userId, List<PlanUsers> planUsers) {
-        return planUsers.stream()
-                .anyMatch(pm ->
-                        pm.getUserId().equals(userId) &&
-                                (pm.getPlanUserStatus() == PlanUserStatus.OWNER ||
-                                        pm.getPlanUserStatus() == PlanUserStatus.MEMBER));
+    public boolean isOwnerOrMember(UUID userId, PlanMembership planMembership) {
+        return planMembership.isOwnerOrMember(userId);
     }
 
-    public boolean hasPublicPlanPermission(UUID userId, List<PlanUsers> planUsers) {
-        return planUsers.stream()
-                .noneMatch(pm ->
-                        pm.getUserId().equals(userId) && pm.getPlanUserStatus().equals(PlanUserStatus.BLOCKED));
+    public boolean hasPublicPlanPermission(UUID userId, PlanMembership planMembership) {
+        return !planMembership.isBlocked(userId);
     }
 
-    public boolean isOwner(UUID userId, List<PlanUsers> planUsers) {
-        return planUsers.stream()
-                .anyMatch(pu -> pu.getUserId().equals(userId) && pu.getPlanUserStatus().equals(PlanUserStatus.OWNER));
+    public boolean isOwner(UUID userId, PlanMembership planMembership) {
+        return planMembership.isOwner(userId);
     }
 
 }
@@ -0,0 +1,130 @@
+package com.pravell.plan.infra.cache;
+
+import com.pravell.common.cache.VersionedLocalCache;
+import com.pravell.plan.application.PlanMembershipCache;
+import com.pravell.plan.application.dto.PlanMembershipSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class RedisPlanMembershipCache implements PlanMembershipCache, MessageListener {
+
+    private static final String VERSION_KEY_PREFIX = "planMembershipVersion:";
+    private static final String INVALIDATION_CHANNEL = "plan-membership-invalidation";
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final VersionedLocalCache<UUID, PlanMembershipSnapshot> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    public RedisPlanMembershipCache(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${plan.membership-cache.local-ttl:PT5M}") Duration localTtl,
+            @Value("${plan.membership-cache.tombstone-ttl:PT1M}") Duration tombstoneTtl,
+            @Value("${plan.membership-cache.max-local-size:50000}") int maxLocalSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.localCache = new VersionedLocalCache<>(maxLocalSize, localTtl, tombstoneTtl, Clock.systemUTC());
+        this.hitCounter = meterRegistry.counter("plan.membership.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("plan.membership.cache", "result", "miss");
+        this.invalidationCounter = meterRegistry.counter("plan.membership.cache.invalidation");
+        Gauge.builder("plan.membership.cache.local.size", localCache, VersionedLocalCache::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public Optional<PlanMembershipSnapshot> find(UUID planId) {
+        Optional<VersionedLocalCache.Entry<PlanMembershipSnapshot>> localEntry = localCache.find(planId);
+
+        if (localEntry.isEmpty()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        return Optional.of(localEntry.get().value());
+    }
+
+    @Override
+    public long currentVersion(UUID planId) {
+        String version = redisTemplate.opsForValue().get(key(planId));
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    @Override
+    public void put(PlanMembershipSnapshot snapshot) {
+        localCache.put(snapshot.getPlanId(), snapshot, snapshot.getVersion());
+    }
+
+    @Override
+    public void bumpVersion(UUID planId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bumpEverywhere(planId);
+            return;
+        }
+
+        localCache.remove(planId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bumpEverywhere(planId);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] parts = body.split(MESSAGE_DELIMITER);
+            invalidate(UUID.fromString(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            log.warn("플랜 멤버 캐시 무효화 메시지가 올바르지 않습니다. message : {}", body);
+        }
+    }
+
+    private void bumpEverywhere(UUID planId) {
+        Long version = redisTemplate.opsForValue().increment(key(planId));
+        invalidate(planId, version);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, planId + MESSAGE_DELIMITER + version);
+    }
+
+    private void invalidate(UUID planId, long version) {
+        invalidationCounter.increment();
+        localCache.invalidate(planId, version);
+    }
+
+    private String key(UUID planId) {
+        return VERSION_KEY_PREFIX + planId.toString();
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.pravell.plan.infra.jdbc;
+
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.repository.PlanUserJoinRepository;
+import java.nio.ByteBuffer;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@Repository
+public class JdbcPlanUserJoinRepository implements PlanUserJoinRepository {
+
+    private static final String FIND_STATUS = """
+            SELECT plan_user_status
+            FROM plan_users
+            WHERE plan_id = ? AND user_id = ?
+            """;
+
+    private static final String MYSQL_UPSERT_MEMBER = """
+            INSERT INTO plan_users (plan_id, user_id, plan_user_status, created_at, updated_at)
+            VALUES (?, ?, 'MEMBER', ?, ?)
+            ON DUPLICATE KEY UPDATE
+                updated_at = CASE WHEN plan_user_status IN ('WITHDRAWN', 'KICKED') THEN ? ELSE updated_at END,
+                plan_user_status = CASE WHEN plan_user_status IN ('WITHDRAWN', 'KICKED')
+                    THEN 'MEMBER' ELSE plan_user_status END
+            """;
+
+    private static final String MERGE_UPSERT_MEMBER = """
+            MERGE INTO plan_users pu
+            USING (SELECT CAST(? AS BINARY(16)) AS plan_id, CAST(? AS BINARY(16)) AS user_id) src
+            ON pu.plan_id = src.plan_id AND pu.user_id = src.user_id
+            WHEN MATCHED AND pu.plan_user_status IN ('WITHDRAWN', 'KICKED') THEN
+                UPDATE SET plan_user_status = 'MEMBER', updated_at = ?
+            WHEN NOT MATCHED THEN
+                INSERT (plan_id, user_id, plan_user_status, created_at, updated_at)
+                VALUES (src.plan_id, src.user_id, 'MEMBER', ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean mySql;
+
+    @Autowired
+    public JdbcPlanUserJoinRepository(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, isMySql(jdbcTemplate));
+    }
+
+    JdbcPlanUserJoinRepository(JdbcTemplate jdbcTemplate, boolean mySql) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mySql = mySql;
+    }
+
+    @Override
+    public Optional<PlanUserStatus> findStatus(UUID planId, UUID userId) {
+        return jdbcTemplate.query(FIND_STATUS, (rs, rowNum) -> PlanUserStatus.valueOf(rs.getString(1)),
+                        toBytes(planId), toBytes(userId))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public PlanUserStatus upsertMember(UUID planId, UUID userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try {
+            if (mySql) {
+                jdbcTemplate.update(MYSQL_UPSERT_MEMBER, toBytes(planId), toBytes(userId), now, now, now);
+            } else {
+                jdbcTemplate.update(MERGE_UPSERT_MEMBER, toBytes(planId), toBytes(userId), now, now, now);
+            }
+        } catch (DuplicateKeyException e) {
+            log.info("{} 유저의 {} 플랜 참여 요청이 동시에 처리되어 기존 참여 정보를 사용합니다.", userId, planId);
+        }
+
+        return findStatus(planId, userId)
+                .orElseThrow(() -> new IllegalStateException("플랜 참여 정보를 저장하지 못했습니다."));
+    }
+
+    private static boolean isMySql(JdbcTemplate jdbcTemplate) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(productName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.pravell.plan.infra.redis;
+
+import com.pravell.plan.domain.model.PlanInviteCode;
+import com.pravell.plan.domain.repository.PlanInviteCodeRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class RedisPlanInviteCodeRepository implements PlanInviteCodeRepository {
+
+    private static final String CODE_KEY_PREFIX = "planInviteCode:";
+    private static final String PLAN_KEY_PREFIX = "planInviteCodeByPlan:";
+    private static final String VALUE_DELIMITER = "|";
+
+    private static final RedisScript<String> SAVE_IF_ABSENT_SCRIPT = RedisScript.of("""
+            local existing = redis.call('GET', KEYS[1])
+            if existing then
+                local remaining = redis.call('PTTL', KEYS[1])
+                if remaining == -1 or remaining > tonumber(ARGV[4]) then
+                    return existing
+                end
+            end
+            if not redis.call('SET', KEYS[2], ARGV[2], 'NX', 'PX', ARGV[3]) then
+                return false
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            return ARGV[1]
+            """, String.class);
+
+    private static final RedisScript<Boolean> RESTORE_SCRIPT = RedisScript.of("""
+            return redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) ~= false
+            """, Boolean.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<String> saveIfAbsent(PlanInviteCode planInviteCode) {
+        return saveOrRotate(planInviteCode, Duration.ZERO);
+    }
+
+    @Override
+    public Optional<String> saveOrRotate(PlanInviteCode planInviteCode, Duration refreshThreshold) {
+        Duration ttl = remainingTtl(planInviteCode);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return Optional.empty();
+        }
+
+        String code = redisTemplate.execute(SAVE_IF_ABSENT_SCRIPT,
+                List.of(planKey(planInviteCode.getPlanId()), codeKey(planInviteCode.getCode())),
+                planInviteCode.getCode(), serialize(planInviteCode), String.valueOf(ttl.toMillis()),
+                String.valueOf(refreshThreshold.toMillis()));
+        return Optional.ofNullable(code);
+    }
+
+    @Override
+    public boolean restore(PlanInviteCode planInviteCode) {
+        Duration ttl = remainingTtl(planInviteCode);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return false;
+        }
+
+        return Boolean.TRUE.equals(redisTemplate.execute(RESTORE_SCRIPT,
+                List.of(codeKey(planInviteCode.getCode())),
+                serialize(planInviteCode), String.valueOf(ttl.toMillis())));
+    }
+
+    @Override
+    public Optional<PlanInviteCode> findByCode(String code) {
+        String value = redisTemplate.opsForValue().get(codeKey(code));
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.of(deserialize(code, value));
+    }
+
+    @Override
+    public Optional<String> findCodeByPlanId(UUID planId) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(planKey(planId)));
+    }
+
+    @Override
+    public void deleteByPlanId(UUID planId) {
+        String code = redisTemplate.opsForValue().get(planKey(planId));
+        if (code != null) {
+            redisTemplate.delete(List.of(planKey(planId), codeKey(code)));
+        }
+    }
+
+    private Duration remainingTtl(PlanInviteCode planInviteCode) {
+        return Duration.between(LocalDateTime.now(), planInviteCode.getExpiresAt());
+    }
+
+    private String serialize(PlanInviteCode planInviteCode) {
+        return planInviteCode.getPlanId() + VALUE_DELIMITER + planInviteCode.getCreatedBy() + VALUE_DELIMITER
+                + planInviteCode.getExpiresAt();
+    }
+
+    private PlanInviteCode deserialize(String code, String value) {
+        String[] parts = value.split("\\" + VALUE_DELIMITER);
+        return PlanInviteCode.builder()
+                .planId(UUID.fromString(parts[0]))
+                .code(code)
+                .createdBy(UUID.fromString(parts[1]))
+                .expiresAt(LocalDateTime.parse(parts[2]))
+                .build();
+    }
+
+    private String codeKey(String code) {
+        return CODE_KEY_PREFIX + code;
+    }
+
+    private String planKey(UUID planId) {
+        return PLAN_KEY_PREFIX + planId.toString();
+    }
+}
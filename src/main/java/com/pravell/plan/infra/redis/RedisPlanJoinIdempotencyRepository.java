@@ -0,0 +1,89 @@
+package com.pravell.plan.infra.redis;
+
+import com.pravell.plan.domain.model.PlanJoinIdempotency;
+import com.pravell.plan.domain.repository.PlanJoinIdempotencyRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RedisPlanJoinIdempotencyRepository implements PlanJoinIdempotencyRepository {
+
+    private static final String KEY_PREFIX = "planJoinIdempotency:";
+    private static final String DELIMITER = "|";
+    private static final RedisScript<String> RESERVE_SCRIPT = RedisScript.of("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return nil
+            end
+            return redis.call('GET', KEYS[1])
+            """, String.class);
+    private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+                return 0
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Duration pendingTtl;
+
+    public RedisPlanJoinIdempotencyRepository(
+            StringRedisTemplate redisTemplate,
+            @Value("${plan.join.idempotency-ttl:PT24H}") Duration ttl,
+            @Value("${plan.join.idempotency-pending-ttl:PT30S}") Duration pendingTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.pendingTtl = pendingTtl;
+    }
+
+    @Override
+    public Optional<PlanJoinIdempotency> reserve(UUID userId, String idempotencyKey, String code) {
+        String existing = redisTemplate.execute(RESERVE_SCRIPT, List.of(key(userId, idempotencyKey)),
+                pending(code), String.valueOf(pendingTtl.toMillis()));
+        return Optional.ofNullable(existing).map(this::toIdempotency);
+    }
+
+    @Override
+    public void complete(UUID userId, String idempotencyKey, String code, UUID planId) {
+        redisTemplate.execute(COMPLETE_SCRIPT, List.of(key(userId, idempotencyKey)),
+                pending(code), code + DELIMITER + planId, String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public void release(UUID userId, String idempotencyKey, String code) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key(userId, idempotencyKey)), pending(code));
+    }
+
+    private PlanJoinIdempotency toIdempotency(String value) {
+        int delimiter = value.lastIndexOf(DELIMITER);
+        if (delimiter < 0) {
+            return new PlanJoinIdempotency(null, UUID.fromString(value));
+        }
+
+        String planId = value.substring(delimiter + 1);
+        return new PlanJoinIdempotency(value.substring(0, delimiter),
+                planId.isEmpty() ? null : UUID.fromString(planId));
+    }
+
+    private String pending(String code) {
+        return code + DELIMITER;
+    }
+
+    private String key(UUID userId, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + idempotencyKey;
+    }
+}
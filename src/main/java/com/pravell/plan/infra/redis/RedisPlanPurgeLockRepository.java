@@ -0,0 +1,35 @@
+package com.pravell.plan.infra.redis;
+
+import com.pravell.plan.domain.repository.PlanPurgeLockRepository;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class RedisPlanPurgeLockRepository implements PlanPurgeLockRepository {
+
+    private static final String KEY = "planPurge:lock";
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean tryLock(String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY, owner, ttl));
+    }
+
+    @Override
+    public void unlock(String owner) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(KEY), owner);
+    }
+}
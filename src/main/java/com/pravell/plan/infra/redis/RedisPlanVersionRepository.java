@@ -0,0 +1,67 @@
+package com.pravell.plan.infra.redis;
+
+import com.pravell.plan.domain.repository.PlanVersionRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RedisPlanVersionRepository implements PlanVersionRepository {
+
+    private static final String KEY_PREFIX = "planVersion:";
+    private static final long SEED_PER_MILLI = 1000L;
+
+    private static final RedisScript<Long> FIND_SCRIPT = RedisScript.of("""
+            local version = redis.call('GET', KEYS[1])
+            if not version then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return tonumber(ARGV[1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return tonumber(version)
+            """, Long.class);
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return tonumber(ARGV[1])
+            end
+            local version = redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return version
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisPlanVersionRepository(
+            StringRedisTemplate redisTemplate,
+            @Value("${plan.version.ttl:P30D}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public long findVersion(UUID planId) {
+        return redisTemplate.execute(FIND_SCRIPT, List.of(key(planId)), seed(), String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public long increment(UUID planId) {
+        return redisTemplate.execute(INCREMENT_SCRIPT, List.of(key(planId)), seed(), String.valueOf(ttl.toMillis()));
+    }
+
+    private String seed() {
+        return String.valueOf(System.currentTimeMillis() * SEED_PER_MILLI);
+    }
+
+    private String key(UUID planId) {
+        return KEY_PREFIX + planId;
+    }
+
+}
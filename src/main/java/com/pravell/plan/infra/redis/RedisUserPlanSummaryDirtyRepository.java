@@ -0,0 +1,35 @@
+package com.pravell.plan.infra.redis;
+
+import com.pravell.plan.domain.repository.UserPlanSummaryDirtyRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class RedisUserPlanSummaryDirtyRepository implements UserPlanSummaryDirtyRepository {
+
+    private static final String KEY = "userPlanSummary:dirty";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void markDirty(Collection<UUID> planIds) {
+        if (planIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(KEY, planIds.stream().map(UUID::toString).toArray(String[]::new));
+    }
+
+    @Override
+    public List<UUID> popDirty(int count) {
+        List<String> planIds = redisTemplate.opsForSet().pop(KEY, count);
+        if (planIds == null) {
+            return List.of();
+        }
+        return planIds.stream().map(UUID::fromString).toList();
+    }
+}
@@ -1,9 +1,11 @@
 package com.pravell.plan.presentation;
 
-import com.pravell.common.util.CommonJwtUtil;
+import com.pravell.common.auth.AuthUser;
 import com.pravell.plan.application.PlanFacade;
+import com.pravell.plan.application.dto.PlanPeriod;
 import com.pravell.plan.application.dto.response.CreatePlanResponse;
 import com.pravell.plan.application.dto.response.FindPlanResponse;
+import com.pravell.plan.application.dto.response.FindPlansPageResponse;
 import com.pravell.plan.application.dto.response.FindPlansResponse;
 import com.pravell.plan.presentation.request.CreatePlanRequest;
 import com.pravell.plan.presentation.request.UpdatePlanRequest;
@@ -12,6 +14,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,53 +22,69 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/plans")
 public class PlanController {
 
-    private final CommonJwtUtil commonJwtUtil;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final PlanFacade planFacade;
+    private final PlanETagChecker planETagChecker;
 
     @PostMapping
     public ResponseEntity<CreatePlanResponse> createPlan(@Valid @RequestBody CreatePlanRequest createPlanRequest,
-                                                         @RequestHeader("Authorization") String authorizationHeader) {
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
+                                                         @AuthUser UUID id) {
         CreatePlanResponse response = planFacade.createPlan(createPlanRequest.toApplicationRequest(), id);
 
         return ResponseEntity.created(URI.create("/plans/" + response.getPlanId())).body(response);
     }
 
     @GetMapping
-    public ResponseEntity<List<FindPlansResponse>> findPlans(@RequestHeader("Authorization") String header) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
-        return ResponseEntity.ok(planFacade.findAllPlans(id));
+    public ResponseEntity<List<FindPlansResponse>> findPlans(@AuthUser UUID id,
+                                                             @RequestParam(required = false) String status,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer size) {
+        FindPlansPageResponse page = planFacade.findPlans(id, PlanPeriod.from(status), cursor, size);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getPlans());
     }
 
     @GetMapping("/{planId}")
-    public ResponseEntity<FindPlanResponse> findPlan(@RequestHeader("Authorization") String authorizationHeader,
-                                                     @PathVariable UUID planId) {
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
-        return ResponseEntity.ok(planFacade.findPlan(planId, id));
+    public ResponseEntity<FindPlanResponse> findPlan(@AuthUser UUID id,
+                                                     @PathVariable UUID planId,
+                                                     WebRequest webRequest) {
+        if (planETagChecker.isNotModified(planId, id, webRequest)) {
+            return null;
+        }
+
+        FindPlanResponse response = planFacade.findPlan(planId, id);
+        return ResponseEntity.ok()
+                .cacheControl(PlanViewCacheControl.of(response.isPublic()))
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(response);
     }
 
     @DeleteMapping("/{planId}/permanent")
-    public ResponseEntity<Void> deletePlan(@RequestHeader("Authorization") String authorizationHeader,
+    public ResponseEntity<Void> deletePlan(@AuthUser UUID id,
                                            @PathVariable UUID planId) {
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
         planFacade.deletePlan(planId, id);
         return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/{planId}")
-    public ResponseEntity<CreatePlanResponse> updatePlan(@RequestHeader("Authorization") String authorizationHeader,
+    public ResponseEntity<CreatePlanResponse> updatePlan(@AuthUser UUID id,
                                                          @PathVariable UUID planId,
                                                          @Valid @RequestBody UpdatePlanRequest updatePlanRequest) {
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
         return ResponseEntity.ok(planFacade.updatePlan(planId, id, updatePlanRequest.toApplicationRequest()));
     }
 
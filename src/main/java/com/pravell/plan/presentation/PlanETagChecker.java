@@ -0,0 +1,20 @@
+package com.pravell.plan.presentation;
+
+import com.pravell.plan.application.PlanVersionService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+@Component
+@RequiredArgsConstructor
+public class PlanETagChecker {
+
+    private final PlanVersionService planVersionService;
+
+    public boolean isNotModified(UUID planId, UUID userId, WebRequest webRequest) {
+        String eTag = planVersionService.findETag(planId, userId);
+        return eTag != null && webRequest.checkNotModified(eTag);
+    }
+
+}
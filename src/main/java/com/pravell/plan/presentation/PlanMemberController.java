@@ -1,6 +1,6 @@
 package com.pravell.plan.presentation;
 
-import com.pravell.common.util.CommonJwtUtil;
+import com.pravell.common.auth.AuthUser;
 import com.pravell.plan.application.PlanMemberFacade;
 import com.pravell.plan.application.dto.response.InviteCodeResponse;
 import com.pravell.plan.application.dto.response.PlanJoinUserResponse;
@@ -23,36 +23,33 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PlanMemberController {
 
-    private final CommonJwtUtil commonJwtUtil;
     private final PlanMemberFacade planMemberFacade;
 
     @PostMapping("/{planId}/invite-code")
     public ResponseEntity<InviteCodeResponse> createInviteCode(@PathVariable UUID planId,
-                                                               @RequestHeader("authorization") String authorizationHeader) {
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
+                                                               @AuthUser UUID id) {
         return ResponseEntity.ok(planMemberFacade.createInviteCode(planId, id));
     }
 
     @PostMapping("/join")
     public ResponseEntity<PlanJoinUserResponse> joinUser(@RequestParam String code,
-                                                         @RequestHeader("authorization") String authorizationHeader) {
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
-        return ResponseEntity.ok(planMemberFacade.join(id, code));
+                                                         @RequestHeader(value = "Idempotency-Key", required = false)
+                                                         String idempotencyKey,
+                                                         @AuthUser UUID id) {
+        return ResponseEntity.ok(planMemberFacade.join(id, code, idempotencyKey));
     }
 
     @DeleteMapping()
-    public ResponseEntity<Void> withdrawPlans(@RequestHeader("authorization") String authorizationHeader,
+    public ResponseEntity<Void> withdrawPlans(@AuthUser UUID id,
                                               @RequestBody WithdrawFromPlansRequest withdrawFromPlansRequest) {
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
         planMemberFacade.withdrawPlans(id, withdrawFromPlansRequest.toApplicationRequest());
         return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/{planId}")
-    public ResponseEntity<Void> kickUsersFromPlan(@RequestHeader("authorization") String authorizationHeader,
+    public ResponseEntity<Void> kickUsersFromPlan(@AuthUser UUID id,
                                                   @RequestBody KickUsersFromPlanRequest kickUsersFromPlanRequest,
                                                   @PathVariable UUID planId) {
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
         planMemberFacade.kickUsers(id, planId, kickUsersFromPlanRequest.toApplicationRequest());
         return ResponseEntity.noContent().build();
     }
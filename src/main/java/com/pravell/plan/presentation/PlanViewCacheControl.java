@@ -0,0 +1,15 @@
+package com.pravell.plan.presentation;
+
+import org.springframework.http.CacheControl;
+
+public final class PlanViewCacheControl {
+
+    private PlanViewCacheControl() {
+    }
+
+    public static CacheControl of(boolean isPublic) {
+        CacheControl cacheControl = CacheControl.noCache();
+        return isPublic ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+
+}
@@ -1,16 +1,18 @@
 package com.pravell.route.application;
 
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.route.application.dto.request.CreateRouteApplicationRequest;
 import com.pravell.route.application.dto.response.CreateRouteResponse;
-import com.pravell.route.domain.model.PlanMember;
 import com.pravell.route.domain.model.Route;
 import com.pravell.route.domain.repository.RouteRepository;
 import com.pravell.route.domain.service.RouteAuthorizationService;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,17 +23,21 @@ public class CreateRouteService {
 
     private final RouteRepository routeRepository;
     private final RouteAuthorizationService routeAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CreateRouteResponse create(UUID userId, CreateRouteApplicationRequest request,
-                                      List<PlanMember> planMembers) {
-        validateCreateRoute(userId, request, planMembers);
+                                      PlanMembership planMembership) {
+        validateCreateRoute(userId, request, planMembership);
         Route saved = saveRoute(userId, request);
+        eventPublisher.publishEvent(new PlanContentChangedEvent(saved.getPlanId(),
+                PlanContentChangeType.ROUTE_CREATED, saved.getId(), userId));
         return buildCreateRouteResponse(saved);
     }
 
-    private void validateCreateRoute(UUID userId, CreateRouteApplicationRequest request, List<PlanMember> planMembers) {
-        if (!routeAuthorizationService.isOwnerOrMember(userId, planMembers)) {
+    private void validateCreateRoute(UUID userId, CreateRouteApplicationRequest request,
+                                     PlanMembership planMembership) {
+        if (!routeAuthorizationService.isOwnerOrMember(userId, planMembership)) {
             log.info("{} 유저는 {} 플랜에 루트를 생성 할 권한이 없습니다.", userId, request.getPlanId());
             throw new AccessDeniedException("해당 루트를 생성 할 권한이 없습니다.");
         }
@@ -1,13 +1,15 @@
 package com.pravell.route.application;
 
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
 import com.pravell.common.exception.AccessDeniedException;
-import com.pravell.route.domain.model.PlanMember;
 import com.pravell.route.domain.model.Route;
 import com.pravell.route.domain.service.RouteAuthorizationService;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,15 +19,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteRouteService {
 
     private final RouteAuthorizationService routeAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public void delete(Route route, UUID userId, List<PlanMember> planMembers) {
-        validateDeleteRoute(route, userId, planMembers);
+    public void delete(Route route, UUID userId, PlanMembership planMembership) {
+        validateDeleteRoute(route, userId, planMembership);
         route.delete();
+        eventPublisher.publishEvent(new PlanContentChangedEvent(route.getPlanId(),
+                PlanContentChangeType.ROUTE_DELETED, route.getId(), userId));
     }
 
-    private void validateDeleteRoute(Route route, UUID userId, List<PlanMember> planMembers) {
-        if (!routeAuthorizationService.isOwnerOrMember(userId, planMembers)){
+    private void validateDeleteRoute(Route route, UUID userId, PlanMembership planMembership) {
+        if (!routeAuthorizationService.isOwnerOrMember(userId, planMembership)){
             log.info("{} 유저는 {} 루트를 삭제 할 권한이 없습니다.", userId, route.getId());
             throw new AccessDeniedException("해당 루트를 삭제 할 권한이 없습니다.");
         }
@@ -1,9 +1,9 @@
 package com.pravell.route.application;
 
+import com.pravell.common.domain.PlanMembership;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.route.application.dto.response.RoutePlaceResponse;
 import com.pravell.route.domain.model.Place;
-import com.pravell.route.domain.model.PlanMember;
 import com.pravell.route.domain.model.RoutePlace;
 import com.pravell.route.domain.repository.RoutePlaceRepository;
 import com.pravell.route.domain.service.RouteAuthorizationService;
@@ -30,10 +30,10 @@ public class FindRoutePlaceService {
         return routePlaceRepository.findAllByRouteId(routeId);
     }
 
-    public List<RoutePlaceResponse> findAll(UUID userId, boolean planPublic, List<PlanMember> planMembers,
+    public List<RoutePlaceResponse> findAll(UUID userId, boolean planPublic, PlanMembership planMembership,
                                             List<Place> places,
                                             List<RoutePlace> routePlaces, UUID routeId) {
-        validateRoutePlaceFind(userId, planPublic, planMembers, routeId);
+        validateRoutePlaceFind(userId, planPublic, planMembership, routeId);
 
         Map<Long, Place> placeMap = places.stream()
                 .collect(Collectors.toMap(Place::getPinPlaceId, Function.identity()));
@@ -41,14 +41,14 @@ public class FindRoutePlaceService {
         return buildRoutePlaceResponse(routePlaces, placeMap);
     }
 
-    private void validateRoutePlaceFind(UUID userId, boolean planPublic, List<PlanMember> planMembers, UUID routeId) {
+    private void validateRoutePlaceFind(UUID userId, boolean planPublic, PlanMembership planMembership, UUID routeId) {
         if (planPublic) {
-            if (!routeAuthorizationService.hasPublicRoutePermission(userId, planMembers)) {
+            if (!routeAuthorizationService.hasPublicRoutePermission(userId, planMembership)) {
                 log.info("{} 유저는 {} 루트의 장소를 조회 할 권한이 없습니다.", userId, routeId);
                 throw new AccessDeniedException("해당 장소를 조회 할 권한이 없습니다.");
             }
         } else {
-            if (!routeAuthorizationService.isOwnerOrMember(userId, planMembers)) {
+            if (!routeAuthorizationService.isOwnerOrMember(userId, planMembership)) {
                 log.info("{} 유저는 {} 루트의 장소를 조회 할 권한이 없습니다.", userId, routeId);
                 throw new AccessDeniedException("해당 장소를 조회 할 권한이 없습니다.");
             }
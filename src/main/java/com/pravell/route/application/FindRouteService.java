@@ -1,8 +1,8 @@
 package com.pravell.route.application;
 
+import com.pravell.common.domain.PlanMembership;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.route.application.dto.response.RouteResponse;
-import com.pravell.route.domain.model.PlanMember;
 import com.pravell.route.domain.model.Route;
 import com.pravell.route.domain.repository.RouteRepository;
 import com.pravell.route.domain.service.RouteAuthorizationService;
@@ -22,21 +22,21 @@ public class FindRouteService {
     private final RouteAuthorizationService routeAuthorizationService;
 
     @Transactional(readOnly = true)
-    public List<RouteResponse> findAll(UUID userId, UUID planId, List<PlanMember> planMembers, boolean isPublic) {
-        validateRouteFind(userId, planId, planMembers, isPublic);
+    public List<RouteResponse> findAll(UUID userId, UUID planId, PlanMembership planMembership, boolean isPublic) {
+        validateRouteFind(userId, planId, planMembership, isPublic);
 
         List<Route> routes = routeRepository.findAllByPlanId(planId);
 
         return buildFindRoutesResponse(routes);
     }
 
-    private void validateRouteFind(UUID userId, UUID planId, List<PlanMember> planMembers, boolean isPublic) {
+    public void validateRouteFind(UUID userId, UUID planId, PlanMembership planMembership, boolean isPublic) {
         if (isPublic) {
-            if (!routeAuthorizationService.hasPublicRoutePermission(userId, planMembers)) {
+            if (!routeAuthorizationService.hasPublicRoutePermission(userId, planMembership)) {
                 denyAccess(userId, planId);
             }
         } else {
-            if (!routeAuthorizationService.isOwnerOrMember(userId, planMembers)) {
+            if (!routeAuthorizationService.isOwnerOrMember(userId, planMembership)) {
                 denyAccess(userId, planId);
             }
         }
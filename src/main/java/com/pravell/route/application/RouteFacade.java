@@ -1,17 +1,19 @@
 package com.pravell.route.application;
 
+import com.pravell.common.domain.PlanMembership;
 import com.pravell.plan.application.PlanService;
-import com.pravell.plan.application.dto.PlanMemberDTO;
+import com.pravell.plan.application.PlanVersionService;
+import com.pravell.plan.application.PublicPlanViewCache;
+import com.pravell.plan.application.dto.PlanViewResult;
+import com.pravell.plan.application.dto.PublicPlanView;
 import com.pravell.route.application.dto.request.CreateRouteApplicationRequest;
 import com.pravell.route.application.dto.request.DeleteRouteApplicationRequest;
 import com.pravell.route.application.dto.request.UpdateRouteApplicationRequest;
 import com.pravell.route.application.dto.response.CreateRouteResponse;
 import com.pravell.route.application.dto.response.RouteResponse;
-import com.pravell.route.domain.model.PlanMember;
-import com.pravell.route.domain.model.PlanMemberStatus;
 import com.pravell.route.domain.model.Route;
-import com.pravell.user.application.UserService;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,69 +23,59 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class RouteFacade {
 
-    private final UserService userService;
     private final PlanService planService;
     private final CreateRouteService createRouteService;
     private final FindRouteService findRouteService;
     private final RouteService routeService;
     private final DeleteRouteService deleteRouteService;
     private final UpdateRouteService updateRouteService;
+    private final PlanVersionService planVersionService;
+    private final PublicPlanViewCache publicPlanViewCache;
 
     public CreateRouteResponse createRoute(UUID userId, CreateRouteApplicationRequest request) {
         validateUserAndPlan(userId, request.getPlanId());
 
-        List<PlanMember> planMembers = getPlanMembers(request.getPlanId());
+        PlanMembership planMembership = planService.findMembership(request.getPlanId());
 
-        return createRouteService.create(userId, request, planMembers);
+        return createRouteService.create(userId, request, planMembership);
     }
 
-    public List<RouteResponse> findRoutes(UUID userId, UUID planId) {
-        userService.findUserById(userId);
+    public PlanViewResult<List<RouteResponse>> findRoutes(UUID userId, UUID planId) {
+        Long version = planVersionService.findVersion(planId);
+        Optional<List<RouteResponse>> cached = publicPlanViewCache.find(planId, version, PublicPlanView.ROUTES);
+        if (cached.isPresent()) {
+            findRouteService.validateRouteFind(userId, planId, planService.findMembership(planId), true);
+            return new PlanViewResult<>(cached.get(), true);
+        }
 
         boolean isPublic = planService.isPlanPublic(planId);
-        List<PlanMember> planMembers = getPlanMembers(planId);
+        PlanMembership planMembership = planService.findMembership(planId);
 
-        return findRouteService.findAll(userId, planId, planMembers, isPublic);
+        List<RouteResponse> responses = findRouteService.findAll(userId, planId, planMembership, isPublic);
+        publicPlanViewCache.store(planId, version, PublicPlanView.ROUTES, isPublic, responses);
+        return new PlanViewResult<>(responses, isPublic);
     }
 
     @Transactional
     public void deleteRoutes(UUID userId, DeleteRouteApplicationRequest request) {
-        userService.findUserById(userId);
-
         request.getRouteId().forEach(routeId -> {
             Route route = routeService.findById(routeId);
             planService.findPlan(route.getPlanId());
-            List<PlanMember> planMembers = getPlanMembers(route.getPlanId());
+            PlanMembership planMembership = planService.findMembership(route.getPlanId());
 
-            deleteRouteService.delete(route, userId, planMembers);
+            deleteRouteService.delete(route, userId, planMembership);
         });
     }
 
     public RouteResponse updateRoute(UUID userId, UUID routeId, UpdateRouteApplicationRequest request) {
-        userService.findUserById(userId);
-
         Route route = routeService.findById(routeId);
         planService.findPlan(route.getPlanId());
-        List<PlanMember> planMembers = getPlanMembers(route.getPlanId());
+        PlanMembership planMembership = planService.findMembership(route.getPlanId());
 
-        return updateRouteService.update(request, route, userId, planMembers);
+        return updateRouteService.update(request, route, userId, planMembership);
     }
 
     private void validateUserAndPlan(UUID userId, UUID planId) {
-        userService.findUserById(userId);
         planService.findPlan(planId);
     }
-
-    private List<PlanMember> getPlanMembers(UUID planId) {
-        List<PlanMemberDTO> planMembers = planService.findPlanMembers(planId);
-
-        return planMembers.stream().map(
-                pm -> {
-                    return PlanMember.builder()
-                            .memberId(pm.getMemberId())
-                            .planMemberStatus(PlanMemberStatus.valueOf(pm.getPlanMemberStatus()))
-                            .build();
-                }
-        ).toList();
-    }
 }
@@ -1,20 +1,17 @@
 package com.pravell.route.application;
 
+import com.pravell.common.domain.PlanMembership;
 import com.pravell.place.application.PlaceService;
 import com.pravell.place.application.dto.PlaceDTO;
 import com.pravell.plan.application.PlanService;
-import com.pravell.plan.application.dto.PlanMemberDTO;
 import com.pravell.route.application.dto.request.DeleteRoutePlacesApplicationRequest;
 import com.pravell.route.application.dto.request.SaveRoutePlaceApplicationRequest;
 import com.pravell.route.application.dto.request.UpdatePlaceApplicationRequest;
 import com.pravell.route.application.dto.response.RoutePlaceResponse;
 import com.pravell.route.domain.exception.RoutePlaceNotFoundException;
 import com.pravell.route.domain.model.Place;
-import com.pravell.route.domain.model.PlanMember;
-import com.pravell.route.domain.model.PlanMemberStatus;
 import com.pravell.route.domain.model.Route;
 import com.pravell.route.domain.model.RoutePlace;
-import com.pravell.user.application.UserService;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +21,6 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RoutePlaceFacade {
 
-    private final UserService userService;
     private final PlanService planService;
     private final RouteService routeService;
     private final PlaceService placeService;
@@ -35,28 +31,24 @@ public class RoutePlaceFacade {
     private final DeleteRoutePlaceService deleteRoutePlaceService;
 
     public RoutePlaceResponse savePlace(UUID userId, UUID routeId, SaveRoutePlaceApplicationRequest request) {
-        userService.findUserById(userId);
-
         Route route = routeService.findById(routeId);
         planService.findPlan(route.getPlanId());
         Place place = getPlace(request.getPinPlaceId(), route);
 
-        List<PlanMember> planMembers = getPlanMembers(route.getPlanId());
+        PlanMembership planMembership = planService.findMembership(route.getPlanId());
 
-        return saveRoutePlaceService.save(request, routeId, userId, planMembers, place);
+        return saveRoutePlaceService.save(request, route, userId, planMembership, place);
     }
 
     public List<RoutePlaceResponse> findPlaces(UUID userId, UUID routeId) {
-        userService.findUserById(userId);
-
         Route route = routeService.findById(routeId);
         boolean planPublic = planService.isPlanPublic(route.getPlanId());
-        List<PlanMember> planMembers = getPlanMembers(route.getPlanId());
+        PlanMembership planMembership = planService.findMembership(route.getPlanId());
 
         List<RoutePlace> routePlaces = findRoutePlaceService.findAllPlaces(routeId);
         List<Place> places = getPlaces(routePlaces);
 
-        return findRoutePlaceService.findAll(userId, planPublic, planMembers, places, routePlaces, routeId);
+        return findRoutePlaceService.findAll(userId, planPublic, planMembership, places, routePlaces, routeId);
     }
 
     private List<Place> getPlaces(List<RoutePlace> routePlaces) {
@@ -87,16 +79,15 @@ public class RoutePlaceFacade {
 
     public RoutePlaceResponse updatePlace(UUID routeId, Long routePlaceId, UUID userId,
                                           UpdatePlaceApplicationRequest request) {
-        userService.findUserById(userId);
-
         Route route = routeService.findById(routeId);
         planService.findPlan(route.getPlanId());
-        List<PlanMember> planMembers = getPlanMembers(route.getPlanId());
+        PlanMembership planMembership = planService.findMembership(route.getPlanId());
         RoutePlace routePlace = routePlaceService.findRoutePlace(routePlaceId);
 
         Place place = getPlace(request, route, routePlace);
 
-        return updateRoutePlaceService.update(routePlace, request, userId, planMembers, route.getPlanId(), place);
+        return updateRoutePlaceService.update(routePlace, request, userId, planMembership, route.getPlanId(),
+                place);
     }
 
     private Place getPlace(UpdatePlaceApplicationRequest request, Route route, RoutePlace routePlace) {
@@ -105,12 +96,11 @@ public class RoutePlaceFacade {
     }
 
     public void deletePlaces(UUID routeId, DeleteRoutePlacesApplicationRequest request, UUID userId) {
-        userService.findUserById(userId);
-
-        List<PlanMember> planMembers = getPlanMember(routeId);
+        Route route = routeService.findById(routeId);
+        PlanMembership planMembership = getPlanMembership(route);
 
         validateRoutePlaceInRoute(routeId, request);
-        deleteRoutePlaceService.deleteAll(request, userId, planMembers, routeId);
+        deleteRoutePlaceService.deleteAll(request, userId, planMembership, route);
     }
 
     private void validateRoutePlaceInRoute(UUID routeId, DeleteRoutePlacesApplicationRequest request) {
@@ -120,23 +110,9 @@ public class RoutePlaceFacade {
         }
     }
 
-    private List<PlanMember> getPlanMember(UUID routeId) {
-        Route route = routeService.findById(routeId);
+    private PlanMembership getPlanMembership(Route route) {
         planService.findPlan(route.getPlanId());
-        return getPlanMembers(route.getPlanId());
-    }
-
-    private List<PlanMember> getPlanMembers(UUID planId) {
-        List<PlanMemberDTO> planMembers = planService.findPlanMembers(planId);
-
-        return planMembers.stream().map(
-                pm -> {
-                    return PlanMember.builder()
-                            .memberId(pm.getMemberId())
-                            .planMemberStatus(PlanMemberStatus.valueOf(pm.getPlanMemberStatus()))
-                            .build();
-                }
-        ).toList();
+        return planService.findMembership(route.getPlanId());
     }
 
     private Place getPlace(Long pinPlaceId, Route route) {
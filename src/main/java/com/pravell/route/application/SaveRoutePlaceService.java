@@ -1,17 +1,20 @@
 package com.pravell.route.application;
 
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.route.application.dto.request.SaveRoutePlaceApplicationRequest;
 import com.pravell.route.application.dto.response.RoutePlaceResponse;
 import com.pravell.route.domain.model.Place;
-import com.pravell.route.domain.model.PlanMember;
+import com.pravell.route.domain.model.Route;
 import com.pravell.route.domain.model.RoutePlace;
 import com.pravell.route.domain.repository.RoutePlaceRepository;
 import com.pravell.route.domain.service.RouteAuthorizationService;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,18 +25,21 @@ public class SaveRoutePlaceService {
 
     private final RouteAuthorizationService routeAuthorizationService;
     private final RoutePlaceRepository routePlaceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public RoutePlaceResponse save(SaveRoutePlaceApplicationRequest request, UUID routeId, UUID userId,
-                                   List<PlanMember> planMembers, Place place) {
-        validateSaveRoutePlace(routeId, userId, planMembers);
-        RoutePlace saved = saveRoutePlace(request, routeId);
-        log.info("{} 유저가 {} 루트에 {} 장소 저장", userId, routeId, saved.getId());
+    public RoutePlaceResponse save(SaveRoutePlaceApplicationRequest request, Route route, UUID userId,
+                                   PlanMembership planMembership, Place place) {
+        validateSaveRoutePlace(route.getId(), userId, planMembership);
+        RoutePlace saved = saveRoutePlace(request, route.getId());
+        log.info("{} 유저가 {} 루트에 {} 장소 저장", userId, route.getId(), saved.getId());
+        eventPublisher.publishEvent(new PlanContentChangedEvent(route.getPlanId(),
+                PlanContentChangeType.ROUTE_PLACE_SAVED, saved.getId(), userId));
         return buildSaveRoutePlaceResponse(place, saved);
     }
 
-    private void validateSaveRoutePlace(UUID routeId, UUID userId, List<PlanMember> planMembers) {
-        if (!routeAuthorizationService.isOwnerOrMember(userId, planMembers)) {
+    private void validateSaveRoutePlace(UUID routeId, UUID userId, PlanMembership planMembership) {
+        if (!routeAuthorizationService.isOwnerOrMember(userId, planMembership)) {
             log.info("{} 유저는 {} 루트에 장소를 저장 할 권한이 없습니다.", userId, routeId);
             throw new AccessDeniedException("해당 장소를 저장 할 권한이 없습니다.");
         }
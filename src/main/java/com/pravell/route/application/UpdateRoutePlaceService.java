@@ -1,16 +1,18 @@
 package com.pravell.route.application;
 
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.route.application.dto.request.UpdatePlaceApplicationRequest;
 import com.pravell.route.application.dto.response.RoutePlaceResponse;
 import com.pravell.route.domain.model.Place;
-import com.pravell.route.domain.model.PlanMember;
 import com.pravell.route.domain.model.RoutePlace;
 import com.pravell.route.domain.service.RouteAuthorizationService;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,21 +22,24 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateRoutePlaceService {
 
     private final RouteAuthorizationService routeAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public RoutePlaceResponse update(RoutePlace routePlace, UpdatePlaceApplicationRequest request,
-                                     UUID userId, List<PlanMember> planMembers, UUID planId, Place place) {
-        validateUpdateRoutePlace(routePlace.getId(), userId, planMembers, planId);
+                                     UUID userId, PlanMembership planMembership, UUID planId, Place place) {
+        validateUpdateRoutePlace(routePlace.getId(), userId, planMembership, planId);
 
         log.info("{} 유저가 {} 플랜의 {} 장소 업데이트. before : {}, after : {}",
                 userId, planId, routePlace.getRouteId(), routePlace.toString(), request.toString());
 
         updateRoutePlace(request, routePlace);
+        eventPublisher.publishEvent(new PlanContentChangedEvent(planId,
+                PlanContentChangeType.ROUTE_PLACE_MOVED, routePlace.getId(), userId));
         return buildRoutePlaceResponse(routePlace, place);
     }
 
-    private void validateUpdateRoutePlace(Long routePlaceId, UUID userId, List<PlanMember> planMembers, UUID planId) {
-        if (!routeAuthorizationService.isOwnerOrMember(userId, planMembers)) {
+    private void validateUpdateRoutePlace(Long routePlaceId, UUID userId, PlanMembership planMembership, UUID planId) {
+        if (!routeAuthorizationService.isOwnerOrMember(userId, planMembership)) {
             log.info("{} 유저는 {} 플랜의 {} 장소를 수정 할 권한이 없습니다.", userId, planId, routePlaceId);
             throw new AccessDeniedException("해당 장소를 수정 할 권한이 없습니다.");
         }
@@ -1,15 +1,17 @@
 package com.pravell.route.application;
 
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
 import com.pravell.common.exception.AccessDeniedException;
 import com.pravell.route.application.dto.request.UpdateRouteApplicationRequest;
 import com.pravell.route.application.dto.response.RouteResponse;
-import com.pravell.route.domain.model.PlanMember;
 import com.pravell.route.domain.model.Route;
 import com.pravell.route.domain.service.RouteAuthorizationService;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,19 +21,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateRouteService {
 
     private final RouteAuthorizationService routeAuthorizationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public RouteResponse update(UpdateRouteApplicationRequest request, Route route, UUID userId,
-                                List<PlanMember> planMembers) {
-        validateUpdateRoute(route, userId, planMembers);
+                                PlanMembership planMembership) {
+        validateUpdateRoute(route, userId, planMembership);
 
         updateRoute(request, route, userId);
+        eventPublisher.publishEvent(new PlanContentChangedEvent(route.getPlanId(),
+                PlanContentChangeType.ROUTE_UPDATED, route.getId(), userId));
 
         return buildRouteResponse(route);
     }
 
-    private void validateUpdateRoute(Route route, UUID userId, List<PlanMember> planMembers) {
-        if (!routeAuthorizationService.isOwnerOrMember(userId, planMembers)) {
+    private void validateUpdateRoute(Route route, UUID userId, PlanMembership planMembership) {
+        if (!routeAuthorizationService.isOwnerOrMember(userId, planMembership)) {
             log.info("{} 유저는 {} 루트를 수정 할 권한이 없습니다.", userId, route);
             throw new AccessDeniedException("해당 루트를 수정 할 권한이 없습니다.");
         }
@@ -4,8 +4,10 @@ import com.pravell.route.domain.model.RoutePlace;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -17,4 +19,7 @@ public interface RoutePlaceRepository extends JpaRepository<RoutePlace, Long> {
     List<RoutePlace> findAllByRouteId(UUID routeId);
 
     long countByRouteIdAndIdIn(UUID routeId, List<Long> ids);
+
+    @Query("select rp.id from RoutePlace rp where rp.routeId in (select r.id from Route r where r.planId = :planId)")
+    List<Long> findIdsByPlanId(@Param("planId") UUID planId, Pageable pageable);
 }
@@ -3,10 +3,16 @@ package com.pravell.route.domain.repository;
 import com.pravell.route.domain.model.Route;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RouteRepository extends JpaRepository<Route, UUID> {
     List<Route> findAllByPlanId(UUID planId);
+
+    @Query("select r.id from Route r where r.planId = :planId")
+    List<UUID> findIdsByPlanId(@Param("planId") UUID planId, Pageable pageable);
 }
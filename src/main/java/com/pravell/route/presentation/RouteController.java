@@ -1,6 +1,9 @@
 package com.pravell.route.presentation;
 
-import com.pravell.common.util.CommonJwtUtil;
+import com.pravell.common.auth.AuthUser;
+import com.pravell.plan.application.dto.PlanViewResult;
+import com.pravell.plan.presentation.PlanETagChecker;
+import com.pravell.plan.presentation.PlanViewCacheControl;
 import com.pravell.route.application.RouteFacade;
 import com.pravell.route.application.dto.response.CreateRouteResponse;
 import com.pravell.route.application.dto.response.RouteResponse;
@@ -12,6 +15,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,9 +23,9 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,36 +33,41 @@ import org.springframework.web.bind.annotation.RestController;
 public class RouteController {
 
     private final RouteFacade routeFacade;
-    private final CommonJwtUtil commonJwtUtil;
+    private final PlanETagChecker planETagChecker;
 
     @PostMapping
-    public ResponseEntity<CreateRouteResponse> createRoute(@RequestHeader("authorization") String header,
+    public ResponseEntity<CreateRouteResponse> createRoute(@AuthUser UUID id,
                                                            @Valid @RequestBody CreateRouteRequest createRouteRequest) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
         CreateRouteResponse response = routeFacade.createRoute(id, createRouteRequest.toApplicationRequest());
         return ResponseEntity.created(URI.create("/" + response.getRouteId().toString())).body(response);
     }
 
     @GetMapping("/{planId}")
-    public ResponseEntity<List<RouteResponse>> findRoutes(@RequestHeader("authorization") String header,
-                                                          @PathVariable UUID planId) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
-        return ResponseEntity.ok(routeFacade.findRoutes(id, planId));
+    public ResponseEntity<List<RouteResponse>> findRoutes(@AuthUser UUID id,
+                                                          @PathVariable UUID planId,
+                                                          WebRequest webRequest) {
+        if (planETagChecker.isNotModified(planId, id, webRequest)) {
+            return null;
+        }
+
+        PlanViewResult<List<RouteResponse>> result = routeFacade.findRoutes(id, planId);
+        return ResponseEntity.ok()
+                .cacheControl(PlanViewCacheControl.of(result.isPublic()))
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(result.getBody());
     }
 
     @DeleteMapping
-    public ResponseEntity<Void> deleteRoute(@RequestHeader("authorization") String header,
+    public ResponseEntity<Void> deleteRoute(@AuthUser UUID id,
                                             @RequestBody DeleteRouteRequest deleteRouteRequest) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
         routeFacade.deleteRoutes(id, deleteRouteRequest.toApplicationRequest());
         return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/{routeId}")
-    public ResponseEntity<RouteResponse> updateRoutes(@RequestHeader("authorization") String header,
+    public ResponseEntity<RouteResponse> updateRoutes(@AuthUser UUID id,
                                                       @Valid @RequestBody UpdateRouteRequest updateRouteRequest,
                                                       @PathVariable UUID routeId) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
         return ResponseEntity.ok(routeFacade.updateRoute(id, routeId, updateRouteRequest.toApplicationRequest()));
     }
 
@@ -1,6 +1,6 @@
 package com.pravell.route.presentation;
 
-import com.pravell.common.util.CommonJwtUtil;
+import com.pravell.common.auth.AuthUser;
 import com.pravell.route.application.RoutePlaceFacade;
 import com.pravell.route.application.dto.response.RoutePlaceResponse;
 import com.pravell.route.presentation.request.DeleteRoutePlacesRequest;
@@ -18,7 +18,6 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -27,41 +26,36 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/routes/{routeId}/places")
 public class RoutePlaceController {
 
-    private final CommonJwtUtil commonJwtUtil;
     private final RoutePlaceFacade routePlaceFacade;
 
     @PostMapping
-    public ResponseEntity<RoutePlaceResponse> saveRoutePlace(@RequestHeader("authorization") String header,
+    public ResponseEntity<RoutePlaceResponse> saveRoutePlace(@AuthUser UUID id,
                                                              @Valid @RequestBody SaveRoutePlaceRequest saveRoutePlaceRequest,
                                                              @PathVariable UUID routeId) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
         RoutePlaceResponse response = routePlaceFacade.savePlace(id, routeId,
                 saveRoutePlaceRequest.toApplicationRequest());
         return ResponseEntity.created(URI.create("/routes/" + response.getRoutePlaceId() + "/places")).body(response);
     }
 
     @GetMapping
-    public ResponseEntity<List<RoutePlaceResponse>> findRoutePlaces(@RequestHeader("authorization") String header,
+    public ResponseEntity<List<RoutePlaceResponse>> findRoutePlaces(@AuthUser UUID id,
                                                                     @PathVariable UUID routeId) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
         return ResponseEntity.ok(routePlaceFacade.findPlaces(id, routeId));
     }
 
     @PatchMapping("/{routePlaceId}")
-    public ResponseEntity<RoutePlaceResponse> updateRoutePlace(@RequestHeader("authorization") String header,
+    public ResponseEntity<RoutePlaceResponse> updateRoutePlace(@AuthUser UUID id,
                                                                @PathVariable UUID routeId,
                                                                @PathVariable Long routePlaceId,
                                                                @RequestBody UpdatePlaceRequest updatePlaceRequest) {
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
         return ResponseEntity.ok(
                 routePlaceFacade.updatePlace(routeId, routePlaceId, id, updatePlaceRequest.toApplicationRequest()));
     }
 
     @DeleteMapping
-    public ResponseEntity<Void> deleteRoutePlaces(@RequestHeader("authorization") String header,
+    public ResponseEntity<Void> deleteRoutePlaces(@AuthUser UUID id,
                                                   @PathVariable UUID routeId,
                                                   @RequestBody DeleteRoutePlacesRequest deleteRoutePlacesRequest){
-        UUID id = commonJwtUtil.getUserIdFromToken(header);
         routePlaceFacade.deletePlaces(routeId, deleteRoutePlacesRequest.toApplicationRequest(), id);
         return ResponseEntity.noContent().build();
     }
@@ -1,15 +1,21 @@
 package com.pravell.user.application;
 
+import com.pravell.common.auth.AccessTokenDenylist;
+import com.pravell.common.auth.AuthenticatedUser;
 import com.pravell.common.exception.InvalidCredentialsException;
 import com.pravell.common.util.CommonJwtUtil;
 import com.pravell.user.application.dto.request.SignInApplicationRequest;
 import com.pravell.user.application.dto.request.SignUpApplicationRequest;
+import com.pravell.user.application.dto.response.SessionResponse;
 import com.pravell.user.application.dto.response.TokenResponse;
 import com.pravell.user.domain.event.UserCreatedEvent;
+import com.pravell.user.domain.model.RefreshTokenRotationResult;
 import com.pravell.user.domain.model.User;
 import com.pravell.user.util.JwtUtil;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +30,7 @@ public class AuthFacade {
     private final UserService userService;
     private final RefreshTokenService refreshTokenService;
     private final CommonJwtUtil commonJwtUtil;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     public TokenResponse signUp(SignUpApplicationRequest signUpApplicationRequest) {
         log.info("회원가입을 진행합니다. id : {}", signUpApplicationRequest.getId());
@@ -33,24 +40,25 @@ public class AuthFacade {
         String accessToken = jwtUtil.createAccessToken(userCreatedEvent.getUser());
         String refreshToken = jwtUtil.createRefreshToken(userCreatedEvent.getUser());
 
-        refreshTokenService.saveRefreshToken(userCreatedEvent.getUser().getId(), refreshToken);
+        String sessionId = refreshTokenService.createSession(userCreatedEvent.getUser().getId(), refreshToken);
 
-        return new TokenResponse(accessToken, refreshToken);
+        return new TokenResponse(accessToken, refreshToken, sessionId);
     }
 
     public TokenResponse signIn(SignInApplicationRequest signInApplicationRequest) {
         User user = userService.findUserByUserId(signInApplicationRequest.getId());
         userService.verifyPassword(signInApplicationRequest.getPassword(), user.getPassword());
+        userService.rehashPasswordIfNeeded(user.getId(), signInApplicationRequest.getPassword(), user.getPassword());
 
         String newRefreshToken = jwtUtil.createRefreshToken(user);
-        refreshTokenService.updateToken(user.getId(), newRefreshToken);
+        String sessionId = refreshTokenService.createSession(user.getId(), newRefreshToken);
 
         String newAccessToken = jwtUtil.createAccessToken(user);
 
-        return new TokenResponse(newAccessToken, newRefreshToken);
+        return new TokenResponse(newAccessToken, newRefreshToken, sessionId);
     }
 
-    public void signOut(UUID userId, String refreshToken) {
+    public void signOut(UUID userId, String sessionId, String refreshToken) {
         if (!commonJwtUtil.isValidRefreshToken(refreshToken)) {
             log.info("Refresh Token이 유효하지 않습니다. UserId : {}, RefreshToken : {}", userId, refreshToken);
             throw new InvalidCredentialsException("토큰이 올바르지 않습니다.");
@@ -62,7 +70,12 @@ public class AuthFacade {
             throw new InvalidCredentialsException("토큰이 올바르지 않습니다.");
         }
 
-        String storedRefreshToken = refreshTokenService.findRefreshToken(userId);
+        if (sessionId == null || sessionId.isBlank()) {
+            refreshTokenService.revokeLegacy(userId, refreshToken);
+            return;
+        }
+
+        String storedRefreshToken = refreshTokenService.findRefreshToken(userId, sessionId);
         if (storedRefreshToken == null) {
             return;
         }
@@ -71,10 +84,34 @@ public class AuthFacade {
             throw new InvalidCredentialsException("토큰이 올바르지 않습니다.");
         }
 
-        refreshTokenService.revoke(userId);
+        refreshTokenService.revoke(userId, sessionId);
+    }
+
+    public List<SessionResponse> findSessions(UUID userId, String currentSessionId) {
+        return refreshTokenService.findSessions(userId).stream()
+                .map(session -> SessionResponse.builder()
+                        .sessionId(session.getSessionId())
+                        .expiresAt(session.getExpiresAt())
+                        .current(session.getSessionId().equals(currentSessionId))
+                        .build())
+                .toList();
     }
 
-    public TokenResponse rotateRefreshAndIssueAccess(String refreshToken) {
+    public void revokeAccessToken(String tokenId, Instant expiresAt) {
+        if (tokenId == null) {
+            return;
+        }
+
+        accessTokenDenylist.deny(tokenId, expiresAt);
+    }
+
+    public void withdraw(AuthenticatedUser authenticatedUser) {
+        userService.withDrawUser(authenticatedUser.getId());
+        refreshTokenService.revokeAll(authenticatedUser.getId());
+        revokeAccessToken(authenticatedUser.getTokenId(), authenticatedUser.getTokenExpiresAt());
+    }
+
+    public TokenResponse rotateRefreshAndIssueAccess(String refreshToken, String sessionId) {
         try {
             if (!commonJwtUtil.isValidRefreshToken(refreshToken)) {
                 log.info("Refresh Token이 만료되었습니다. RefreshToken : {}", refreshToken);
@@ -85,18 +122,21 @@ public class AuthFacade {
             String userId = claims.getSubject();
             User user = userService.findUserById(UUID.fromString(userId));
 
-            String findRefreshToken = refreshTokenService.findRefreshToken(user.getId());
-            if (!refreshToken.equals(findRefreshToken)) {
-                log.info("Refresh Token이 일치하지 않습니다. RefreshToken : {}", refreshToken);
+            String newRefreshToken = jwtUtil.createRefreshToken(user);
+            boolean legacySession = sessionId == null || sessionId.isBlank();
+            String rotatedSessionId = legacySession ? UUID.randomUUID().toString() : sessionId;
+            RefreshTokenRotationResult rotationResult = legacySession
+                    ? refreshTokenService.rotateLegacyToken(user.getId(), rotatedSessionId, refreshToken,
+                    newRefreshToken)
+                    : refreshTokenService.rotateToken(user.getId(), sessionId, refreshToken, newRefreshToken);
+            if (rotationResult != RefreshTokenRotationResult.ROTATED) {
+                log.info("Refresh Token이 일치하지 않습니다. RefreshToken : {}, Result : {}", refreshToken, rotationResult);
                 throw new InvalidCredentialsException("토큰이 올바르지 않습니다.");
             }
 
-            String newRefreshToken = jwtUtil.createRefreshToken(user);
-            refreshTokenService.updateToken(user.getId(), newRefreshToken);
-
             String newAccessToken = jwtUtil.createAccessToken(user);
 
-            return new TokenResponse(newAccessToken, newRefreshToken);
+            return new TokenResponse(newAccessToken, newRefreshToken, rotatedSessionId);
         } catch (JwtException | IllegalArgumentException e) {
             log.info("Refresh Token 파싱/검증에 실패했습니다. RefreshToken : {}", refreshToken);
             throw new InvalidCredentialsException("토큰이 올바르지 않습니다.");
@@ -1,7 +1,10 @@
 package com.pravell.user.application;
 
+import com.pravell.user.domain.model.RefreshTokenRotationResult;
+import com.pravell.user.domain.model.RefreshTokenSession;
 import com.pravell.user.domain.repository.RefreshTokenRepository;
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,19 +19,48 @@ public class RefreshTokenService {
     @Value("${jwt.refresh-token-expiration}")
     private Duration refreshTokenTtl;
 
-    public void saveRefreshToken(UUID userId, String refreshToken) {
-        refreshTokenRepository.save(userId, refreshToken, refreshTokenTtl);
+    @Value("${jwt.max-sessions:5}")
+    private int maxSessions;
+
+    public String createSession(UUID userId, String refreshToken) {
+        String sessionId = UUID.randomUUID().toString();
+        refreshTokenRepository.save(userId, sessionId, refreshToken, refreshTokenTtl);
+        refreshTokenRepository.trimSessions(userId, maxSessions);
+        return sessionId;
+    }
+
+    public String findRefreshToken(UUID userId, String sessionId) {
+        return refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId);
+    }
+
+    public List<RefreshTokenSession> findSessions(UUID userId) {
+        return refreshTokenRepository.findSessions(userId);
+    }
+
+    public RefreshTokenRotationResult rotateToken(UUID userId, String sessionId, String refreshToken,
+                                                  String newRefreshToken) {
+        return refreshTokenRepository.rotate(userId, sessionId, refreshToken, newRefreshToken, refreshTokenTtl);
+    }
+
+    public RefreshTokenRotationResult rotateLegacyToken(UUID userId, String sessionId, String refreshToken,
+                                                        String newRefreshToken) {
+        RefreshTokenRotationResult result =
+                refreshTokenRepository.rotateLegacy(userId, sessionId, refreshToken, newRefreshToken, refreshTokenTtl);
+        if (result == RefreshTokenRotationResult.ROTATED) {
+            refreshTokenRepository.trimSessions(userId, maxSessions);
+        }
+        return result;
     }
 
-    public String findRefreshToken(UUID userId) {
-        return refreshTokenRepository.findByUserId(userId);
+    public void revoke(UUID userId, String sessionId) {
+        refreshTokenRepository.delete(userId, sessionId);
     }
 
-    public void updateToken(UUID userId, String newRefreshToken) {
-        refreshTokenRepository.update(userId, newRefreshToken, refreshTokenTtl);
+    public void revokeLegacy(UUID userId, String refreshToken) {
+        refreshTokenRepository.deleteLegacy(userId, refreshToken);
     }
 
-    public void revoke(UUID userId) {
-        refreshTokenRepository.delete(userId);
+    public void revokeAll(UUID userId) {
+        refreshTokenRepository.deleteAll(userId);
     }
 }
@@ -0,0 +1,13 @@
+package com.pravell.user.application;
+
+public interface UserAvailabilityFilter {
+
+    boolean mightContainUserId(String userId);
+
+    boolean mightContainNickname(String nickname);
+
+    void addUserId(String userId);
+
+    void addNickname(String nickname);
+
+}
@@ -1,58 +1,94 @@
 package com.pravell.user.application;
 
+import com.pravell.common.auth.ActiveUserVerifier;
 import com.pravell.common.exception.InvalidCredentialsException;
+import com.pravell.user.application.dto.CachedUser;
 import com.pravell.user.application.dto.UserMemberDTO;
 import com.pravell.user.application.dto.request.SignUpApplicationRequest;
 import com.pravell.user.application.dto.request.UpdateUserApplicationRequest;
+import com.pravell.user.application.dto.response.UserAvailabilityResponse;
 import com.pravell.user.application.dto.response.UserProfileResponse;
 import com.pravell.user.domain.event.UserCreatedEvent;
+import com.pravell.user.domain.event.UserNicknameChangedEvent;
+import com.pravell.user.domain.event.UserWithdrawnEvent;
 import com.pravell.user.domain.exception.UserNotFoundException;
 import com.pravell.user.domain.model.User;
 import com.pravell.user.domain.model.UserStatus;
+import com.pravell.user.domain.model.UserSummary;
 import com.pravell.user.domain.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.DuplicateKeyException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Slf4j
 @Service
-public class UserService {
+public class UserService implements ActiveUserVerifier {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserStatusCache userStatusCache;
+    private final UserAvailabilityFilter userAvailabilityFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UserCreatedEvent persistUser(SignUpApplicationRequest request) {
         validSignUp(request);
 
-        String encodePassword = passwordEncoder.encode(request.getPassword());
+        String encodePassword = passwordHasher.encode(request.getPassword());
 
         UserCreatedEvent userCreatedEvent = User.createUser(request.getId(), encodePassword, request.getNickname());
-        userRepository.save(userCreatedEvent.getUser());
+        try {
+            userRepository.saveAndFlush(userCreatedEvent.getUser());
+        } catch (DataIntegrityViolationException e) {
+            log.info("회원가입 중 아이디 또는 닉네임이 중복되었습니다. Id : {}, nickname : {}", request.getId(),
+                    request.getNickname());
+            throw new DuplicateKeyException("이미 존재하는 아이디 또는 닉네임입니다.", e);
+        }
 
         return userCreatedEvent;
     }
 
     private void validSignUp(SignUpApplicationRequest signUpApplicationRequest) {
-        boolean existsById = userRepository.existsByUserId(signUpApplicationRequest.getId());
-        if (existsById) {
+        if (isUserIdTaken(signUpApplicationRequest.getId())) {
             throw new DuplicateKeyException("이미 존재하는 아이디입니다.");
         }
 
-        boolean existsByNickname = userRepository.existsByNickname(signUpApplicationRequest.getNickname());
-        if (existsByNickname) {
+        if (isNicknameTaken(signUpApplicationRequest.getNickname())) {
             throw new DuplicateKeyException("이미 존재하는 닉네임입니다.");
         }
 
     }
 
+    public UserAvailabilityResponse checkAvailability(String userId, String nickname) {
+        return UserAvailabilityResponse.builder()
+                .userIdAvailable(userId == null ? null : !isUserIdTaken(userId))
+                .nicknameAvailable(nickname == null ? null : !isNicknameTaken(nickname))
+                .build();
+    }
+
+    private boolean isUserIdTaken(String userId) {
+        return userId != null
+                && userAvailabilityFilter.mightContainUserId(userId)
+                && userRepository.existsByUserId(userId);
+    }
+
+    private boolean isNicknameTaken(String nickname) {
+        return nickname != null
+                && userAvailabilityFilter.mightContainNickname(nickname)
+                && userRepository.existsByNickname(nickname);
+    }
+
     @Transactional(readOnly = true)
     public User findUserByUserId(String id) {
         Optional<User> user = userRepository.findByUserId(id);
@@ -65,6 +101,29 @@ public class UserService {
         return user.get();
     }
 
+    @Override
+    public void verifyActiveUser(UUID id) {
+        CachedUser cachedUser = userStatusCache.find(id)
+                .orElseGet(() -> loadCachedUser(id));
+
+        if (cachedUser == null || !cachedUser.isActive()) {
+            log.warn("유저를 찾을 수 없습니다. Id : {}", id);
+            throw new UserNotFoundException("유저를 찾을 수 없습니다.");
+        }
+    }
+
+    private CachedUser loadCachedUser(UUID id) {
+        long version = userStatusCache.currentVersion(id);
+        Optional<UserSummary> userSummary = userRepository.findSummaryById(id);
+        if (userSummary.isEmpty()) {
+            return null;
+        }
+
+        CachedUser cachedUser = CachedUser.from(userSummary.get(), version);
+        userStatusCache.put(cachedUser);
+        return cachedUser;
+    }
+
     @Transactional(readOnly = true)
     public User findUserById(UUID id) {
         Optional<User> user = userRepository.findById(id);
@@ -78,11 +137,24 @@ public class UserService {
     }
 
     public void verifyPassword(String rawPassword, String encodedPassword) {
-        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+        if (!passwordHasher.matches(rawPassword, encodedPassword)) {
             throw new InvalidCredentialsException("비밀번호가 일치하지 않습니다.");
         }
     }
 
+    public void rehashPasswordIfNeeded(UUID id, String rawPassword, String encodedPassword) {
+        if (!passwordHasher.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+
+        String rehashedPassword = passwordHasher.encode(rawPassword);
+        if (userRepository.updatePassword(id, encodedPassword, rehashedPassword, LocalDateTime.now()) == 0) {
+            log.info("비밀번호가 변경되어 해시를 갱신하지 않습니다. Id : {}", id);
+            return;
+        }
+        log.info("비밀번호 해시를 갱신했습니다. Id : {}", id);
+    }
+
     @Transactional(readOnly = true)
     public UserProfileResponse getProfile(UUID id) {
         User user = findUserById(id);
@@ -98,6 +170,8 @@ public class UserService {
     public void withDrawUser(UUID id) {
         User user = findUserById(id);
         user.withdraw();
+        userStatusCache.evict(id);
+        eventPublisher.publishEvent(new UserWithdrawnEvent(user, LocalDateTime.now()));
         log.info("유저 탈퇴. Id : {}", id);
     }
 
@@ -107,13 +181,16 @@ public class UserService {
         log.info("유저 업데이트. Id : {}, nicknameBefore : {}, nicknameAfter : {}",
                 id, user.getNickname(), updateUserApplicationRequest.getNickname());
 
-        if (userRepository.existsByNickname(updateUserApplicationRequest.getNickname())) {
+        if (isNicknameTaken(updateUserApplicationRequest.getNickname())) {
             throw new DuplicateKeyException("이미 존재하는 닉네임입니다.");
         }
 
         if (updateUserApplicationRequest.getNickname() != null &&
                 !user.getNickname().equals(updateUserApplicationRequest.getNickname())) {
             user.updateNickname(updateUserApplicationRequest.getNickname());
+            saveNickname(user);
+            userStatusCache.evict(id);
+            eventPublisher.publishEvent(new UserNicknameChangedEvent(user, LocalDateTime.now()));
         }
 
         return UserProfileResponse.builder()
@@ -125,16 +202,39 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public List<UserMemberDTO> findMembers(List<UUID> memberId) {
-        List<User> users = userRepository.findAllById(memberId);
-
-        return users.stream()
-                .filter(u -> u.getStatus().equals(UserStatus.ACTIVE))
-                .map(user -> {
-                    return UserMemberDTO.builder()
-                            .memberId(user.getId())
-                            .nickname(user.getNickname())
-                            .build();
-                }).toList();
+        List<UUID> distinctIds = memberId.stream().distinct().toList();
+        Map<UUID, CachedUser> cachedUsers = new HashMap<>(userStatusCache.findAll(distinctIds));
+
+        List<UUID> missedIds = distinctIds.stream()
+                .filter(id -> !cachedUsers.containsKey(id))
+                .toList();
+
+        if (!missedIds.isEmpty()) {
+            Map<UUID, Long> versions = userStatusCache.currentVersions(missedIds);
+            List<CachedUser> loadedUsers = userRepository.findSummariesByIdIn(missedIds).stream()
+                    .map(userSummary -> CachedUser.from(userSummary, versions.getOrDefault(userSummary.getId(), 0L)))
+                    .toList();
+            userStatusCache.putAll(loadedUsers);
+            loadedUsers.forEach(cachedUser -> cachedUsers.put(cachedUser.getId(), cachedUser));
+        }
+
+        return distinctIds.stream()
+                .map(cachedUsers::get)
+                .filter(cachedUser -> cachedUser != null && cachedUser.isActive())
+                .map(cachedUser -> UserMemberDTO.builder()
+                        .memberId(cachedUser.getId())
+                        .nickname(cachedUser.getNickname())
+                        .build())
+                .toList();
+    }
+
+    private void saveNickname(User user) {
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            log.info("닉네임 변경 중 닉네임이 중복되었습니다. Id : {}, nickname : {}", user.getId(), user.getNickname());
+            throw new DuplicateKeyException("이미 존재하는 닉네임입니다.", e);
+        }
     }
 
 }
@@ -0,0 +1,25 @@
+package com.pravell.user.application;
+
+import com.pravell.user.application.dto.CachedUser;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface UserStatusCache {
+
+    Optional<CachedUser> find(UUID id);
+
+    Map<UUID, CachedUser> findAll(Collection<UUID> ids);
+
+    long currentVersion(UUID id);
+
+    Map<UUID, Long> currentVersions(Collection<UUID> ids);
+
+    void put(CachedUser cachedUser);
+
+    void putAll(Collection<CachedUser> cachedUsers);
+
+    void evict(UUID id);
+
+}
@@ -0,0 +1,31 @@
+package com.pravell.user.application.dto;
+
+import com.pravell.user.domain.model.UserStatus;
+import com.pravell.user.domain.model.UserSummary;
+import java.util.UUID;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CachedUser {
+
+    private UUID id;
+    private String nickname;
+    private UserStatus status;
+    private long version;
+
+    public static CachedUser from(UserSummary userSummary, long version) {
+        return CachedUser.builder()
+                .id(userSummary.getId())
+                .nickname(userSummary.getNickname())
+                .status(userSummary.getStatus())
+                .version(version)
+                .build();
+    }
+
+    public boolean isActive() {
+        return status == UserStatus.ACTIVE;
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.pravell.user.application.dto.response;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class SessionResponse {
+
+    private final String sessionId;
+    private final Instant expiresAt;
+    private final boolean current;
+
+}
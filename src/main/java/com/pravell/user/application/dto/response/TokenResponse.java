@@ -10,4 +10,5 @@ import lombok.Getter;
 public class TokenResponse {
     String accessToken;
     String refreshToken;
+    String sessionId;
 }
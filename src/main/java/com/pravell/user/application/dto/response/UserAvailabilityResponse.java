@@ -0,0 +1,13 @@
+package com.pravell.user.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class UserAvailabilityResponse {
+
+    private final Boolean userIdAvailable;
+    private final Boolean nicknameAvailable;
+
+}
@@ -0,0 +1,16 @@
+package com.pravell.user.domain.event;
+
+import lombok.Getter;
+
+@Getter
+public class UserIdentityChangedEvent {
+
+    private final String userId;
+    private final String nickname;
+
+    public UserIdentityChangedEvent(String userId, String nickname) {
+        this.userId = userId;
+        this.nickname = nickname;
+    }
+
+}
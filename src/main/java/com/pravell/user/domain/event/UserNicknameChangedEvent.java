@@ -0,0 +1,12 @@
+package com.pravell.user.domain.event;
+
+import com.pravell.user.domain.model.User;
+import java.time.LocalDateTime;
+
+public class UserNicknameChangedEvent extends UserEvent {
+
+    public UserNicknameChangedEvent(User user, LocalDateTime createdAt) {
+        super(user, createdAt);
+    }
+
+}
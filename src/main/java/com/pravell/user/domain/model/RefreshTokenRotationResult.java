@@ -0,0 +1,9 @@
+package com.pravell.user.domain.model;
+
+public enum RefreshTokenRotationResult {
+
+    ROTATED,
+    MISMATCH,
+    NOT_FOUND
+
+}
@@ -0,0 +1,14 @@
+package com.pravell.user.domain.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RefreshTokenSession {
+
+    private String sessionId;
+    private Instant expiresAt;
+
+}
@@ -2,6 +2,7 @@ package com.pravell.user.domain.model;
 
 import com.pravell.common.domain.AggregateRoot;
 import com.pravell.user.domain.event.UserCreatedEvent;
+import com.pravell.user.domain.event.UserIdentityChangedEvent;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -53,11 +54,13 @@ public class User extends AggregateRoot {
                 .nickname(nickname)
                 .status(UserStatus.ACTIVE)
                 .build();
+        user.registerEvent(new UserIdentityChangedEvent(userId, nickname));
 
         return new UserCreatedEvent(user, LocalDateTime.now());
     }
 
     public void updateNickname(String nickname) {
         this.nickname = nickname;
+        registerEvent(new UserIdentityChangedEvent(userId, nickname));
     }
 }
@@ -0,0 +1,15 @@
+package com.pravell.user.domain.model;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserSummary {
+
+    private UUID id;
+    private String nickname;
+    private UserStatus status;
+
+}
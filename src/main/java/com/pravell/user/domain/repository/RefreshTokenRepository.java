@@ -1,15 +1,30 @@
 package com.pravell.user.domain.repository;
 
+import com.pravell.user.domain.model.RefreshTokenRotationResult;
+import com.pravell.user.domain.model.RefreshTokenSession;
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 public interface RefreshTokenRepository {
 
-    void save(UUID userId, String refreshToken, Duration ttl);
+    void save(UUID userId, String sessionId, String refreshToken, Duration ttl);
 
-    String findByUserId(UUID userId);
+    String findByUserIdAndSessionId(UUID userId, String sessionId);
 
-    void delete(UUID userId);
+    List<RefreshTokenSession> findSessions(UUID userId);
 
-    void update(UUID userId, String newRefreshToken, Duration ttl);
+    void delete(UUID userId, String sessionId);
+
+    void deleteAll(UUID userId);
+
+    RefreshTokenRotationResult rotate(UUID userId, String sessionId, String expectedRefreshToken,
+                                      String newRefreshToken, Duration ttl);
+
+    RefreshTokenRotationResult rotateLegacy(UUID userId, String sessionId, String expectedRefreshToken,
+                                            String newRefreshToken, Duration ttl);
+
+    void deleteLegacy(UUID userId, String refreshToken);
+
+    int trimSessions(UUID userId, int maxSessions);
 }
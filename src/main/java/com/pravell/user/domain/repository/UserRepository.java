@@ -1,10 +1,20 @@
 package com.pravell.user.domain.repository;
 
 import com.pravell.user.domain.model.User;
+import com.pravell.user.domain.model.UserSummary;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
@@ -15,4 +25,37 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByUserId(String userId);
 
+    @Query("""
+                select new com.pravell.user.domain.model.UserSummary(u.id, u.nickname, u.status)
+                from User u
+                where u.id = :id
+            """)
+    Optional<UserSummary> findSummaryById(@Param("id") UUID id);
+
+    @Query("""
+                select new com.pravell.user.domain.model.UserSummary(u.id, u.nickname, u.status)
+                from User u
+                where u.id in :ids
+            """)
+    List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select u.userId from User u order by u.id")
+    Slice<String> findUserIds(Pageable pageable);
+
+    @Query("select u.nickname from User u order by u.id")
+    Slice<String> findNicknames(Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+                update User u
+                set u.password = :password, u.updatedAt = :updatedAt
+                where u.id = :id
+                and u.password = :expectedPassword
+            """)
+    int updatePassword(@Param("id") UUID id,
+                       @Param("expectedPassword") String expectedPassword,
+                       @Param("password") String password,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
 }
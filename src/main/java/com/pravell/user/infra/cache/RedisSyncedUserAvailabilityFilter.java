@@ -0,0 +1,153 @@
+package com.pravell.user.infra.cache;
+
+import com.pravell.common.util.BloomFilter;
+import com.pravell.user.application.UserAvailabilityFilter;
+import com.pravell.user.domain.event.UserIdentityChangedEvent;
+import com.pravell.user.domain.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class RedisSyncedUserAvailabilityFilter implements UserAvailabilityFilter, MessageListener {
+
+    private static final String CHANNEL = "user-availability";
+    private static final String USER_ID_PREFIX = "U:";
+    private static final String NICKNAME_PREFIX = "N:";
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter userIds;
+    private volatile BloomFilter nicknames;
+    private volatile BloomFilter rebuildingUserIds;
+    private volatile BloomFilter rebuildingNicknames;
+    private volatile boolean ready;
+
+    public RedisSyncedUserAvailabilityFilter(
+            UserRepository userRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${user.availability-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${user.availability-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.userIds = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.nicknames = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildingUserIds = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingNicknames = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        long userCount = load(rebuildingUserIds, userRepository::findUserIds);
+        load(rebuildingNicknames, userRepository::findNicknames);
+
+        userIds = rebuildingUserIds;
+        nicknames = rebuildingNicknames;
+        rebuildingUserIds = null;
+        rebuildingNicknames = null;
+        ready = true;
+        log.info("아이디/닉네임 필터를 생성했습니다. userCount : {}", userCount);
+    }
+
+    @EventListener
+    public void on(UserIdentityChangedEvent event) {
+        addUserId(event.getUserId());
+        addNickname(event.getNickname());
+    }
+
+    @Override
+    public boolean mightContainUserId(String userId) {
+        return !ready || userIds.mightContain(userId);
+    }
+
+    @Override
+    public boolean mightContainNickname(String nickname) {
+        return !ready || nicknames.mightContain(nickname);
+    }
+
+    @Override
+    public void addUserId(String userId) {
+        putUserId(userId);
+        redisTemplate.convertAndSend(CHANNEL, USER_ID_PREFIX + userId);
+    }
+
+    @Override
+    public void addNickname(String nickname) {
+        putNickname(nickname);
+        redisTemplate.convertAndSend(CHANNEL, NICKNAME_PREFIX + nickname);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (body.startsWith(USER_ID_PREFIX)) {
+            putUserId(body.substring(USER_ID_PREFIX.length()));
+        } else if (body.startsWith(NICKNAME_PREFIX)) {
+            putNickname(body.substring(NICKNAME_PREFIX.length()));
+        }
+    }
+
+    private void putUserId(String userId) {
+        userIds.put(userId);
+        BloomFilter rebuilding = rebuildingUserIds;
+        if (rebuilding != null) {
+            rebuilding.put(userId);
+        }
+    }
+
+    private void putNickname(String nickname) {
+        nicknames.put(nickname);
+        BloomFilter rebuilding = rebuildingNicknames;
+        if (rebuilding != null) {
+            rebuilding.put(nickname);
+        }
+    }
+
+    private long load(BloomFilter bloomFilter, Function<Pageable, Slice<String>> loader) {
+        long count = 0;
+        Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE);
+
+        while (true) {
+            Slice<String> slice = loader.apply(pageable);
+            slice.forEach(bloomFilter::put);
+            count += slice.getNumberOfElements();
+
+            if (!slice.hasNext()) {
+                return count;
+            }
+            pageable = slice.nextPageable();
+        }
+    }
+
+}
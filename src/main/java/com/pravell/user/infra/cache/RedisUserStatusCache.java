@@ -0,0 +1,288 @@
+package com.pravell.user.infra.cache;
+
+import com.pravell.common.cache.VersionedLocalCache;
+import com.pravell.user.application.UserStatusCache;
+import com.pravell.user.application.dto.CachedUser;
+import com.pravell.user.domain.model.UserStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class RedisUserStatusCache implements UserStatusCache, MessageListener {
+
+    private static final String KEY_PREFIX = "userStatus:";
+    private static final String VERSION_KEY_PREFIX = "userStatusVersion:";
+    private static final String INVALIDATION_CHANNEL = "user-status-invalidation";
+    private static final String MESSAGE_DELIMITER = ":";
+    private static final String NICKNAME_FIELD = "nickname";
+    private static final String STATUS_FIELD = "status";
+    private static final String VERSION_FIELD = "version";
+    private static final RedisScript<List> PUT_SCRIPT = RedisScript.of("""
+            local accepted = {}
+            for i = 1, #KEYS / 2 do
+                local version = ARGV[i * 3 - 1]
+                if (redis.call('GET', KEYS[i * 2]) or '0') == version then
+                    redis.call('HSET', KEYS[i * 2 - 1], 'nickname', ARGV[i * 3], 'status', ARGV[i * 3 + 1],
+                            'version', version)
+                    redis.call('EXPIRE', KEYS[i * 2 - 1], ARGV[1])
+                    accepted[i] = 1
+                else
+                    accepted[i] = 0
+                end
+            end
+            return accepted
+            """, List.class);
+    private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+            local version = redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[1])
+            return version
+            """, Long.class);
+
+    private final VersionedLocalCache<UUID, CachedUser> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration redisTtl;
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+    private final Timer stalenessTimer;
+
+    public RedisUserStatusCache(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${user.status-cache.local-ttl:PT30S}") Duration localTtl,
+            @Value("${user.status-cache.redis-ttl:PT10M}") Duration redisTtl,
+            @Value("${user.status-cache.tombstone-ttl:PT1M}") Duration tombstoneTtl,
+            @Value("${user.status-cache.max-local-size:100000}") int maxLocalSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.redisTtl = redisTtl;
+        this.localCache = new VersionedLocalCache<>(maxLocalSize, localTtl, tombstoneTtl, Clock.systemUTC());
+        this.localHitCounter = meterRegistry.counter("user.status.cache", "result", "local_hit");
+        this.redisHitCounter = meterRegistry.counter("user.status.cache", "result", "redis_hit");
+        this.missCounter = meterRegistry.counter("user.status.cache", "result", "miss");
+        this.stalenessTimer = meterRegistry.timer("user.status.cache.staleness");
+        Gauge.builder("user.status.cache.local.size", localCache, VersionedLocalCache::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public Optional<CachedUser> find(UUID id) {
+        Optional<VersionedLocalCache.Entry<CachedUser>> localEntry = localCache.find(id);
+        if (localEntry.isPresent()) {
+            recordLocalHit(localEntry.get());
+            return Optional.of(localEntry.get().value());
+        }
+
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(id));
+        if (entries.isEmpty()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        CachedUser cachedUser = toCachedUser(id, entries);
+        putLocal(cachedUser);
+        redisHitCounter.increment();
+        return Optional.of(cachedUser);
+    }
+
+    @Override
+    public Map<UUID, CachedUser> findAll(Collection<UUID> ids) {
+        Map<UUID, CachedUser> found = new HashMap<>();
+        List<UUID> localMisses = new ArrayList<>();
+
+        for (UUID id : ids) {
+            Optional<VersionedLocalCache.Entry<CachedUser>> localEntry = localCache.find(id);
+            if (localEntry.isPresent()) {
+                recordLocalHit(localEntry.get());
+                found.put(id, localEntry.get().value());
+            } else {
+                localMisses.add(id);
+            }
+        }
+
+        if (localMisses.isEmpty()) {
+            return found;
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            localMisses.forEach(id -> connection.hashCommands().hGetAll(rawKey(id)));
+            return null;
+        });
+
+        for (int i = 0; i < localMisses.size(); i++) {
+            UUID id = localMisses.get(i);
+            Map<?, ?> entries = (Map<?, ?>) results.get(i);
+
+            if (entries == null || entries.isEmpty()) {
+                missCounter.increment();
+                continue;
+            }
+
+            CachedUser cachedUser = toCachedUser(id, entries);
+            putLocal(cachedUser);
+            redisHitCounter.increment();
+            found.put(id, cachedUser);
+        }
+
+        return found;
+    }
+
+    @Override
+    public long currentVersion(UUID id) {
+        String version = redisTemplate.opsForValue().get(versionKey(id));
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    @Override
+    public Map<UUID, Long> currentVersions(Collection<UUID> ids) {
+        List<UUID> orderedIds = List.copyOf(ids);
+        List<String> versions = redisTemplate.opsForValue()
+                .multiGet(orderedIds.stream().map(this::versionKey).toList());
+
+        Map<UUID, Long> found = new HashMap<>();
+        for (int i = 0; i < orderedIds.size(); i++) {
+            String version = versions == null ? null : versions.get(i);
+            found.put(orderedIds.get(i), version == null ? 0L : Long.parseLong(version));
+        }
+        return found;
+    }
+
+    @Override
+    public void put(CachedUser cachedUser) {
+        putAll(List.of(cachedUser));
+    }
+
+    @Override
+    public void putAll(Collection<CachedUser> cachedUsers) {
+        if (cachedUsers.isEmpty()) {
+            return;
+        }
+
+        List<CachedUser> orderedUsers = List.copyOf(cachedUsers);
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(redisTtl.toSeconds()));
+        orderedUsers.forEach(cachedUser -> {
+            keys.add(key(cachedUser.getId()));
+            keys.add(versionKey(cachedUser.getId()));
+            args.add(String.valueOf(cachedUser.getVersion()));
+            args.add(cachedUser.getNickname());
+            args.add(cachedUser.getStatus().name());
+        });
+
+        List<?> accepted = redisTemplate.execute(PUT_SCRIPT, keys, args.toArray());
+
+        for (int i = 0; i < orderedUsers.size(); i++) {
+            if (accepted != null && Long.valueOf(1L).equals(accepted.get(i))) {
+                putLocal(orderedUsers.get(i));
+            } else {
+                log.debug("유저 상태가 변경되어 캐시하지 않습니다. Id : {}", orderedUsers.get(i).getId());
+            }
+        }
+    }
+
+    @Override
+    public void evict(UUID id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictEverywhere(id);
+            return;
+        }
+
+        localCache.remove(id);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictEverywhere(id);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] parts = body.split(MESSAGE_DELIMITER);
+            invalidate(UUID.fromString(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            log.warn("유저 상태 캐시 무효화 메시지가 올바르지 않습니다. message : {}", body);
+        }
+    }
+
+    private void evictEverywhere(UUID id) {
+        Long version = redisTemplate.execute(EVICT_SCRIPT, List.of(key(id), versionKey(id)),
+                String.valueOf(redisTtl.toSeconds()));
+        invalidate(id, version);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, id + MESSAGE_DELIMITER + version);
+    }
+
+    private void invalidate(UUID id, long version) {
+        localCache.invalidate(id, version);
+    }
+
+    private void putLocal(CachedUser cachedUser) {
+        localCache.put(cachedUser.getId(), cachedUser, cachedUser.getVersion());
+    }
+
+    private void recordLocalHit(VersionedLocalCache.Entry<CachedUser> localEntry) {
+        localHitCounter.increment();
+        stalenessTimer.record(Duration.between(localEntry.cachedAt(), Instant.now()));
+    }
+
+    private CachedUser toCachedUser(UUID id, Map<?, ?> entries) {
+        Object version = entries.get(VERSION_FIELD);
+        return CachedUser.builder()
+                .id(id)
+                .nickname((String) entries.get(NICKNAME_FIELD))
+                .status(UserStatus.valueOf((String) entries.get(STATUS_FIELD)))
+                .version(version == null ? 0L : Long.parseLong((String) version))
+                .build();
+    }
+
+    private String key(UUID id) {
+        return KEY_PREFIX + id.toString();
+    }
+
+    private String versionKey(UUID id) {
+        return VERSION_KEY_PREFIX + id.toString();
+    }
+
+    private byte[] rawKey(UUID id) {
+        return key(id).getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.pravell.user.infra.memory;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+class HashedTimingWheel<T> {
+
+    private final Queue<Timeout<T>>[] buckets;
+    private final long tickMillis;
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(Duration tickDuration, int wheelSize, long startMillis) {
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.tickMillis = tickDuration.toMillis();
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    void schedule(T target, long deadlineMillis) {
+        long deadlineTick = Math.max(deadlineMillis / tickMillis + 1, currentTick + 1);
+        long rounds = (deadlineTick - currentTick - 1) / buckets.length;
+        buckets[(int) (deadlineTick % buckets.length)].add(new Timeout<>(target, rounds));
+    }
+
+    synchronized void advance(long nowMillis, Consumer<T> onExpired) {
+        long targetTick = nowMillis / tickMillis;
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            Iterator<Timeout<T>> iterator = buckets[(int) (currentTick % buckets.length)].iterator();
+
+            while (iterator.hasNext()) {
+                Timeout<T> timeout = iterator.next();
+                if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                    continue;
+                }
+                iterator.remove();
+                onExpired.accept(timeout.target);
+            }
+        }
+    }
+
+    private static class Timeout<T> {
+
+        private final T target;
+        private long remainingRounds;
+
+        private Timeout(T target, long remainingRounds) {
+            this.target = target;
+            this.remainingRounds = remainingRounds;
+        }
+
+    }
+
+}
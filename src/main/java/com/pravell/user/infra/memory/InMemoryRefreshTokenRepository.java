@@ -0,0 +1,349 @@
+package com.pravell.user.infra.memory;
+
+import com.pravell.common.concurrent.BoundedExecutors;
+import com.pravell.user.domain.model.RefreshTokenRotationResult;
+import com.pravell.user.domain.model.RefreshTokenSession;
+import com.pravell.user.domain.repository.RefreshTokenRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenRepository implements RefreshTokenRepository {
+
+    private static final int STRIPE_COUNT = 64;
+    private static final int WHEEL_SIZE = 512;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final HashedTimingWheel<UUID> timingWheel;
+    private final Duration tickDuration;
+    private final Path snapshotPath;
+    private final Duration snapshotInterval;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public InMemoryRefreshTokenRepository(
+            @Value("${refresh-token.memory.tick:PT1S}") Duration tickDuration,
+            @Value("${refresh-token.memory.snapshot-path:}") String snapshotPath,
+            @Value("${refresh-token.memory.snapshot-interval:PT1M}") Duration snapshotInterval
+    ) {
+        this(tickDuration, snapshotPath.isBlank() ? null : Path.of(snapshotPath), snapshotInterval,
+                Clock.systemUTC());
+    }
+
+    InMemoryRefreshTokenRepository(Duration tickDuration, Path snapshotPath, Duration snapshotInterval,
+                                   Clock clock) {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.tickDuration = tickDuration;
+        this.snapshotPath = snapshotPath;
+        this.snapshotInterval = snapshotInterval;
+        this.clock = clock;
+        this.timingWheel = new HashedTimingWheel<>(tickDuration, WHEEL_SIZE, clock.millis());
+    }
+
+    @PostConstruct
+    void start() {
+        restoreSnapshot();
+
+        scheduler = BoundedExecutors.newSingleThreadScheduler("refresh-token-expiry");
+        scheduler.scheduleAtFixedRate(this::expire, tickDuration.toMillis(), tickDuration.toMillis(),
+                TimeUnit.MILLISECONDS);
+
+        if (snapshotPath != null) {
+            scheduler.scheduleAtFixedRate(this::writeSnapshot, snapshotInterval.toMillis(),
+                    snapshotInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            awaitTermination();
+        }
+        writeSnapshot();
+    }
+
+    @Override
+    public void save(UUID userId, String sessionId, String refreshToken, Duration ttl) {
+        long expiresAt = clock.millis() + ttl.toMillis();
+        withStripe(userId, map -> map.computeIfAbsent(userId, key -> new HashMap<>())
+                .put(sessionId, new Entry(refreshToken, expiresAt)));
+        timingWheel.schedule(userId, expiresAt);
+    }
+
+    @Override
+    public String findByUserIdAndSessionId(UUID userId, String sessionId) {
+        long now = clock.millis();
+        return withStripe(userId, map -> {
+            Map<String, Entry> sessions = map.get(userId);
+            if (sessions == null) {
+                return null;
+            }
+            Entry entry = sessions.get(sessionId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                removeSession(map, userId, sessionId);
+                return null;
+            }
+            return entry.token();
+        });
+    }
+
+    @Override
+    public List<RefreshTokenSession> findSessions(UUID userId) {
+        long now = clock.millis();
+        return withStripe(userId, map -> {
+            Map<String, Entry> sessions = map.get(userId);
+            if (sessions == null) {
+                return List.of();
+            }
+
+            List<RefreshTokenSession> result = new ArrayList<>(sessions.size());
+            for (Map.Entry<String, Entry> session : sessions.entrySet()) {
+                if (!session.getValue().isExpired(now)) {
+                    result.add(new RefreshTokenSession(session.getKey(),
+                            Instant.ofEpochMilli(session.getValue().expiresAt())));
+                }
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public void delete(UUID userId, String sessionId) {
+        withStripe(userId, map -> {
+            removeSession(map, userId, sessionId);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAll(UUID userId) {
+        withStripe(userId, map -> map.remove(userId));
+    }
+
+    @Override
+    public RefreshTokenRotationResult rotate(UUID userId, String sessionId, String expectedRefreshToken,
+                                             String newRefreshToken, Duration ttl) {
+        long now = clock.millis();
+        long expiresAt = now + ttl.toMillis();
+
+        RefreshTokenRotationResult result = withStripe(userId, map -> {
+            Map<String, Entry> sessions = map.get(userId);
+            Entry entry = sessions == null ? null : sessions.get(sessionId);
+            if (entry == null || entry.isExpired(now)) {
+                removeSession(map, userId, sessionId);
+                return RefreshTokenRotationResult.NOT_FOUND;
+            }
+            if (!entry.token().equals(expectedRefreshToken)) {
+                return RefreshTokenRotationResult.MISMATCH;
+            }
+            sessions.put(sessionId, new Entry(newRefreshToken, expiresAt));
+            return RefreshTokenRotationResult.ROTATED;
+        });
+
+        if (result == RefreshTokenRotationResult.ROTATED) {
+            timingWheel.schedule(userId, expiresAt);
+        }
+        return result;
+    }
+
+    @Override
+    public RefreshTokenRotationResult rotateLegacy(UUID userId, String sessionId, String expectedRefreshToken,
+                                                   String newRefreshToken, Duration ttl) {
+        return RefreshTokenRotationResult.NOT_FOUND;
+    }
+
+    @Override
+    public void deleteLegacy(UUID userId, String refreshToken) {
+    }
+
+    @Override
+    public int trimSessions(UUID userId, int maxSessions) {
+        return withStripe(userId, map -> {
+            Map<String, Entry> sessions = map.get(userId);
+            if (sessions == null || sessions.size() <= maxSessions) {
+                return 0;
+            }
+
+            List<Map.Entry<String, Entry>> oldest = new ArrayList<>(sessions.entrySet());
+            oldest.sort(Comparator.comparingLong(session -> session.getValue().expiresAt()));
+            int excess = sessions.size() - maxSessions;
+            for (int i = 0; i < excess; i++) {
+                sessions.remove(oldest.get(i).getKey());
+            }
+            return excess;
+        });
+    }
+
+    void expire() {
+        long now = clock.millis();
+        timingWheel.advance(now, userId -> withStripe(userId, map -> {
+            Map<String, Entry> sessions = map.get(userId);
+            if (sessions != null) {
+                sessions.values().removeIf(entry -> entry.isExpired(now));
+                if (sessions.isEmpty()) {
+                    map.remove(userId);
+                }
+            }
+            return null;
+        }));
+    }
+
+    synchronized void writeSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+
+        long now = clock.millis();
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+            for (Stripe stripe : stripes) {
+                for (Map.Entry<UUID, Map<String, Entry>> sessions : stripe.copy().entrySet()) {
+                    for (Map.Entry<String, Entry> session : sessions.getValue().entrySet()) {
+                        if (session.getValue().isExpired(now)) {
+                            continue;
+                        }
+                        writer.write(sessions.getKey() + "\t" + session.getKey() + "\t"
+                                + session.getValue().token() + "\t" + session.getValue().expiresAt());
+                        writer.newLine();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("리프레시 토큰 스냅샷 저장에 실패했습니다. path : {}", snapshotPath, e);
+            return;
+        }
+
+        try {
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("리프레시 토큰 스냅샷 저장에 실패했습니다. path : {}", snapshotPath, e);
+        }
+    }
+
+    void restoreSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return;
+        }
+
+        long now = clock.millis();
+        int restored = 0;
+        try (BufferedReader reader = Files.newBufferedReader(snapshotPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split("\t");
+                if (columns.length != 4) {
+                    continue;
+                }
+
+                long expiresAt = Long.parseLong(columns[3]);
+                if (expiresAt <= now) {
+                    continue;
+                }
+
+                UUID userId = UUID.fromString(columns[0]);
+                withStripe(userId, map -> map.computeIfAbsent(userId, key -> new HashMap<>())
+                        .put(columns[1], new Entry(columns[2], expiresAt)));
+                timingWheel.schedule(userId, expiresAt);
+                restored++;
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("리프레시 토큰 스냅샷 복원에 실패했습니다. path : {}", snapshotPath, e);
+        }
+
+        log.info("리프레시 토큰 스냅샷을 복원했습니다. count : {}", restored);
+    }
+
+    private void awaitTermination() {
+        try {
+            if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("리프레시 토큰 스케줄러가 종료되지 않았습니다. timeout : {}", SHUTDOWN_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void removeSession(Map<UUID, Map<String, Entry>> map, UUID userId, String sessionId) {
+        Map<String, Entry> sessions = map.get(userId);
+        if (sessions == null) {
+            return;
+        }
+        sessions.remove(sessionId);
+        if (sessions.isEmpty()) {
+            map.remove(userId);
+        }
+    }
+
+    private <R> R withStripe(UUID userId, Function<Map<UUID, Map<String, Entry>>, R> action) {
+        Stripe stripe = stripes[(userId.hashCode() & Integer.MAX_VALUE) % STRIPE_COUNT];
+        stripe.lock.lock();
+        try {
+            return action.apply(stripe.map);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private record Entry(String token, long expiresAt) {
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+
+    }
+
+    private static class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<UUID, Map<String, Entry>> map = new HashMap<>();
+
+        private Map<UUID, Map<String, Entry>> copy() {
+            lock.lock();
+            try {
+                Map<UUID, Map<String, Entry>> copy = new HashMap<>();
+                map.forEach((userId, sessions) -> copy.put(userId, new HashMap<>(sessions)));
+                return copy;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+    }
+
+}
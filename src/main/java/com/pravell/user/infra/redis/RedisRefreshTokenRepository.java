@@ -1,40 +1,184 @@
 package com.pravell.user.infra.redis;
 
+import com.pravell.user.domain.model.RefreshTokenRotationResult;
+import com.pravell.user.domain.model.RefreshTokenSession;
 import com.pravell.user.domain.repository.RefreshTokenRepository;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "redis", matchIfMissing = true)
 public class RedisRefreshTokenRepository implements RefreshTokenRepository {
 
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('HPEXPIRE', KEYS[1], ARGV[3], 'FIELDS', 1, ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if not current then
+                return -1
+            end
+            if current ~= ARGV[2] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            redis.call('HPEXPIRE', KEYS[1], ARGV[4], 'FIELDS', 1, ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> ROTATE_LEGACY_SCRIPT = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+                return -1
+            end
+            if current ~= ARGV[2] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+            redis.call('HPEXPIRE', KEYS[2], ARGV[4], 'FIELDS', 1, ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> DELETE_LEGACY_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> TRIM_SESSIONS_SCRIPT = RedisScript.of("""
+            local fields = redis.call('HKEYS', KEYS[1])
+            local excess = #fields - tonumber(ARGV[1])
+            if excess <= 0 then
+                return 0
+            end
+            local ttls = redis.call('HPTTL', KEYS[1], 'FIELDS', #fields, unpack(fields))
+            local sessions = {}
+            for i, field in ipairs(fields) do
+                table.insert(sessions, {field, ttls[i]})
+            end
+            table.sort(sessions, function(a, b) return a[2] < b[2] end)
+            for i = 1, excess do
+                redis.call('HDEL', KEYS[1], sessions[i][1])
+            end
+            return excess
+            """, Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FIND_SESSIONS_SCRIPT = RedisScript.of("""
+            local fields = redis.call('HKEYS', KEYS[1])
+            if #fields == 0 then
+                return {}
+            end
+            local ttls = redis.call('HPTTL', KEYS[1], 'FIELDS', #fields, unpack(fields))
+            local result = {}
+            for i, field in ipairs(fields) do
+                if ttls[i] > 0 then
+                    table.insert(result, field)
+                    table.insert(result, tostring(ttls[i]))
+                end
+            end
+            return result
+            """, List.class);
+
     private final StringRedisTemplate redisTemplate;
 
     @Override
-    public void save(UUID userId, String refreshToken, Duration ttl) {
-        redisTemplate.opsForValue().set(key(userId), refreshToken, ttl);
+    public void save(UUID userId, String sessionId, String refreshToken, Duration ttl) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key(userId)), sessionId, refreshToken,
+                String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public String findByUserIdAndSessionId(UUID userId, String sessionId) {
+        Object refreshToken = redisTemplate.opsForHash().get(key(userId), sessionId);
+        return refreshToken == null ? null : refreshToken.toString();
+    }
+
+    @Override
+    public List<RefreshTokenSession> findSessions(UUID userId) {
+        List<?> result = redisTemplate.execute(FIND_SESSIONS_SCRIPT, List.of(key(userId)));
+        if (result == null || result.isEmpty()) {
+            return List.of();
+        }
+
+        Instant now = Instant.now();
+        List<RefreshTokenSession> sessions = new ArrayList<>(result.size() / 2);
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            long ttlMillis = Long.parseLong(result.get(i + 1).toString());
+            sessions.add(new RefreshTokenSession(result.get(i).toString(), now.plusMillis(ttlMillis)));
+        }
+        return sessions;
+    }
+
+    @Override
+    public void delete(UUID userId, String sessionId) {
+        redisTemplate.opsForHash().delete(key(userId), sessionId);
+    }
+
+    @Override
+    public void deleteAll(UUID userId) {
+        redisTemplate.delete(List.of(key(userId), legacyKey(userId)));
+    }
+
+    @Override
+    public RefreshTokenRotationResult rotate(UUID userId, String sessionId, String expectedRefreshToken,
+                                             String newRefreshToken, Duration ttl) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(userId)),
+                sessionId, expectedRefreshToken, newRefreshToken, String.valueOf(ttl.toMillis()));
+
+        return toRotationResult(result);
     }
 
     @Override
-    public String findByUserId(UUID userId) {
-        return redisTemplate.opsForValue().get(key(userId));
+    public RefreshTokenRotationResult rotateLegacy(UUID userId, String sessionId, String expectedRefreshToken,
+                                                   String newRefreshToken, Duration ttl) {
+        Long result = redisTemplate.execute(ROTATE_LEGACY_SCRIPT, List.of(legacyKey(userId), key(userId)),
+                sessionId, expectedRefreshToken, newRefreshToken, String.valueOf(ttl.toMillis()));
+
+        return toRotationResult(result);
     }
 
     @Override
-    public void delete(UUID userId) {
-        redisTemplate.delete(key(userId));
+    public void deleteLegacy(UUID userId, String refreshToken) {
+        redisTemplate.execute(DELETE_LEGACY_SCRIPT, List.of(legacyKey(userId)), refreshToken);
     }
 
     @Override
-    public void update(UUID userId, String newRefreshToken, Duration ttl) {
-        delete(userId);
-        save(userId, newRefreshToken, ttl);
+    public int trimSessions(UUID userId, int maxSessions) {
+        Long trimmed = redisTemplate.execute(TRIM_SESSIONS_SCRIPT, List.of(key(userId)),
+                String.valueOf(maxSessions));
+        return trimmed == null ? 0 : trimmed.intValue();
+    }
+
+    private RefreshTokenRotationResult toRotationResult(Long result) {
+        if (result == null || result < 0) {
+            return RefreshTokenRotationResult.NOT_FOUND;
+        }
+        if (result == 0) {
+            return RefreshTokenRotationResult.MISMATCH;
+        }
+        return RefreshTokenRotationResult.ROTATED;
     }
 
     private String key(UUID userId) {
+        return "refreshTokens:" + userId.toString();
+    }
+
+    private String legacyKey(UUID userId) {
         return "refreshToken:" + userId.toString();
     }
 }
@@ -1,18 +1,23 @@
 package com.pravell.user.presentation;
 
+import com.pravell.common.auth.AuthUser;
 import com.pravell.common.util.CommonJwtUtil;
+import com.pravell.common.util.VerifiedAccessToken;
 import com.pravell.user.application.AuthFacade;
+import com.pravell.user.application.dto.response.SessionResponse;
 import com.pravell.user.application.dto.response.TokenResponse;
 import com.pravell.user.presentation.request.SignInRequest;
 import com.pravell.user.presentation.request.SignUpRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -24,6 +29,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final Duration COOKIE_MAX_AGE = Duration.ofDays(14);
+
     private final AuthFacade authFacade;
     private final CommonJwtUtil commonJwtUtil;
 
@@ -37,14 +44,8 @@ public class AuthController {
                                                 HttpServletResponse httpServletResponse) {
         TokenResponse tokenResponse = authFacade.signIn(signInRequest.toSignInApplicationRequest());
 
-        ResponseCookie responseCookie = ResponseCookie.from("refreshToken", tokenResponse.getRefreshToken())
-                .httpOnly(true)
-                .secure(true)
-                .path("/")
-                .sameSite("None")
-                .maxAge(Duration.ofDays(14))
-                .build();
-        httpServletResponse.addHeader("Set-Cookie", responseCookie.toString());
+        addSessionCookies(httpServletResponse, tokenResponse.getRefreshToken(), tokenResponse.getSessionId(),
+                COOKIE_MAX_AGE);
 
         return ResponseEntity.ok(tokenResponse);
     }
@@ -52,20 +53,15 @@ public class AuthController {
     @PostMapping("/sign-out")
     public ResponseEntity<Void> signOut(@RequestHeader("Authorization") String authorizationHeader,
                                         @CookieValue(value = "refreshToken", required = false) String refreshToken,
+                                        @CookieValue(value = "sessionId", required = false) String sessionId,
                                         HttpServletResponse httpServletResponse) {
-        UUID userId = commonJwtUtil.getUserIdFromToken(authorizationHeader);
+        VerifiedAccessToken accessToken = commonJwtUtil.verifyAccessToken(authorizationHeader);
         if (refreshToken != null && !refreshToken.isBlank()) {
-            authFacade.signOut(userId, refreshToken);
+            authFacade.signOut(accessToken.getUserId(), sessionId, refreshToken);
         }
+        authFacade.revokeAccessToken(accessToken.getTokenId(), accessToken.getExpiresAt());
 
-        ResponseCookie deleteCookie = ResponseCookie.from("refreshToken", "")
-                .httpOnly(true)
-                .secure(true)
-                .path("/")
-                .sameSite("None")
-                .maxAge(0)
-                .build();
-        httpServletResponse.addHeader("Set-Cookie", deleteCookie.toString());
+        addSessionCookies(httpServletResponse, "", "", Duration.ZERO);
 
         return ResponseEntity.noContent().build();
     }
@@ -73,20 +69,37 @@ public class AuthController {
     @PostMapping("/refresh")
     public ResponseEntity<TokenResponse> refresh(
             @CookieValue(name = "refreshToken", required = false) String refreshToken,
+            @CookieValue(name = "sessionId", required = false) String sessionId,
             HttpServletResponse httpServletResponse) {
 
-        TokenResponse rotated = authFacade.rotateRefreshAndIssueAccess(refreshToken);
+        TokenResponse rotated = authFacade.rotateRefreshAndIssueAccess(refreshToken, sessionId);
 
-        ResponseCookie responseCookie = ResponseCookie.from("refreshToken", rotated.getRefreshToken())
+        addSessionCookies(httpServletResponse, rotated.getRefreshToken(), rotated.getSessionId(), COOKIE_MAX_AGE);
+
+        return ResponseEntity.ok(rotated);
+    }
+
+    @GetMapping("/sessions")
+    public ResponseEntity<List<SessionResponse>> findSessions(
+            @AuthUser UUID id,
+            @CookieValue(name = "sessionId", required = false) String sessionId) {
+        return ResponseEntity.ok(authFacade.findSessions(id, sessionId));
+    }
+
+    private void addSessionCookies(HttpServletResponse httpServletResponse, String refreshToken, String sessionId,
+                                   Duration maxAge) {
+        httpServletResponse.addHeader("Set-Cookie", cookie("refreshToken", refreshToken, maxAge).toString());
+        httpServletResponse.addHeader("Set-Cookie", cookie("sessionId", sessionId, maxAge).toString());
+    }
+
+    private ResponseCookie cookie(String name, String value, Duration maxAge) {
+        return ResponseCookie.from(name, value)
                 .httpOnly(true)
                 .secure(true)
                 .path("/")
                 .sameSite("None")
-                .maxAge(Duration.ofDays(14))
+                .maxAge(maxAge)
                 .build();
-        httpServletResponse.addHeader("Set-Cookie", responseCookie.toString());
-
-        return ResponseEntity.ok(rotated);
     }
 
 }
@@ -1,7 +1,10 @@
 package com.pravell.user.presentation;
 
-import com.pravell.common.util.CommonJwtUtil;
+import com.pravell.common.auth.AuthUser;
+import com.pravell.common.auth.AuthenticatedUser;
+import com.pravell.user.application.AuthFacade;
 import com.pravell.user.application.UserService;
+import com.pravell.user.application.dto.response.UserAvailabilityResponse;
 import com.pravell.user.application.dto.response.UserProfileResponse;
 import com.pravell.user.presentation.request.UpdateUserRequest;
 import jakarta.validation.Valid;
@@ -12,8 +15,8 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -21,27 +24,34 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class UserController {
 
-    private final CommonJwtUtil commonJwtUtil;
     private final UserService userService;
+    private final AuthFacade authFacade;
 
     @GetMapping("/me")
-    public ResponseEntity<UserProfileResponse> getProfile(@RequestHeader("Authorization") String authorizationHeader){
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
+    public ResponseEntity<UserProfileResponse> getProfile(@AuthUser UUID id){
         return ResponseEntity.ok(userService.getProfile(id));
     }
 
     @DeleteMapping("/me")
-    public ResponseEntity<Void> withDrawUser(@RequestHeader("Authorization") String authorizationHeader){
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
-        userService.withDrawUser(id);
+    public ResponseEntity<Void> withDrawUser(@AuthUser AuthenticatedUser authenticatedUser){
+        authFacade.withdraw(authenticatedUser);
         return ResponseEntity.noContent().build();
     }
 
     @PatchMapping("/me")
-    public ResponseEntity<UserProfileResponse> updateUser(@RequestHeader("Authorization") String authorizationHeader,
+    public ResponseEntity<UserProfileResponse> updateUser(@AuthUser UUID id,
                                                           @Valid @RequestBody UpdateUserRequest updateUserRequest){
-        UUID id = commonJwtUtil.getUserIdFromToken(authorizationHeader);
         return ResponseEntity.ok(userService.updateUser(id, updateUserRequest.toUpdateUserApplicationRequest()));
     }
 
+    @GetMapping("/availability")
+    public ResponseEntity<UserAvailabilityResponse> checkAvailability(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String nickname) {
+        if (userId == null && nickname == null) {
+            throw new IllegalArgumentException("아이디 또는 닉네임을 입력해주세요.");
+        }
+        return ResponseEntity.ok(userService.checkAvailability(userId, nickname));
+    }
+
 }
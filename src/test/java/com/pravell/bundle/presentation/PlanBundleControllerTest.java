@@ -0,0 +1,213 @@
+package com.pravell.bundle.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pravell.ControllerTestSupport;
+import com.pravell.marker.domain.model.Marker;
+import com.pravell.marker.domain.repository.MarkerRepository;
+import com.pravell.plan.domain.model.Plan;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.repository.PlanRepository;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.user.domain.model.User;
+import com.pravell.user.domain.model.UserStatus;
+import com.pravell.user.domain.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+@DisplayName("플랜 번들 조회 통합 테스트")
+class PlanBundleControllerTest extends ControllerTestSupport {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanUsersRepository planUsersRepository;
+
+    @Autowired
+    private MarkerRepository markerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+        planRepository.deleteAllInBatch();
+        planUsersRepository.deleteAllInBatch();
+        markerRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("플랜 멤버는 플랜의 모든 섹션을 한 번에 조회할 수 있다.")
+    @Test
+    void shouldReturnAllSections_whenUserIsMember() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        User member = userRepository.save(getUser());
+        Plan plan = planRepository.save(getPlan(true));
+        planUsersRepository.save(getPlanUsers(plan.getId(), owner.getId(), PlanUserStatus.OWNER));
+        planUsersRepository.save(getPlanUsers(plan.getId(), member.getId(), PlanUserStatus.MEMBER));
+        markerRepository.save(getMarker(plan.getId()));
+
+        String token = buildToken(member.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+        double markerCount = meterRegistry.timer("plan.bundle.section", "section", "markers").count();
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/plans/" + plan.getId() + "/bundle")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plan.planId").value(plan.getId().toString()))
+                .andExpect(jsonPath("$.plan.ownerId").value(owner.getId().toString()))
+                .andExpect(jsonPath("$.plan.isMember").value(true))
+                .andExpect(jsonPath("$.places").isArray())
+                .andExpect(jsonPath("$.routes").isArray())
+                .andExpect(jsonPath("$.markers.length()").value(1))
+                .andExpect(jsonPath("$.markers[0].color").value("#123456"))
+                .andExpect(jsonPath("$.expenses").isArray());
+
+        assertThat(meterRegistry.timer("plan.bundle.section", "section", "markers").count())
+                .isEqualTo(markerCount + 1);
+    }
+
+    @DisplayName("include로 지정한 섹션만 조회한다.")
+    @Test
+    void shouldReturnOnlyIncludedSections_whenIncludeIsGiven() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        Plan plan = planRepository.save(getPlan(true));
+        planUsersRepository.save(getPlanUsers(plan.getId(), owner.getId(), PlanUserStatus.OWNER));
+        markerRepository.save(getMarker(plan.getId()));
+
+        String token = buildToken(owner.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/plans/" + plan.getId() + "/bundle")
+                                .param("include", "markers, routes")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.markers.length()").value(1))
+                .andExpect(jsonPath("$.routes").isArray())
+                .andExpect(jsonPath("$.plan").doesNotExist())
+                .andExpect(jsonPath("$.places").doesNotExist())
+                .andExpect(jsonPath("$.expenses").doesNotExist());
+    }
+
+    @DisplayName("공개 플랜의 비멤버는 지출 섹션을 제외한 번들을 조회한다.")
+    @Test
+    void shouldExcludeExpenses_whenUserIsNotMemberOfPublicPlan() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        User other = userRepository.save(getUser());
+        Plan plan = planRepository.save(getPlan(true));
+        planUsersRepository.save(getPlanUsers(plan.getId(), owner.getId(), PlanUserStatus.OWNER));
+
+        String token = buildToken(other.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/plans/" + plan.getId() + "/bundle")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plan.isMember").value(false))
+                .andExpect(jsonPath("$.markers").isArray())
+                .andExpect(jsonPath("$.expenses").doesNotExist());
+    }
+
+    @DisplayName("비공개 플랜의 비멤버는 번들을 조회할 수 없다.")
+    @Test
+    void shouldReturnForbidden_whenUserIsNotMemberOfPrivatePlan() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        User other = userRepository.save(getUser());
+        Plan plan = planRepository.save(getPlan(false));
+        planUsersRepository.save(getPlanUsers(plan.getId(), owner.getId(), PlanUserStatus.OWNER));
+
+        String token = buildToken(other.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/plans/" + plan.getId() + "/bundle")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("해당 리소스에 접근 할 권한이 없습니다."));
+    }
+
+    @DisplayName("존재하지 않는 섹션을 지정하면 400을 반환한다.")
+    @Test
+    void shouldReturnBadRequest_whenIncludeHasUnknownSection() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        Plan plan = planRepository.save(getPlan(true));
+        planUsersRepository.save(getPlanUsers(plan.getId(), owner.getId(), PlanUserStatus.OWNER));
+
+        String token = buildToken(owner.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/plans/" + plan.getId() + "/bundle")
+                                .param("include", "markers,unknown")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("올바르지 않은 번들 섹션입니다."));
+    }
+
+    private User getUser() {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .userId("userId" + UUID.randomUUID())
+                .nickname("nickname" + UUID.randomUUID())
+                .password("passworddd")
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    private Plan getPlan(boolean isPublic) {
+        return Plan.builder()
+                .id(UUID.randomUUID())
+                .name("name")
+                .isDeleted(false)
+                .isPublic(isPublic)
+                .startDate(LocalDate.parse("2025-09-29"))
+                .endDate(LocalDate.parse("2025-09-30"))
+                .build();
+    }
+
+    private PlanUsers getPlanUsers(UUID planId, UUID userId, PlanUserStatus status) {
+        return PlanUsers.builder()
+                .planId(planId)
+                .userId(userId)
+                .planUserStatus(status)
+                .build();
+    }
+
+    private Marker getMarker(UUID planId) {
+        return Marker.builder()
+                .planId(planId)
+                .description("마커 설명")
+                .color("#123456")
+                .build();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.pravell.common.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class AccessTokenDenylistTest {
+
+    @Autowired
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final String tokenId = UUID.randomUUID().toString();
+    private final List<AccessTokenDenylist> otherInstances = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherInstances.forEach(denylist -> listenerContainer.removeMessageListener(denylist));
+        redisTemplate.delete("deniedAccessToken:" + tokenId);
+    }
+
+    @DisplayName("다른 인스턴스에서 차단한 토큰은 Redis 채널을 통해 필터에 반영되어 거부된다.")
+    @Test
+    void shouldDenyToken_whenDeniedOnOtherInstance() throws Exception {
+        //given
+        AccessTokenDenylist otherInstance = createReadyInstance();
+        assertThat(otherInstance.isDenied(tokenId)).isFalse();
+
+        //when
+        accessTokenDenylist.deny(tokenId, Instant.now().plusSeconds(60));
+
+        //then
+        assertThat(awaitDenied(otherInstance, Duration.ofSeconds(3))).isTrue();
+        assertThat(meterRegistry.counter("jwt.denylist.check", "result", "denied").count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("인스턴스가 시작될 때 Redis에 남아 있는 차단 토큰으로 필터를 다시 만든다.")
+    @Test
+    void shouldDenyToken_whenDeniedBeforeInstanceStarted() {
+        //given
+        accessTokenDenylist.deny(tokenId, Instant.now().plusSeconds(60));
+
+        //when
+        AccessTokenDenylist otherInstance = createReadyInstance();
+
+        //then
+        assertThat(otherInstance.isDenied(tokenId)).isTrue();
+        assertThat(otherInstance.isDenied(UUID.randomUUID().toString())).isFalse();
+        assertThat(meterRegistry.counter("jwt.denylist.check", "result", "filtered").count())
+                .isGreaterThanOrEqualTo(1.0);
+    }
+
+    private AccessTokenDenylist createReadyInstance() {
+        AccessTokenDenylist denylist = new AccessTokenDenylist(redisTemplate, listenerContainer, eventPublisher,
+                meterRegistry, 1000, 0.001, Duration.ofMinutes(10));
+        denylist.subscribe();
+        denylist.rebuild();
+        otherInstances.add(denylist);
+        return denylist;
+    }
+
+    private boolean awaitDenied(AccessTokenDenylist denylist, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (denylist.isDenied(tokenId)) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+}
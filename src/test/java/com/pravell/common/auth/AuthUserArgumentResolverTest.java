@@ -0,0 +1,169 @@
+package com.pravell.common.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.pravell.common.exception.InvalidCredentialsException;
+import com.pravell.common.util.CommonJwtUtil;
+import com.pravell.common.util.VerifiedAccessToken;
+import com.pravell.user.domain.exception.UserNotFoundException;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class AuthUserArgumentResolverTest {
+
+    private static final String AUTHORIZATION = "Bearer token";
+
+    private final CommonJwtUtil commonJwtUtil = mock(CommonJwtUtil.class);
+    private final ActiveUserVerifier activeUserVerifier = mock(ActiveUserVerifier.class);
+    private final AuthUserArgumentResolver resolver = new AuthUserArgumentResolver(commonJwtUtil,
+            activeUserVerifier);
+
+    private final UUID userId = UUID.randomUUID();
+    private final Instant expiresAt = Instant.now().plusSeconds(600);
+
+    @DisplayName("@AuthUser가 붙은 UUID와 AuthenticatedUser 파라미터만 지원한다.")
+    @Test
+    void shouldSupportOnlyAnnotatedUuidOrAuthenticatedUser() throws Exception {
+        //when, then
+        assertThat(resolver.supportsParameter(parameter("uuid", UUID.class))).isTrue();
+        assertThat(resolver.supportsParameter(parameter("principal", AuthenticatedUser.class))).isTrue();
+        assertThat(resolver.supportsParameter(parameter("notAnnotated", UUID.class))).isFalse();
+        assertThat(resolver.supportsParameter(parameter("string", String.class))).isFalse();
+    }
+
+    @DisplayName("활성 유저의 토큰이면 검증된 유저 정보를 반환한다.")
+    @Test
+    void shouldResolveActivePrincipal_whenUserIsActive() throws Exception {
+        //given
+        given(commonJwtUtil.verifyAccessToken(AUTHORIZATION)).willReturn(accessToken());
+
+        //when
+        Object resolved = resolver.resolveArgument(parameter("principal", AuthenticatedUser.class), null,
+                webRequest(), null);
+
+        //then
+        assertThat(resolved).isInstanceOf(AuthenticatedUser.class);
+        AuthenticatedUser authenticatedUser = (AuthenticatedUser) resolved;
+        assertThat(authenticatedUser.getId()).isEqualTo(userId);
+        assertThat(authenticatedUser.getTokenId()).isEqualTo("tokenId");
+        assertThat(authenticatedUser.getTokenExpiresAt()).isEqualTo(expiresAt);
+        assertThat(authenticatedUser.isActive()).isTrue();
+        verify(activeUserVerifier).verifyActiveUser(userId);
+    }
+
+    @DisplayName("한 요청에서 여러 파라미터를 해석해도 토큰 검증과 유저 상태 확인은 한 번만 한다.")
+    @Test
+    void shouldVerifyOnce_whenResolvedTwiceInSameRequest() throws Exception {
+        //given
+        given(commonJwtUtil.verifyAccessToken(AUTHORIZATION)).willReturn(accessToken());
+        NativeWebRequest webRequest = webRequest();
+
+        //when
+        Object id = resolver.resolveArgument(parameter("uuid", UUID.class), null, webRequest, null);
+        Object principal = resolver.resolveArgument(parameter("principal", AuthenticatedUser.class), null,
+                webRequest, null);
+
+        //then
+        assertThat(id).isEqualTo(userId);
+        assertThat(((AuthenticatedUser) principal).getId()).isEqualTo(userId);
+        verify(commonJwtUtil, times(1)).verifyAccessToken(AUTHORIZATION);
+        verify(activeUserVerifier, times(1)).verifyActiveUser(userId);
+    }
+
+    @DisplayName("유저가 존재하지 않거나 활성 상태가 아니면 예외가 발생하고 요청에 저장하지 않는다.")
+    @Test
+    void shouldThrow_whenUserNotFound() throws Exception {
+        //given
+        given(commonJwtUtil.verifyAccessToken(AUTHORIZATION)).willReturn(accessToken());
+        willThrow(new UserNotFoundException("유저를 찾을 수 없습니다.")).given(activeUserVerifier)
+                .verifyActiveUser(userId);
+        NativeWebRequest webRequest = webRequest();
+
+        //when, then
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter("uuid", UUID.class), null, webRequest, null))
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessage("유저를 찾을 수 없습니다.");
+        assertThat(webRequest.getAttribute(AuthenticatedUser.class.getName(), NativeWebRequest.SCOPE_REQUEST))
+                .isNull();
+    }
+
+    @DisplayName("요청에 저장된 유저 정보가 활성 검증을 거치지 않았으면 다시 검증한다.")
+    @Test
+    void shouldVerifyAgain_whenStoredPrincipalIsNotActive() throws Exception {
+        //given
+        given(commonJwtUtil.verifyAccessToken(AUTHORIZATION)).willReturn(accessToken());
+        NativeWebRequest webRequest = webRequest();
+        webRequest.setAttribute(AuthenticatedUser.class.getName(), AuthenticatedUser.builder().id(userId).build(),
+                NativeWebRequest.SCOPE_REQUEST);
+
+        //when
+        Object principal = resolver.resolveArgument(parameter("principal", AuthenticatedUser.class), null,
+                webRequest, null);
+
+        //then
+        assertThat(((AuthenticatedUser) principal).isActive()).isTrue();
+        verify(activeUserVerifier).verifyActiveUser(userId);
+    }
+
+    @DisplayName("토큰 검증에 실패하면 유저 상태를 확인하지 않는다.")
+    @Test
+    void shouldNotVerifyUser_whenTokenIsInvalid() throws Exception {
+        //given
+        given(commonJwtUtil.verifyAccessToken(AUTHORIZATION))
+                .willThrow(new InvalidCredentialsException("토큰이 올바르지 않습니다."));
+
+        //when, then
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter("uuid", UUID.class), null, webRequest(), null))
+                .isInstanceOf(InvalidCredentialsException.class);
+        verifyNoInteractions(activeUserVerifier);
+    }
+
+    private VerifiedAccessToken accessToken() {
+        return VerifiedAccessToken.builder()
+                .userId(userId)
+                .tokenId("tokenId")
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private NativeWebRequest webRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, AUTHORIZATION);
+        return new ServletWebRequest(request);
+    }
+
+    private MethodParameter parameter(String methodName, Class<?> parameterType) throws NoSuchMethodException {
+        return new MethodParameter(Handler.class.getDeclaredMethod(methodName, parameterType), 0);
+    }
+
+    private static class Handler {
+
+        void uuid(@AuthUser UUID id) {
+        }
+
+        void principal(@AuthUser AuthenticatedUser authenticatedUser) {
+        }
+
+        void notAnnotated(UUID id) {
+        }
+
+        void string(@AuthUser String id) {
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.pravell.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pravell.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VersionedLocalCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-20T00:00:00Z");
+
+    @DisplayName("캐시가 가득 차도 새 항목은 캐시되고 가장 오래 사용되지 않은 항목이 제거된다.")
+    @Test
+    void shouldCacheNewEntries_whenCacheIsFull() {
+        //given
+        VersionedLocalCache<Integer, String> cache = createCache(new MutableClock(NOW));
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "value" + i, 1L);
+        }
+
+        //when
+        for (int i = 100; i < 200; i++) {
+            cache.put(i, "value" + i, 1L);
+        }
+
+        //then
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.find(0)).isEmpty();
+        for (int i = 100; i < 200; i++) {
+            assertThat(cache.find(i)).map(VersionedLocalCache.Entry::value).contains("value" + i);
+        }
+    }
+
+    @DisplayName("무효화 이후에는 이전 버전의 값이 다시 캐시되지 않는다.")
+    @Test
+    void shouldRejectOlderVersion_whenInvalidated() {
+        //given
+        VersionedLocalCache<Integer, String> cache = createCache(new MutableClock(NOW));
+        cache.put(1, "old", 1L);
+
+        //when
+        cache.invalidate(1, 2L);
+        cache.put(1, "stale", 1L);
+
+        //then
+        assertThat(cache.find(1)).isEmpty();
+    }
+
+    @DisplayName("무효화 표시는 별도의 TTL이 지나면 제거된다.")
+    @Test
+    void shouldExpireTombstone_whenTombstoneTtlPassed() {
+        //given
+        MutableClock clock = new MutableClock(NOW);
+        VersionedLocalCache<Integer, String> cache = createCache(clock);
+        cache.invalidate(1, 2L);
+
+        //when
+        clock.setInstant(NOW.plus(Duration.ofMinutes(1)));
+        cache.find(1);
+
+        //then
+        assertThat(cache.size()).isZero();
+    }
+
+    @DisplayName("TTL이 지난 값은 조회되지 않는다.")
+    @Test
+    void shouldNotFindEntry_whenTtlPassed() {
+        //given
+        MutableClock clock = new MutableClock(NOW);
+        VersionedLocalCache<Integer, String> cache = createCache(clock);
+        cache.put(1, "value", 1L);
+
+        //when
+        clock.setInstant(NOW.plus(Duration.ofSeconds(30)));
+
+        //then
+        assertThat(cache.find(1)).isEmpty();
+    }
+
+    private VersionedLocalCache<Integer, String> createCache(MutableClock clock) {
+        return new VersionedLocalCache<>(100, Duration.ofSeconds(30), Duration.ofMinutes(1), clock);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.pravell.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoundedExecutorsTest {
+
+    @DisplayName("고정 크기 풀은 접두사로 이름 붙인 데몬 스레드에서 작업을 실행한다.")
+    @Test
+    void shouldRunTasksOnNamedDaemonThreads() throws Exception {
+        //given
+        ThreadPoolExecutor executor = BoundedExecutors.newFixedPool("test-pool", 1, 1);
+
+        try {
+            //when
+            Thread thread = executor.submit(Thread::currentThread).get(1, TimeUnit.SECONDS);
+
+            //then
+            assertThat(thread.getName()).isEqualTo("test-pool-1");
+            assertThat(thread.isDaemon()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("기본 정책은 대기열이 가득 차면 작업을 거절한다.")
+    @Test
+    void shouldRejectWhenSaturatedByDefault() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        ThreadPoolExecutor executor = BoundedExecutors.newFixedPool("test-pool", 1, 1);
+
+        try {
+            executor.submit(() -> awaitQuietly(release));
+            executor.submit(() -> awaitQuietly(release));
+
+            //when, then
+            assertThatThrownBy(() -> executor.submit(() -> awaitQuietly(release)))
+                    .isInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("거절 정책을 지정하면 대기열이 가득 찼을 때 해당 정책으로 처리한다.")
+    @Test
+    void shouldDelegateToGivenPolicyWhenSaturated() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        ThreadPoolExecutor executor = BoundedExecutors.newFixedPool("test-pool", 1, 1,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        try {
+            executor.submit(() -> awaitQuietly(release));
+            executor.submit(() -> awaitQuietly(release));
+
+            //when
+            Future<Thread> future = executor.submit(Thread::currentThread);
+
+            //then
+            assertThat(future.get(1, TimeUnit.SECONDS)).isSameAs(Thread.currentThread());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("스레드 수를 지정하지 않으면 프로세서 수에 배수를 곱해 사용한다.")
+    @Test
+    void shouldFallBackToProcessorsWhenThreadsNotConfigured() {
+        //given
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        //when, then
+        assertThat(BoundedExecutors.threadsOrProcessors(0, 2)).isEqualTo(processors * 2);
+        assertThat(BoundedExecutors.threadsOrProcessors(3, 2)).isEqualTo(3);
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
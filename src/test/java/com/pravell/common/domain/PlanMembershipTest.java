@@ -0,0 +1,72 @@
+package com.pravell.common.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PlanMembershipTest {
+
+    @DisplayName("유저의 역할에 따라 소유자, 멤버, 차단 여부를 판단한다.")
+    @Test
+    void shouldResolveRolesOfUsers() {
+        //given
+        UUID ownerId = UUID.randomUUID();
+        UUID memberId = UUID.randomUUID();
+        UUID blockedId = UUID.randomUUID();
+        UUID withdrawnId = UUID.randomUUID();
+
+        List<Map.Entry<UUID, PlanRole>> members = new ArrayList<>();
+        members.add(Map.entry(ownerId, PlanRole.OWNER));
+        members.add(Map.entry(memberId, PlanRole.MEMBER));
+        members.add(Map.entry(blockedId, PlanRole.BLOCKED));
+
+        //when
+        PlanMembership membership = PlanMembership.of(members, Map.Entry::getKey, Map.Entry::getValue);
+
+        //then
+        assertThat(membership.isOwner(ownerId)).isTrue();
+        assertThat(membership.isOwner(memberId)).isFalse();
+        assertThat(membership.isOwnerOrMember(memberId)).isTrue();
+        assertThat(membership.isOwnerOrMember(blockedId)).isFalse();
+        assertThat(membership.isBlocked(blockedId)).isTrue();
+        assertThat(membership.isOwnerOrMember(withdrawnId)).isFalse();
+        assertThat(membership.isBlocked(withdrawnId)).isFalse();
+        assertThat(membership.isOwnerOrMember(null)).isFalse();
+        assertThat(membership.findActiveUserIds()).containsExactlyInAnyOrder(ownerId, memberId);
+    }
+
+    @DisplayName("역할이 없는 유저는 멤버십에 포함하지 않는다.")
+    @Test
+    void shouldSkipUsersWithoutRole() {
+        //given
+        UUID withdrawnId = UUID.randomUUID();
+
+        //when
+        PlanMembership membership = PlanMembership.of(List.of(withdrawnId), id -> id, id -> null);
+
+        //then
+        assertThat(membership.isOwnerOrMember(withdrawnId)).isFalse();
+        assertThat(membership.isBlocked(withdrawnId)).isFalse();
+        assertThat(membership.findActiveUserIds()).isEmpty();
+    }
+
+    @DisplayName("유저 ID는 멤버십에 추가된 순서대로 반환한다.")
+    @Test
+    void shouldReturnUserIdsInInsertionOrder() {
+        //given
+        List<UUID> userIds = IntStream.range(0, 100).mapToObj(i -> UUID.randomUUID()).toList();
+
+        //when
+        PlanMembership membership = PlanMembership.of(userIds, id -> id, id -> PlanRole.MEMBER);
+
+        //then
+        assertThat(membership.findActiveUserIds()).containsExactlyElementsOf(userIds);
+    }
+
+}
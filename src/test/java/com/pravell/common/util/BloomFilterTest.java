@@ -0,0 +1,63 @@
+package com.pravell.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @DisplayName("추가한 값은 항상 포함될 수 있다고 응답한다.")
+    @Test
+    void shouldNeverReturnFalseNegative() {
+        //given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+
+        //when
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("user-" + i));
+
+        //then
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> bloomFilter.mightContain("user-" + i))).isTrue();
+    }
+
+    @DisplayName("추가하지 않은 값의 오탐률은 설정한 오탐률 근처로 유지된다.")
+    @Test
+    void shouldKeepFalsePositiveRateNearConfiguredRate() {
+        //given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("user-" + i));
+
+        //when
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> bloomFilter.mightContain("other-" + i))
+                .count();
+
+        //then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @DisplayName("비어있는 필터는 어떤 값도 포함하지 않는다고 응답한다.")
+    @Test
+    void shouldReturnFalse_whenNothingAdded() {
+        //given
+        BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+
+        //when, then
+        assertThat(bloomFilter.mightContain("nickname")).isFalse();
+    }
+
+    @DisplayName("예상 삽입 수나 오탐률이 올바르지 않으면 예외가 발생한다.")
+    @Test
+    void shouldThrow_whenConfigurationIsInvalid() {
+        //when, then
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("블룸 필터 설정이 올바르지 않습니다.");
+        assertThatThrownBy(() -> new BloomFilter(1_000, 1.0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("블룸 필터 설정이 올바르지 않습니다.");
+    }
+
+}
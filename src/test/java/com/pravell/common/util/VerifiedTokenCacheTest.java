@@ -0,0 +1,102 @@
+package com.pravell.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pravell.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-20T00:00:00Z");
+
+    @DisplayName("검증된 토큰은 만료 전까지 캐시에서 조회된다.")
+    @Test
+    void shouldReturnCachedUserId_whenTokenNotExpired() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+        UUID userId = UUID.randomUUID();
+
+        //when
+        cache.put("token", verifiedAccessToken(userId, NOW.plusSeconds(60)));
+
+        //then
+        assertThat(cache.get("token").getUserId()).isEqualTo(userId);
+        assertThat(cache.get("other-token")).isNull();
+        assertThat(meterRegistry.counter("jwt.verified.cache", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("jwt.verified.cache", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @DisplayName("만료 시각이 지난 토큰은 캐시에서 제거된다.")
+    @Test
+    void shouldEvictToken_whenTokenExpired() {
+        //given
+        MutableClock clock = new MutableClock(NOW);
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, new SimpleMeterRegistry(), clock);
+        cache.put("token", verifiedAccessToken(UUID.randomUUID(), NOW.plusSeconds(60)));
+
+        //when
+        clock.setInstant(NOW.plusSeconds(60));
+
+        //then
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @DisplayName("만료되지 않은 토큰으로 캐시가 가득 차도 새 토큰은 저장되고 가장 오래 쓰이지 않은 토큰이 밀려난다.")
+    @Test
+    void shouldCacheNewTokens_whenCacheIsFullOfUnexpiredTokens() {
+        //given
+        int maxSize = 100;
+        VerifiedTokenCache cache = new VerifiedTokenCache(maxSize, new SimpleMeterRegistry(),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        for (int i = 0; i < maxSize; i++) {
+            cache.put("token" + i, verifiedAccessToken(UUID.randomUUID(), NOW.plusSeconds(600)));
+        }
+        cache.get("token0");
+
+        //when
+        for (int i = maxSize; i < maxSize * 2; i++) {
+            cache.put("token" + i, verifiedAccessToken(UUID.randomUUID(), NOW.plusSeconds(600)));
+        }
+
+        //then
+        for (int i = maxSize; i < maxSize * 2; i++) {
+            assertThat(cache.get("token" + i)).isNotNull();
+        }
+        assertThat(cache.get("token1")).isNull();
+    }
+
+    @DisplayName("최근에 조회한 토큰은 캐시가 가득 차도 밀려나지 않는다.")
+    @Test
+    void shouldKeepRecentlyUsedToken_whenCacheIsFull() {
+        //given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, new SimpleMeterRegistry(),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        cache.put("token1", verifiedAccessToken(UUID.randomUUID(), NOW.plusSeconds(60)));
+        cache.put("token2", verifiedAccessToken(UUID.randomUUID(), NOW.plusSeconds(60)));
+        cache.get("token1");
+
+        //when
+        cache.put("token3", verifiedAccessToken(UUID.randomUUID(), NOW.plusSeconds(60)));
+
+        //then
+        assertThat(cache.get("token1")).isNotNull();
+        assertThat(cache.get("token2")).isNull();
+        assertThat(cache.get("token3")).isNotNull();
+    }
+
+    private VerifiedAccessToken verifiedAccessToken(UUID userId, Instant expiresAt) {
+        return VerifiedAccessToken.builder()
+                .userId(userId)
+                .tokenId(UUID.randomUUID().toString())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+}
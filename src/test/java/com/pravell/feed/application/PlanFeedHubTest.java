@@ -0,0 +1,272 @@
+package com.pravell.feed.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pravell.common.auth.AccessTokenDeniedEvent;
+import com.pravell.feed.domain.model.PlanFeedEvent;
+import com.pravell.feed.domain.repository.PlanFeedRepository;
+import com.pravell.user.domain.event.UserWithdrawnEvent;
+import com.pravell.user.domain.model.User;
+import com.pravell.user.domain.model.UserStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class PlanFeedHubTest {
+
+    private final UUID planId = UUID.randomUUID();
+    private final InMemoryPlanFeedRepository repository = new InMemoryPlanFeedRepository();
+
+    @DisplayName("구독자에게 새 이벤트를 순서대로 전달한다.")
+    @Test
+    void shouldDeliverEventsInOrder_whenEventsAreAppended() throws Exception {
+        //given
+        PlanFeedHub hub = hub(16);
+        CapturingEmitter emitter = new CapturingEmitter();
+        hub.register(planId, UUID.randomUUID(), "token", true, emitter).start();
+
+        repository.add(event("1-0", "PLACE_SAVED"));
+        repository.add(event("2-0", "MARKER_UPDATED"));
+        repository.add(event("3-0", "ROUTE_PLACE_MOVED"));
+
+        //when
+        hub.onAppended(planId);
+
+        //then
+        assertThat(emitter.awaitEventIds(3)).containsExactly("1-0", "2-0", "3-0");
+    }
+
+    @DisplayName("플랜 멤버가 아닌 구독자에게는 지출 이벤트를 전달하지 않는다.")
+    @Test
+    void shouldSkipExpenseEvents_whenSubscriberIsNotMember() throws Exception {
+        //given
+        PlanFeedHub hub = hub(16);
+        CapturingEmitter emitter = new CapturingEmitter();
+        hub.register(planId, UUID.randomUUID(), "token", false, emitter).start();
+
+        repository.add(event("1-0", "EXPENSE_ADDED"));
+        repository.add(event("2-0", "MARKER_CREATED"));
+
+        //when
+        hub.onAppended(planId);
+
+        //then
+        assertThat(emitter.awaitEventIds(1)).containsExactly("2-0");
+    }
+
+    @DisplayName("재생한 이벤트까지는 다시 전달하지 않는다.")
+    @Test
+    void shouldNotDeliverReplayedEvents_whenResumedFromLastEventId() throws Exception {
+        //given
+        PlanFeedHub hub = hub(16);
+        CapturingEmitter emitter = new CapturingEmitter();
+        PlanFeedSubscription subscription = hub.register(planId, UUID.randomUUID(), "token", true, emitter);
+
+        repository.add(event("1-0", "PLACE_SAVED"));
+        repository.add(event("2-0", "PLACE_UPDATED"));
+        repository.add(event("3-0", "PLACE_DELETED"));
+        subscription.replay(List.of(event("1-0", "PLACE_SAVED"), event("2-0", "PLACE_UPDATED")));
+
+        //when
+        subscription.start();
+        hub.onAppended(planId);
+
+        //then
+        assertThat(emitter.awaitEventIds(3)).containsExactly("1-0", "2-0", "3-0");
+    }
+
+    @DisplayName("구독 버퍼가 가득 차면 구독을 종료한다.")
+    @Test
+    void shouldCloseSubscription_whenBufferOverflows() throws Exception {
+        //given
+        PlanFeedHub hub = hub(1);
+        CapturingEmitter emitter = new CapturingEmitter();
+        PlanFeedSubscription subscription = hub.register(planId, UUID.randomUUID(), "token", true, emitter);
+
+        repository.add(event("1-0", "PLACE_SAVED"));
+        repository.add(event("2-0", "PLACE_UPDATED"));
+
+        //when
+        hub.onAppended(planId);
+
+        //then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!subscription.isClosed() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(emitter.completed).isTrue();
+    }
+
+    @DisplayName("멤버십이 변경된 유저의 구독은 종료된다.")
+    @Test
+    void shouldCloseSubscription_whenMembershipOfSubscriberChanges() throws Exception {
+        //given
+        PlanFeedHub hub = hub(16);
+        UUID userId = UUID.randomUUID();
+        PlanFeedSubscription kicked = hub.register(planId, userId, "token", true, new CapturingEmitter());
+        PlanFeedSubscription other = hub.register(planId, UUID.randomUUID(), "token", true, new CapturingEmitter());
+        kicked.start();
+        other.start();
+
+        repository.add(PlanFeedEvent.builder()
+                .id("1-0")
+                .planId(planId)
+                .type(PlanFeedEvent.MEMBERSHIP_CHANGED)
+                .resourceId("KICKED")
+                .userId(userId)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        //when
+        hub.onAppended(planId);
+
+        //then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!kicked.isClosed() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(kicked.isClosed()).isTrue();
+        assertThat(other.isClosed()).isFalse();
+    }
+
+    @DisplayName("차단된 액세스 토큰으로 연결한 구독은 종료된다.")
+    @Test
+    void shouldCloseSubscription_whenAccessTokenIsDenied() {
+        //given
+        PlanFeedHub hub = hub(16);
+        UUID userId = UUID.randomUUID();
+        String tokenId = UUID.randomUUID().toString();
+        PlanFeedSubscription signedOut = hub.register(planId, userId, tokenId, true, new CapturingEmitter());
+        PlanFeedSubscription otherSession = hub.register(planId, userId, UUID.randomUUID().toString(), true,
+                new CapturingEmitter());
+
+        //when
+        hub.on(new AccessTokenDeniedEvent(tokenId));
+
+        //then
+        assertThat(signedOut.isClosed()).isTrue();
+        assertThat(otherSession.isClosed()).isFalse();
+    }
+
+    @DisplayName("탈퇴한 유저의 구독은 모두 종료된다.")
+    @Test
+    void shouldCloseAllSubscriptionsOfUser_whenUserWithdraws() {
+        //given
+        PlanFeedHub hub = hub(16);
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .userId("withdrawn")
+                .password("password")
+                .nickname("탈퇴유저")
+                .status(UserStatus.WITHDRAWN)
+                .build();
+        PlanFeedSubscription first = hub.register(planId, user.getId(), UUID.randomUUID().toString(), true,
+                new CapturingEmitter());
+        PlanFeedSubscription second = hub.register(UUID.randomUUID(), user.getId(), UUID.randomUUID().toString(),
+                false, new CapturingEmitter());
+        PlanFeedSubscription other = hub.register(planId, UUID.randomUUID(), UUID.randomUUID().toString(), true,
+                new CapturingEmitter());
+
+        //when
+        hub.on(new UserWithdrawnEvent(user, LocalDateTime.now()));
+
+        //then
+        assertThat(first.isClosed()).isTrue();
+        assertThat(second.isClosed()).isTrue();
+        assertThat(other.isClosed()).isFalse();
+    }
+
+    private PlanFeedHub hub(int bufferSize) {
+        return new PlanFeedHub(repository, new SimpleMeterRegistry(), 2, 64, bufferSize, 100, Duration.ofMinutes(1));
+    }
+
+    private PlanFeedEvent event(String id, String type) {
+        return PlanFeedEvent.builder()
+                .id(id)
+                .planId(planId)
+                .type(type)
+                .resourceId("1")
+                .userId(UUID.randomUUID())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static class InMemoryPlanFeedRepository implements PlanFeedRepository {
+
+        private final List<PlanFeedEvent> events = new CopyOnWriteArrayList<>();
+
+        void add(PlanFeedEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public String append(PlanFeedEvent event) {
+            events.add(event);
+            return event.getId();
+        }
+
+        @Override
+        public List<PlanFeedEvent> findAfter(UUID planId, String lastEventId, int limit) {
+            return events.stream()
+                    .filter(event -> event.isAfter(lastEventId))
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public Optional<String> findOldestId(UUID planId) {
+            return events.stream().map(PlanFeedEvent::getId).findFirst();
+        }
+
+        @Override
+        public Optional<String> findLatestId(UUID planId) {
+            return events.isEmpty() ? Optional.empty() : Optional.of(events.get(events.size() - 1).getId());
+        }
+
+    }
+
+    private static class CapturingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            frames.add(builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        private List<String> awaitEventIds(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (eventIds().size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            return eventIds();
+        }
+
+        private List<String> eventIds() {
+            return frames.stream()
+                    .filter(frame -> frame.startsWith("id:"))
+                    .map(frame -> frame.substring("id:".length(), frame.indexOf('\n')))
+                    .toList();
+        }
+
+    }
+
+}
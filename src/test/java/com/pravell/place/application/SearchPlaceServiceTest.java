@@ -9,15 +9,22 @@ import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse
 import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse.Location;
 import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse.OpeningHours;
 import com.pravell.place.application.dto.response.api.NaverPlaceResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -30,15 +37,29 @@ class SearchPlaceServiceTest {
     @Mock
     private GoogleSearchApi googleSearchApi;
 
-    @InjectMocks
     private SearchPlaceService searchPlaceService;
+    private final List<SearchPlaceService> createdServices = new ArrayList<>();
 
     private static final UUID USER_ID = UUID.randomUUID();
     private static final String MAP_URL = "https://map.com/";
 
     @BeforeEach
     void setUp() {
-        injectMapUrl(searchPlaceService, MAP_URL);
+        searchPlaceService = createService(naverSearchApi, googleSearchApi, Duration.ofSeconds(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        createdServices.forEach(SearchPlaceService::shutdown);
+    }
+
+    private SearchPlaceService createService(NaverSearchApi naverSearchApi, GoogleSearchApi googleSearchApi,
+                                             Duration timeout) {
+        SearchPlaceService service = new SearchPlaceService(naverSearchApi, googleSearchApi,
+                new SimpleMeterRegistry(), 8, 64, timeout);
+        injectMapUrl(service, MAP_URL);
+        createdServices.add(service);
+        return service;
     }
 
     private void injectMapUrl(SearchPlaceService service, String mapUrl) {
@@ -127,6 +148,131 @@ class SearchPlaceServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("구글 상세 조회가 느릴 때 search()는")
+    class Describe_search_withSlowUpstream {
+
+        @DisplayName("상세 조회를 동시에 수행하고 네이버 순서대로 반환한다.")
+        @Test
+        void shouldEnrichConcurrently_andKeepNaverOrder() {
+            //given
+            List<NaverPlaceResponse> naverResults = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                naverResults.add(createNaverResponse("카페" + i, "경주", "경주"));
+            }
+            CountDownLatch allStarted = new CountDownLatch(naverResults.size());
+            StubGoogleSearchApi google = new StubGoogleSearchApi(title -> {
+                allStarted.countDown();
+                allStarted.await(2, TimeUnit.SECONDS);
+            }, "카페0", "카페1", "카페2", "카페3", "카페4");
+            SearchPlaceService service = createService(keyword -> naverResults, google, Duration.ofSeconds(3));
+
+            //when
+            List<SearchPlaceResponse> result = service.search("카페", USER_ID);
+
+            //then
+            assertThat(result).extracting(SearchPlaceResponse::getTitle)
+                    .containsExactly("카페0", "카페1", "카페2", "카페3", "카페4");
+            assertThat(result).extracting(SearchPlaceResponse::getLat)
+                    .containsOnly(new BigDecimal("37.1234"));
+            assertThat(google.maxInFlight.get()).isEqualTo(naverResults.size());
+        }
+
+        @DisplayName("제한 시간 안에 끝나지 않은 장소는 네이버 정보만 반환하고 상세 조회를 취소한다.")
+        @Test
+        void shouldFallbackToNaver_whenDetailsMissDeadline() throws InterruptedException {
+            //given
+            NaverPlaceResponse fast = createNaverResponse("빠른 카페", "경주", "경주");
+            NaverPlaceResponse slow = createNaverResponse("느린 카페", "경주", "경주");
+            slow.setMapx("1271234000");
+            slow.setMapy("351234000");
+            CountDownLatch never = new CountDownLatch(1);
+            CountDownLatch cancelled = new CountDownLatch(1);
+            StubGoogleSearchApi google = new StubGoogleSearchApi(title -> {
+                if (!title.equals("느린 카페")) {
+                    return;
+                }
+                try {
+                    never.await();
+                } catch (InterruptedException e) {
+                    cancelled.countDown();
+                    throw e;
+                }
+            }, "빠른 카페", "느린 카페");
+            SearchPlaceService service = createService(keyword -> List.of(slow, fast), google,
+                    Duration.ofMillis(200));
+
+            //when
+            List<SearchPlaceResponse> result = service.search("카페", USER_ID);
+
+            //then
+            assertThat(result).extracting(SearchPlaceResponse::getTitle).containsExactly("느린 카페", "빠른 카페");
+            assertThat(result.get(0).getLat()).isEqualTo(new BigDecimal("35.123400"));
+            assertThat(result.get(0).getHoliday()).contains("정보 없음");
+            assertThat(result.get(1).getLat()).isEqualTo(new BigDecimal("37.1234"));
+            assertThat(cancelled.await(1, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @DisplayName("상세 조회가 실패한 장소는 네이버 정보만 반환한다.")
+        @Test
+        void shouldFallbackToNaver_whenDetailsFail() {
+            //given
+            NaverPlaceResponse broken = createNaverResponse("실패 카페", "경주", "경주");
+            NaverPlaceResponse fine = createNaverResponse("정상 카페", "경주", "경주");
+            StubGoogleSearchApi google = new StubGoogleSearchApi(title -> {
+            }, "정상 카페");
+            SearchPlaceService service = createService(keyword -> List.of(broken, fine), google,
+                    Duration.ofSeconds(3));
+
+            //when
+            List<SearchPlaceResponse> result = service.search("카페", USER_ID);
+
+            //then
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).getHoliday()).contains("정보 없음");
+            assertThat(result.get(1).getLat()).isEqualTo(new BigDecimal("37.1234"));
+        }
+    }
+
+    private interface Upstream {
+
+        void call(String title) throws InterruptedException;
+
+    }
+
+    private class StubGoogleSearchApi implements GoogleSearchApi {
+
+        private final Upstream upstream;
+        private final Set<String> knownTitles;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private StubGoogleSearchApi(Upstream upstream, String... knownTitles) {
+            this.upstream = upstream;
+            this.knownTitles = Set.of(knownTitles);
+        }
+
+        @Override
+        public GooglePlaceDetailsResponse getDetails(String title, String roadAddress) {
+            if (!knownTitles.contains(title)) {
+                throw new IllegalStateException("upstream error");
+            }
+
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                upstream.call(title);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return createGoogleResponse(new BigDecimal("37.1234"), new BigDecimal("127.1234"),
+                    List.of("월~금: 09:00 - 18:00"));
+        }
+
+    }
+
     private NaverPlaceResponse createNaverResponse(String title, String address, String roadAddress) {
         return NaverPlaceResponse.builder()
                 .title(title)
@@ -0,0 +1,114 @@
+package com.pravell.place.infra.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse;
+import com.pravell.place.infra.cache.RedisGooglePlaceCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class GoogleSearchClientTest {
+
+    private static final String SEARCH_URL = "https://maps.test/search";
+    private static final String DETAIL_URL = "https://maps.test/detail";
+
+    private MockRestServiceServer server;
+    private GoogleSearchClient client;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(anyString())).willReturn(null);
+
+        RedisGooglePlaceCache cache = new RedisGooglePlaceCache(redisTemplate, new ObjectMapper(),
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), Duration.ofMinutes(10),
+                Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        client = new GoogleSearchClient(cache, restTemplate, "key", SEARCH_URL + "?input=", "&fields=place_id&key=",
+                DETAIL_URL + "?place_id=", "&key=");
+    }
+
+    @DisplayName("같은 장소의 상세 정보를 다시 조회하면 구글 API를 호출하지 않는다.")
+    @Test
+    void shouldSkipUpstream_whenDetailsRequestedTwice() {
+        //given
+        server.expect(once(), requestTo(startsWith(SEARCH_URL)))
+                .andRespond(withSuccess("""
+                        {"status": "OK", "candidates": [{"place_id": "place-1"}]}
+                        """, MediaType.APPLICATION_JSON));
+        server.expect(once(), requestTo(startsWith(DETAIL_URL)))
+                .andRespond(withSuccess("""
+                        {"status": "OK", "result": {"geometry": {"location": {"lat": 35.79, "lng": 129.33}}}}
+                        """, MediaType.APPLICATION_JSON));
+
+        //when
+        GooglePlaceDetailsResponse first = client.getDetails("불국사", "경북 경주시 불국로 385");
+        GooglePlaceDetailsResponse second = client.getDetails("불국사", "경북 경주시 불국로 385");
+
+        //then
+        server.verify();
+        assertThat(first.getPlaceId()).isEqualTo("place-1");
+        assertThat(second.getLatitude()).isEqualByComparingTo("35.79");
+    }
+
+    @DisplayName("검색 결과가 없으면(ZERO_RESULTS) 찾을 수 없음으로 캐시해 다시 호출하지 않는다.")
+    @Test
+    void shouldCacheNotFound_whenZeroResults() {
+        //given
+        server.expect(once(), requestTo(startsWith(SEARCH_URL)))
+                .andRespond(withSuccess("""
+                        {"status": "ZERO_RESULTS", "candidates": []}
+                        """, MediaType.APPLICATION_JSON));
+
+        //when
+        GooglePlaceDetailsResponse first = client.getDetails("없는 장소", "없는 주소");
+        GooglePlaceDetailsResponse second = client.getDetails("없는 장소", "없는 주소");
+
+        //then
+        server.verify();
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+    }
+
+    @DisplayName("할당량 초과처럼 일시적인 실패는 캐시하지 않고 다음 요청에서 다시 호출한다.")
+    @Test
+    void shouldNotCache_whenStatusIsTransientFailure() {
+        //given
+        server.expect(times(2), requestTo(startsWith(SEARCH_URL)))
+                .andRespond(withSuccess("""
+                        {"status": "OVER_QUERY_LIMIT", "candidates": []}
+                        """, MediaType.APPLICATION_JSON));
+
+        //when
+        GooglePlaceDetailsResponse first = client.getDetails("불국사", "경북 경주시 불국로 385");
+        GooglePlaceDetailsResponse second = client.getDetails("불국사", "경북 경주시 불국로 385");
+
+        //then
+        server.verify();
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+    }
+
+}
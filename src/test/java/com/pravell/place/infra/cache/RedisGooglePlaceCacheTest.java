@@ -0,0 +1,147 @@
+package com.pravell.place.infra.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pravell.place.application.dto.PlaceIdLookup;
+import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse;
+import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse.Geometry;
+import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse.Location;
+import com.pravell.place.application.dto.response.api.GooglePlaceDetailsResponse.OpeningHours;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class RedisGooglePlaceCacheTest {
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final String title = "불국사 " + UUID.randomUUID();
+
+    @DisplayName("제목과 도로명 주소를 정규화해 같은 장소로 조회한다.")
+    @Test
+    void shouldFindPlaceId_whenTitleDiffersOnlyInFormatting() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisGooglePlaceCache cache = createCache(meterRegistry);
+        cache.putPlaceId(title, "경북 경주시 불국로 385", "place-1");
+
+        //when
+        Optional<PlaceIdLookup> lookup = cache.findPlaceId("<b>" + title.toUpperCase() + "</b>",
+                "  경북  경주시 불국로 385 ");
+
+        //then
+        assertThat(lookup).contains(new PlaceIdLookup("place-1"));
+        assertThat(meterRegistry.counter("google.place.cache", "type", "place_id", "tier", "local").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter("google.place.upstream.saved", "type", "place_id").count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("후보가 없었던 장소는 찾을 수 없음으로 캐시된다.")
+    @Test
+    void shouldCacheNotFound_whenNoCandidates() {
+        //given
+        RedisGooglePlaceCache cache = createCache(new SimpleMeterRegistry());
+        cache.putPlaceId(title, "없는 주소", null);
+
+        //when
+        Optional<PlaceIdLookup> lookup = createCache(new SimpleMeterRegistry()).findPlaceId(title, "없는 주소");
+
+        //then
+        assertThat(lookup).isPresent();
+        assertThat(lookup.get().isFound()).isFalse();
+    }
+
+    @DisplayName("로컬 캐시에 없는 상세 정보는 Redis에서 조회한다.")
+    @Test
+    void shouldFindDetailsFromRedis_whenLocalCacheMisses() {
+        //given
+        String placeId = "place-" + UUID.randomUUID();
+        createCache(new SimpleMeterRegistry()).putDetails(GooglePlaceDetailsResponse.builder()
+                .placeId(placeId)
+                .geometry(new Geometry(new Location(new BigDecimal("35.7900"), new BigDecimal("129.3320"))))
+                .opening_hours(new OpeningHours(List.of("월~일: 09:00 - 18:00")))
+                .build());
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisGooglePlaceCache otherInstance = createCache(meterRegistry);
+
+        //when
+        Optional<GooglePlaceDetailsResponse> details = otherInstance.findDetails(placeId);
+        otherInstance.findDetails(placeId);
+
+        //then
+        assertThat(details).isPresent();
+        assertThat(details.get().getLatitude()).isEqualByComparingTo("35.7900");
+        assertThat(details.get().getOpeningHours()).containsExactly("월~일: 09:00 - 18:00");
+        assertThat(meterRegistry.counter("google.place.cache", "type", "details", "tier", "redis").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter("google.place.cache", "type", "details", "tier", "local").count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("캐시에 없는 장소는 미스로 기록된다.")
+    @Test
+    void shouldRecordMiss_whenPlaceIsNotCached() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisGooglePlaceCache cache = createCache(meterRegistry);
+
+        //when
+        Optional<PlaceIdLookup> lookup = cache.findPlaceId(title, "경북 경주시");
+
+        //then
+        assertThat(lookup).isEmpty();
+        assertThat(meterRegistry.counter("google.place.cache", "type", "place_id", "tier", "none").count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("로컬 캐시가 가득 차면 가장 오래 사용하지 않은 항목을 내보내고 새 항목을 저장한다.")
+    @Test
+    void shouldEvictLeastRecentlyUsed_whenLocalCacheIsFull() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RedisGooglePlaceCache cache = createCache(meterRegistry, 2);
+        cache.putPlaceId(title, "주소 1", "place-1");
+        cache.putPlaceId(title, "주소 2", "place-2");
+        cache.findPlaceId(title, "주소 1");
+
+        //when
+        cache.putPlaceId(title, "주소 3", "place-3");
+
+        //then
+        assertThat(cache.findPlaceId(title, "주소 3")).contains(new PlaceIdLookup("place-3"));
+        assertThat(cache.findPlaceId(title, "주소 1")).contains(new PlaceIdLookup("place-1"));
+        assertThat(cache.findPlaceId(title, "주소 2")).contains(new PlaceIdLookup("place-2"));
+        assertThat(meterRegistry.counter("google.place.cache", "type", "place_id", "tier", "local").count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.counter("google.place.cache", "type", "place_id", "tier", "redis").count())
+                .isEqualTo(1);
+    }
+
+    private RedisGooglePlaceCache createCache(SimpleMeterRegistry meterRegistry) {
+        return createCache(meterRegistry, 100);
+    }
+
+    private RedisGooglePlaceCache createCache(SimpleMeterRegistry meterRegistry, int maxLocalSize) {
+        return new RedisGooglePlaceCache(redisTemplate, objectMapper, meterRegistry, maxLocalSize,
+                Duration.ofMinutes(10), Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofMinutes(10));
+    }
+
+}
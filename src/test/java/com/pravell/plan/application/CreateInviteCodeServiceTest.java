@@ -0,0 +1,95 @@
+package com.pravell.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.pravell.plan.domain.model.Plan;
+import com.pravell.plan.domain.model.PlanInviteCode;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.repository.PlanInviteCodeRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = {
+        "invite-code.characters=ABC123",
+        "invite-code.length=6",
+        "invite-code.expires=1"
+})
+class CreateInviteCodeServiceTest {
+
+    @Autowired
+    private CreateInviteCodeService createInviteCodeService;
+
+    @MockitoSpyBean
+    private PlanInviteCodeRepository planInviteCodeRepository;
+
+    private final UUID ownerId = UUID.randomUUID();
+
+    private final Plan plan = Plan.builder()
+            .id(UUID.randomUUID())
+            .name("경주 여행")
+            .isPublic(true)
+            .isDeleted(false)
+            .startDate(LocalDate.parse("2025-09-29"))
+            .endDate(LocalDate.parse("2025-09-30"))
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        planInviteCodeRepository.deleteByPlanId(plan.getId());
+    }
+
+    @DisplayName("생성한 초대 코드가 다른 플랜의 코드와 겹치면 새 코드로 다시 시도한다.")
+    @Test
+    void shouldRetryWithNewCode_whenGeneratedCodeCollides() {
+        //given
+        doReturn(Optional.empty()).doCallRealMethod()
+                .when(planInviteCodeRepository).saveOrRotate(any(), any());
+
+        //when
+        String code = createInviteCodeService.create(plan, planUsers(), ownerId);
+
+        //then
+        ArgumentCaptor<PlanInviteCode> captor = ArgumentCaptor.forClass(PlanInviteCode.class);
+        verify(planInviteCodeRepository, times(2)).saveOrRotate(captor.capture(), any(Duration.class));
+        assertThat(code).isEqualTo(captor.getAllValues().get(1).getCode());
+        assertThat(planInviteCodeRepository.findCodeByPlanId(plan.getId())).contains(code);
+    }
+
+    @DisplayName("초대 코드가 계속 겹치면 정해진 횟수만큼 시도한 뒤 실패한다.")
+    @Test
+    void shouldFail_whenGeneratedCodesKeepColliding() {
+        //given
+        doReturn(Optional.empty()).when(planInviteCodeRepository).saveOrRotate(any(), any());
+
+        //when, then
+        assertThatThrownBy(() -> createInviteCodeService.create(plan, planUsers(), ownerId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("초대코드 생성에 실패했습니다. 잠시 후 다시 시도해주세요.");
+        verify(planInviteCodeRepository, times(5)).saveOrRotate(any(), any());
+        assertThat(planInviteCodeRepository.findCodeByPlanId(plan.getId())).isEmpty();
+    }
+
+    private List<PlanUsers> planUsers() {
+        return List.of(PlanUsers.createOwnerForPlan(ownerId, plan.getId()));
+    }
+
+}
@@ -15,7 +15,9 @@ import org.junit.jupiter.api.Test;
 
 class DeletePlanServiceTest {
 
-    private final DeletePlanService deletePlanService = new DeletePlanService(new PlanAuthorizationService());
+    private final DeletePlanService deletePlanService = new DeletePlanService(new PlanAuthorizationService(),
+            event -> {
+            });
 
     private final UUID ownerId = UUID.randomUUID();
     private final UUID memberId = UUID.randomUUID();
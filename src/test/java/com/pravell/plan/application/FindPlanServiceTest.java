@@ -6,18 +6,20 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 import static org.assertj.core.groups.Tuple.tuple;
 
 import com.pravell.common.exception.AccessDeniedException;
+import com.pravell.plan.application.dto.PlanPeriod;
+import com.pravell.plan.application.dto.response.FindPlansPageResponse;
 import com.pravell.plan.application.dto.response.FindPlansResponse;
-import com.pravell.plan.domain.model.Member;
 import com.pravell.plan.domain.model.Plan;
 import com.pravell.plan.domain.model.PlanUserStatus;
 import com.pravell.plan.domain.model.PlanUsers;
-import com.pravell.plan.domain.repository.PlanRepository;
-import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.plan.domain.model.UserPlanSummary;
+import com.pravell.plan.domain.repository.UserPlanSummaryRepository;
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,63 +37,115 @@ class FindPlanServiceTest {
     private FindPlanService findPlanService;
 
     @Autowired
-    private PlanRepository planRepository;
-
-    @Autowired
-    private PlanUsersRepository planUsersRepository;
+    private UserPlanSummaryRepository userPlanSummaryRepository;
 
     private final UUID userId = UUID.randomUUID();
     private final UUID planId = UUID.randomUUID();
 
     @AfterEach
     void tearDown() {
-        planRepository.deleteAllInBatch();
-        planUsersRepository.deleteAllInBatch();
+        userPlanSummaryRepository.deleteAllInBatch();
     }
 
-    @DisplayName("해당 유저가 참여중이고, 삭제되지 않은 플랜들을 조회한다.")
+    @DisplayName("유저의 플랜 목록 프로젝션으로 플랜 목록 응답을 만든다.")
     @Test
-    void shouldRetrievePlansUserIsParticipatingIn() {
+    void shouldBuildFindPlansResponses_fromUserPlanSummaries() {
         //given
         UUID userId = UUID.randomUUID();
 
         Plan plan1 = getPlan("정상 조회 플랜1", true, false);
-        PlanUsers planUsers1 = getPlanUsers(PlanUserStatus.OWNER, plan1.getId(), userId);
         Plan plan2 = getPlan("정상 조회 플랜2", false, false);
-        PlanUsers planUsers2 = getPlanUsers(PlanUserStatus.OWNER, plan2.getId(), userId);
-        Plan plan3 = getPlan("정상 조회 플랜3", true, false);
-        PlanUsers planUsers3 = getPlanUsers(PlanUserStatus.MEMBER, plan3.getId(), userId);
+        Plan plan3 = getPlan("다른 유저의 플랜1", true, false);
 
-        Plan plan4 = getPlan("삭제된 플랜1", true, true);
-        PlanUsers planUsers4 = getPlanUsers(PlanUserStatus.MEMBER, plan4.getId(), userId);
-        Plan plan5 = getPlan("탈퇴한 플랜1", true, false);
-        PlanUsers planUsers5 = getPlanUsers(PlanUserStatus.WITHDRAWN, plan5.getId(), userId);
-        Plan plan6 = getPlan("강퇴당한 플랜1", true, false);
-        PlanUsers planUsers6 = getPlanUsers(PlanUserStatus.KICKED, plan6.getId(), userId);
-        Plan plan7 = getPlan("차단당한 플랜1", true, false);
-        PlanUsers planUsers7 = getPlanUsers(PlanUserStatus.KICKED, plan7.getId(), userId);
+        userPlanSummaryRepository.saveAll(List.of(
+                UserPlanSummary.create(userId, plan1, true, "[\"멤버1\",\"멤버2\"]"),
+                UserPlanSummary.create(userId, plan2, false, "[\"멤버3\"]"),
+                UserPlanSummary.create(UUID.randomUUID(), plan3, true, "[\"멤버4\"]")
+        ));
 
-        planRepository.saveAll(List.of(plan1, plan2, plan3, plan4, plan5, plan6, plan7));
-        planUsersRepository.saveAll(
-                List.of(planUsers1, planUsers2, planUsers3, planUsers4, planUsers5, planUsers6, planUsers7));
+        //when
+        List<FindPlansResponse> responses = findPlanService.findPage(userId, null, null, 20).getPlans();
 
-        Map<UUID, List<Member>> planIdAndPlanMembers = new HashMap<>();
+        //then
+        assertThat(responses).hasSize(2)
+                .extracting("planId", "planName", "isOwner", "members")
+                .containsExactlyInAnyOrder(
+                        tuple(plan1.getId(), plan1.getName(), true, List.of("멤버1", "멤버2")),
+                        tuple(plan2.getId(), plan2.getName(), false, List.of("멤버3"))
+                );
+    }
 
-        planIdAndPlanMembers.put(plan1.getId(), List.of(getMember("멤버 1"), getMember("멤버 2")));
-        planIdAndPlanMembers.put(plan2.getId(), List.of(getMember("멤버1")));
-        planIdAndPlanMembers.put(plan3.getId(), List.of(getMember("멤버4"), getMember("멤버5")));
+    @DisplayName("시작일과 플랜 아이디 순으로 정렬하고, 커서로 다음 페이지를 조회한다.")
+    @Test
+    void shouldReturnNextPage_whenCursorIsGiven() {
+        //given
+        UUID userId = UUID.randomUUID();
+        List<Plan> plans = List.of(
+                getPlan("플랜1", LocalDate.parse("2025-09-01"), LocalDate.parse("2025-09-02")),
+                getPlan("플랜2", LocalDate.parse("2025-09-01"), LocalDate.parse("2025-09-03")),
+                getPlan("플랜3", LocalDate.parse("2025-10-01"), LocalDate.parse("2025-10-02")),
+                getPlan("플랜4", LocalDate.parse("2025-08-01"), LocalDate.parse("2025-08-02")),
+                getPlan("플랜5", LocalDate.parse("2025-11-01"), LocalDate.parse("2025-11-02"))
+        );
+        userPlanSummaryRepository.saveAll(plans.stream()
+                .map(plan -> UserPlanSummary.create(userId, plan, true, "[]"))
+                .toList());
 
         //when
-        List<FindPlansResponse> responses = findPlanService.findAll(userId, planIdAndPlanMembers);
+        FindPlansPageResponse firstPage = findPlanService.findPage(userId, null, null, 2);
+        FindPlansPageResponse secondPage = findPlanService.findPage(userId, null, firstPage.getNextCursor(), 2);
+        FindPlansPageResponse lastPage = findPlanService.findPage(userId, null, secondPage.getNextCursor(), 2);
 
         //then
-        assertThat(responses).hasSize(3)
-                .extracting("planId", "planName", "isOwner")
-                .containsExactlyInAnyOrder(
-                        tuple(plan1.getId(), plan1.getName(), true),
-                        tuple(plan2.getId(), plan2.getName(), true),
-                        tuple(plan3.getId(), plan3.getName(), false)
-                );
+        List<FindPlansResponse> all = new ArrayList<>();
+        all.addAll(firstPage.getPlans());
+        all.addAll(secondPage.getPlans());
+        all.addAll(lastPage.getPlans());
+
+        assertThat(firstPage.getPlans()).hasSize(2);
+        assertThat(secondPage.getPlans()).hasSize(2);
+        assertThat(lastPage.getPlans()).hasSize(1);
+        assertThat(lastPage.getNextCursor()).isNull();
+        assertThat(all).extracting(FindPlansResponse::getStartDate)
+                .isSortedAccordingTo(Comparator.naturalOrder());
+        assertThat(all).extracting(FindPlansResponse::getPlanId)
+                .containsExactlyInAnyOrderElementsOf(plans.stream().map(Plan::getId).toList())
+                .doesNotHaveDuplicates();
+    }
+
+    @DisplayName("기간 필터로 예정, 진행 중, 지난 플랜을 나누어 조회한다.")
+    @Test
+    void shouldFilterPlansByPeriod() {
+        //given
+        UUID userId = UUID.randomUUID();
+        LocalDate today = LocalDate.now();
+        Plan upcoming = getPlan("예정 플랜", today.plusDays(3), today.plusDays(5));
+        Plan ongoing = getPlan("진행 중 플랜", today.minusDays(1), today.plusDays(1));
+        Plan past = getPlan("지난 플랜", today.minusDays(5), today.minusDays(3));
+        userPlanSummaryRepository.saveAll(Stream.of(upcoming, ongoing, past)
+                .map(plan -> UserPlanSummary.create(userId, plan, true, "[]"))
+                .toList());
+
+        //when
+        List<FindPlansResponse> upcomingPlans = findPlanService.findPage(userId, PlanPeriod.UPCOMING, null, 20)
+                .getPlans();
+        List<FindPlansResponse> ongoingPlans = findPlanService.findPage(userId, PlanPeriod.ONGOING, null, 20)
+                .getPlans();
+        List<FindPlansResponse> pastPlans = findPlanService.findPage(userId, PlanPeriod.PAST, null, 20).getPlans();
+
+        //then
+        assertThat(upcomingPlans).extracting(FindPlansResponse::getPlanId).containsExactly(upcoming.getId());
+        assertThat(ongoingPlans).extracting(FindPlansResponse::getPlanId).containsExactly(ongoing.getId());
+        assertThat(pastPlans).extracting(FindPlansResponse::getPlanId).containsExactly(past.getId());
+    }
+
+    @DisplayName("커서 형식이 올바르지 않으면 예외가 발생한다.")
+    @Test
+    void shouldThrowIllegalArgument_whenCursorIsInvalid() {
+        //when, then
+        assertThatThrownBy(() -> findPlanService.findPage(userId, null, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("올바르지 않은 커서입니다.");
     }
 
     @Test
@@ -172,11 +226,14 @@ class FindPlanServiceTest {
                 .build();
     }
 
-    private PlanUsers getPlanUsers(PlanUserStatus status, UUID planId, UUID userId) {
-        return PlanUsers.builder()
-                .planId(planId)
-                .userId(userId)
-                .planUserStatus(status)
+    private Plan getPlan(String name, LocalDate startDate, LocalDate endDate) {
+        return Plan.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .isPublic(true)
+                .isDeleted(false)
+                .startDate(startDate)
+                .endDate(endDate)
                 .build();
     }
 
@@ -199,11 +256,4 @@ class FindPlanServiceTest {
                 .build();
     }
 
-    private Member getMember(String nickname) {
-        return Member.builder()
-                .memberId(UUID.randomUUID())
-                .nickname(nickname)
-                .build();
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,179 @@
+package com.pravell.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.pravell.plan.application.dto.response.PlanJoinUserResponse;
+import com.pravell.plan.domain.model.Plan;
+import com.pravell.plan.domain.model.PlanInviteCode;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.repository.PlanInviteCodeRepository;
+import com.pravell.plan.domain.repository.PlanRepository;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.plan.domain.repository.UserPlanSummaryRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class JoinPlanConcurrencyTest {
+
+    private static final String INVITE_CODE = "JOIN01";
+
+    @Autowired
+    private PlanMemberFacade planMemberFacade;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanUsersRepository planUsersRepository;
+
+    @Autowired
+    private PlanInviteCodeRepository planInviteCodeRepository;
+
+    @Autowired
+    private UserPlanSummaryRepository userPlanSummaryRepository;
+
+    private final UUID ownerId = UUID.randomUUID();
+
+    private final Plan plan = Plan.builder()
+            .id(UUID.randomUUID())
+            .name("경주 여행")
+            .isPublic(true)
+            .isDeleted(false)
+            .startDate(LocalDate.parse("2025-09-29"))
+            .endDate(LocalDate.parse("2025-09-30"))
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        planRepository.save(plan);
+        planUsersRepository.save(PlanUsers.createOwnerForPlan(ownerId, plan.getId()));
+        planInviteCodeRepository.saveIfAbsent(PlanInviteCode.builder()
+                .planId(plan.getId())
+                .code(INVITE_CODE)
+                .createdBy(ownerId)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        planInviteCodeRepository.deleteByPlanId(plan.getId());
+        userPlanSummaryRepository.deleteAllInBatch();
+        planUsersRepository.deleteAllInBatch();
+        planRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("여러 유저가 같은 초대 코드로 동시에 참여해도 모두 참여에 성공한다.")
+    @Test
+    void shouldJoinAllUsers_whenManyUsersJoinConcurrently() throws Exception {
+        //given
+        int userCount = 30;
+        ExecutorService executorService = Executors.newFixedThreadPool(userCount);
+
+        List<Callable<PlanJoinUserResponse>> tasks = IntStream.range(0, userCount)
+                .mapToObj(i -> (Callable<PlanJoinUserResponse>) () ->
+                        planMemberFacade.join(UUID.randomUUID(), INVITE_CODE, null))
+                .toList();
+
+        //when
+        List<Future<PlanJoinUserResponse>> futures = executorService.invokeAll(tasks);
+        executorService.shutdown();
+
+        //then
+        for (Future<PlanJoinUserResponse> future : futures) {
+            assertThat(future.get().getPlanId()).isEqualTo(plan.getId());
+        }
+
+        List<PlanUsers> planUsers = planUsersRepository.findAllByPlanId(plan.getId());
+        assertThat(planUsers).hasSize(userCount + 1);
+        assertThat(planUsers).filteredOn(pu -> pu.getPlanUserStatus() == PlanUserStatus.MEMBER)
+                .hasSize(userCount);
+    }
+
+    @DisplayName("같은 유저가 같은 멱등성 키로 동시에 여러 번 참여하면 처리 중인 요청은 기다리지 않고 거절되고 참여 정보는 하나만 저장된다.")
+    @Test
+    void shouldStoreSingleMembership_whenSameUserJoinsConcurrently() throws Exception {
+        //given
+        int requestCount = 20;
+        UUID userId = UUID.randomUUID();
+        String idempotencyKey = UUID.randomUUID().toString();
+        ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+
+        List<Callable<PlanJoinUserResponse>> tasks = IntStream.range(0, requestCount)
+                .mapToObj(i -> (Callable<PlanJoinUserResponse>) () ->
+                        planMemberFacade.join(userId, INVITE_CODE, idempotencyKey))
+                .toList();
+
+        //when
+        List<Future<PlanJoinUserResponse>> futures = executorService.invokeAll(tasks);
+        executorService.shutdown();
+
+        //then
+        int succeeded = 0;
+        for (Future<PlanJoinUserResponse> future : futures) {
+            try {
+                assertThat(future.get().getPlanId()).isEqualTo(plan.getId());
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(DuplicateKeyException.class)
+                        .hasMessage("이미 처리 중인 참여 요청입니다.");
+            }
+        }
+        assertThat(succeeded).isPositive();
+        assertThat(planMemberFacade.join(userId, INVITE_CODE, idempotencyKey).getPlanId()).isEqualTo(plan.getId());
+        assertThat(planUsersRepository.findAllByPlanId(plan.getId())).hasSize(2);
+        assertThat(planUsersRepository.findByPlanIdAndUserId(plan.getId(), userId))
+                .hasValueSatisfying(pu -> assertThat(pu.getPlanUserStatus()).isEqualTo(PlanUserStatus.MEMBER));
+    }
+
+    @DisplayName("같은 멱등성 키로 다시 요청하면 이미 참여한 플랜을 그대로 반환한다.")
+    @Test
+    void shouldReturnPreviousResult_whenRetriedWithSameIdempotencyKey() {
+        //given
+        UUID userId = UUID.randomUUID();
+        String idempotencyKey = UUID.randomUUID().toString();
+        planMemberFacade.join(userId, INVITE_CODE, idempotencyKey);
+
+        //when
+        PlanJoinUserResponse response = planMemberFacade.join(userId, INVITE_CODE, idempotencyKey);
+
+        //then
+        assertThat(response.getPlanId()).isEqualTo(plan.getId());
+        assertThat(planUsersRepository.findAllByPlanId(plan.getId())).hasSize(2);
+    }
+
+    @DisplayName("다른 초대 코드에 사용한 멱등성 키로 요청하면 예외가 발생한다.")
+    @Test
+    void shouldThrow_whenIdempotencyKeyWasUsedWithAnotherCode() {
+        //given
+        UUID userId = UUID.randomUUID();
+        String idempotencyKey = UUID.randomUUID().toString();
+        planMemberFacade.join(userId, INVITE_CODE, idempotencyKey);
+
+        //when, then
+        assertThatThrownBy(() -> planMemberFacade.join(userId, "OTHER1", idempotencyKey))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("다른 초대 코드에 사용된 멱등성 키입니다.");
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.pravell.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.pravell.plan.application.dto.request.KickUsersFromPlanApplicationRequest;
+import com.pravell.plan.domain.event.PlanMembershipsChangedEvent;
+import com.pravell.plan.domain.exception.PlanNotFoundException;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.plan.domain.service.PlanAuthorizationService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+class KickUserServiceTest {
+
+    private final PlanUsersRepository planUsersRepository = mock(PlanUsersRepository.class);
+    private final PlanMembershipCache planMembershipCache = mock(PlanMembershipCache.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final KickUserService kickUserService = new KickUserService(new PlanAuthorizationService(),
+            planUsersRepository, planMembershipCache, eventPublisher);
+
+    private final UUID planId = UUID.randomUUID();
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID memberId1 = UUID.randomUUID();
+    private final UUID memberId2 = UUID.randomUUID();
+    private final List<PlanUsers> planUsers = List.of(
+            getPlanUsers(ownerId, PlanUserStatus.OWNER),
+            getPlanUsers(memberId1, PlanUserStatus.MEMBER),
+            getPlanUsers(memberId2, PlanUserStatus.MEMBER));
+
+    @DisplayName("여러 멤버를 퇴출하면 한 번의 일괄 갱신 후 하나의 멤버십 변경 이벤트를 발행한다.")
+    @Test
+    void shouldPublishOneAggregatedEvent_whenKickingSeveralMembers() {
+        //given
+        given(planUsersRepository.updateStatusByPlanIdAndUserIdIn(eq(planId), anySet(), eq(PlanUserStatus.MEMBER),
+                eq(PlanUserStatus.KICKED), any())).willReturn(2);
+
+        //when
+        kickUserService.kickUsers(ownerId, planId, planUsers, request(memberId1, memberId2));
+
+        //then
+        ArgumentCaptor<PlanMembershipsChangedEvent> captor = ArgumentCaptor.forClass(PlanMembershipsChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getPlanIds()).containsExactly(planId);
+        assertThat(captor.getValue().getUserIds()).containsExactlyInAnyOrder(memberId1, memberId2);
+        assertThat(captor.getValue().getPlanUserStatus()).isEqualTo(PlanUserStatus.KICKED);
+        verify(planMembershipCache).bumpVersion(planId);
+    }
+
+    @DisplayName("일괄 갱신된 행 수가 요청한 멤버 수와 다르면 예외가 발생하고 이벤트를 발행하지 않는다.")
+    @Test
+    void shouldThrowWithoutPublishing_whenUpdatedRowCountDiffers() {
+        //given
+        given(planUsersRepository.updateStatusByPlanIdAndUserIdIn(eq(planId), anySet(), eq(PlanUserStatus.MEMBER),
+                eq(PlanUserStatus.KICKED), any())).willReturn(1);
+
+        //when, then
+        assertThatThrownBy(() -> kickUserService.kickUsers(ownerId, planId, planUsers,
+                request(memberId1, memberId2)))
+                .isInstanceOf(PlanNotFoundException.class)
+                .hasMessage("해당 플랜에 유저가 존재하지 않습니다.");
+
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(planMembershipCache, never()).bumpVersion(any());
+    }
+
+    private KickUsersFromPlanApplicationRequest request(UUID... userIds) {
+        return KickUsersFromPlanApplicationRequest.builder()
+                .deleteUsers(List.of(userIds))
+                .build();
+    }
+
+    private PlanUsers getPlanUsers(UUID userId, PlanUserStatus planUserStatus) {
+        return PlanUsers.builder()
+                .planId(planId)
+                .userId(userId)
+                .planUserStatus(planUserStatus)
+                .build();
+    }
+
+}
@@ -2,11 +2,8 @@ package com.pravell.plan.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
 
 import com.pravell.plan.application.dto.request.CreatePlanApplicationRequest;
 import com.pravell.plan.application.dto.response.CreatePlanResponse;
@@ -15,8 +12,6 @@ import com.pravell.plan.domain.model.Plan;
 import com.pravell.plan.domain.model.PlanUserStatus;
 import com.pravell.plan.domain.model.PlanUsers;
 import com.pravell.user.application.UserService;
-import com.pravell.user.domain.exception.UserNotFoundException;
-import com.pravell.user.domain.model.User;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -64,7 +59,6 @@ class PlanFacadeTest {
 
         PlanCreatedEvent planCreatedEvent = new PlanCreatedEvent(plan, planUsers, LocalDateTime.now());
 
-        given(userService.findUserById(userId)).willReturn(mock(User.class));
         given(createPlanService.create(request, userId)).willReturn(planCreatedEvent);
 
         //when
@@ -77,13 +71,13 @@ class PlanFacadeTest {
         assertThat(response.getName()).isEqualTo(request.getName());
         assertThat(response.getCreatedAt()).isEqualTo(planCreatedEvent.getCreatedAt());
 
-        then(userService).should().findUserById(userId);
+        then(userService).shouldHaveNoInteractions();
         then(createPlanService).should().create(request, userId);
     }
 
-    @DisplayName("유저가 존재하지 않으면 플랜 생성에 실패하고 예외가 발생한다.")
+    @DisplayName("플랜 생성에 실패하면 응답을 만들지 않고 예외를 그대로 전파한다.")
     @Test
-    void shouldThrow_whenUserNotFound() {
+    void shouldThrow_whenPlanCreationFails() {
         // given
         UUID userId = UUID.randomUUID();
         CreatePlanApplicationRequest request = CreatePlanApplicationRequest.builder()
@@ -91,15 +85,15 @@ class PlanFacadeTest {
                 .isPublic(false)
                 .build();
 
-        given(userService.findUserById(userId)).willThrow(new UserNotFoundException("유저를 찾을 수 없습니다."));
+        given(createPlanService.create(request, userId))
+                .willThrow(new IllegalArgumentException("종료 날짜가 시작 날짜보다 앞설 수 없습니다."));
 
         // when, then
         assertThatThrownBy(() -> planFacade.createPlan(request, userId))
-                .isInstanceOf(UserNotFoundException.class)
-                .hasMessage("유저를 찾을 수 없습니다.");
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("종료 날짜가 시작 날짜보다 앞설 수 없습니다.");
 
-        then(createPlanService).should(never()).create(any(), any());
+        then(userService).shouldHaveNoInteractions();
     }
 
 }
-
@@ -0,0 +1,53 @@
+package com.pravell.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.pravell.plan.domain.repository.PlanPurgeLockRepository;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class PlanPurgeSchedulerTest {
+
+    private final PlanPurgeService planPurgeService = mock(PlanPurgeService.class);
+    private final PlanPurgeLockRepository planPurgeLockRepository = mock(PlanPurgeLockRepository.class);
+    private final PlanPurgeScheduler planPurgeScheduler = new PlanPurgeScheduler(planPurgeService,
+            planPurgeLockRepository, Duration.ofMinutes(10));
+
+    @DisplayName("다른 노드가 락을 잡고 있으면 정리를 실행하지 않는다.")
+    @Test
+    void shouldSkipPurge_whenLockIsHeldByOtherNode() {
+        //given
+        given(planPurgeLockRepository.tryLock(anyString(), eq(Duration.ofMinutes(10)))).willReturn(false);
+
+        //when
+        planPurgeScheduler.purge();
+
+        //then
+        verify(planPurgeService, never()).purgeBacklog();
+        verify(planPurgeLockRepository, never()).unlock(anyString());
+    }
+
+    @DisplayName("정리 중 예외가 발생해도 잡았던 락을 해제한다.")
+    @Test
+    void shouldReleaseLock_whenPurgeFails() {
+        //given
+        given(planPurgeLockRepository.tryLock(anyString(), eq(Duration.ofMinutes(10)))).willReturn(true);
+        given(planPurgeService.purgeBacklog()).willThrow(new IllegalStateException("db down"));
+
+        //when, then
+        assertThatThrownBy(planPurgeScheduler::purge).isInstanceOf(IllegalStateException.class);
+
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        verify(planPurgeLockRepository).tryLock(owner.capture(), eq(Duration.ofMinutes(10)));
+        verify(planPurgeLockRepository).unlock(owner.getValue());
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.pravell.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pravell.expense.domain.model.Expense;
+import com.pravell.expense.domain.repository.ExpenseRepository;
+import com.pravell.marker.domain.model.Marker;
+import com.pravell.marker.domain.repository.MarkerRepository;
+import com.pravell.plan.domain.model.Plan;
+import com.pravell.plan.domain.model.PlanPurgeJob;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.repository.PlanPurgeJobRepository;
+import com.pravell.plan.domain.repository.PlanRepository;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = {
+        "plan.purge.chunk-size=2",
+        "plan.purge.max-chunks-per-run=3",
+        "plan.purge.throttle=PT0S"
+})
+class PlanPurgeServiceTest {
+
+    @Autowired
+    private PlanPurgeService planPurgeService;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanUsersRepository planUsersRepository;
+
+    @Autowired
+    private PlanPurgeJobRepository planPurgeJobRepository;
+
+    @Autowired
+    private MarkerRepository markerRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    private final UUID ownerId = UUID.randomUUID();
+    private final Plan deletedPlan = getPlan(true);
+    private final Plan activePlan = getPlan(false);
+
+    @BeforeEach
+    void setUp() {
+        planRepository.saveAll(List.of(deletedPlan, activePlan));
+        planUsersRepository.saveAll(List.of(PlanUsers.createOwnerForPlan(ownerId, deletedPlan.getId()),
+                PlanUsers.createOwnerForPlan(ownerId, activePlan.getId())));
+        markerRepository.saveAll(IntStream.range(0, 5)
+                .mapToObj(i -> Marker.createMarker("마커" + i, "#FFFFFF", deletedPlan.getId()))
+                .toList());
+        markerRepository.save(Marker.createMarker("마커", "#FFFFFF", activePlan.getId()));
+        expenseRepository.saveAll(IntStream.range(0, 2)
+                .mapToObj(i -> Expense.create(deletedPlan.getId(), ownerId, 1000L, "점심" + i, "설명",
+                        LocalDateTime.now(), ownerId))
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        expenseRepository.deleteAllInBatch();
+        markerRepository.deleteAllInBatch();
+        planUsersRepository.deleteAllInBatch();
+        planPurgeJobRepository.deleteAllInBatch();
+        planRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("한 번의 실행에서 처리량을 넘으면 진행 상황을 저장하고 다음 실행에서 이어서 정리한다.")
+    @Test
+    void shouldResumeFromCheckpoint_whenBudgetIsExhausted() {
+        //given
+        planPurgeService.purgeBacklog();
+        PlanPurgeJob checkpoint = planPurgeJobRepository.findById(deletedPlan.getId()).orElseThrow();
+
+        //when
+        for (int i = 0; i < 20 && !isCompleted(deletedPlan.getId()); i++) {
+            planPurgeService.purgeBacklog();
+        }
+
+        //then
+        assertThat(checkpoint.getCompleted()).isFalse();
+        assertThat(checkpoint.getCurrentStep()).isNotNull();
+
+        PlanPurgeJob job = planPurgeJobRepository.findById(deletedPlan.getId()).orElseThrow();
+        assertThat(job.getCompleted()).isTrue();
+        assertThat(job.getPurgedRows()).isEqualTo(8L);
+        assertThat(markerRepository.findAllByPlanId(deletedPlan.getId())).isEmpty();
+        assertThat(planUsersRepository.findAllByPlanId(deletedPlan.getId())).isEmpty();
+        assertThat(expenseRepository.findAll()).noneMatch(e -> e.getPlanId().equals(deletedPlan.getId()));
+    }
+
+    @DisplayName("삭제되지 않은 플랜의 데이터는 정리하지 않는다.")
+    @Test
+    void shouldKeepRows_whenPlanIsNotDeleted() {
+        //when
+        for (int i = 0; i < 20 && !isCompleted(deletedPlan.getId()); i++) {
+            planPurgeService.purgeBacklog();
+        }
+
+        //then
+        assertThat(markerRepository.findAllByPlanId(activePlan.getId())).hasSize(1);
+        assertThat(planUsersRepository.findAllByPlanId(activePlan.getId())).hasSize(1);
+        assertThat(planPurgeJobRepository.findById(activePlan.getId())).isEmpty();
+        assertThat(planRepository.findById(deletedPlan.getId())).isPresent();
+    }
+
+    private boolean isCompleted(UUID planId) {
+        return planPurgeJobRepository.findById(planId)
+                .map(PlanPurgeJob::getCompleted)
+                .orElse(false);
+    }
+
+    private Plan getPlan(boolean isDeleted) {
+        return Plan.builder()
+                .id(UUID.randomUUID())
+                .name("경주 여행")
+                .isPublic(true)
+                .isDeleted(isDeleted)
+                .startDate(LocalDate.parse("2025-09-29"))
+                .endDate(LocalDate.parse("2025-09-30"))
+                .build();
+    }
+
+}
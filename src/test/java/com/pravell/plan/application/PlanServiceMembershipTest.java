@@ -0,0 +1,85 @@
+package com.pravell.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pravell.common.domain.PlanMembership;
+import com.pravell.plan.application.dto.PlanMembershipSnapshot;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class PlanServiceMembershipTest {
+
+    @Autowired
+    private PlanService planService;
+
+    @Autowired
+    private PlanMembershipCache planMembershipCache;
+
+    @Autowired
+    private PlanUsersRepository planUsersRepository;
+
+    private final UUID planId = UUID.randomUUID();
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID memberId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        planUsersRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("버전이 바뀌기 전까지는 메모리에 캐시된 플랜 멤버십을 조회한다.")
+    @Test
+    void shouldReturnCachedMembership_untilVersionBumped() {
+        //given
+        planUsersRepository.save(getPlanUsers(ownerId, PlanUserStatus.OWNER));
+        planService.findMembership(planId);
+        planUsersRepository.save(getPlanUsers(memberId, PlanUserStatus.MEMBER));
+
+        //when
+        PlanMembership cachedMembership = planService.findMembership(planId);
+        planMembershipCache.bumpVersion(planId);
+        PlanMembership reloadedMembership = planService.findMembership(planId);
+
+        //then
+        assertThat(cachedMembership.isOwner(ownerId)).isTrue();
+        assertThat(cachedMembership.isOwnerOrMember(memberId)).isFalse();
+        assertThat(reloadedMembership.isOwnerOrMember(memberId)).isTrue();
+        assertThat(reloadedMembership.findActiveUserIds()).containsExactlyInAnyOrder(ownerId, memberId);
+    }
+
+    @DisplayName("버전이 바뀐 뒤에는 이전 버전으로 읽은 스냅샷을 캐시하지 않는다.")
+    @Test
+    void shouldNotCacheStaleSnapshot_afterVersionBumped() {
+        //given
+        long staleVersion = planMembershipCache.currentVersion(planId);
+        planMembershipCache.bumpVersion(planId);
+
+        //when
+        planMembershipCache.put(PlanMembershipSnapshot.of(planId, staleVersion,
+                List.of(getPlanUsers(ownerId, PlanUserStatus.OWNER))));
+
+        //then
+        assertThat(planMembershipCache.find(planId)).isEmpty();
+        assertThat(planMembershipCache.currentVersion(planId)).isEqualTo(staleVersion + 1);
+    }
+
+    private PlanUsers getPlanUsers(UUID userId, PlanUserStatus status) {
+        return PlanUsers.builder()
+                .planId(planId)
+                .userId(userId)
+                .planUserStatus(status)
+                .build();
+    }
+
+}
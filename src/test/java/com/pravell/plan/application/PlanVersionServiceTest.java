@@ -0,0 +1,44 @@
+package com.pravell.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.pravell.common.domain.event.PlanContentChangeType;
+import com.pravell.common.domain.event.PlanContentChangedEvent;
+import com.pravell.plan.application.dto.PublicPlanView;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.plan.domain.repository.PlanVersionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PlanVersionServiceTest {
+
+    private final PlanVersionRepository planVersionRepository = mock(PlanVersionRepository.class);
+    private final PublicPlanViewCache publicPlanViewCache = new PublicPlanViewCache(10, Duration.ofMinutes(10),
+            new SimpleMeterRegistry(), Clock.systemUTC());
+    private final PlanVersionService planVersionService = new PlanVersionService(planVersionRepository,
+            mock(PlanUsersRepository.class), publicPlanViewCache);
+
+    @DisplayName("플랜 버전 갱신에 실패하면 캐시된 공개 플랜 조회 결과를 비운다.")
+    @Test
+    void shouldEvictPublicView_whenVersionIncrementFails() {
+        //given
+        UUID planId = UUID.randomUUID();
+        publicPlanViewCache.put(planId, 1L, PublicPlanView.MARKERS, List.of("marker"));
+        given(planVersionRepository.increment(planId)).willThrow(new IllegalStateException("redis down"));
+
+        //when
+        planVersionService.on(new PlanContentChangedEvent(planId, PlanContentChangeType.MARKER_CREATED, 1L,
+                UUID.randomUUID()));
+
+        //then
+        assertThat(publicPlanViewCache.find(planId, 1L, PublicPlanView.MARKERS)).isEmpty();
+    }
+
+}
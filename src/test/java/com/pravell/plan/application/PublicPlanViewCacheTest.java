@@ -0,0 +1,59 @@
+package com.pravell.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pravell.MutableClock;
+import com.pravell.plan.application.dto.PublicPlanView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PublicPlanViewCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-20T00:00:00Z");
+
+    @DisplayName("캐시가 가득 차도 새 플랜의 공개 조회 결과는 캐시된다.")
+    @Test
+    void shouldCacheNewPlans_whenCacheIsFullOfUnexpiredPlans() {
+        //given
+        PublicPlanViewCache cache = createCache(new MutableClock(NOW));
+        List<UUID> planIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            UUID planId = UUID.randomUUID();
+            planIds.add(planId);
+            cache.put(planId, 1L, PublicPlanView.PLAN, "plan" + i);
+        }
+
+        //when, then
+        for (int i = 10; i < 20; i++) {
+            assertThat(cache.<String>find(planIds.get(i), 1L, PublicPlanView.PLAN)).contains("plan" + i);
+        }
+        assertThat(cache.find(planIds.get(0), 1L, PublicPlanView.PLAN)).isEmpty();
+    }
+
+    @DisplayName("TTL이 지난 공개 조회 결과는 조회되지 않는다.")
+    @Test
+    void shouldNotFindView_whenTtlPassed() {
+        //given
+        MutableClock clock = new MutableClock(NOW);
+        PublicPlanViewCache cache = createCache(clock);
+        UUID planId = UUID.randomUUID();
+        cache.put(planId, 1L, PublicPlanView.PLAN, "plan");
+
+        //when
+        clock.setInstant(NOW.plus(Duration.ofMinutes(10)));
+
+        //then
+        assertThat(cache.find(planId, 1L, PublicPlanView.PLAN)).isEmpty();
+    }
+
+    private PublicPlanViewCache createCache(MutableClock clock) {
+        return new PublicPlanViewCache(10, Duration.ofMinutes(10), new SimpleMeterRegistry(), clock);
+    }
+
+}
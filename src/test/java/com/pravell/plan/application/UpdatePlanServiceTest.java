@@ -24,7 +24,8 @@ class UpdatePlanServiceTest {
 
     @BeforeEach
     void setUp() {
-        updatePlanService = new UpdatePlanService(new PlanAuthorizationService());
+        updatePlanService = new UpdatePlanService(new PlanAuthorizationService(), event -> {
+        });
         ownerId = UUID.randomUUID();
         memberId = UUID.randomUUID();
         plan = Plan.builder()
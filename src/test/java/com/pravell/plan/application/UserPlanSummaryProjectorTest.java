@@ -0,0 +1,180 @@
+package com.pravell.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import com.pravell.plan.domain.event.PlanMembershipChangedEvent;
+import com.pravell.plan.domain.model.Plan;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.model.UserPlanSummary;
+import com.pravell.plan.domain.repository.PlanRepository;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.plan.domain.repository.UserPlanSummaryDirtyRepository;
+import com.pravell.plan.domain.repository.UserPlanSummaryRepository;
+import com.pravell.user.domain.model.User;
+import com.pravell.user.domain.model.UserStatus;
+import com.pravell.user.domain.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class UserPlanSummaryProjectorTest {
+
+    @Autowired
+    private UserPlanSummaryProjector userPlanSummaryProjector;
+
+    @Autowired
+    private UserPlanSummaryRepository userPlanSummaryRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanUsersRepository planUsersRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPlanSummaryDirtyRepository userPlanSummaryDirtyRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        userPlanSummaryRepository.deleteAllInBatch();
+        planRepository.deleteAllInBatch();
+        planUsersRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("재생성하면 삭제되지 않은 플랜의 OWNER, MEMBER마다 프로젝션을 만든다.")
+    @Test
+    void shouldRebuildSummariesForActiveMembersOfNotDeletedPlans() {
+        //given
+        User owner = getUser("유저 1", UserStatus.ACTIVE);
+        User member = getUser("유저 2", UserStatus.ACTIVE);
+        User withdrawnUser = getUser("유저 3", UserStatus.WITHDRAWN);
+        userRepository.saveAll(List.of(owner, member, withdrawnUser));
+
+        Plan plan = getPlan("정상 조회 플랜1", false);
+        Plan deletedPlan = getPlan("삭제된 플랜1", true);
+        planRepository.saveAll(List.of(plan, deletedPlan));
+        planUsersRepository.saveAll(List.of(
+                getPlanUsers(PlanUserStatus.OWNER, plan.getId(), owner.getId()),
+                getPlanUsers(PlanUserStatus.MEMBER, plan.getId(), member.getId()),
+                getPlanUsers(PlanUserStatus.MEMBER, plan.getId(), withdrawnUser.getId()),
+                getPlanUsers(PlanUserStatus.OWNER, deletedPlan.getId(), owner.getId())
+        ));
+
+        //when
+        userPlanSummaryProjector.rebuild();
+
+        //then
+        List<UserPlanSummary> summaries = userPlanSummaryRepository.findAll();
+        assertThat(summaries).hasSize(2)
+                .extracting("userId", "planId", "isOwner")
+                .containsExactlyInAnyOrder(
+                        tuple(owner.getId(), plan.getId(), true),
+                        tuple(member.getId(), plan.getId(), false)
+                );
+        assertThat(summaries.get(0).getMemberNicknames()).contains("유저 1", "유저 2").doesNotContain("유저 3");
+    }
+
+    @DisplayName("멤버십이 바뀐 트랜잭션이 커밋되면 해당 플랜의 프로젝션을 갱신한다.")
+    @Test
+    void shouldRefreshSummaries_whenMembershipChangedEventCommitted() {
+        //given
+        User owner = getUser("유저 1", UserStatus.ACTIVE);
+        User member = getUser("유저 2", UserStatus.ACTIVE);
+        userRepository.saveAll(List.of(owner, member));
+
+        Plan plan = getPlan("정상 조회 플랜1", false);
+        planRepository.save(plan);
+        planUsersRepository.save(getPlanUsers(PlanUserStatus.OWNER, plan.getId(), owner.getId()));
+        userPlanSummaryProjector.rebuild();
+
+        //when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            planUsersRepository.save(getPlanUsers(PlanUserStatus.MEMBER, plan.getId(), member.getId()));
+            eventPublisher.publishEvent(new PlanMembershipChangedEvent(plan.getId(), member.getId(),
+                    PlanUserStatus.MEMBER, LocalDateTime.now()));
+        });
+
+        //then
+        assertThat(userPlanSummaryRepository.findAllByUserId(member.getId())).hasSize(1)
+                .extracting("planId", "isOwner")
+                .containsExactly(tuple(plan.getId(), false));
+        assertThat(userPlanSummaryRepository.findAllByUserId(owner.getId()).get(0).getMemberNicknames())
+                .contains("유저 1", "유저 2");
+    }
+
+    @DisplayName("갱신에 실패해 기록된 플랜은 재조정할 때 프로젝션을 다시 만든다.")
+    @Test
+    void shouldRefreshDirtyPlans_whenReconciled() {
+        //given
+        User owner = getUser("유저 1", UserStatus.ACTIVE);
+        userRepository.save(owner);
+
+        Plan plan = getPlan("정상 조회 플랜1", false);
+        planRepository.save(plan);
+        planUsersRepository.save(getPlanUsers(PlanUserStatus.OWNER, plan.getId(), owner.getId()));
+        userPlanSummaryDirtyRepository.markDirty(List.of(plan.getId()));
+
+        //when
+        userPlanSummaryProjector.reconcile();
+
+        //then
+        assertThat(userPlanSummaryRepository.findAllByUserId(owner.getId())).hasSize(1)
+                .extracting("planId", "isOwner")
+                .containsExactly(tuple(plan.getId(), true));
+        assertThat(userPlanSummaryDirtyRepository.popDirty(10)).doesNotContain(plan.getId());
+    }
+
+    private User getUser(String nickname, UserStatus userStatus) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .userId("userId" + UUID.randomUUID())
+                .password("passwordd")
+                .nickname(nickname)
+                .status(userStatus)
+                .build();
+    }
+
+    private Plan getPlan(String name, boolean isDeleted) {
+        return Plan.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .isPublic(true)
+                .isDeleted(isDeleted)
+                .startDate(LocalDate.parse("2025-09-29"))
+                .endDate(LocalDate.parse("2025-09-30"))
+                .build();
+    }
+
+    private PlanUsers getPlanUsers(PlanUserStatus status, UUID planId, UUID userId) {
+        return PlanUsers.builder()
+                .planId(planId)
+                .userId(userId)
+                .planUserStatus(status)
+                .build();
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.pravell.plan.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+import com.pravell.plan.application.dto.request.WithdrawFromPlansApplicationRequest;
+import com.pravell.plan.domain.event.PlanMembershipsChangedEvent;
+import com.pravell.plan.domain.exception.PlanNotFoundException;
+import com.pravell.plan.domain.model.Plan;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.repository.PlanRepository;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@RecordApplicationEvents
+class WithdrawPlanServiceTest {
+
+    @Autowired
+    private WithdrawPlanService withdrawPlanService;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @MockitoSpyBean
+    private PlanUsersRepository planUsersRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final UUID userId = UUID.randomUUID();
+    private Plan plan1;
+    private Plan plan2;
+
+    @BeforeEach
+    void setUp() {
+        plan1 = getPlan();
+        plan2 = getPlan();
+        planRepository.saveAll(List.of(plan1, plan2));
+        planUsersRepository.saveAll(List.of(
+                getPlanUsers(plan1.getId(), PlanUserStatus.MEMBER),
+                getPlanUsers(plan2.getId(), PlanUserStatus.MEMBER)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        planRepository.deleteAllInBatch();
+        planUsersRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("여러 플랜에서 탈퇴하면 한 번에 갱신하고 하나의 멤버십 변경 이벤트를 발행한다.")
+    @Test
+    void shouldPublishOneAggregatedEvent_whenWithdrawingFromSeveralPlans() {
+        //when
+        withdrawPlanService.withdrawFromPlans(userId, request());
+
+        //then
+        assertThat(findStatus(plan1)).isEqualTo(PlanUserStatus.WITHDRAWN);
+        assertThat(findStatus(plan2)).isEqualTo(PlanUserStatus.WITHDRAWN);
+
+        List<PlanMembershipsChangedEvent> events = applicationEvents.stream(PlanMembershipsChangedEvent.class)
+                .toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getPlanIds()).containsExactlyInAnyOrder(plan1.getId(), plan2.getId());
+        assertThat(events.get(0).getUserIds()).containsExactly(userId);
+        assertThat(events.get(0).getPlanUserStatus()).isEqualTo(PlanUserStatus.WITHDRAWN);
+    }
+
+    @DisplayName("일괄 갱신된 행 수가 요청한 플랜 수와 다르면 갱신을 롤백하고 이벤트를 발행하지 않는다.")
+    @Test
+    void shouldRollback_whenUpdatedRowCountDiffers() {
+        //given
+        doAnswer(invocation -> entityManager.createQuery(
+                        "update PlanUsers pu set pu.planUserStatus = :status where pu.userId = :userId")
+                .setParameter("status", PlanUserStatus.WITHDRAWN)
+                .setParameter("userId", userId)
+                .executeUpdate() - 1)
+                .when(planUsersRepository).updateStatusByUserIdAndPlanIdIn(eq(userId), anySet(),
+                        eq(PlanUserStatus.MEMBER), eq(PlanUserStatus.WITHDRAWN), any());
+
+        //when, then
+        assertThatThrownBy(() -> withdrawPlanService.withdrawFromPlans(userId, request()))
+                .isInstanceOf(PlanNotFoundException.class)
+                .hasMessage("해당 플랜에 유저가 존재하지 않습니다.");
+
+        assertThat(findStatus(plan1)).isEqualTo(PlanUserStatus.MEMBER);
+        assertThat(findStatus(plan2)).isEqualTo(PlanUserStatus.MEMBER);
+        assertThat(applicationEvents.stream(PlanMembershipsChangedEvent.class)).isEmpty();
+    }
+
+    private WithdrawFromPlansApplicationRequest request() {
+        return WithdrawFromPlansApplicationRequest.builder()
+                .planIds(List.of(plan1.getId(), plan2.getId()))
+                .build();
+    }
+
+    private PlanUserStatus findStatus(Plan plan) {
+        return planUsersRepository.findByPlanIdAndUserId(plan.getId(), userId)
+                .map(PlanUsers::getPlanUserStatus)
+                .orElseThrow();
+    }
+
+    private Plan getPlan() {
+        return Plan.builder()
+                .id(UUID.randomUUID())
+                .name("경주여행")
+                .isPublic(true)
+                .isDeleted(false)
+                .startDate(LocalDate.parse("2025-09-29"))
+                .endDate(LocalDate.parse("2025-09-30"))
+                .build();
+    }
+
+    private PlanUsers getPlanUsers(UUID planId, PlanUserStatus planUserStatus) {
+        return PlanUsers.builder()
+                .planId(planId)
+                .userId(userId)
+                .planUserStatus(planUserStatus)
+                .build();
+    }
+
+}
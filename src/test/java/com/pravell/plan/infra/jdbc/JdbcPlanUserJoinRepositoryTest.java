@@ -0,0 +1,99 @@
+package com.pravell.plan.infra.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pravell.plan.domain.model.PlanUserStatus;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class JdbcPlanUserJoinRepositoryTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:plan_user_join;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+    private final JdbcPlanUserJoinRepository repository = new JdbcPlanUserJoinRepository(jdbcTemplate, true);
+
+    private final UUID planId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+                CREATE TABLE plan_users (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    plan_id BINARY(16) NOT NULL,
+                    user_id BINARY(16) NOT NULL,
+                    plan_user_status VARCHAR(20),
+                    created_at TIMESTAMP,
+                    updated_at TIMESTAMP,
+                    UNIQUE (plan_id, user_id)
+                )
+                """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE plan_users");
+    }
+
+    @DisplayName("MySQL 구문으로 참여 정보가 없는 유저를 MEMBER로 저장한다.")
+    @Test
+    void shouldInsertMember_whenMySqlAndNoMembership() {
+        //when
+        PlanUserStatus status = repository.upsertMember(planId, userId);
+
+        //then
+        assertThat(status).isEqualTo(PlanUserStatus.MEMBER);
+        assertThat(countRows()).isEqualTo(1);
+    }
+
+    @DisplayName("MySQL 구문으로 탈퇴하거나 강퇴된 유저를 다시 MEMBER로 바꾼다.")
+    @Test
+    void shouldRejoinAsMember_whenMySqlAndWithdrawnOrKicked() {
+        //given
+        insert(PlanUserStatus.KICKED);
+
+        //when
+        PlanUserStatus status = repository.upsertMember(planId, userId);
+
+        //then
+        assertThat(status).isEqualTo(PlanUserStatus.MEMBER);
+        assertThat(countRows()).isEqualTo(1);
+    }
+
+    @DisplayName("MySQL 구문으로 OWNER나 BLOCKED인 유저의 상태는 바꾸지 않는다.")
+    @Test
+    void shouldKeepStatus_whenMySqlAndOwnerOrBlocked() {
+        //given
+        insert(PlanUserStatus.BLOCKED);
+
+        //when
+        PlanUserStatus status = repository.upsertMember(planId, userId);
+
+        //then
+        assertThat(status).isEqualTo(PlanUserStatus.BLOCKED);
+        assertThat(countRows()).isEqualTo(1);
+    }
+
+    private void insert(PlanUserStatus status) {
+        jdbcTemplate.update("INSERT INTO plan_users (plan_id, user_id, plan_user_status) VALUES (?, ?, ?)",
+                toBytes(planId), toBytes(userId), status.name());
+    }
+
+    private Integer countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM plan_users", Integer.class);
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.pravell.plan.infra.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pravell.plan.domain.model.PlanInviteCode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class RedisPlanInviteCodeRepositoryTest {
+
+    @Autowired
+    private RedisPlanInviteCodeRepository planInviteCodeRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private final UUID planId = UUID.randomUUID();
+    private final UUID otherPlanId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private final String oldCode = "OLD" + UUID.randomUUID().toString().substring(0, 8);
+    private final String newCode = "NEW" + UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void tearDown() {
+        planInviteCodeRepository.deleteByPlanId(planId);
+        planInviteCodeRepository.deleteByPlanId(otherPlanId);
+        redisTemplate.delete("planInviteCode:" + oldCode);
+        redisTemplate.delete("planInviteCode:" + newCode);
+    }
+
+    @DisplayName("남은 유효 기간이 기준보다 길면 기존 초대 코드를 그대로 반환한다.")
+    @Test
+    void shouldReturnActiveCode_whenRemainingTtlIsAboveThreshold() {
+        //given
+        planInviteCodeRepository.saveIfAbsent(inviteCode(planId, oldCode, Duration.ofDays(1)));
+
+        //when
+        Optional<String> code = planInviteCodeRepository.saveOrRotate(inviteCode(planId, newCode,
+                Duration.ofDays(1)), Duration.ofHours(1));
+
+        //then
+        assertThat(code).contains(oldCode);
+        assertThat(planInviteCodeRepository.findCodeByPlanId(planId)).contains(oldCode);
+        assertThat(planInviteCodeRepository.findByCode(newCode)).isEmpty();
+    }
+
+    @DisplayName("곧 만료되는 초대 코드는 새 코드로 교체하고, 기존 코드는 만료 전까지 사용할 수 있다.")
+    @Test
+    void shouldRotateCode_whenRemainingTtlIsBelowThreshold() {
+        //given
+        planInviteCodeRepository.saveIfAbsent(inviteCode(planId, oldCode, Duration.ofMinutes(1)));
+
+        //when
+        Optional<String> code = planInviteCodeRepository.saveOrRotate(inviteCode(planId, newCode,
+                Duration.ofDays(1)), Duration.ofHours(1));
+
+        //then
+        assertThat(code).contains(newCode);
+        assertThat(planInviteCodeRepository.findCodeByPlanId(planId)).contains(newCode);
+        assertThat(planInviteCodeRepository.findByCode(oldCode)).isPresent();
+        assertThat(redisTemplate.getExpire("planInviteCodeByPlan:" + planId)).isGreaterThan(3600L);
+    }
+
+    @DisplayName("다른 플랜이 사용 중인 코드로는 저장하지 않는다.")
+    @Test
+    void shouldNotSave_whenCodeIsUsedByOtherPlan() {
+        //given
+        planInviteCodeRepository.saveIfAbsent(inviteCode(otherPlanId, oldCode, Duration.ofDays(1)));
+
+        //when
+        Optional<String> code = planInviteCodeRepository.saveIfAbsent(inviteCode(planId, oldCode,
+                Duration.ofDays(1)));
+
+        //then
+        assertThat(code).isEmpty();
+        assertThat(planInviteCodeRepository.findCodeByPlanId(planId)).isEmpty();
+        assertThat(planInviteCodeRepository.findByCode(oldCode).get().getPlanId()).isEqualTo(otherPlanId);
+    }
+
+    @DisplayName("복원한 초대 코드는 참여에 사용할 수 있지만 플랜의 활성 코드는 바꾸지 않는다.")
+    @Test
+    void shouldKeepActiveCode_whenOlderCodeIsRestored() {
+        //given
+        planInviteCodeRepository.saveIfAbsent(inviteCode(planId, newCode, Duration.ofDays(2)));
+
+        //when
+        boolean restored = planInviteCodeRepository.restore(inviteCode(planId, oldCode, Duration.ofDays(1)));
+
+        //then
+        assertThat(restored).isTrue();
+        assertThat(planInviteCodeRepository.findCodeByPlanId(planId)).contains(newCode);
+        assertThat(planInviteCodeRepository.findByCode(oldCode).get().getPlanId()).isEqualTo(planId);
+        assertThat(planInviteCodeRepository.restore(inviteCode(planId, oldCode, Duration.ofDays(1)))).isFalse();
+    }
+
+    private PlanInviteCode inviteCode(UUID planId, String code, Duration ttl) {
+        return PlanInviteCode.builder()
+                .planId(planId)
+                .code(code)
+                .createdBy(userId)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build();
+    }
+
+}
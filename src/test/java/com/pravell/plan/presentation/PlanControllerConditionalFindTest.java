@@ -0,0 +1,208 @@
+package com.pravell.plan.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pravell.ControllerTestSupport;
+import com.pravell.marker.domain.repository.MarkerRepository;
+import com.pravell.marker.presentation.request.CreateMarkerRequest;
+import com.pravell.plan.domain.model.Plan;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.repository.PlanRepository;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.plan.presentation.request.UpdatePlanRequest;
+import com.pravell.user.domain.model.User;
+import com.pravell.user.domain.model.UserStatus;
+import com.pravell.user.domain.repository.UserRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+@DisplayName("플랜 조건부 조회 통합 테스트")
+class PlanControllerConditionalFindTest extends ControllerTestSupport {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanUsersRepository planUsersRepository;
+
+    @Autowired
+    private MarkerRepository markerRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+        planRepository.deleteAllInBatch();
+        planUsersRepository.deleteAllInBatch();
+        markerRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("플랜이 변경되지 않았다면 If-None-Match 요청에 304를 반환한다.")
+    @Test
+    void shouldReturnNotModified_whenPlanIsNotChanged() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        Plan plan = savePlanWithOwner(owner);
+        String token = buildToken(owner.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+        String eTag = findETag("/api/v1/plans/" + plan.getId(), token);
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/plans/" + plan.getId())
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @DisplayName("플랜이 수정되면 이전 ETag로 요청해도 새 응답을 반환한다.")
+    @Test
+    void shouldReturnNewResponse_whenPlanIsUpdated() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        Plan plan = savePlanWithOwner(owner);
+        String token = buildToken(owner.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+        String eTag = findETag("/api/v1/plans/" + plan.getId(), token);
+
+        UpdatePlanRequest request = UpdatePlanRequest.builder()
+                .name("수정된 플랜")
+                .build();
+        mockMvc.perform(
+                        patch("/api/v1/plans/" + plan.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request))
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        //when
+        String newETag = mockMvc.perform(
+                        get("/api/v1/plans/" + plan.getId())
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //then
+        assertThat(newETag).isNotNull().isNotEqualTo(eTag);
+    }
+
+    @DisplayName("마커가 추가되면 플랜의 다른 리소스 ETag도 함께 갱신된다.")
+    @Test
+    void shouldChangeETag_whenMarkerIsCreated() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        Plan plan = savePlanWithOwner(owner);
+        String token = buildToken(owner.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+        String markersETag = findETag("/api/v1/markers/" + plan.getId(), token);
+        String routesETag = findETag("/api/v1/routes/" + plan.getId(), token);
+
+        CreateMarkerRequest request = CreateMarkerRequest.builder()
+                .planId(plan.getId())
+                .color("#123456")
+                .description("마커 설명")
+                .build();
+
+        //when
+        mockMvc.perform(
+                        post("/api/v1/markers")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request))
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isCreated());
+
+        //then
+        mockMvc.perform(
+                        get("/api/v1/markers/" + plan.getId())
+                                .header(HttpHeaders.IF_NONE_MATCH, markersETag)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(
+                        get("/api/v1/routes/" + plan.getId())
+                                .header(HttpHeaders.IF_NONE_MATCH, routesETag)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("같은 플랜이라도 유저마다 다른 ETag를 발급한다.")
+    @Test
+    void shouldIssueDifferentETag_whenUserIsDifferent() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        User member = userRepository.save(getUser());
+        Plan plan = savePlanWithOwner(owner);
+        planUsersRepository.save(getPlanUsers(plan.getId(), member.getId(), PlanUserStatus.MEMBER));
+
+        String ownerToken = buildToken(owner.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+        String memberToken = buildToken(member.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+
+        //when
+        String ownerETag = findETag("/api/v1/plans/" + plan.getId(), ownerToken);
+
+        //then
+        mockMvc.perform(
+                        get("/api/v1/plans/" + plan.getId())
+                                .header(HttpHeaders.IF_NONE_MATCH, ownerETag)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + memberToken))
+                .andExpect(status().isOk());
+    }
+
+    private String findETag(String url, String token) throws Exception {
+        String eTag = mockMvc.perform(
+                        get(url)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(eTag).isNotNull();
+        return eTag;
+    }
+
+    private Plan savePlanWithOwner(User owner) {
+        Plan plan = planRepository.save(Plan.builder()
+                .id(UUID.randomUUID())
+                .name("경주 여행")
+                .isPublic(true)
+                .isDeleted(false)
+                .startDate(LocalDate.parse("2025-09-29"))
+                .endDate(LocalDate.parse("2025-09-30"))
+                .build());
+        planUsersRepository.save(getPlanUsers(plan.getId(), owner.getId(), PlanUserStatus.OWNER));
+        return plan;
+    }
+
+    private PlanUsers getPlanUsers(UUID planId, UUID userId, PlanUserStatus status) {
+        return PlanUsers.builder()
+                .planId(planId)
+                .userId(userId)
+                .planUserStatus(status)
+                .build();
+    }
+
+    private User getUser() {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .userId("userId" + UUID.randomUUID())
+                .nickname("nickname" + UUID.randomUUID())
+                .password("passworddd")
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+}
@@ -4,16 +4,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.pravell.ControllerTestSupport;
+import com.pravell.plan.application.UserPlanSummaryProjector;
 import com.pravell.plan.domain.model.Plan;
 import com.pravell.plan.domain.model.PlanUserStatus;
 import com.pravell.plan.domain.model.PlanUsers;
 import com.pravell.plan.domain.repository.PlanRepository;
 import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.plan.domain.repository.UserPlanSummaryRepository;
 import com.pravell.user.domain.model.User;
 import com.pravell.user.domain.model.UserStatus;
 import com.pravell.user.domain.repository.UserRepository;
@@ -44,8 +47,15 @@ class PlanControllerFindAllTest extends ControllerTestSupport {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserPlanSummaryRepository userPlanSummaryRepository;
+
+    @Autowired
+    private UserPlanSummaryProjector userPlanSummaryProjector;
+
     @AfterEach
     void tearDown() {
+        userPlanSummaryRepository.deleteAllInBatch();
         planRepository.deleteAllInBatch();
         planUsersRepository.deleteAllInBatch();
         userRepository.deleteAllInBatch();
@@ -96,6 +106,7 @@ class PlanControllerFindAllTest extends ControllerTestSupport {
                 List.of(planUsers1, planUsers2, planUsers3, planUsers4, planUsers5, planUsers6, planUsers7, planUsers8,
                         planUsers9, planUsers10, planUsers11, planUsers12, planUsers13, planUsers14, planUsers15,
                         planUsers16));
+        userPlanSummaryProjector.rebuild();
 
         String token = buildToken(user1.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -155,6 +166,47 @@ class PlanControllerFindAllTest extends ControllerTestSupport {
                 });
     }
 
+    @DisplayName("size를 지정하지 않으면 참여중인 플랜을 모두 조회한다.")
+    @Test
+    void shouldRetrieveAllPlans_whenSizeIsNotGiven() throws Exception {
+        //given
+        User user = getUser("유저", UserStatus.ACTIVE);
+        userRepository.save(user);
+        savePlansOwnedBy(user, 25);
+        String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/plans")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(25)))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @DisplayName("size를 지정하면 다음 커서를 브라우저가 읽을 수 있는 헤더로 내려준다.")
+    @Test
+    void shouldExposeNextCursorHeader_whenSizeIsGiven() throws Exception {
+        //given
+        User user = getUser("유저", UserStatus.ACTIVE);
+        userRepository.save(user);
+        savePlansOwnedBy(user, 3);
+        String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/plans")
+                                .param("size", "2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header(HttpHeaders.ORIGIN, "https://pravell.site")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "X-Next-Cursor"));
+    }
+
     @DisplayName("로그인 한 유저가 존재하지 않으면 404를 반환한다.")
     @Test
     void shouldReturn404_whenLoggedInUserNotFound() throws Exception {
@@ -353,6 +405,15 @@ class PlanControllerFindAllTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.message").value("토큰이 올바르지 않습니다."));
     }
 
+    private void savePlansOwnedBy(User user, int count) {
+        for (int i = 0; i < count; i++) {
+            Plan plan = planRepository.save(getPlan("플랜" + i, true, false,
+                    LocalDate.parse("2025-09-01").plusDays(i), LocalDate.parse("2025-12-31")));
+            planUsersRepository.save(getPlanUsers(PlanUserStatus.OWNER, plan.getId(), user.getId()));
+        }
+        userPlanSummaryProjector.rebuild();
+    }
+
     private Plan getPlan(String name, boolean isPublic, boolean isDeleted) {
         return getPlan(name, isPublic, isDeleted, LocalDate.parse("2025-09-29"), LocalDate.parse("2025-09-30"));
     }
@@ -0,0 +1,204 @@
+package com.pravell.plan.presentation;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pravell.ControllerTestSupport;
+import com.pravell.marker.domain.model.Marker;
+import com.pravell.marker.domain.repository.MarkerRepository;
+import com.pravell.marker.presentation.request.CreateMarkerRequest;
+import com.pravell.plan.domain.model.Plan;
+import com.pravell.plan.domain.model.PlanUserStatus;
+import com.pravell.plan.domain.model.PlanUsers;
+import com.pravell.plan.domain.repository.PlanRepository;
+import com.pravell.plan.domain.repository.PlanUsersRepository;
+import com.pravell.user.domain.model.User;
+import com.pravell.user.domain.model.UserStatus;
+import com.pravell.user.domain.repository.UserRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+@DisplayName("공개 플랜 조회 캐시 통합 테스트")
+class PlanControllerPublicViewTest extends ControllerTestSupport {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlanUsersRepository planUsersRepository;
+
+    @Autowired
+    private MarkerRepository markerRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+        planRepository.deleteAllInBatch();
+        planUsersRepository.deleteAllInBatch();
+        markerRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("캐시된 공개 플랜을 조회해도 isOwner, isMember는 조회한 유저 기준으로 내려간다.")
+    @Test
+    void shouldOverlayViewerFlags_whenPublicPlanIsCached() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        User other = userRepository.save(getUser());
+        Plan plan = planRepository.save(getPlan(true));
+        planUsersRepository.save(getPlanUsers(plan.getId(), owner.getId(), PlanUserStatus.OWNER));
+
+        String ownerToken = buildToken(owner.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+        String otherToken = buildToken(other.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+
+        mockMvc.perform(
+                        get("/api/v1/plans/" + plan.getId())
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isOwner").value(true));
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/plans/" + plan.getId())
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + otherToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ownerId").value(owner.getId().toString()))
+                .andExpect(jsonPath("$.isOwner").value(false))
+                .andExpect(jsonPath("$.isMember").value(false))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION));
+    }
+
+    @DisplayName("공개 플랜이 캐시되어 있어도 블락된 유저는 조회할 수 없다.")
+    @Test
+    void shouldReturnForbidden_whenBlockedUserReadsCachedPublicPlan() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        User blocked = userRepository.save(getUser());
+        Plan plan = planRepository.save(getPlan(true));
+        planUsersRepository.save(getPlanUsers(plan.getId(), owner.getId(), PlanUserStatus.OWNER));
+        planUsersRepository.save(getPlanUsers(plan.getId(), blocked.getId(), PlanUserStatus.BLOCKED));
+        markerRepository.save(getMarker(plan.getId()));
+
+        String ownerToken = buildToken(owner.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+        String blockedToken = buildToken(blocked.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+
+        mockMvc.perform(
+                        get("/api/v1/markers/" + plan.getId())
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken))
+                .andExpect(status().isOk());
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/markers/" + plan.getId())
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + blockedToken))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("해당 마커를 조회할 권한이 없습니다."));
+    }
+
+    @DisplayName("공개 플랜에 마커가 추가되면 캐시된 마커 목록 대신 새 목록을 조회한다.")
+    @Test
+    void shouldReturnNewMarkers_whenMarkerIsCreatedAfterCaching() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        Plan plan = planRepository.save(getPlan(true));
+        planUsersRepository.save(getPlanUsers(plan.getId(), owner.getId(), PlanUserStatus.OWNER));
+        markerRepository.save(getMarker(plan.getId()));
+
+        String token = buildToken(owner.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+
+        mockMvc.perform(
+                        get("/api/v1/markers/" + plan.getId())
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        CreateMarkerRequest request = CreateMarkerRequest.builder()
+                .planId(plan.getId())
+                .color("#654321")
+                .description("새 마커")
+                .build();
+        mockMvc.perform(
+                        post("/api/v1/markers")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request))
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isCreated());
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/markers/" + plan.getId())
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @DisplayName("비공개 플랜은 private Cache-Control로 응답한다.")
+    @Test
+    void shouldReturnPrivateCacheControl_whenPlanIsPrivate() throws Exception {
+        //given
+        User owner = userRepository.save(getUser());
+        Plan plan = planRepository.save(getPlan(false));
+        planUsersRepository.save(getPlanUsers(plan.getId(), owner.getId(), PlanUserStatus.OWNER));
+
+        String token = buildToken(owner.getId(), "access", issuer, Instant.now().plusSeconds(100000));
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/routes/" + plan.getId())
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION));
+    }
+
+    private User getUser() {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .userId("userId" + UUID.randomUUID())
+                .nickname("nickname" + UUID.randomUUID())
+                .password("passworddd")
+                .status(UserStatus.ACTIVE)
+                .build();
+    }
+
+    private Plan getPlan(boolean isPublic) {
+        return Plan.builder()
+                .id(UUID.randomUUID())
+                .name("경주 여행")
+                .isDeleted(false)
+                .isPublic(isPublic)
+                .startDate(LocalDate.parse("2025-09-29"))
+                .endDate(LocalDate.parse("2025-09-30"))
+                .build();
+    }
+
+    private PlanUsers getPlanUsers(UUID planId, UUID userId, PlanUserStatus status) {
+        return PlanUsers.builder()
+                .planId(planId)
+                .userId(userId)
+                .planUserStatus(status)
+                .build();
+    }
+
+    private Marker getMarker(UUID planId) {
+        return Marker.builder()
+                .planId(planId)
+                .description("마커 설명")
+                .color("#123456")
+                .build();
+    }
+
+}
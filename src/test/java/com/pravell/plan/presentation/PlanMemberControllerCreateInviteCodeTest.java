@@ -138,10 +138,11 @@ class PlanMemberControllerCreateInviteCodeTest extends ControllerTestSupport {
 
     @AfterEach
     void tearDown() {
+        planInviteCodeRepository.deleteByPlanId(plan.getId());
+        planInviteCodeRepository.deleteByPlanId(deletedPlan.getId());
         userRepository.deleteAllInBatch();
         planRepository.deleteAllInBatch();
         planUsersRepository.deleteAllInBatch();
-        planInviteCodeRepository.deleteAllInBatch();
     }
 
     @DisplayName("해당 플랜의 OWNER일 경우 초대 코드 생성에 성공한다.")
@@ -168,8 +169,9 @@ class PlanMemberControllerCreateInviteCodeTest extends ControllerTestSupport {
         assertEquals(6, inviteCode.length());
         assertTrue(inviteCode.matches("[ABC123]{6}"));
 
-        Optional<PlanInviteCode> planInviteCodes = planInviteCodeRepository.findByCode(inviteCode);
-        assertThat(planInviteCodes).isPresent();
+        Optional<PlanInviteCode> planInviteCode = planInviteCodeRepository.findByCode(inviteCode);
+        assertThat(planInviteCode).isPresent();
+        assertThat(planInviteCode.get().getPlanId()).isEqualTo(plan.getId());
     }
 
     @DisplayName("해당 플랜의 MEMBER일 경우 초대 코드 생성에 성공한다.")
@@ -196,8 +198,39 @@ class PlanMemberControllerCreateInviteCodeTest extends ControllerTestSupport {
         assertEquals(6, inviteCode.length());
         assertTrue(inviteCode.matches("[ABC123]{6}"));
 
-        Optional<PlanInviteCode> planInviteCodes = planInviteCodeRepository.findByCode(inviteCode);
-        assertThat(planInviteCodes).isPresent();
+        Optional<PlanInviteCode> planInviteCode = planInviteCodeRepository.findByCode(inviteCode);
+        assertThat(planInviteCode).isPresent();
+        assertThat(planInviteCode.get().getPlanId()).isEqualTo(plan.getId());
+    }
+
+    @DisplayName("유효한 초대 코드가 있으면 새로 생성하지 않고 기존 초대 코드를 반환한다.")
+    @Test
+    void shouldReturnActiveInviteCode_whenInviteCodeAlreadyExists() throws Exception {
+        //given
+        String ownerToken = buildToken(owner.getId(), "access", issuer, Instant.now().plusSeconds(10000));
+        String memberToken = buildToken(member.getId(), "access", issuer, Instant.now().plusSeconds(10000));
+
+        MvcResult firstResult = mockMvc.perform(
+                        post("/api/v1/plans/" + plan.getId() + "/invite-code")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + ownerToken)
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+        String firstCode = objectMapper.readTree(firstResult.getResponse().getContentAsString()).get("code").asText();
+
+        //when
+        MvcResult secondResult = mockMvc.perform(
+                        post("/api/v1/plans/" + plan.getId() + "/invite-code")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + memberToken)
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //then
+        String secondCode = objectMapper.readTree(secondResult.getResponse().getContentAsString()).get("code")
+                .asText();
+        assertThat(secondCode).isEqualTo(firstCode);
+        assertThat(planInviteCodeRepository.findCodeByPlanId(plan.getId())).contains(firstCode);
     }
 
     @DisplayName("해당 플랜에 참여하지 않은 유저의 경우 초대 코드 생성에 실패한다.")
@@ -215,7 +248,7 @@ class PlanMemberControllerCreateInviteCodeTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.code").value("Forbidden"))
                 .andExpect(jsonPath("$.message").value("해당 플랜의 초대코드를 생성 할 권한이 없습니다."));
 
-        assertThat(planInviteCodeRepository.count()).isZero();
+        assertThat(planInviteCodeRepository.findCodeByPlanId(plan.getId())).isEmpty();
     }
 
     @DisplayName("플랜에서 탈퇴한 유저의 경우 초대 코드 생성에 실패한다.")
@@ -233,7 +266,7 @@ class PlanMemberControllerCreateInviteCodeTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.code").value("Forbidden"))
                 .andExpect(jsonPath("$.message").value("해당 플랜의 초대코드를 생성 할 권한이 없습니다."));
 
-        assertThat(planInviteCodeRepository.count()).isZero();
+        assertThat(planInviteCodeRepository.findCodeByPlanId(plan.getId())).isEmpty();
     }
 
     @DisplayName("플랜이 존재하지 않으면 404를 반환한다.")
@@ -251,7 +284,7 @@ class PlanMemberControllerCreateInviteCodeTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.code").value("Not Found"))
                 .andExpect(jsonPath("$.message").value("플랜을 찾을 수 없습니다."));
 
-        assertThat(planInviteCodeRepository.count()).isZero();
+        assertThat(planInviteCodeRepository.findCodeByPlanId(plan.getId())).isEmpty();
     }
 
     @DisplayName("이미 삭제된 플랜이면 초대코드 생성에 실패하고, 404를 반환한다.")
@@ -269,7 +302,7 @@ class PlanMemberControllerCreateInviteCodeTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.code").value("Not Found"))
                 .andExpect(jsonPath("$.message").value("플랜을 찾을 수 없습니다."));
 
-        assertThat(planInviteCodeRepository.count()).isZero();
+        assertThat(planInviteCodeRepository.findCodeByPlanId(plan.getId())).isEmpty();
     }
 
     @DisplayName("유저가 존재하지 않으면 플랜 초대코드 생성에 실패하고, 404를 반환한다.")
@@ -287,7 +320,7 @@ class PlanMemberControllerCreateInviteCodeTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.code").value("Not Found"))
                 .andExpect(jsonPath("$.message").value("유저를 찾을 수 없습니다."));
 
-        assertThat(planInviteCodeRepository.count()).isZero();
+        assertThat(planInviteCodeRepository.findCodeByPlanId(plan.getId())).isEmpty();
     }
 
     @DisplayName("이미 탈퇴한 유저는 플랜 초대코드 생성에 실패하고, 404를 반환한다.")
@@ -314,7 +347,7 @@ class PlanMemberControllerCreateInviteCodeTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.code").value("Not Found"))
                 .andExpect(jsonPath("$.message").value("유저를 찾을 수 없습니다."));
 
-        assertThat(planInviteCodeRepository.count()).isZero();
+        assertThat(planInviteCodeRepository.findCodeByPlanId(plan.getId())).isEmpty();
     }
 
 }
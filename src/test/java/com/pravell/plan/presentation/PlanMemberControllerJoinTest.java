@@ -45,7 +45,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
 
     @AfterEach
     void tearDown() {
-        planInviteCodeRepository.deleteAllInBatch();
+        planRepository.findAll().forEach(plan -> planInviteCodeRepository.deleteByPlanId(plan.getId()));
         planUsersRepository.deleteAllInBatch();
         planRepository.deleteAllInBatch();
         userRepository.deleteAllInBatch();
@@ -71,7 +71,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -109,7 +109,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -148,7 +148,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -191,7 +191,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -234,7 +234,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -277,7 +277,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().minusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -289,7 +289,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                                 .queryParam("code", planInviteCode.getCode()))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.code").value("Not Found"))
-                .andExpect(jsonPath("$.message").value("초대 코드가 만료되었습니다."));
+                .andExpect(jsonPath("$.message").value("올바른 초대코드가 아닙니다."));
 
         Optional<PlanUsers> after = planUsersRepository.findByPlanIdAndUserId(plan.getId(), user.getId());
         assertThat(after).isNotPresent();
@@ -345,7 +345,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -383,7 +383,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -421,7 +421,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -459,7 +459,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -497,7 +497,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000));
 
@@ -535,7 +535,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().minusSeconds(10000));
 
@@ -573,7 +573,7 @@ class PlanMemberControllerJoinTest extends ControllerTestSupport {
                 .expiresAt(LocalDateTime.now().plusDays(1))
                 .createdBy(owner.getId())
                 .build();
-        planInviteCodeRepository.save(planInviteCode);
+        planInviteCodeRepository.saveIfAbsent(planInviteCode);
 
         String token = buildToken(user.getId(), "access", issuer, Instant.now().plusSeconds(10000)) + "Aaa";
 
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,6 +48,9 @@ class AuthFacadeRotateRefreshTokenTest {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -60,6 +64,7 @@ class AuthFacadeRotateRefreshTokenTest {
     private Duration refreshTokenTtl;
 
     private final UUID id = UUID.randomUUID();
+    private final String sessionId = UUID.randomUUID().toString();
     private final String userId = "testId";
     private final String password = "testpassword";
     private String refreshToken;
@@ -87,19 +92,19 @@ class AuthFacadeRotateRefreshTokenTest {
 
         userRepository.save(user);
 
-        refreshTokenRepository.save(id, refreshToken, refreshTokenTtl);
+        refreshTokenRepository.save(id, sessionId, refreshToken, refreshTokenTtl);
     }
 
     @DisplayName("refreshToken이 만료되지 않았고, 저장된 값하고 동일하면 AccessToken, RefreshToken 재발급에 성공한다.")
     @Test
     void reissueTokens_whenRefreshTokenIsValidAndMatchesStoredValue() {
         //when
-        TokenResponse tokenResponse = authFacade.rotateRefreshAndIssueAccess(refreshToken);
+        TokenResponse tokenResponse = authFacade.rotateRefreshAndIssueAccess(refreshToken, sessionId);
 
         //then
         assertThat(refreshToken).isNotEqualTo(tokenResponse.getRefreshToken());
 
-        String findRefreshToken = refreshTokenRepository.findByUserId(id);
+        String findRefreshToken = refreshTokenRepository.findByUserIdAndSessionId(id, sessionId);
         assertThat(findRefreshToken).isEqualTo(tokenResponse.getRefreshToken());
     }
 
@@ -110,7 +115,7 @@ class AuthFacadeRotateRefreshTokenTest {
         String token = buildToken("create", issuer, Instant.now().plusSeconds(60));
 
         //when, then
-        assertThatThrownBy(() -> authFacade.rotateRefreshAndIssueAccess(token))
+        assertThatThrownBy(() -> authFacade.rotateRefreshAndIssueAccess(token, sessionId))
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessage("토큰이 올바르지 않습니다.");
     }
@@ -122,7 +127,7 @@ class AuthFacadeRotateRefreshTokenTest {
         String token = buildToken("refresh", issuer, Instant.now().minusSeconds(10));
 
         //when, then
-        assertThatThrownBy(() -> authFacade.rotateRefreshAndIssueAccess(token))
+        assertThatThrownBy(() -> authFacade.rotateRefreshAndIssueAccess(token, sessionId))
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessage("토큰이 올바르지 않습니다.");
     }
@@ -134,7 +139,7 @@ class AuthFacadeRotateRefreshTokenTest {
         String refreshToken = buildToken("refresh", "another-issure", Instant.now().plusSeconds(60));
 
         //when, then
-        assertThatThrownBy(() -> authFacade.rotateRefreshAndIssueAccess(refreshToken))
+        assertThatThrownBy(() -> authFacade.rotateRefreshAndIssueAccess(refreshToken, sessionId))
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessage("토큰이 올바르지 않습니다.");
     }
@@ -154,7 +159,7 @@ class AuthFacadeRotateRefreshTokenTest {
         String tampered = refreshToken.substring(0, refreshToken.length() - 2) + "aa";
 
         //when, then
-        assertThatThrownBy(() -> authFacade.rotateRefreshAndIssueAccess(tampered))
+        assertThatThrownBy(() -> authFacade.rotateRefreshAndIssueAccess(tampered, sessionId))
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessage("토큰이 올바르지 않습니다.");
     }
@@ -173,11 +178,47 @@ class AuthFacadeRotateRefreshTokenTest {
         String refreshToken = jwtUtil.createRefreshToken(user);
 
         //when, then
-        assertThatThrownBy(() -> authFacade.rotateRefreshAndIssueAccess(refreshToken))
+        assertThatThrownBy(() -> authFacade.rotateRefreshAndIssueAccess(refreshToken, sessionId))
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessage("토큰이 올바르지 않습니다.");
     }
 
+    @DisplayName("다른 세션의 RefreshToken으로는 재발급할 수 없다.")
+    @Test
+    void failToValidateRefreshToken_whenSessionIdIsDifferent() {
+        //when, then
+        assertThatThrownBy(() -> authFacade.rotateRefreshAndIssueAccess(refreshToken, UUID.randomUUID().toString()))
+                .isInstanceOf(InvalidCredentialsException.class)
+                .hasMessage("토큰이 올바르지 않습니다.");
+
+        assertThat(refreshTokenRepository.findByUserIdAndSessionId(id, sessionId)).isEqualTo(refreshToken);
+    }
+
+    @DisplayName("세션 쿠키 없이 이전 형식으로 저장된 RefreshToken이면 새 세션으로 옮겨 재발급한다.")
+    @Test
+    void migrateLegacyRefreshToken_whenSessionCookieNotExists() {
+        //given
+        UUID legacyUserId = UUID.randomUUID();
+        User legacyUser = userRepository.save(User.builder()
+                .id(legacyUserId)
+                .userId("legacyId")
+                .password(passwordEncoder.encode(password))
+                .nickname("이전유저")
+                .status(UserStatus.ACTIVE)
+                .build());
+        String legacyRefreshToken = jwtUtil.createRefreshToken(legacyUser);
+        redisTemplate.opsForValue().set("refreshToken:" + legacyUserId, legacyRefreshToken, refreshTokenTtl);
+
+        //when
+        TokenResponse tokenResponse = authFacade.rotateRefreshAndIssueAccess(legacyRefreshToken, null);
+
+        //then
+        assertThat(tokenResponse.getSessionId()).isNotBlank();
+        assertThat(redisTemplate.hasKey("refreshToken:" + legacyUserId)).isFalse();
+        assertThat(refreshTokenRepository.findByUserIdAndSessionId(legacyUserId, tokenResponse.getSessionId()))
+                .isEqualTo(tokenResponse.getRefreshToken());
+    }
+
     private String buildToken(String typ, String iss, Instant exp) {
         return Jwts.builder()
                 .subject(id.toString())
@@ -113,7 +113,8 @@ class AuthFacadeSignInTest {
         assertThat(tokenResponse.getRefreshToken()).isNotEqualTo(signInTokenResponse.getRefreshToken());
 
         Optional<User> user = userRepository.findByUserId(signUpApplicationRequest.getId());
-        String refreshToken = refreshTokenRepository.findByUserId(user.get().getId());
+        String refreshToken = refreshTokenRepository.findByUserIdAndSessionId(user.get().getId(),
+                signInTokenResponse.getSessionId());
         assertThat(refreshToken).isEqualTo(signInTokenResponse.getRefreshToken());
         assertThat(refreshToken).isNotEqualTo(tokenResponse.getRefreshToken());
     }
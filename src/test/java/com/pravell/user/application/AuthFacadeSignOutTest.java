@@ -9,9 +9,11 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.pravell.common.auth.AccessTokenDenylist;
 import com.pravell.common.exception.InvalidCredentialsException;
 import com.pravell.common.util.CommonJwtUtil;
 import io.jsonwebtoken.Claims;
+import java.time.Instant;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,11 +32,15 @@ class AuthFacadeSignOutTest {
     @Mock
     private RefreshTokenService refreshTokenService;
 
+    @Mock
+    private AccessTokenDenylist accessTokenDenylist;
+
     @InjectMocks
     private AuthFacade authFacade;
 
     private final UUID userId = UUID.randomUUID();
     private final String refreshToken = "refreshToken";
+    private final String sessionId = UUID.randomUUID().toString();
 
     @DisplayName("로그아웃에 성공한다.")
     @Test
@@ -45,11 +51,11 @@ class AuthFacadeSignOutTest {
         Claims claims = mock(Claims.class);
         given(commonJwtUtil.getClaims(refreshToken)).willReturn(claims);
         given(claims.getSubject()).willReturn(userId.toString());
-        given(refreshTokenService.findRefreshToken(userId)).willReturn(refreshToken);
+        given(refreshTokenService.findRefreshToken(userId, sessionId)).willReturn(refreshToken);
 
         //when, then
-        assertDoesNotThrow(() -> authFacade.signOut(userId, refreshToken));
-        verify(refreshTokenService).revoke(userId);
+        assertDoesNotThrow(() -> authFacade.signOut(userId, sessionId, refreshToken));
+        verify(refreshTokenService).revoke(userId, sessionId);
     }
 
     @DisplayName("Refresh Token이 유효하지 않으면 로그아웃에 실패하고, 예외가 발생한다.")
@@ -59,7 +65,7 @@ class AuthFacadeSignOutTest {
         given(commonJwtUtil.isValidRefreshToken(refreshToken)).willReturn(false);
 
         //when, then
-        assertThatThrownBy(() -> authFacade.signOut(userId, refreshToken))
+        assertThatThrownBy(() -> authFacade.signOut(userId, sessionId, refreshToken))
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessage("토큰이 올바르지 않습니다.");
 
@@ -76,7 +82,7 @@ class AuthFacadeSignOutTest {
         given(claims.getSubject()).willReturn(UUID.randomUUID().toString());
 
         //when, then
-        assertThatThrownBy(() -> authFacade.signOut(userId, refreshToken))
+        assertThatThrownBy(() -> authFacade.signOut(userId, sessionId, refreshToken))
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessage("토큰이 올바르지 않습니다.");
 
@@ -91,12 +97,29 @@ class AuthFacadeSignOutTest {
         Claims claims = mock(Claims.class);
         given(commonJwtUtil.getClaims(refreshToken)).willReturn(claims);
         given(claims.getSubject()).willReturn(userId.toString());
-        given(refreshTokenService.findRefreshToken(userId)).willReturn(null);
+        given(refreshTokenService.findRefreshToken(userId, sessionId)).willReturn(null);
 
         //when, then
-        assertDoesNotThrow(() -> authFacade.signOut(userId, refreshToken));
+        assertDoesNotThrow(() -> authFacade.signOut(userId, sessionId, refreshToken));
+
+        verify(refreshTokenService, never()).revoke(any(), any());
+    }
+
+    @DisplayName("세션 쿠키가 없으면 이전 형식으로 저장된 Refresh Token을 삭제한다.")
+    @Test
+    void signOut_shouldRevokeLegacyToken_whenSessionCookieNotExists() {
+        //given
+        given(commonJwtUtil.isValidRefreshToken(refreshToken)).willReturn(true);
+        Claims claims = mock(Claims.class);
+        given(commonJwtUtil.getClaims(refreshToken)).willReturn(claims);
+        given(claims.getSubject()).willReturn(userId.toString());
 
-        verify(refreshTokenService, never()).revoke(any());
+        //when
+        authFacade.signOut(userId, null, refreshToken);
+
+        //then
+        verify(refreshTokenService).revokeLegacy(userId, refreshToken);
+        verify(refreshTokenService, never()).revoke(any(), any());
     }
 
     @DisplayName("세션 정보가 일치하지 않으면 로그아웃에 실패하고, 예외가 발생한다.")
@@ -107,14 +130,38 @@ class AuthFacadeSignOutTest {
         Claims claims = mock(Claims.class);
         given(commonJwtUtil.getClaims(refreshToken)).willReturn(claims);
         given(claims.getSubject()).willReturn(userId.toString());
-        given(refreshTokenService.findRefreshToken(userId)).willReturn("other-token");
+        given(refreshTokenService.findRefreshToken(userId, sessionId)).willReturn("other-token");
 
         //when, then
-        assertThatThrownBy(() -> authFacade.signOut(userId, refreshToken))
+        assertThatThrownBy(() -> authFacade.signOut(userId, sessionId, refreshToken))
                 .isInstanceOf(InvalidCredentialsException.class)
                 .hasMessage("토큰이 올바르지 않습니다.");
 
-        verify(refreshTokenService, never()).revoke(any());
+        verify(refreshTokenService, never()).revoke(any(), any());
+    }
+
+    @DisplayName("로그아웃하면 액세스 토큰의 jti가 만료 시각까지 차단 목록에 등록된다.")
+    @Test
+    void revokeAccessToken_shouldDenyTokenId() {
+        //given
+        String tokenId = UUID.randomUUID().toString();
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        //when
+        authFacade.revokeAccessToken(tokenId, expiresAt);
+
+        //then
+        verify(accessTokenDenylist).deny(tokenId, expiresAt);
+    }
+
+    @DisplayName("jti가 없는 액세스 토큰은 차단 목록에 등록하지 않는다.")
+    @Test
+    void revokeAccessToken_shouldSkip_whenTokenIdNotExists() {
+        //when
+        authFacade.revokeAccessToken(null, Instant.now().plusSeconds(60));
+
+        //then
+        verifyNoInteractions(accessTokenDenylist);
     }
 
 }
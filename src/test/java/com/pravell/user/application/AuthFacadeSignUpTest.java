@@ -6,11 +6,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.pravell.user.application.dto.request.SignUpApplicationRequest;
 import com.pravell.user.application.dto.response.TokenResponse;
 import com.pravell.user.domain.model.User;
+import com.pravell.user.domain.model.UserStatus;
 import com.pravell.user.domain.repository.UserRepository;
 import com.pravell.user.util.JwtUtil;
 import io.jsonwebtoken.Claims;
 import java.util.Date;
 import java.util.Optional;
+import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -112,6 +114,31 @@ class AuthFacadeSignUpTest {
                 .hasMessage("이미 존재하는 닉네임입니다.");
     }
 
+    @DisplayName("필터에 반영되지 않은 아이디가 중복되어도 DB 유니크 제약으로 중복 예외가 발생한다.")
+    @Test
+    void shouldThrowDuplicateKeyException_whenUniqueKeyViolatedWithoutFilterEntry() {
+        //given
+        String userId = "unfiltered" + UUID.randomUUID();
+        userRepository.saveAndFlush(User.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .password("passwordTest")
+                .nickname("unfiltered" + UUID.randomUUID())
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        SignUpApplicationRequest request = SignUpApplicationRequest.builder()
+                .id(userId)
+                .password("testPassword")
+                .nickname("nickname" + UUID.randomUUID())
+                .build();
+
+        //when, then
+        assertThatThrownBy(() -> authFacade.signUp(request))
+                .isInstanceOf(DuplicateKeyException.class)
+                .hasMessage("이미 존재하는 아이디 또는 닉네임입니다.");
+    }
+
     private SignUpApplicationRequest getSignUpApplicationRequest() {
         return SignUpApplicationRequest.builder()
                 .id("testId")
@@ -0,0 +1,92 @@
+package com.pravell.user.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.pravell.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordHasherTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, meterRegistry, 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @DisplayName("해시 작업자와 대기열이 모두 차 있으면 503 예외를 던지고 거절 횟수를 기록한다.")
+    @Test
+    void shouldThrowServiceUnavailable_whenWorkersAndQueueAreFull() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(passwordEncoder.encode("password")).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("password"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("password"));
+        awaitQueueSize(1);
+
+        //when, then
+        assertThatThrownBy(() -> passwordHasher.encode("password"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("encoded");
+    }
+
+    @DisplayName("작업자에 여유가 있으면 비밀번호를 검증하고 처리 시간을 기록한다.")
+    @Test
+    void shouldMatchAndRecordTimer_whenWorkerIsAvailable() {
+        //given
+        given(passwordEncoder.matches("password", "encoded")).willReturn(true);
+
+        //when
+        boolean matches = passwordHasher.matches("password", "encoded");
+
+        //then
+        assertThat(matches).isTrue();
+        assertThat(meterRegistry.counter("password.hashing.rejected").count()).isZero();
+        assertThat(meterRegistry.timer("password.hashing", "operation", "matches").count()).isEqualTo(1L);
+    }
+
+    @DisplayName("해시 중 발생한 런타임 예외는 감싸지 않고 그대로 전달한다.")
+    @Test
+    void shouldPropagateRuntimeException_whenEncoderFails() {
+        //given
+        given(passwordEncoder.encode("password")).willThrow(new IllegalArgumentException("잘못된 비밀번호입니다."));
+
+        //when, then
+        assertThatThrownBy(() -> passwordHasher.encode("password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 비밀번호입니다.");
+    }
+
+    private void awaitQueueSize(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < expected
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+}
@@ -27,47 +27,80 @@ class RefreshTokenServiceTest {
     private final String refreshToken = "refresh-token";
     private final UUID userId = UUID.randomUUID();
 
-    @DisplayName("리프레시 토큰 저장 및 조회에 성공한다.")
+    @DisplayName("세션을 생성하면 세션 ID로 리프레시 토큰을 조회할 수 있다.")
     @Test
-    void saveRefreshTokenSuccessfully() {
+    void createSessionSuccessfully() {
         //when
-        refreshTokenService.saveRefreshToken(userId, refreshToken);
+        String sessionId = refreshTokenService.createSession(userId, refreshToken);
 
         //then
-        String result = refreshTokenService.findRefreshToken(userId);
+        String result = refreshTokenService.findRefreshToken(userId, sessionId);
 
         assertThat(result).isEqualTo(refreshToken);
     }
 
-    @DisplayName("리프레시 토큰을 성공적으로 업데이트 한다.")
+    @DisplayName("여러 기기에서 로그인하면 세션이 각각 유지된다.")
     @Test
-    void updateRefreshTokenSuccessfully() {
+    void keepSessionsSeparately_whenSessionsCreatedOnMultipleDevices() {
         //given
-        String updateRefreshToken = "update-refresh-token";
+        String laptopSessionId = refreshTokenService.createSession(userId, refreshToken);
 
-        refreshTokenService.saveRefreshToken(userId, refreshToken);
-        String before = refreshTokenService.findRefreshToken(userId);
+        //when
+        String phoneSessionId = refreshTokenService.createSession(userId, "phone-refresh-token");
+
+        //then
+        assertThat(phoneSessionId).isNotEqualTo(laptopSessionId);
+        assertThat(refreshTokenService.findRefreshToken(userId, laptopSessionId)).isEqualTo(refreshToken);
+        assertThat(refreshTokenService.findRefreshToken(userId, phoneSessionId)).isEqualTo("phone-refresh-token");
+        assertThat(refreshTokenService.findSessions(userId)).hasSize(2);
+    }
+
+    @DisplayName("한 세션만 로그아웃하면 다른 세션은 유지된다.")
+    @Test
+    void revokeOnlyGivenSession() {
+        //given
+        String laptopSessionId = refreshTokenService.createSession(userId, refreshToken);
+        String phoneSessionId = refreshTokenService.createSession(userId, "phone-refresh-token");
 
         //when
-        refreshTokenService.updateToken(userId, updateRefreshToken);
+        refreshTokenService.revoke(userId, laptopSessionId);
 
         //then
-        String after = refreshTokenService.findRefreshToken(userId);
-        assertThat(before).isEqualTo(refreshToken);
-        assertThat(after).isNotEqualTo(before);
-        assertThat(after).isEqualTo(updateRefreshToken);
+        assertThat(refreshTokenService.findRefreshToken(userId, laptopSessionId)).isNull();
+        assertThat(refreshTokenService.findRefreshToken(userId, phoneSessionId)).isEqualTo("phone-refresh-token");
     }
 
     @DisplayName("TTL이 만료되면 리프레시 토큰이 삭제된다.")
     @Test
     void refreshTokenIsDeletedAfterTtlExpires() throws InterruptedException {
         //given
-        refreshTokenRepository.save(userId, refreshToken, Duration.ofMillis(2));
+        String sessionId = UUID.randomUUID().toString();
+        refreshTokenRepository.save(userId, sessionId, refreshToken, Duration.ofMillis(2));
 
         //when
         Thread.sleep(3);
 
         //then
-        assertThat(refreshTokenService.findRefreshToken(userId)).isNull();
+        assertThat(refreshTokenService.findRefreshToken(userId, sessionId)).isNull();
+    }
+
+    @DisplayName("세션 수가 상한을 넘으면 가장 오래된 세션이 로그아웃된다.")
+    @Test
+    void revokeOldestSession_whenSessionLimitExceeded() throws InterruptedException {
+        //given
+        String oldestSessionId = refreshTokenService.createSession(userId, refreshToken);
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(2);
+            refreshTokenService.createSession(userId, "refresh-token-" + i);
+        }
+        Thread.sleep(2);
+
+        //when
+        String newestSessionId = refreshTokenService.createSession(userId, "newest-refresh-token");
+
+        //then
+        assertThat(refreshTokenService.findSessions(userId)).hasSize(5);
+        assertThat(refreshTokenService.findRefreshToken(userId, oldestSessionId)).isNull();
+        assertThat(refreshTokenService.findRefreshToken(userId, newestSessionId)).isEqualTo("newest-refresh-token");
     }
 }
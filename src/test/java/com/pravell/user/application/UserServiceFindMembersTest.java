@@ -0,0 +1,165 @@
+package com.pravell.user.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.pravell.user.application.dto.UserMemberDTO;
+import com.pravell.user.domain.model.User;
+import com.pravell.user.domain.model.UserStatus;
+import com.pravell.user.domain.repository.UserRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class UserServiceFindMembersTest {
+
+    @Autowired
+    private UserService userService;
+
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
+    @MockitoSpyBean
+    private UserStatusCache userStatusCache;
+
+    private final User user1 = createUser("member1", "멤버1", UserStatus.ACTIVE);
+    private final User user2 = createUser("member2", "멤버2", UserStatus.ACTIVE);
+    private final User user3 = createUser("member3", "멤버3", UserStatus.ACTIVE);
+    private final User withdrawnUser = createUser("member4", "멤버4", UserStatus.WITHDRAWN);
+
+    @BeforeEach
+    void setUp() {
+        userRepository.saveAll(List.of(user1, user2, user3, withdrawnUser));
+        List.of(user1, user2, user3, withdrawnUser).forEach(user -> userStatusCache.evict(user.getId()));
+        clearInvocations(userRepository, userStatusCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        List.of(user1, user2, user3, withdrawnUser).forEach(user -> userStatusCache.evict(user.getId()));
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("캐시에 없는 멤버들은 한 번의 조회로 불러와 요청 순서대로 반환한다.")
+    @Test
+    void shouldLoadMissedMembersInSingleQuery_whenCacheIsEmpty() {
+        //when
+        List<UserMemberDTO> members = userService.findMembers(List.of(user3.getId(), user1.getId(),
+                user2.getId()));
+
+        //then
+        assertThat(members).extracting(UserMemberDTO::getMemberId)
+                .containsExactly(user3.getId(), user1.getId(), user2.getId());
+        assertThat(members).extracting(UserMemberDTO::getNickname)
+                .containsExactly("멤버3", "멤버1", "멤버2");
+
+        ArgumentCaptor<Collection<UUID>> captor = idsCaptor();
+        verify(userRepository, times(1)).findSummariesByIdIn(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(user1.getId(), user2.getId(), user3.getId());
+        verify(userStatusCache, times(1)).putAll(anyCollection());
+    }
+
+    @DisplayName("일부만 캐시에 있으면 캐시에 없는 멤버만 조회한다.")
+    @Test
+    void shouldLoadOnlyMissedMembers_whenSomeMembersAreCached() {
+        //given
+        userService.findMembers(List.of(user1.getId()));
+        clearInvocations(userRepository);
+
+        //when
+        List<UserMemberDTO> members = userService.findMembers(List.of(user1.getId(), user2.getId(),
+                user3.getId()));
+
+        //then
+        assertThat(members).extracting(UserMemberDTO::getMemberId)
+                .containsExactly(user1.getId(), user2.getId(), user3.getId());
+
+        ArgumentCaptor<Collection<UUID>> captor = idsCaptor();
+        verify(userRepository, times(1)).findSummariesByIdIn(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(user2.getId(), user3.getId());
+    }
+
+    @DisplayName("모든 멤버가 캐시에 있으면 DB를 조회하지 않는다.")
+    @Test
+    void shouldNotQueryRepository_whenAllMembersAreCached() {
+        //given
+        userService.findMembers(List.of(user1.getId(), user2.getId()));
+        clearInvocations(userRepository);
+
+        //when
+        List<UserMemberDTO> members = userService.findMembers(List.of(user2.getId(), user1.getId()));
+
+        //then
+        assertThat(members).extracting(UserMemberDTO::getMemberId).containsExactly(user2.getId(), user1.getId());
+        verify(userRepository, never()).findSummariesByIdIn(anyCollection());
+    }
+
+    @DisplayName("중복된 아이디는 한 번만 반환하고, 활성 상태가 아니거나 존재하지 않는 멤버는 제외한다.")
+    @Test
+    void shouldSkipDuplicatedInactiveAndMissingMembers() {
+        //given
+        UUID unknownId = UUID.randomUUID();
+
+        //when
+        List<UserMemberDTO> members = userService.findMembers(List.of(user1.getId(), withdrawnUser.getId(),
+                user1.getId(), unknownId));
+
+        //then
+        assertThat(members).extracting(UserMemberDTO::getMemberId).containsExactly(user1.getId());
+
+        ArgumentCaptor<Collection<UUID>> captor = idsCaptor();
+        verify(userRepository, times(1)).findSummariesByIdIn(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(user1.getId(), withdrawnUser.getId(), unknownId);
+    }
+
+    @DisplayName("캐시에 없는 멤버 조회는 읽기 전용 트랜잭션 안에서 실행된다.")
+    @Test
+    void shouldLoadMissedMembersInReadOnlyTransaction() {
+        //given
+        AtomicBoolean readOnly = new AtomicBoolean();
+        doAnswer(invocation -> {
+            readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return invocation.callRealMethod();
+        }).when(userStatusCache).currentVersions(anyCollection());
+
+        //when
+        userService.findMembers(List.of(user1.getId()));
+
+        //then
+        assertThat(readOnly).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Collection<UUID>> idsCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    private User createUser(String userId, String nickname, UserStatus status) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .password("passworddd")
+                .nickname(nickname)
+                .status(status)
+                .build();
+    }
+
+}
@@ -2,14 +2,23 @@ package com.pravell.user.domain.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.pravell.user.domain.model.RefreshTokenRotationResult;
+import com.pravell.user.domain.model.RefreshTokenSession;
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 @ActiveProfiles("test")
@@ -20,21 +29,25 @@ class RefreshTokenRepositoryTest {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
     private final String refreshToken = "refresh-token";
     private final UUID userId = UUID.randomUUID();
+    private final String sessionId = UUID.randomUUID().toString();
 
     @DisplayName("리프레시 토큰 저장 및 조회에 성공한다.")
     @Test
     void saveRefreshTokenSuccessfully() {
         //given
-        String beforeRefreshToken = refreshTokenRepository.findByUserId(userId);
+        String beforeRefreshToken = refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId);
         assertThat(beforeRefreshToken).isNull();
 
         //when
-        refreshTokenRepository.save(userId, refreshToken, Duration.ofSeconds(10));
+        refreshTokenRepository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
 
         //then
-        String afterRefreshToken = refreshTokenRepository.findByUserId(userId);
+        String afterRefreshToken = refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId);
         assertThat(afterRefreshToken).isEqualTo(refreshToken);
     }
 
@@ -42,34 +55,197 @@ class RefreshTokenRepositoryTest {
     @Test
     void deleteRefreshTokenSuccessfully() {
         //given
-        refreshTokenRepository.save(userId, refreshToken, Duration.ofSeconds(10));
-        String beforeRefreshToken = refreshTokenRepository.findByUserId(userId);
+        refreshTokenRepository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+        String beforeRefreshToken = refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId);
         assertThat(beforeRefreshToken).isEqualTo(refreshToken);
 
         //when
-        refreshTokenRepository.delete(userId);
+        refreshTokenRepository.delete(userId, sessionId);
 
         //then
-        String afterRefreshToken = refreshTokenRepository.findByUserId(userId);
+        String afterRefreshToken = refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId);
         assertThat(afterRefreshToken).isNull();
     }
 
-    @DisplayName("리프레시 토큰 업데이트에 성공한다.")
+    @DisplayName("한 유저의 여러 세션은 서로 덮어쓰지 않는다.")
     @Test
-    void updateRefreshTokenSuccessfully() {
+    void keepSessionsSeparately_whenUserSignsInOnMultipleDevices() {
         //given
-        String updateRefreshToken = "update-refresh-token";
+        String otherSessionId = UUID.randomUUID().toString();
 
-        refreshTokenRepository.save(userId, refreshToken, Duration.ofSeconds(10));
-        String beforeRefreshToken = refreshTokenRepository.findByUserId(userId);
-        assertThat(beforeRefreshToken).isEqualTo(refreshToken);
+        //when
+        refreshTokenRepository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+        refreshTokenRepository.save(userId, otherSessionId, "other-refresh-token", Duration.ofSeconds(10));
+
+        //then
+        assertThat(refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId)).isEqualTo(refreshToken);
+        assertThat(refreshTokenRepository.findByUserIdAndSessionId(userId, otherSessionId))
+                .isEqualTo("other-refresh-token");
+        assertThat(refreshTokenRepository.findSessions(userId))
+                .extracting(RefreshTokenSession::getSessionId)
+                .containsExactlyInAnyOrder(sessionId, otherSessionId);
+    }
+
+    @DisplayName("유저의 모든 세션을 한 번에 삭제한다.")
+    @Test
+    void deleteAllSessionsSuccessfully() {
+        //given
+        String otherSessionId = UUID.randomUUID().toString();
+        refreshTokenRepository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+        refreshTokenRepository.save(userId, otherSessionId, "other-refresh-token", Duration.ofSeconds(10));
+
+        //when
+        refreshTokenRepository.deleteAll(userId);
+
+        //then
+        assertThat(refreshTokenRepository.findSessions(userId)).isEmpty();
+        assertThat(refreshTokenRepository.findByUserIdAndSessionId(userId, otherSessionId)).isNull();
+    }
+
+    @DisplayName("세션마다 만료 시각이 따로 적용된다.")
+    @Test
+    void expireEachSessionSeparately() throws InterruptedException {
+        //given
+        String otherSessionId = UUID.randomUUID().toString();
+        refreshTokenRepository.save(userId, sessionId, refreshToken, Duration.ofMillis(50));
+        refreshTokenRepository.save(userId, otherSessionId, "other-refresh-token", Duration.ofSeconds(10));
+
+        //when
+        Thread.sleep(100);
+
+        //then
+        assertThat(refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId)).isNull();
+        assertThat(refreshTokenRepository.findSessions(userId))
+                .extracting(RefreshTokenSession::getSessionId)
+                .containsExactly(otherSessionId);
+    }
+
+    @DisplayName("저장된 토큰과 일치하면 리프레시 토큰을 교체한다.")
+    @Test
+    void rotateRefreshTokenSuccessfully_whenExpectedTokenMatches() {
+        //given
+        String newRefreshToken = "new-refresh-token";
+        refreshTokenRepository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+
+        //when
+        RefreshTokenRotationResult result = refreshTokenRepository.rotate(userId, sessionId, refreshToken,
+                newRefreshToken, Duration.ofSeconds(10));
+
+        //then
+        assertThat(result).isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat(refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId)).isEqualTo(newRefreshToken);
+    }
+
+    @DisplayName("저장된 토큰과 일치하지 않으면 리프레시 토큰을 교체하지 않는다.")
+    @Test
+    void shouldNotRotateRefreshToken_whenExpectedTokenDoesNotMatch() {
+        //given
+        refreshTokenRepository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+
+        //when
+        RefreshTokenRotationResult result = refreshTokenRepository.rotate(userId, sessionId, "other-refresh-token",
+                "new-refresh-token", Duration.ofSeconds(10));
+
+        //then
+        assertThat(result).isEqualTo(RefreshTokenRotationResult.MISMATCH);
+        assertThat(refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId)).isEqualTo(refreshToken);
+    }
+
+    @DisplayName("저장된 토큰이 없으면 리프레시 토큰을 저장하지 않는다.")
+    @Test
+    void shouldNotRotateRefreshToken_whenStoredTokenNotExists() {
+        //when
+        RefreshTokenRotationResult result = refreshTokenRepository.rotate(userId, sessionId, refreshToken,
+                "new-refresh-token", Duration.ofSeconds(10));
+
+        //then
+        assertThat(result).isEqualTo(RefreshTokenRotationResult.NOT_FOUND);
+        assertThat(refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId)).isNull();
+    }
+
+    @DisplayName("같은 토큰으로 동시에 교체를 요청하면 하나의 요청만 성공한다.")
+    @Test
+    void shouldRotateOnlyOnce_whenConcurrentRotationRequested() throws Exception {
+        //given
+        refreshTokenRepository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+        List<Callable<RefreshTokenRotationResult>> tasks = IntStream.range(0, 10)
+                .<Callable<RefreshTokenRotationResult>>mapToObj(i -> () -> refreshTokenRepository.rotate(
+                        userId, sessionId, refreshToken, "new-refresh-token-" + i, Duration.ofSeconds(10)))
+                .toList();
+
+        //when
+        List<Future<RefreshTokenRotationResult>> futures = executorService.invokeAll(tasks);
+        executorService.shutdown();
+
+        //then
+        long rotatedCount = 0;
+        for (Future<RefreshTokenRotationResult> future : futures) {
+            if (future.get() == RefreshTokenRotationResult.ROTATED) {
+                rotatedCount++;
+            }
+        }
+        assertThat(rotatedCount).isEqualTo(1);
+        assertThat(refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId)).startsWith("new-refresh-token-");
+    }
+
+    @DisplayName("이전 형식의 리프레시 토큰 키가 일치하면 세션 해시로 옮기고 교체한다.")
+    @Test
+    void migrateLegacyRefreshToken_whenExpectedTokenMatches() {
+        //given
+        redisTemplate.opsForValue().set("refreshToken:" + userId, refreshToken, Duration.ofSeconds(10));
+
+        //when
+        RefreshTokenRotationResult mismatch = refreshTokenRepository.rotateLegacy(userId, sessionId,
+                "other-refresh-token", "new-refresh-token", Duration.ofSeconds(10));
+        RefreshTokenRotationResult rotated = refreshTokenRepository.rotateLegacy(userId, sessionId, refreshToken,
+                "new-refresh-token", Duration.ofSeconds(10));
+        RefreshTokenRotationResult notFound = refreshTokenRepository.rotateLegacy(userId, sessionId, refreshToken,
+                "new-refresh-token", Duration.ofSeconds(10));
+
+        //then
+        assertThat(mismatch).isEqualTo(RefreshTokenRotationResult.MISMATCH);
+        assertThat(rotated).isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat(notFound).isEqualTo(RefreshTokenRotationResult.NOT_FOUND);
+        assertThat(redisTemplate.hasKey("refreshToken:" + userId)).isFalse();
+        assertThat(refreshTokenRepository.findByUserIdAndSessionId(userId, sessionId)).isEqualTo("new-refresh-token");
+    }
+
+    @DisplayName("이전 형식의 리프레시 토큰은 저장된 값과 일치할 때만 삭제한다.")
+    @Test
+    void deleteLegacyRefreshToken_onlyWhenTokenMatches() {
+        //given
+        redisTemplate.opsForValue().set("refreshToken:" + userId, refreshToken, Duration.ofSeconds(10));
+
+        //when
+        refreshTokenRepository.deleteLegacy(userId, "other-refresh-token");
+        Boolean afterMismatch = redisTemplate.hasKey("refreshToken:" + userId);
+        refreshTokenRepository.deleteLegacy(userId, refreshToken);
+
+        //then
+        assertThat(afterMismatch).isTrue();
+        assertThat(redisTemplate.hasKey("refreshToken:" + userId)).isFalse();
+    }
+
+    @DisplayName("세션 수가 상한을 넘으면 만료가 가장 빠른 세션부터 삭제한다.")
+    @Test
+    void trimSessions_whenSessionCountExceedsLimit() {
+        //given
+        String newestSessionId = UUID.randomUUID().toString();
+        String middleSessionId = UUID.randomUUID().toString();
+        refreshTokenRepository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+        refreshTokenRepository.save(userId, middleSessionId, "middle-refresh-token", Duration.ofSeconds(20));
+        refreshTokenRepository.save(userId, newestSessionId, "newest-refresh-token", Duration.ofSeconds(30));
 
         //when
-        refreshTokenRepository.update(userId, updateRefreshToken, Duration.ofSeconds(10));
+        int trimmed = refreshTokenRepository.trimSessions(userId, 2);
 
         //then
-        String afterRefreshToken = refreshTokenRepository.findByUserId(userId);
-        assertThat(afterRefreshToken).isEqualTo(updateRefreshToken);
+        assertThat(trimmed).isEqualTo(1);
+        assertThat(refreshTokenRepository.findSessions(userId))
+                .extracting(RefreshTokenSession::getSessionId)
+                .containsExactlyInAnyOrder(middleSessionId, newestSessionId);
     }
 
 }
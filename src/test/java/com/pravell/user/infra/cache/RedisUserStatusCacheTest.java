@@ -0,0 +1,118 @@
+package com.pravell.user.infra.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pravell.user.application.dto.CachedUser;
+import com.pravell.user.domain.model.UserStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class RedisUserStatusCacheTest {
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final UUID id = UUID.randomUUID();
+
+    @DisplayName("조회 이후 무효화된 유저 상태는 이전 버전으로 다시 캐시되지 않는다.")
+    @Test
+    void shouldRejectPut_whenUserWasEvictedAfterVersionWasRead() {
+        //given
+        RedisUserStatusCache cache = createCache();
+        long versionBeforeWithdrawal = cache.currentVersion(id);
+        cache.evict(id);
+
+        //when
+        cache.put(cachedUser(UserStatus.ACTIVE, versionBeforeWithdrawal));
+
+        //then
+        assertThat(cache.find(id)).isEmpty();
+        assertThat(createCache().find(id)).isEmpty();
+    }
+
+    @DisplayName("현재 버전으로 저장한 유저 상태는 다른 인스턴스에서도 조회된다.")
+    @Test
+    void shouldFindUserFromRedis_whenPutWithCurrentVersion() {
+        //given
+        RedisUserStatusCache cache = createCache();
+        cache.evict(id);
+        cache.put(cachedUser(UserStatus.ACTIVE, cache.currentVersion(id)));
+
+        //when
+        Optional<CachedUser> found = createCache().find(id);
+
+        //then
+        assertThat(found).isPresent();
+        assertThat(found.get().isActive()).isTrue();
+        assertThat(found.get().getVersion()).isEqualTo(1L);
+    }
+
+    @DisplayName("무효화하면 로컬 캐시와 Redis에서 모두 제거된다.")
+    @Test
+    void shouldRemoveLocalAndRedisEntries_whenEvicted() {
+        //given
+        RedisUserStatusCache cache = createCache();
+        cache.put(cachedUser(UserStatus.ACTIVE, cache.currentVersion(id)));
+        assertThat(cache.find(id)).isPresent();
+
+        //when
+        cache.evict(id);
+
+        //then
+        assertThat(cache.find(id)).isEmpty();
+        assertThat(redisTemplate.hasKey("userStatus:" + id)).isFalse();
+    }
+
+    @DisplayName("여러 유저를 저장하면 버전이 일치하는 유저만 캐시된다.")
+    @Test
+    void shouldPutOnlyUsersWithCurrentVersion_whenPutAll() {
+        //given
+        RedisUserStatusCache cache = createCache();
+        UUID staleId = UUID.randomUUID();
+        Map<UUID, Long> versions = cache.currentVersions(List.of(id, staleId));
+        cache.evict(staleId);
+
+        //when
+        cache.putAll(List.of(
+                cachedUser(id, UserStatus.ACTIVE, versions.get(id)),
+                cachedUser(staleId, UserStatus.ACTIVE, versions.get(staleId))));
+
+        //then
+        assertThat(createCache().findAll(List.of(id, staleId))).containsOnlyKeys(id);
+    }
+
+    private RedisUserStatusCache createCache() {
+        return new RedisUserStatusCache(redisTemplate, listenerContainer, new SimpleMeterRegistry(),
+                Duration.ofSeconds(30), Duration.ofMinutes(10), Duration.ofMinutes(1), 100);
+    }
+
+    private CachedUser cachedUser(UserStatus status, long version) {
+        return cachedUser(id, status, version);
+    }
+
+    private CachedUser cachedUser(UUID userId, UserStatus status, long version) {
+        return CachedUser.builder()
+                .id(userId)
+                .nickname("유저")
+                .status(status)
+                .version(version)
+                .build();
+    }
+
+}
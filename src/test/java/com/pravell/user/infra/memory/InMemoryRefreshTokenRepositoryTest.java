@@ -0,0 +1,167 @@
+package com.pravell.user.infra.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.pravell.MutableClock;
+import com.pravell.user.domain.model.RefreshTokenRotationResult;
+import com.pravell.user.domain.model.RefreshTokenSession;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class InMemoryRefreshTokenRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-09-20T00:00:00Z");
+
+    private final UUID userId = UUID.randomUUID();
+    private final String sessionId = UUID.randomUUID().toString();
+    private final String refreshToken = "refresh-token";
+
+    @DisplayName("리프레시 토큰 저장 및 조회에 성공한다.")
+    @Test
+    void saveRefreshTokenSuccessfully() {
+        //given
+        InMemoryRefreshTokenRepository repository = repository(new MutableClock(NOW), null);
+
+        //when
+        repository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+
+        //then
+        assertThat(repository.findByUserIdAndSessionId(userId, sessionId)).isEqualTo(refreshToken);
+    }
+
+    @DisplayName("만료 시각이 지나면 타이밍 휠이 리프레시 토큰을 제거한다.")
+    @Test
+    void shouldExpireRefreshToken_whenTtlElapsed() {
+        //given
+        MutableClock clock = new MutableClock(NOW);
+        InMemoryRefreshTokenRepository repository = repository(clock, null);
+        repository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+
+        //when
+        clock.setInstant(NOW.plusSeconds(12));
+        repository.expire();
+
+        //then
+        assertThat(repository.findByUserIdAndSessionId(userId, sessionId)).isNull();
+    }
+
+    @DisplayName("저장된 토큰과 일치할 때만 리프레시 토큰을 교체한다.")
+    @Test
+    void shouldRotateRefreshToken_onlyWhenExpectedTokenMatches() {
+        //given
+        InMemoryRefreshTokenRepository repository = repository(new MutableClock(NOW), null);
+        repository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+
+        //when
+        RefreshTokenRotationResult mismatch = repository.rotate(userId, sessionId, "other-token", "new-token",
+                Duration.ofSeconds(10));
+        RefreshTokenRotationResult rotated = repository.rotate(userId, sessionId, refreshToken, "new-token",
+                Duration.ofSeconds(10));
+        RefreshTokenRotationResult notFound = repository.rotate(UUID.randomUUID(), sessionId, refreshToken,
+                "new-token", Duration.ofSeconds(10));
+
+        //then
+        assertThat(mismatch).isEqualTo(RefreshTokenRotationResult.MISMATCH);
+        assertThat(rotated).isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat(notFound).isEqualTo(RefreshTokenRotationResult.NOT_FOUND);
+        assertThat(repository.findByUserIdAndSessionId(userId, sessionId)).isEqualTo("new-token");
+    }
+
+    @DisplayName("유저의 모든 세션을 한 번에 삭제하고, 남은 세션만 조회된다.")
+    @Test
+    void shouldDeleteAllSessions_whenRevokeAllRequested() {
+        //given
+        InMemoryRefreshTokenRepository repository = repository(new MutableClock(NOW), null);
+        String otherSessionId = UUID.randomUUID().toString();
+        repository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+        repository.save(userId, otherSessionId, "other-token", Duration.ofSeconds(10));
+        repository.delete(userId, sessionId);
+        assertThat(repository.findSessions(userId))
+                .extracting(RefreshTokenSession::getSessionId)
+                .containsExactly(otherSessionId);
+
+        //when
+        repository.deleteAll(userId);
+
+        //then
+        assertThat(repository.findSessions(userId)).isEmpty();
+        assertThat(repository.findByUserIdAndSessionId(userId, otherSessionId)).isNull();
+    }
+
+    @DisplayName("세션 수가 상한을 넘으면 만료가 가장 빠른 세션부터 삭제한다.")
+    @Test
+    void shouldTrimOldestSessions_whenSessionCountExceedsLimit() {
+        //given
+        InMemoryRefreshTokenRepository repository = repository(new MutableClock(NOW), null);
+        String middleSessionId = UUID.randomUUID().toString();
+        String newestSessionId = UUID.randomUUID().toString();
+        repository.save(userId, sessionId, refreshToken, Duration.ofSeconds(10));
+        repository.save(userId, middleSessionId, "middle-token", Duration.ofSeconds(20));
+        repository.save(userId, newestSessionId, "newest-token", Duration.ofSeconds(30));
+
+        //when
+        int trimmed = repository.trimSessions(userId, 2);
+
+        //then
+        assertThat(trimmed).isEqualTo(1);
+        assertThat(repository.findSessions(userId))
+                .extracting(RefreshTokenSession::getSessionId)
+                .containsExactlyInAnyOrder(middleSessionId, newestSessionId);
+    }
+
+    @DisplayName("스냅샷에 저장된 만료되지 않은 토큰을 재시작 후 복원한다.")
+    @Test
+    void shouldRestoreRefreshTokens_fromSnapshot(@TempDir Path tempDir) {
+        //given
+        Path snapshotPath = tempDir.resolve("refresh-tokens.snapshot");
+        UUID expiredUserId = UUID.randomUUID();
+
+        InMemoryRefreshTokenRepository before = repository(new MutableClock(NOW), snapshotPath);
+        before.save(userId, sessionId, refreshToken, Duration.ofSeconds(100));
+        before.save(expiredUserId, sessionId, "expired-token", Duration.ofSeconds(5));
+        before.writeSnapshot();
+
+        //when
+        InMemoryRefreshTokenRepository after = repository(new MutableClock(NOW.plusSeconds(10)), snapshotPath);
+        after.restoreSnapshot();
+
+        //then
+        assertThat(after.findByUserIdAndSessionId(userId, sessionId)).isEqualTo(refreshToken);
+        assertThat(after.findByUserIdAndSessionId(expiredUserId, sessionId)).isNull();
+    }
+
+    @DisplayName("종료 시 주기적 스냅샷이 끝난 뒤 마지막 스냅샷을 저장한다.")
+    @Test
+    void shouldWriteFinalSnapshot_afterScheduledSnapshotsStop(@TempDir Path tempDir) {
+        //given
+        Path snapshotPath = tempDir.resolve("refresh-tokens.snapshot");
+        InMemoryRefreshTokenRepository before = new InMemoryRefreshTokenRepository(Duration.ofSeconds(1),
+                snapshotPath, Duration.ofMillis(1), Clock.systemUTC());
+        before.start();
+        for (int i = 0; i < 1_000; i++) {
+            before.save(UUID.randomUUID(), sessionId, refreshToken, Duration.ofMinutes(10));
+        }
+        before.save(userId, sessionId, refreshToken, Duration.ofMinutes(10));
+
+        //when
+        before.stop();
+
+        //then
+        InMemoryRefreshTokenRepository after = repository(Clock.systemUTC(), snapshotPath);
+        after.restoreSnapshot();
+        assertThat(after.findByUserIdAndSessionId(userId, sessionId)).isEqualTo(refreshToken);
+        assertThat(snapshotPath.resolveSibling("refresh-tokens.snapshot.tmp")).doesNotExist();
+    }
+
+    private InMemoryRefreshTokenRepository repository(Clock clock, Path snapshotPath) {
+        return new InMemoryRefreshTokenRepository(Duration.ofSeconds(1), snapshotPath, Duration.ofMinutes(1),
+                clock);
+    }
+
+}
@@ -54,6 +54,7 @@ class AuthControllerRefreshTest extends ControllerTestSupport {
     private Duration refreshTokenTtl;
 
     private final UUID id = UUID.randomUUID();
+    private final String sessionId = UUID.randomUUID().toString();
     private final String userId = "testId";
     private final String password = "testpassword";
     private String refreshToken;
@@ -81,19 +82,19 @@ class AuthControllerRefreshTest extends ControllerTestSupport {
 
         userRepository.save(user);
 
-        refreshTokenRepository.save(id, refreshToken, refreshTokenTtl);
+        refreshTokenRepository.save(id, sessionId, refreshToken, refreshTokenTtl);
     }
 
     @DisplayName("RefreshToken 재발급에 성공한다.")
     @Test
     void succeedToReissueRefreshToken() throws Exception {
         //given
-        String oldRefreshToken = refreshTokenRepository.findByUserId(id);
+        String oldRefreshToken = refreshTokenRepository.findByUserIdAndSessionId(id, sessionId);
 
         //when
         MvcResult mvcResult = mockMvc.perform(
                         post("/api/v1/auth/refresh")
-                                .cookie(new Cookie("refreshToken", refreshToken))
+                                .cookie(new Cookie("refreshToken", refreshToken), new Cookie("sessionId", sessionId))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andDo(print())
@@ -107,7 +108,7 @@ class AuthControllerRefreshTest extends ControllerTestSupport {
         String json = mvcResult.getResponse().getContentAsString();
         TokenResponse tokenResponse = objectMapper.readValue(json, TokenResponse.class);
 
-        String storedRefreshToken = refreshTokenRepository.findByUserId(id);
+        String storedRefreshToken = refreshTokenRepository.findByUserIdAndSessionId(id, sessionId);
         assertThat(storedRefreshToken).isNotEqualTo(oldRefreshToken);
         assertThat(storedRefreshToken).isEqualTo(tokenResponse.getRefreshToken());
 
@@ -118,6 +119,24 @@ class AuthControllerRefreshTest extends ControllerTestSupport {
         assertThat(header).contains("Path=/");
         assertThat(header).contains("SameSite=None");
         assertThat(header).contains("Max-Age=1209600");
+        assertThat(mvcResult.getResponse().getHeaders(HttpHeaders.SET_COOKIE))
+                .anyMatch(cookie -> cookie.startsWith("sessionId=" + sessionId));
+    }
+
+    @DisplayName("세션 쿠키가 없으면 RefreshToken 재발급에 실패한다.")
+    @Test
+    void failToReissueToken_whenSessionCookieNotExists() throws Exception {
+        //when, then
+        mockMvc.perform(
+                        post("/api/v1/auth/refresh")
+                                .cookie(new Cookie("refreshToken", refreshToken))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("Unauthorized"))
+                .andExpect(jsonPath("$.message").value("토큰이 올바르지 않습니다."))
+                .andReturn();
     }
 
     @DisplayName("RefreshToken이 만료되었을 경우, 예외가 발생한다.")
@@ -129,7 +148,7 @@ class AuthControllerRefreshTest extends ControllerTestSupport {
         //when, then
         mockMvc.perform(
                         post("/api/v1/auth/refresh")
-                                .cookie(new Cookie("refreshToken", token))
+                                .cookie(new Cookie("refreshToken", token), new Cookie("sessionId", sessionId))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andDo(print())
@@ -148,7 +167,7 @@ class AuthControllerRefreshTest extends ControllerTestSupport {
         //when, then
         mockMvc.perform(
                         post("/api/v1/auth/refresh")
-                                .cookie(new Cookie("refreshToken", token))
+                                .cookie(new Cookie("refreshToken", token), new Cookie("sessionId", sessionId))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andDo(print())
@@ -167,7 +186,7 @@ class AuthControllerRefreshTest extends ControllerTestSupport {
         //when, then
         mockMvc.perform(
                         post("/api/v1/auth/refresh")
-                                .cookie(new Cookie("refreshToken", token))
+                                .cookie(new Cookie("refreshToken", token), new Cookie("sessionId", sessionId))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andDo(print())
@@ -186,7 +205,7 @@ class AuthControllerRefreshTest extends ControllerTestSupport {
         //when, then
         mockMvc.perform(
                         post("/api/v1/auth/refresh")
-                                .cookie(new Cookie("refreshToken", tampered))
+                                .cookie(new Cookie("refreshToken", tampered), new Cookie("sessionId", sessionId))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andDo(print())
@@ -212,7 +231,7 @@ class AuthControllerRefreshTest extends ControllerTestSupport {
         //when, then
         mockMvc.perform(
                         post("/api/v1/auth/refresh")
-                                .cookie(new Cookie("refreshToken", refreshToken))
+                                .cookie(new Cookie("refreshToken", refreshToken), new Cookie("sessionId", sessionId))
                                 .contentType(MediaType.APPLICATION_JSON)
                 )
                 .andDo(print())
@@ -0,0 +1,97 @@
+package com.pravell.user.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pravell.ControllerTestSupport;
+import com.pravell.user.application.UserService;
+import com.pravell.user.domain.model.User;
+import com.pravell.user.domain.repository.UserRepository;
+import com.pravell.user.presentation.request.SignInRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("로그인 비밀번호 재해시 통합 테스트")
+@TestPropertySource(properties = "password.bcrypt.strength=5")
+class AuthControllerSignInRehashTest extends ControllerTestSupport {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserService userService;
+
+    private final SignInRequest request = SignInRequest.builder()
+            .id("rehashId")
+            .password("testPassword")
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("이전 강도로 저장된 비밀번호는 로그인에 성공하면 현재 강도로 다시 해시된다.")
+    @Test
+    void shouldRehashPassword_whenStoredHashUsesWeakerStrength() throws Exception {
+        //given
+        String legacyPassword = new BCryptPasswordEncoder(4).encode(request.getPassword());
+        userRepository.save(User.createUser(request.getId(), legacyPassword, "rehashUser").getUser());
+
+        //when
+        signIn();
+
+        //then
+        String storedPassword = userRepository.findByUserId(request.getId()).get().getPassword();
+        assertThat(storedPassword).isNotEqualTo(legacyPassword);
+        assertThat(storedPassword).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches(request.getPassword(), storedPassword)).isTrue();
+    }
+
+    @DisplayName("현재 강도로 저장된 비밀번호는 로그인해도 다시 해시하지 않는다.")
+    @Test
+    void shouldKeepPassword_whenStoredHashUsesCurrentStrength() throws Exception {
+        //given
+        String currentPassword = passwordEncoder.encode(request.getPassword());
+        userRepository.save(User.createUser(request.getId(), currentPassword, "rehashUser").getUser());
+
+        //when
+        signIn();
+
+        //then
+        assertThat(userRepository.findByUserId(request.getId()).get().getPassword()).isEqualTo(currentPassword);
+    }
+
+    @DisplayName("해시를 읽은 뒤 비밀번호가 변경되었다면 다시 해시한 값으로 덮어쓰지 않는다.")
+    @Test
+    void shouldKeepChangedPassword_whenPasswordChangedAfterRead() {
+        //given
+        String readPassword = new BCryptPasswordEncoder(4).encode(request.getPassword());
+        String changedPassword = new BCryptPasswordEncoder(4).encode("changedPassword");
+        User user = userRepository.save(User.createUser(request.getId(), changedPassword, "rehashUser").getUser());
+
+        //when
+        userService.rehashPasswordIfNeeded(user.getId(), request.getPassword(), readPassword);
+
+        //then
+        assertThat(userRepository.findByUserId(request.getId()).get().getPassword()).isEqualTo(changedPassword);
+    }
+
+    private void signIn() throws Exception {
+        mockMvc.perform(post("/api/v1/auth/sign-in")
+                        .content(objectMapper.writeValueAsString(request))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+}
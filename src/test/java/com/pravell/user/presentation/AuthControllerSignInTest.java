@@ -56,7 +56,6 @@ class AuthControllerSignInTest extends ControllerTestSupport {
         userRepository.save(User.createUser(request.getId(), encodePassword, "testUser").getUser());
 
         Optional<User> user = userRepository.findByUserId(request.getId());
-        String oldRefreshToken = refreshTokenRepository.findByUserId(user.get().getId());
 
         //when, then
         MvcResult mvcResult = mockMvc.perform(
@@ -74,8 +73,8 @@ class AuthControllerSignInTest extends ControllerTestSupport {
         String json = mvcResult.getResponse().getContentAsString();
         TokenResponse tokenResponse = objectMapper.readValue(json, TokenResponse.class);
 
-        String storedRefreshToken = refreshTokenRepository.findByUserId(user.get().getId());
-        assertThat(storedRefreshToken).isNotEqualTo(oldRefreshToken);
+        String storedRefreshToken = refreshTokenRepository.findByUserIdAndSessionId(user.get().getId(),
+                tokenResponse.getSessionId());
         assertThat(storedRefreshToken).isEqualTo(tokenResponse.getRefreshToken());
 
         String header = mvcResult.getResponse().getHeader(HttpHeaders.SET_COOKIE);
@@ -85,6 +84,8 @@ class AuthControllerSignInTest extends ControllerTestSupport {
         assertThat(header).contains("Path=/");
         assertThat(header).contains("SameSite=None");
         assertThat(header).contains("Max-Age=1209600");
+        assertThat(mvcResult.getResponse().getHeaders(HttpHeaders.SET_COOKIE))
+                .anyMatch(cookie -> cookie.startsWith("sessionId=" + tokenResponse.getSessionId()));
     }
 
     @DisplayName("id가 비어있으면 로그인에 실패한다.")
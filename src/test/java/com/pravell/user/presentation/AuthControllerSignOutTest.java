@@ -0,0 +1,86 @@
+package com.pravell.user.presentation;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.pravell.ControllerTestSupport;
+import com.pravell.user.domain.model.User;
+import com.pravell.user.domain.model.UserStatus;
+import com.pravell.user.domain.repository.UserRepository;
+import com.pravell.user.util.JwtUtil;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+@DisplayName("AuthController 로그아웃 통합 테스트")
+class AuthControllerSignOutTest extends ControllerTestSupport {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final User user = User.builder()
+            .id(UUID.randomUUID())
+            .userId("signOutId")
+            .password("passworddd")
+            .nickname("로그아웃유저")
+            .status(UserStatus.ACTIVE)
+            .build();
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(user);
+        accessToken = jwtUtil.createAccessToken(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("로그아웃한 액세스 토큰으로 다시 요청하면 검증 캐시에 남아 있어도 거부된다.")
+    @Test
+    void shouldRejectSameAccessToken_afterSignOut() throws Exception {
+        //given
+        mockMvc.perform(get("/api/v1/users/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/auth/sign-out")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isNoContent());
+
+        //when, then
+        mockMvc.perform(get("/api/v1/users/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("토큰이 올바르지 않습니다."));
+    }
+
+    @DisplayName("로그아웃은 해당 액세스 토큰만 거부하고 같은 유저의 다른 토큰은 허용한다.")
+    @Test
+    void shouldAcceptOtherAccessToken_afterSignOut() throws Exception {
+        //given
+        String otherAccessToken = jwtUtil.createAccessToken(user);
+
+        mockMvc.perform(post("/api/v1/auth/sign-out")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isNoContent());
+
+        //when, then
+        mockMvc.perform(get("/api/v1/users/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + otherAccessToken))
+                .andExpect(status().isOk());
+    }
+
+}
@@ -708,4 +708,51 @@ class UserControllerTest extends ControllerTestSupport {
                 .andExpect(jsonPath("$.message").value("유저를 찾을 수 없습니다."));
     }
 
+    @DisplayName("이미 사용중인 아이디와 닉네임은 사용할 수 없다고 응답한다.")
+    @Test
+    void shouldReturnUnavailable_whenUserIdAndNicknameAlreadyExist() throws Exception {
+        //given
+        User user = User.createUser("takenUserId", "passwordd", "takenNickname").getUser();
+        userRepository.save(user);
+
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/users/availability")
+                                .param("userId", user.getUserId())
+                                .param("nickname", user.getNickname())
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userIdAvailable").value(false))
+                .andExpect(jsonPath("$.nicknameAvailable").value(false));
+    }
+
+    @DisplayName("사용중이지 않은 아이디와 닉네임은 사용할 수 있다고 응답한다.")
+    @Test
+    void shouldReturnAvailable_whenUserIdAndNicknameNotExist() throws Exception {
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/users/availability")
+                                .param("userId", "freeUserId")
+                                .param("nickname", "freeNickname")
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userIdAvailable").value(true))
+                .andExpect(jsonPath("$.nicknameAvailable").value(true));
+    }
+
+    @DisplayName("아이디와 닉네임이 모두 없으면 400을 반환한다.")
+    @Test
+    void shouldReturn400_whenUserIdAndNicknameAreMissing() throws Exception {
+        //when, then
+        mockMvc.perform(
+                        get("/api/v1/users/availability")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("Bad Request"))
+                .andExpect(jsonPath("$.message").value("아이디 또는 닉네임을 입력해주세요."));
+    }
+
 }